@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+///usr/bin/env jbang "$0" "$@" ; exit $?
+//SOURCES ./DmnMarshallerBackendCompatibilityTesterScript.java
+//SOURCES ./DmnSemanticComparison.java
+//SOURCES ./DmnValidation.java
+/* Please do not declare new dependencies here, but in the above Parent class to preserve 
+ *  the dependencies fetching mechanism */
+
+package jbang;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.core.compiler.profiles.ExtendedDMNProfile;
+import org.kie.dmn.validation.DMNValidator;
+import org.kie.dmn.validation.DMNValidatorFactory;
+
+/**
+ * JBang script that runs many DMN Semantic Comparisons and DMN Validations in a single JVM.
+ * The DMN files to check are listed in a JSON manifest, checked in parallel, and the outcome of every check
+ * is written in a single JSON report. A DMN model compiled once (eg. a model imported by several importers)
+ * is shared by all the comparisons referring to it.
+ * Manifest format:
+ * {
+ *   "semanticComparisons": [{ "originalDmnFilePath": "", "generatedDmnFilePath": "", "importedOriginalDmnFilesPaths": [], "importedGeneratedDmnFilesPaths": [] }],
+ *   "validations": [{ "dmnFilePath": "", "importedDmnFilesPaths": [] }]
+ * }
+ */
+@Command(name = "DmnBatchCompatibility", mixinStandardHelpOptions = true, version = "DmnBatchCompatibility 0.1", description = "It compares and validates the DMN files listed in a manifest")
+class DmnBatchCompatibility extends DmnMarshallerBackendCompatibilityTesterScript {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DmnBatchCompatibility.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Option(names = {"-m", "--manifestFilePath"}, description = "Path of the JSON manifest listing the DMN files to check", required = true)
+    private String manifestFilePath;
+
+    @Option(names = {"-r", "--reportFilePath"}, description = "Path of the JSON report to write", required = true)
+    private String reportFilePath;
+
+    @Option(names = {"-t", "--threads"}, description = "Number of DMN files checked in parallel (default: available processors)", required = false)
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private final Map<String, CompletableFuture<DMNModel>> models = new ConcurrentHashMap<>();
+    private final Queue<DMNValidator> validators = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<DMNValidator> validator = ThreadLocal.withInitial(() -> {
+        DMNValidator dmnValidator = DMNValidatorFactory.newValidator(List.of(new ExtendedDMNProfile()));
+        validators.add(dmnValidator);
+        return dmnValidator;
+    });
+
+    public static void main(String... args) {
+        int exitCode = new CommandLine(new DmnBatchCompatibility()).execute(args);
+        System.exit(exitCode);
+    }
+
+    @Override
+    public Integer call() {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            Manifest manifest = MAPPER.readValue(new File(manifestFilePath), Manifest.class);
+            long start = System.currentTimeMillis();
+
+            List<Future<Result>> futures = new ArrayList<>();
+            manifest.semanticComparisons.forEach(entry -> futures.add(executor.submit(() -> compare(entry))));
+            manifest.validations.forEach(entry -> futures.add(executor.submit(() -> validate(entry))));
+
+            Report report = new Report();
+            for (Future<Result> future : futures) {
+                Result result = future.get();
+                report.results.add(result);
+                if (result.passed) {
+                    report.passed++;
+                } else {
+                    report.failed++;
+                }
+            }
+            report.durationMillis = System.currentTimeMillis() - start;
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(reportFilePath), report);
+
+            LOGGER.info("========== BATCH COMPATIBILITY ==========");
+            LOGGER.info("Checked {} DMN files in {} ms: {} passed, {} failed", report.results.size(), report.durationMillis, report.passed, report.failed);
+            return report.failed == 0 ? 0 : 1;
+        } catch (Exception e) {
+            LOGGER.error("Failed to execute the manifest {}", manifestFilePath, e);
+            return 100;
+        } finally {
+            executor.shutdownNow();
+            validators.forEach(DMNValidator::dispose);
+        }
+    }
+
+    private Result compare(SemanticComparisonEntry entry) {
+        long start = System.currentTimeMillis();
+        Result result = new Result("semanticComparison", entry.originalDmnFilePath);
+        try {
+            DMNModel originalModel = loadDMNModel(entry.originalDmnFilePath, entry.importedOriginalDmnFilesPaths);
+            DMNModel generatedModel = loadDMNModel(entry.generatedDmnFilePath, entry.importedGeneratedDmnFilesPaths);
+            result.messages.addAll(DmnSemanticComparison.findMissingElements(originalModel, generatedModel));
+        } catch (Exception e) {
+            result.messages.add("Failed to compare: " + getMessage(e));
+        }
+        return result.complete(start);
+    }
+
+    private Result validate(ValidationEntry entry) {
+        long start = System.currentTimeMillis();
+        Result result = new Result("validation", entry.dmnFilePath);
+        try {
+            List<File> dmnFiles = new ArrayList<>();
+            dmnFiles.add(new File(entry.dmnFilePath));
+            entry.importedDmnFilesPaths.forEach(path -> dmnFiles.add(new File(path)));
+            DmnValidation.validate(validator.get(), dmnFiles.toArray(File[]::new)).stream()
+                    .map(DMNMessage::getText)
+                    .forEach(result.messages::add);
+        } catch (Exception e) {
+            result.messages.add("Failed to validate: " + getMessage(e));
+        }
+        return result.complete(start);
+    }
+
+    /**
+     * Compiles a DMN model (along with its imported models) once, sharing it across all the checks that refer to
+     * the same set of DMN files.
+     */
+    private DMNModel loadDMNModel(String dmnFilePath, List<String> importedDmnFilesPaths) throws Exception {
+        File dmnFile = new File(dmnFilePath);
+        List<File> importedDmnFiles = importedDmnFilesPaths.stream().map(File::new).collect(Collectors.toList());
+        String key = dmnFile.getCanonicalPath() + "|" + new TreeSet<>(importedDmnFilesPaths);
+
+        CompletableFuture<DMNModel> created = new CompletableFuture<>();
+        CompletableFuture<DMNModel> existing = models.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.get();
+        }
+        try {
+            created.complete(importedDmnFiles.isEmpty() ?
+                    DmnSemanticComparison.loadDMNModel(dmnFile) :
+                    DmnSemanticComparison.loadDMNModel(dmnFile, importedDmnFiles));
+        } catch (Exception e) {
+            created.completeExceptionally(e);
+        }
+        return created.get();
+    }
+
+    private static String getMessage(Exception e) {
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+    }
+
+    static class Manifest {
+
+        public List<SemanticComparisonEntry> semanticComparisons = Collections.emptyList();
+        public List<ValidationEntry> validations = Collections.emptyList();
+    }
+
+    static class SemanticComparisonEntry {
+
+        public String originalDmnFilePath;
+        public String generatedDmnFilePath;
+        public List<String> importedOriginalDmnFilesPaths = Collections.emptyList();
+        public List<String> importedGeneratedDmnFilesPaths = Collections.emptyList();
+    }
+
+    static class ValidationEntry {
+
+        public String dmnFilePath;
+        public List<String> importedDmnFilesPaths = Collections.emptyList();
+    }
+
+    static class Report {
+
+        public int passed;
+        public int failed;
+        public long durationMillis;
+        public List<Result> results = new ArrayList<>();
+    }
+
+    static class Result {
+
+        public String type;
+        public String dmnFilePath;
+        public boolean passed;
+        public long durationMillis;
+        public List<String> messages = new ArrayList<>();
+
+        Result(String type, String dmnFilePath) {
+            this.type = type;
+            this.dmnFilePath = dmnFilePath;
+        }
+
+        Result complete(long start) {
+            this.passed = messages.isEmpty();
+            this.durationMillis = System.currentTimeMillis() - start;
+            return this;
+        }
+    }
+}
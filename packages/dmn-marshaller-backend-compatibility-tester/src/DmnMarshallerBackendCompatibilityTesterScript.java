@@ -22,6 +22,7 @@
 //REPOS mavencentral,apache=https://repository.apache.org/content/groups/public/
 //DEPS org.kie:drools-build-parent:${kogito-runtime.version}@pom
 //DEPS ch.qos.logback:logback-classic:1.2.13
+//DEPS com.fasterxml.jackson.core:jackson-databind
 //DEPS info.picocli:picocli:4.7.5
 //DEPS org.slf4j:slf4j-simple:2.0.12
 //DEPS org.kie:kie-api:${kogito-runtime.version}
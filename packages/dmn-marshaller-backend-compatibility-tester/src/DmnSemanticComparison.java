@@ -107,8 +107,8 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
     }
 
     private int compareDMNModelsNoImports() throws Exception {
-        DMNModel originalModel = instantiateDMNRuntimeAndReturnDMNModel(new File(originalDmnPath));
-        DMNModel generatedModel = instantiateDMNRuntimeAndReturnDMNModel(new File(generatedDmnPath));
+        DMNModel originalModel = loadDMNModel(new File(originalDmnPath));
+        DMNModel generatedModel = loadDMNModel(new File(generatedDmnPath));
 
         LOGGER.info("========== SEMANTIC COMPARISON ==========");
         LOGGER.info("Evaluating DMN file: " + originalModel.getName());
@@ -124,10 +124,8 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
                 .map(File::new)
                 .collect(Collectors.toList());
 
-        DMNModel originalModel = instantiateDMNRuntimeAndReturnDMNModel(new File(originalDmnPath),
-                importedOriginalDmnFiles);
-        DMNModel generatedModel = instantiateDMNRuntimeAndReturnDMNModel(new File(generatedDmnPath),
-                importedGeneratedDmnFiles);
+        DMNModel originalModel = loadDMNModel(new File(originalDmnPath), importedOriginalDmnFiles);
+        DMNModel generatedModel = loadDMNModel(new File(generatedDmnPath), importedGeneratedDmnFiles);
 
         LOGGER.info("========== SEMANTIC COMPARISON ==========");
         LOGGER.info("Evaluating DMN file: " + originalModel.getName());
@@ -135,7 +133,7 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
         return compareDMNModels(originalModel, generatedModel);
     }
 
-    private DMNModel instantiateDMNRuntimeAndReturnDMNModel(File dmnFile) throws Exception {
+    static DMNModel loadDMNModel(File dmnFile) throws Exception {
         Resource modelResource = ResourceFactory.newReaderResource(new FileReader(dmnFile), "UTF-8");
         DMNRuntime dmnRuntime = DMNRuntimeBuilder.fromDefaults()
                 .buildConfiguration()
@@ -144,8 +142,7 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
         return dmnRuntime.getModels().get(0);
     }
 
-    private DMNModel instantiateDMNRuntimeAndReturnDMNModel(File importerDmnFile, List<File> importedDmnFiles)
-            throws Exception {
+    static DMNModel loadDMNModel(File importerDmnFile, List<File> importedDmnFiles) throws Exception {
         List<Resource> resources = new ArrayList<>();
         String importerFileSourcePath = importerDmnFile.getCanonicalPath();
         List<File> allDMNFiles = new ArrayList(importedDmnFiles);
@@ -176,6 +173,22 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
         return importerModel;
     }
 
+    private int compareDMNModels(DMNModel originalModel, DMNModel generatedModel) {
+        List<String> missingElementsMessages = findMissingElements(originalModel, generatedModel);
+
+        if (missingElementsMessages.isEmpty()) {
+            LOGGER.info("RESULT: Original and Generated files are semantically the same!");
+            return 0;
+        } else {
+            LOGGER.error("ERROR: Original and Generated files are NOT semantically the same!");
+            missingElementsMessages.forEach(message -> LOGGER.error(message));
+            System.err.println("ERROR: Original and Generated files are NOT semantically the same!");
+            System.err.println("DMN File Name: " + originalModel.getName());
+            missingElementsMessages.forEach(System.err::println);
+            return 1;
+        }
+    }
+
     /**
      * This function compares two DMN models and returns a list of any missing
      * elements between them.
@@ -184,7 +197,7 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
      * If any missing elements are found, the function returns a list of error
      * messages describing the missing elements
      */
-    private int compareDMNModels(DMNModel originalModel, DMNModel generatedModel) {
+    static List<String> findMissingElements(DMNModel originalModel, DMNModel generatedModel) {
         Definitions originalModelDefinitions = originalModel.getDefinitions();
         Definitions generatedModelDefinitions = generatedModel.getDefinitions();
 
@@ -214,17 +227,7 @@ class DmnSemanticComparison extends DmnMarshallerBackendCompatibilityTesterScrip
         missingElementsMessages.addAll(checkElements(generatedModelDefinitions.getItemDefinition(),
                 originalModelDefinitions.getItemDefinition()));
 
-        if (missingElementsMessages.isEmpty()) {
-            LOGGER.info("RESULT: Original and Generated files are semantically the same!");
-            return 0;
-        } else {
-            LOGGER.error("ERROR: Original and Generated files are NOT semantically the same!");
-            missingElementsMessages.forEach(message -> LOGGER.error(message));
-            System.err.println("ERROR: Original and Generated files are NOT semantically the same!");
-            System.err.println("DMN File Name: " + originalModel.getName());
-            missingElementsMessages.forEach(System.err::println);
-            return 1;
-        }
+        return missingElementsMessages;
     }
 
     /**
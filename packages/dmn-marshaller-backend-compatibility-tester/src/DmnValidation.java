@@ -94,10 +94,7 @@ class DmnValidation extends DmnMarshallerBackendCompatibilityTesterScript {
     private int validateDMNModelsNoImports() {
         File dmnFile = new File(dmnFilePath);
         DMNValidator dmnValidator = DMNValidatorFactory.newValidator(List.of(new ExtendedDMNProfile()));
-        final List<DMNMessage> messages = dmnValidator.validateUsing(Validation.VALIDATE_SCHEMA,
-                Validation.VALIDATE_MODEL,
-                Validation.VALIDATE_COMPILATION)
-                .theseModels(dmnFile);
+        final List<DMNMessage> messages = validate(dmnValidator, dmnFile);
         return assessDMNMessageResults(messages, dmnFile.getName());
     }
 
@@ -109,12 +106,20 @@ class DmnValidation extends DmnMarshallerBackendCompatibilityTesterScript {
                 .map(File::new)
                 .collect(Collectors.toList()));
         DMNValidator dmnValidator = DMNValidatorFactory.newValidator(List.of(new ExtendedDMNProfile()));
-        List<DMNMessage> messages = dmnValidator.validateUsing(
+        List<DMNMessage> messages = validate(dmnValidator, models.toArray(File[]::new));
+        return assessDMNMessageResults(messages, dmnFile.getName());
+    }
+
+    /**
+     * Validates the given DMN files (the importer along with its imported models) against the XSD SCHEMA,
+     * DMN COMPLIANCE and DMN COMPILATION.
+     */
+    static List<DMNMessage> validate(DMNValidator dmnValidator, File... dmnFiles) {
+        return dmnValidator.validateUsing(
                 Validation.VALIDATE_SCHEMA,
                 Validation.VALIDATE_MODEL,
                 Validation.VALIDATE_COMPILATION)
-                .theseModels(models.toArray(File[]::new));
-        return assessDMNMessageResults(messages, dmnFile.getName());
+                .theseModels(dmnFiles);
     }
 
     private int assessDMNMessageResults(List<DMNMessage> dmnMessageResults, String dmnFileName) {
@@ -17,6 +17,7 @@
  * under the License.
  */
 
+import * as fs from "fs";
 import * as path from "path";
 const { env } = require("../env");
 const jbang = require("@jbangdev/jbang");
@@ -24,6 +25,34 @@ const jbang = require("@jbangdev/jbang");
 const parentScriptPath = path.join(__dirname, "..", "src", "DmnMarshallerBackendCompatibilityTesterScript.java");
 const dmnValidationScriptPath = path.join(__dirname, "..", "src", "DmnValidation.java");
 const dmnSemanticComparisonPath = path.join(__dirname, "..", "src", "DmnSemanticComparison.java");
+const dmnBatchCompatibilityPath = path.join(__dirname, "..", "src", "DmnBatchCompatibility.java");
+
+export type DmnSemanticComparisonManifestEntry = {
+  originalDmnFilePath: string;
+  generatedDmnFilePath: string;
+  importedOriginalDmnFilesPaths?: string[];
+  importedGeneratedDmnFilesPaths?: string[];
+};
+
+export type DmnValidationManifestEntry = {
+  dmnFilePath: string;
+  importedDmnFilesPaths?: string[];
+};
+
+export type DmnBatchCompatibilityResult = {
+  type: "semanticComparison" | "validation";
+  dmnFilePath: string;
+  passed: boolean;
+  durationMillis: number;
+  messages: string[];
+};
+
+export type DmnBatchCompatibilityReport = {
+  passed: number;
+  failed: number;
+  durationMillis: number;
+  results: DmnBatchCompatibilityResult[];
+};
 
 export function executeParentScript() {
   executeScript(parentScriptPath);
@@ -75,6 +104,39 @@ export function checkDmnSemanticComparisonWithImports(data: {
   ]);
 }
 
+/**
+ * Runs all the given DMN Semantic Comparisons and DMN Validations in a single JVM, in parallel.
+ * Unlike the other checks, failures don't throw: the outcome of every check is returned in the report.
+ */
+export function checkDmnBatchCompatibility(data: {
+  manifestFilePath: string;
+  reportFilePath: string;
+  semanticComparisons?: DmnSemanticComparisonManifestEntry[];
+  validations?: DmnValidationManifestEntry[];
+  threads?: number;
+}): DmnBatchCompatibilityReport {
+  fs.writeFileSync(
+    data.manifestFilePath,
+    JSON.stringify({ semanticComparisons: data.semanticComparisons ?? [], validations: data.validations ?? [] }),
+    "utf-8"
+  );
+  const args = ["--manifestFilePath=" + data.manifestFilePath, "--reportFilePath=" + data.reportFilePath];
+  if (data.threads) {
+    args.push("--threads=" + data.threads);
+  }
+
+  fs.rmSync(data.reportFilePath, { force: true });
+  try {
+    executeScript(dmnBatchCompatibilityPath, args);
+  } catch (error) {
+    /* A non-zero exit code is expected when a check fails; the report tells which ones */
+    if (!fs.existsSync(data.reportFilePath)) {
+      throw error;
+    }
+  }
+  return JSON.parse(fs.readFileSync(data.reportFilePath, "utf-8"));
+}
+
 function executeScript(scriptPath: string, args?: string[]) {
   /* Windows requires double quotes to wrap the argument, while in POSIX it must be wrapped by single quotes */
   const isWindowsPath = path.sep !== "/";
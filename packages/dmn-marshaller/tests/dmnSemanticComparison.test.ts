@@ -22,14 +22,16 @@ import * as path from "path";
 import { getMarshaller } from "@kie-tools/dmn-marshaller";
 import { fail } from "assert";
 import {
-  checkDmnSemanticComparison,
-  checkDmnSemanticComparisonWithImports,
+  checkDmnBatchCompatibility,
+  DmnBatchCompatibilityReport,
+  DmnSemanticComparisonManifestEntry,
 } from "@kie-tools/dmn-marshaller-backend-compatibility-tester";
 
 /**
  * This test suite compares the xml generated (parsed and built) by the dmn-parser with the original xml.
  * The original xml and the generated one are passed and compered to the KIE DMN Core backend API.
- * A JBang script is used to actually call the KIE DMN Core backend API.
+ * A JBang script is used to actually call the KIE DMN Core backend API: all the files are compared
+ * in a single batch run, then every test checks its own result in the batch report.
  */
 
 const dmnTestingModelsPath = path.dirname(require.resolve("@kie-tools/dmn-testing-models/package.json"));
@@ -86,62 +88,63 @@ export const dmnSemanticComparisonGeneratedFilesDirectory = path.join(
   "../dist-tests/dmnSemanticComparison-generated-files"
 );
 
+const dmnTestingImportedModelsPaths = dmnTestingImportedModels.map((file) => ({
+  imported: path.join(dmnTestingModelsPath, file.imported),
+  importer: path.join(dmnTestingModelsPath, file.importer),
+}));
+
 describe("DMN Semantic Comparison", () => {
+  let report: DmnBatchCompatibilityReport;
+
   beforeAll(() => {
     if (fs.existsSync(dmnSemanticComparisonGeneratedFilesDirectory)) {
       fs.rmSync(dmnSemanticComparisonGeneratedFilesDirectory, { recursive: true });
     }
     fs.mkdirSync(dmnSemanticComparisonGeneratedFilesDirectory, { recursive: true });
+
+    const semanticComparisons: DmnSemanticComparisonManifestEntry[] = [];
+    for (const file of dmnTestingModels) {
+      const originalDmnFilePath = path.join(dmnTestingModelsPath, file);
+      semanticComparisons.push({
+        originalDmnFilePath: originalDmnFilePath,
+        generatedDmnFilePath: parseXmlAndWriteInFile(originalDmnFilePath),
+      });
+    }
+    for (const file of dmnTestingImportedModelsPaths) {
+      semanticComparisons.push({
+        originalDmnFilePath: file.importer,
+        generatedDmnFilePath: parseXmlAndWriteInFile(file.importer),
+        importedOriginalDmnFilesPaths: [file.imported],
+        importedGeneratedDmnFilesPaths: [parseXmlAndWriteInFile(file.imported)],
+      });
+    }
+
+    report = checkDmnBatchCompatibility({
+      manifestFilePath: path.join(dmnSemanticComparisonGeneratedFilesDirectory, "manifest.json"),
+      reportFilePath: path.join(dmnSemanticComparisonGeneratedFilesDirectory, "report.json"),
+      semanticComparisons: semanticComparisons,
+    });
   });
 
   for (const file of dmnTestingModels) {
-    testFile(path.join(dmnTestingModelsPath, file));
+    testFile(() => report, path.join(dmnTestingModelsPath, file));
   }
-  for (const file of dmnTestingImportedModels) {
-    file.imported = path.join(dmnTestingModelsPath, file.imported);
-    file.importer = path.join(dmnTestingModelsPath, file.importer);
-    testImportedFile(file);
+  for (const file of dmnTestingImportedModelsPaths) {
+    testFile(() => report, file.importer);
   }
 });
 
-function testFile(normalizedFsPathRelativeToTheFile: string) {
+function testFile(report: () => DmnBatchCompatibilityReport, normalizedFsPathRelativeToTheFile: string) {
   test(
     "DMN Semantic Comparison: " +
       normalizedFsPathRelativeToTheFile.substring(normalizedFsPathRelativeToTheFile.lastIndexOf(path.sep) + 1),
     () => {
-      const generatedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFile);
-
-      try {
-        checkDmnSemanticComparison({
-          originalDmnFilePath: normalizedFsPathRelativeToTheFile,
-          generatedDmnFilePath: generatedXmlFilePath,
-        });
-      } catch (error) {
-        fail(error.cause);
+      const result = report().results.find((result) => result.dmnFilePath === normalizedFsPathRelativeToTheFile);
+      if (!result) {
+        fail("Missing result for " + normalizedFsPathRelativeToTheFile);
       }
-    }
-  );
-}
-
-function testImportedFile(normalizedFsPathRelativeToTheFiles: { imported: string; importer: string }) {
-  test(
-    "DMN Semantic Comparison: " +
-      normalizedFsPathRelativeToTheFiles.importer.substring(
-        normalizedFsPathRelativeToTheFiles.importer.lastIndexOf(path.sep) + 1
-      ),
-    () => {
-      const importedGeneratedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFiles.imported);
-      const importerGeneratedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFiles.importer);
-
-      try {
-        checkDmnSemanticComparisonWithImports({
-          originalDmnFilePath: normalizedFsPathRelativeToTheFiles.importer,
-          generatedDmnFilePath: importerGeneratedXmlFilePath,
-          importedOriginalDmnFilesPaths: [normalizedFsPathRelativeToTheFiles.imported],
-          importedGeneratedDmnFilesPaths: [importedGeneratedXmlFilePath],
-        });
-      } catch (error) {
-        fail(error.cause);
+      if (!result.passed) {
+        fail(result.messages.join("\n"));
       }
     }
   );
@@ -22,14 +22,16 @@ import * as path from "path";
 import { getMarshaller } from "@kie-tools/dmn-marshaller";
 import { fail } from "assert";
 import {
-  checkDmnValidation,
-  checkDmnValidationWithImports,
+  checkDmnBatchCompatibility,
+  DmnBatchCompatibilityReport,
+  DmnValidationManifestEntry,
 } from "@kie-tools/dmn-marshaller-backend-compatibility-tester";
 
 /**
  * This test suite validates the xml produced (parsed and built) by the marshaller relying on KIE DMN Validator
  * (https://github.com/apache/incubator-kie-drools/tree/main/kie-dmn/kie-dmn-validation).
- * A JBang script is used to actually call the KIE DMN Validator Java code.
+ * A JBang script is used to actually call the KIE DMN Validator Java code: all the files are validated
+ * in a single batch run, then every test checks its own result in the batch report.
  */
 
 const dmnTestingModelsPath = path.dirname(require.resolve("@kie-tools/dmn-testing-models/package.json"));
@@ -82,57 +84,68 @@ const dmnTestingImportedModels = [
 ];
 export const dmnValidationGeneratedFilesDirectory = path.join(__dirname, "../dist-tests/dmnValidation-generated-files");
 
+const dmnTestingImportedModelsPaths = dmnTestingImportedModels.map((file) => ({
+  imported: path.join(dmnTestingModelsPath, file.imported),
+  importer: path.join(dmnTestingModelsPath, file.importer),
+}));
+
 describe("DMN Validation", () => {
+  let report: DmnBatchCompatibilityReport;
+  const generatedFilesPaths = new Map<string, string>();
+
   beforeAll(() => {
     if (fs.existsSync(dmnValidationGeneratedFilesDirectory)) {
       fs.rmSync(dmnValidationGeneratedFilesDirectory, { recursive: true });
     }
     fs.mkdirSync(dmnValidationGeneratedFilesDirectory, { recursive: true });
+
+    const validations: DmnValidationManifestEntry[] = [];
+    for (const file of dmnTestingModels) {
+      const generatedXmlFilePath = parseXmlAndWriteInFile(path.join(dmnTestingModelsPath, file));
+      generatedFilesPaths.set(path.join(dmnTestingModelsPath, file), generatedXmlFilePath);
+      validations.push({ dmnFilePath: generatedXmlFilePath });
+    }
+    for (const file of dmnTestingImportedModelsPaths) {
+      const importedGeneratedXmlFilePath = parseXmlAndWriteInFile(file.imported);
+      const importerGeneratedXmlFilePath = parseXmlAndWriteInFile(file.importer);
+      generatedFilesPaths.set(file.importer, importerGeneratedXmlFilePath);
+      validations.push({
+        dmnFilePath: importerGeneratedXmlFilePath,
+        importedDmnFilesPaths: [importedGeneratedXmlFilePath],
+      });
+    }
+
+    report = checkDmnBatchCompatibility({
+      manifestFilePath: path.join(dmnValidationGeneratedFilesDirectory, "manifest.json"),
+      reportFilePath: path.join(dmnValidationGeneratedFilesDirectory, "report.json"),
+      validations: validations,
+    });
   });
 
   for (const file of dmnTestingModels) {
-    testFile(path.join(dmnTestingModelsPath, file));
+    testFile(() => report, () => generatedFilesPaths, path.join(dmnTestingModelsPath, file));
   }
-  for (const file of dmnTestingImportedModels) {
-    file.imported = path.join(dmnTestingModelsPath, file.imported);
-    file.importer = path.join(dmnTestingModelsPath, file.importer);
-    testImportedFile(file);
+  for (const file of dmnTestingImportedModelsPaths) {
+    testFile(() => report, () => generatedFilesPaths, file.importer);
   }
 });
 
-function testFile(normalizedFsPathRelativeToTheFile: string) {
+function testFile(
+  report: () => DmnBatchCompatibilityReport,
+  generatedFilesPaths: () => Map<string, string>,
+  normalizedFsPathRelativeToTheFile: string
+) {
   test(
     "DMN Validation: " +
       normalizedFsPathRelativeToTheFile.substring(normalizedFsPathRelativeToTheFile.lastIndexOf(path.sep) + 1),
     () => {
-      const generatedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFile);
-
-      try {
-        checkDmnValidation({ dmnFilePath: generatedXmlFilePath });
-      } catch (error) {
-        fail(error.cause);
+      const generatedXmlFilePath = generatedFilesPaths().get(normalizedFsPathRelativeToTheFile);
+      const result = report().results.find((result) => result.dmnFilePath === generatedXmlFilePath);
+      if (!result) {
+        fail("Missing result for " + normalizedFsPathRelativeToTheFile);
       }
-    }
-  );
-}
-
-function testImportedFile(normalizedFsPathRelativeToTheFiles: { imported: string; importer: string }) {
-  test(
-    "DMN Validation: " +
-      normalizedFsPathRelativeToTheFiles.importer.substring(
-        normalizedFsPathRelativeToTheFiles.importer.lastIndexOf(path.sep) + 1
-      ),
-    () => {
-      const importedGeneratedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFiles.imported);
-      const importerGeneratedXmlFilePath = parseXmlAndWriteInFile(normalizedFsPathRelativeToTheFiles.importer);
-
-      try {
-        checkDmnValidationWithImports({
-          dmnFilePath: importedGeneratedXmlFilePath,
-          importedDmnFilesPaths: [importerGeneratedXmlFilePath],
-        });
-      } catch (error) {
-        fail(error.cause);
+      if (!result.passed) {
+        fail(result.messages.join("\n"));
       }
     }
   );
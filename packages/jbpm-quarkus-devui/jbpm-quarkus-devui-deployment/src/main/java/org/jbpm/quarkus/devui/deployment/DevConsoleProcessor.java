@@ -156,7 +156,7 @@ public class DevConsoleProcessor {
                 .metadata("page", "Forms")
                 .title("Forms")
                 .icon("font-awesome-solid:table-cells")
-                .dynamicLabelJsonRPCMethodName("getFormsCount"));
+                .streamingLabelJsonRPCMethodName("streamFormsCount"));
 
         return cardPageBuildItem;
     }
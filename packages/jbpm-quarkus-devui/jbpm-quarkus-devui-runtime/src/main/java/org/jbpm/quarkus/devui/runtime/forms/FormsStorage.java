@@ -20,6 +20,7 @@ package org.jbpm.quarkus.devui.runtime.forms;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import org.jbpm.quarkus.devui.runtime.forms.model.Form;
 import org.jbpm.quarkus.devui.runtime.forms.model.FormContent;
@@ -35,4 +36,9 @@ public interface FormsStorage {
     Form getFormContent(String formName) throws IOException;
 
     void updateFormContent(String formName, FormContent formContent) throws IOException;
+
+    /**
+     * Registers a listener notified with the name of every form that is added, modified or removed.
+     */
+    void addFormChangeListener(Consumer<String> listener);
 }
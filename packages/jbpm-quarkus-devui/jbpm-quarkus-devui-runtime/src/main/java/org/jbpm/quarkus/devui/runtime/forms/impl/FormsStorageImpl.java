@@ -19,24 +19,21 @@
 package org.jbpm.quarkus.devui.runtime.forms.impl;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jbpm.quarkus.devui.runtime.forms.FormsStorage;
@@ -46,11 +43,13 @@ import org.jbpm.quarkus.devui.runtime.forms.model.FormContent;
 import org.jbpm.quarkus.devui.runtime.forms.model.FormFilter;
 import org.jbpm.quarkus.devui.runtime.forms.model.FormInfo;
 import org.jbpm.quarkus.devui.runtime.forms.model.FormResources;
+import org.kie.tools.quarkus.devui.storage.ResourceCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.vertx.core.json.JsonObject;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
@@ -67,11 +66,9 @@ public class FormsStorageImpl implements FormsStorage {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FormsStorageImpl.class);
 
-    private final Map<String, FormInfo> formInfoMap = new HashMap<>();
-    private final Map<String, Form> modifiedForms = new HashMap<>();
-
     private URL classLoaderFormsUrl;
     private URL formsStorageUrl;
+    private ResourceCatalog<FormInfo, Form> forms;
 
     public FormsStorageImpl() {
         start(Thread.currentThread().getContextClassLoader().getResource(FORMS_STORAGE_PATH));
@@ -96,6 +93,13 @@ public class FormsStorageImpl implements FormsStorage {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (forms != null) {
+            forms.close();
+        }
+    }
+
     private URL getFormStorageUrl(URL classLoaderFormsUrl) {
         if (classLoaderFormsUrl == null) {
             return null;
@@ -121,19 +125,15 @@ public class FormsStorageImpl implements FormsStorage {
 
     @Override
     public int getFormsCount() {
-        return formInfoMap.keySet().size();
+        return forms != null ? forms.size() : 0;
     }
 
     @Override
     public Collection<FormInfo> getFormInfoList(FormFilter filter) {
-        if (filter != null && !filter.getNames().isEmpty()) {
-            return formInfoMap.entrySet().stream()
-                    .filter(entry -> StringUtils.containsAnyIgnoreCase(entry.getKey(), filter.getNames().toArray(new String[0])))
-                    .map(Map.Entry::getValue)
-                    .collect(Collectors.toList());
-        } else {
-            return formInfoMap.values();
+        if (forms == null) {
+            return Collections.emptyList();
         }
+        return forms.find(filter != null ? filter.getNames() : null);
     }
 
     private FormInfo.FormType getFormType(String type) {
@@ -148,13 +148,20 @@ public class FormsStorageImpl implements FormsStorage {
 
     @Override
     public Form getFormContent(String formName) throws IOException {
-        FormInfo formInfo = formInfoMap.get(formName);
+        Form form = forms != null ? forms.getContent(formName) : null;
 
-        if (formInfo == null) {
+        if (form == null) {
             throw new RuntimeException("Cannot find form '" + formName + "'");
         }
 
-        return modifiedForms.getOrDefault(formName, loadForm(formInfo));
+        return form;
+    }
+
+    @Override
+    public void addFormChangeListener(Consumer<String> listener) {
+        if (forms != null) {
+            forms.addListener(listener);
+        }
     }
 
     private Form loadForm(FormInfo formInfo) throws IOException {
@@ -162,11 +169,11 @@ public class FormsStorageImpl implements FormsStorage {
         File formConfig = getFormConfigFile(formInfo.getName());
         String formConfiguration = "";
         if (formConfig != null && formConfig.exists()) {
-            formConfiguration = IOUtils.toString(new FileInputStream(formConfig), StandardCharsets.UTF_8);
+            formConfiguration = FileUtils.readFileToString(formConfig, StandardCharsets.UTF_8);
         }
         Form form;
         if (formFile != null && formFile.exists()) {
-            form = new Form(formInfo, IOUtils.toString(new FileInputStream(formFile), StandardCharsets.UTF_8), readFormConfiguration(formConfiguration));
+            form = new Form(formInfo, FileUtils.readFileToString(formFile, StandardCharsets.UTF_8), readFormConfiguration(formConfiguration));
         } else {
             throw new FileNotFoundException(formInfo.getName() + "'s config file was not found");
         }
@@ -207,7 +214,7 @@ public class FormsStorageImpl implements FormsStorage {
             throw new RuntimeException("Cannot store form'" + formName + "'. Form storage couldnt be properly initialized.");
         }
 
-        FormInfo formInfo = formInfoMap.get(formName);
+        FormInfo formInfo = forms != null ? forms.get(formName) : null;
 
         if (formInfo == null) {
             throw new RuntimeException("Cannot find form '" + formName + "'");
@@ -231,9 +238,7 @@ public class FormsStorageImpl implements FormsStorage {
         LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), TimeZone.getDefault().toZoneId());
         FormInfo newInfo = new FormInfo(formName, formInfo.getType(), lastModified);
 
-        formInfoMap.put(formName, newInfo);
-
-        modifiedForms.put(formName, new Form(newInfo, formContent.getSource(), formContent.getConfiguration()));
+        forms.update(formName, newInfo, new Form(newInfo, formContent.getSource(), formContent.getConfiguration()));
     }
 
     private File getPersistableFormFile(FormInfo formInfo) {
@@ -245,22 +250,17 @@ public class FormsStorageImpl implements FormsStorage {
     }
 
     private void init() {
-        readFormResources().stream()
-                .filter(file -> hasConfigFile(FilenameUtils.removeExtension(file.getName())))
-                .forEach(file -> {
-                    LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(file.lastModified()), TimeZone.getDefault().toZoneId());
-                    formInfoMap.put(FilenameUtils.removeExtension(file.getName()),
-                            new FormInfo(FilenameUtils.removeExtension(file.getName()), getFormType(FilenameUtils.getExtension(file.getName())), lastModified));
-                });
-    }
-
-    private Collection<File> readFormResources() {
-        if (classLoaderFormsUrl != null) {
-            LOGGER.info("form's files path is {}", classLoaderFormsUrl.toString());
-            File rootFolder = FileUtils.toFile(classLoaderFormsUrl);
-            return FileUtils.listFiles(rootFolder, new String[] { "html", "tsx" }, false);
+        if (classLoaderFormsUrl == null) {
+            return;
+        }
+        LOGGER.info("form's files path is {}", classLoaderFormsUrl.toString());
+        forms = new ResourceCatalog<>(FileUtils.toFile(classLoaderFormsUrl).toPath(), false, new FormsIndexer(), this::loadForm);
+        forms.scan();
+        try {
+            forms.watch();
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot watch form's files path '{}', forms won't be refreshed on change: {}", classLoaderFormsUrl, ex.getMessage());
         }
-        return Collections.emptyList();
     }
 
     private boolean hasConfigFile(String formName) {
@@ -271,4 +271,34 @@ public class FormsStorageImpl implements FormsStorage {
             return false;
         }
     }
+
+    /**
+     * Indexes a form by its name, a form exists while both its source (html or tsx) and its config file exist.
+     */
+    private class FormsIndexer implements ResourceCatalog.ResourceIndexer<FormInfo> {
+
+        @Override
+        public String getKey(Path file) {
+            String extension = FilenameUtils.getExtension(file.toString());
+            if (getFormType(extension) != null || CONFIG_EXT.equals("." + extension)) {
+                return FilenameUtils.removeExtension(file.getFileName().toString());
+            }
+            return null;
+        }
+
+        @Override
+        public FormInfo index(String formName, Path file) {
+            if (!hasConfigFile(formName)) {
+                return null;
+            }
+            for (FormInfo.FormType type : FormInfo.FormType.values()) {
+                File formFile = file.resolveSibling(formName + "." + type.getValue()).toFile();
+                if (formFile.exists()) {
+                    LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(formFile.lastModified()), TimeZone.getDefault().toZoneId());
+                    return new FormInfo(formName, type, lastModified);
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -23,7 +23,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Optional;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClient;
@@ -53,6 +55,8 @@ public class JBPMDevuiJsonRPCService {
 
     private WebClient dataIndexWebClient;
 
+    private final BroadcastProcessor<String> formChanges = BroadcastProcessor.create();
+
     private final Vertx vertx;
     private final FormsStorage formsStorage;
 
@@ -66,6 +70,7 @@ public class JBPMDevuiJsonRPCService {
     public void init() {
         Optional<String> dataIndexURL = ConfigProvider.getConfig().getOptionalValue(DATA_INDEX_URL, String.class);
         dataIndexURL.ifPresent(this::initDataIndexWebClient);
+        formsStorage.addFormChangeListener(formChanges::onNext);
     }
 
     private void initDataIndexWebClient(String dataIndexURL) {
@@ -116,4 +121,14 @@ public class JBPMDevuiJsonRPCService {
     public Uni<String> getFormsCount() {
         return Uni.createFrom().item(String.valueOf(this.formsStorage.getFormsCount()));
     }
+
+    public Multi<String> streamFormsCount() {
+        return Multi.createBy().concatenating()
+                .streams(Multi.createFrom().item(() -> String.valueOf(this.formsStorage.getFormsCount())),
+                        formChanges.map(formName -> String.valueOf(this.formsStorage.getFormsCount())));
+    }
+
+    public Multi<String> streamFormChanges() {
+        return formChanges;
+    }
 }
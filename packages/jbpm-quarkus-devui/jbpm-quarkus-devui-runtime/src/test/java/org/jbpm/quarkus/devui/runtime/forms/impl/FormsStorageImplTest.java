@@ -26,6 +26,8 @@ import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.jbpm.quarkus.devui.runtime.forms.impl.FormsStorageImpl;
@@ -42,7 +44,9 @@ import org.jbpm.quarkus.devui.runtime.forms.model.FormResources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.jbpm.quarkus.devui.runtime.forms.impl.FormsStorageImpl.PROJECT_FORM_STORAGE_PROP;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -54,6 +58,7 @@ public class FormsStorageImplTest {
 
     private static final String FORM_NAME = "hiring_HRInterview";
     private static final String PARTIAL_FORM_NAME = "hiring";
+    private static final String NEW_FORM_NAME = "hiring_NewInterview";
     private static final String FORM_NAME_WITH_OUT_CONFIG = "hiring_HRInterviewWithoutConfig";
 
     private FormsStorage formsStorage;
@@ -106,6 +111,53 @@ public class FormsStorageImplTest {
         assertEquals(FORM_NAME, formInfo.getName());
     }
 
+    @Test
+    public void testGetFormContentIsCached() throws IOException {
+        Form formContent = formsStorage.getFormContent(FORM_NAME);
+        assertSame(formContent, formsStorage.getFormContent(FORM_NAME));
+    }
+
+    @Test
+    public void testFormChangesAreWatched() throws Exception {
+        File formsFolder = Files.createTempDirectory("FormsWatcherTest").toFile();
+        FileUtils.copyDirectory(FileUtils.toFile(Thread.currentThread().getContextClassLoader().getResource("forms")), formsFolder);
+
+        FormsStorageImpl watchedStorage = new FormsStorageImpl(formsFolder.toURI().toURL());
+        try {
+            assertEquals(2, watchedStorage.getFormsCount());
+            Form form = watchedStorage.getFormContent(FORM_NAME);
+
+            CountDownLatch added = awaitFormSource(watchedStorage, NEW_FORM_NAME);
+            FileUtils.copyFile(new File(formsFolder, FORM_NAME + ".config"), new File(formsFolder, NEW_FORM_NAME + ".config"));
+            FileUtils.write(new File(formsFolder, NEW_FORM_NAME + ".html"), TEST_FORM_CONTENT, StandardCharsets.UTF_8);
+            assertTrue(added.await(30, TimeUnit.SECONDS));
+            assertEquals(3, watchedStorage.getFormsCount());
+
+            CountDownLatch modified = awaitFormSource(watchedStorage, FORM_NAME);
+            FileUtils.write(new File(formsFolder, FORM_NAME + ".html"), TEST_FORM_CONTENT, StandardCharsets.UTF_8);
+            assertTrue(modified.await(30, TimeUnit.SECONDS));
+            assertEquals(TEST_FORM_CONTENT, watchedStorage.getFormContent(FORM_NAME).getSource());
+            assertEquals(form.getConfiguration().getSchema(), watchedStorage.getFormContent(FORM_NAME).getConfiguration().getSchema());
+        } finally {
+            watchedStorage.shutdown();
+            FileUtils.deleteQuietly(formsFolder);
+        }
+    }
+
+    private CountDownLatch awaitFormSource(FormsStorage storage, String expectedFormName) {
+        CountDownLatch latch = new CountDownLatch(1);
+        storage.addFormChangeListener(formName -> {
+            try {
+                if (expectedFormName.equals(formName) && TEST_FORM_CONTENT.equals(storage.getFormContent(formName).getSource())) {
+                    latch.countDown();
+                }
+            } catch (Exception ex) {
+                // Files may still be being written, wait for the next change
+            }
+        });
+        return latch;
+    }
+
     @Test
     public void testGetFormContentWithoutConfig() {
         assertThrows(RuntimeException.class, () -> formsStorage.getFormContent(FORM_NAME_WITH_OUT_CONFIG));
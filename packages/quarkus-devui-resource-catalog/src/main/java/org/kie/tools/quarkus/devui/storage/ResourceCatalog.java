@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.tools.quarkus.devui.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Concurrent, in-memory catalog of the resources stored in a folder (forms, dashboards...).
+ * <p>
+ * Resources are indexed once on {@link #scan()} and then kept up to date by {@link #watch()}: file events are
+ * debounced and only the resources whose files actually changed content are re-indexed. Resource content is loaded
+ * lazily and cached until the resource changes.
+ * <p>
+ * Shared by the storages of the Dev UI extensions, so it only depends on the JDK and slf4j.
+ *
+ * @param <T> the resource info type.
+ * @param <C> the resource content type.
+ */
+public class ResourceCatalog<T, C> implements Closeable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    static final int MAX_CACHED_QUERIES = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceCatalog.class);
+
+    /**
+     * Maps the files in the catalog folder to the resources they belong to.
+     */
+    public interface ResourceIndexer<T> {
+
+        /**
+         * @return the key of the resource the file belongs to, or null if it isn't a resource file.
+         */
+        String getKey(Path file);
+
+        /**
+         * @return the info of the resource, or null if the resource doesn't exist (anymore).
+         */
+        T index(String key, Path file);
+    }
+
+    @FunctionalInterface
+    public interface ContentLoader<T, C> {
+
+        C load(T info) throws IOException;
+    }
+
+    private final Path root;
+    private final boolean recursive;
+    private final ResourceIndexer<T> indexer;
+    private final ContentLoader<T, C> loader;
+    private final long debounceMillis;
+
+    private final Map<String, T> resources = new ConcurrentHashMap<>();
+    // Resource keys to their lower-cased names, so filter queries don't normalize every key on each lookup
+    private final Map<String, String> nameIndex = new ConcurrentHashMap<>();
+    private final Map<String, C> contents = new ConcurrentHashMap<>();
+    private final Map<Path, String> fileHashes = new ConcurrentHashMap<>();
+    private final Map<List<String>, List<T>> queries = new ConcurrentHashMap<>();
+    private final Set<Path> pendingFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    private ExecutorService watcherExecutor;
+    private ScheduledExecutorService updatesExecutor;
+    private WatchService watchService;
+    private Path watchedFolder;
+    private volatile boolean closing;
+
+    public ResourceCatalog(Path root, boolean recursive, ResourceIndexer<T> indexer, ContentLoader<T, C> loader) {
+        this(root, recursive, indexer, loader, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public ResourceCatalog(Path root, boolean recursive, ResourceIndexer<T> indexer, ContentLoader<T, C> loader, long debounceMillis) {
+        this.root = root;
+        this.recursive = recursive;
+        this.indexer = indexer;
+        this.loader = loader;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * (Re)builds the whole catalog from the files in the root folder.
+     */
+    public void scan() {
+        Map<String, Path> files = new HashMap<>();
+        Map<Path, String> hashes = new HashMap<>();
+        listFiles().forEach(file -> {
+            String key = indexer.getKey(file);
+            if (key != null) {
+                String hash = hash(file);
+                if (hash != null) {
+                    hashes.put(file, hash);
+                }
+                files.putIfAbsent(key, file);
+            }
+        });
+
+        Map<String, T> indexed = new HashMap<>();
+        files.forEach((key, file) -> {
+            T info = indexer.index(key, file);
+            if (info != null) {
+                indexed.put(key, info);
+            }
+        });
+
+        Set<String> keys = new LinkedHashSet<>(resources.keySet());
+        keys.addAll(indexed.keySet());
+
+        // Swap the content in place so concurrent readers never see an empty catalog
+        fileHashes.keySet().retainAll(hashes.keySet());
+        fileHashes.putAll(hashes);
+        resources.keySet().retainAll(indexed.keySet());
+        resources.putAll(indexed);
+        nameIndex.keySet().retainAll(indexed.keySet());
+        indexed.keySet().forEach(key -> nameIndex.put(key, key.toLowerCase(Locale.ROOT)));
+        contents.clear();
+        queries.clear();
+
+        keys.forEach(this::notifyChanged);
+    }
+
+    /**
+     * Starts watching the root folder for changes. Events are processed in background by a single thread.
+     */
+    public void watch() throws IOException {
+        watch(root);
+    }
+
+    /**
+     * Starts watching another folder whose files are copied to the root folder, like the sources of the resources
+     * served from the application classes. A file changed in the watched folder re-indexes the file at the same
+     * relative path in the root folder.
+     */
+    public synchronized void watch(Path folder) throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        WatchService ws = FileSystems.getDefault().newWatchService();
+        register(ws, folder);
+
+        closing = false;
+        watchService = ws;
+        watchedFolder = folder;
+        watcherExecutor = Executors.newSingleThreadExecutor(daemonThreads("watcher"));
+        updatesExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("updates"));
+        watcherExecutor.execute(() -> processEvents(ws));
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    public T get(String key) {
+        return resources.get(key);
+    }
+
+    public Collection<T> getAll() {
+        return new ArrayList<>(resources.values());
+    }
+
+    /**
+     * @return the resources whose key contains any of the given names, ignoring case.
+     */
+    public Collection<T> find(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return getAll();
+        }
+        List<String> terms = names.stream()
+                .filter(Objects::nonNull)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        if (queries.size() >= MAX_CACHED_QUERIES) {
+            queries.clear();
+        }
+        return queries.computeIfAbsent(terms, this::doFind);
+    }
+
+    private List<T> doFind(List<String> terms) {
+        return nameIndex.entrySet().stream()
+                .filter(entry -> terms.stream().anyMatch(term -> entry.getValue().contains(term)))
+                .map(entry -> resources.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * @return the (cached) content of the resource, or null if the resource doesn't exist.
+     */
+    public C getContent(String key) throws IOException {
+        C content = contents.get(key);
+        if (content != null) {
+            return content;
+        }
+
+        T info = resources.get(key);
+        if (info == null) {
+            return null;
+        }
+
+        content = loader.load(info);
+
+        // Only cache the loaded content if the resource hasn't been re-indexed in the meantime.
+        if (resources.get(key) == info) {
+            contents.putIfAbsent(key, content);
+        }
+        return content;
+    }
+
+    /**
+     * Replaces the resource with content that has just been stored.
+     */
+    public void update(String key, T info, C content) {
+        resources.put(key, info);
+        nameIndex.put(key, key.toLowerCase(Locale.ROOT));
+        contents.put(key, content);
+        queries.clear();
+        notifyChanged(key);
+    }
+
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (watchService == null) {
+            return;
+        }
+        // Interrupting the background threads is expected from now on, they stop without reporting it
+        closing = true;
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot close watcher for folder: {}, message: {}", root, ex.getMessage());
+        }
+        watcherExecutor.shutdownNow();
+        updatesExecutor.shutdownNow();
+        watchService = null;
+        // The cancelled flush won't run, so a later watch() must be able to schedule a new one
+        pendingFiles.clear();
+        flushScheduled.set(false);
+    }
+
+    private void index(String key, Path file) {
+        T info = indexer.index(key, file);
+        if (info != null) {
+            resources.put(key, info);
+            nameIndex.put(key, key.toLowerCase(Locale.ROOT));
+        } else {
+            resources.remove(key);
+            nameIndex.remove(key);
+        }
+    }
+
+    private void processEvents(WatchService ws) {
+        try {
+            WatchKey key;
+            while ((key = ws.take()) != null) {
+                Path folder = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        submit(this::scan, 0);
+                        continue;
+                    }
+                    Path file = folder.resolve((Path) event.context());
+                    if (recursive && event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+                        try {
+                            register(ws, file);
+                        } catch (IOException ex) {
+                            warn("Cannot watch folder: {}, message: {}", file, ex.getMessage());
+                        }
+                        listFiles(file).forEach(this::schedule);
+                    } else {
+                        schedule(file);
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Catalog is closing
+        } catch (InterruptedException e) {
+            warn("Watcher for folder: {} has been interrupted", root);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Path watchedFile) {
+        pendingFiles.add(root.resolve(watchedFolder.relativize(watchedFile)));
+        if (flushScheduled.compareAndSet(false, true)) {
+            submit(this::flush, debounceMillis);
+        }
+    }
+
+    private void submit(Runnable task, long delayMillis) {
+        try {
+            updatesExecutor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            if (!closing) {
+                throw ex;
+            }
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        Map<String, Path> changed = new HashMap<>();
+        for (Path file : new ArrayList<>(pendingFiles)) {
+            pendingFiles.remove(file);
+            String key = indexer.getKey(file);
+            if (key == null) {
+                continue;
+            }
+            String hash = Files.isRegularFile(file) ? hash(file) : null;
+            String previous = hash != null ? fileHashes.put(file, hash) : fileHashes.remove(file);
+            if (!Objects.equals(hash, previous)) {
+                changed.put(key, file);
+            }
+        }
+
+        changed.forEach((key, file) -> {
+            LOGGER.debug("Resource '{}' changed in folder: {}", key, root);
+            index(key, file);
+            contents.remove(key);
+        });
+
+        if (!changed.isEmpty()) {
+            queries.clear();
+            changed.keySet().forEach(this::notifyChanged);
+        }
+    }
+
+    private void notifyChanged(String key) {
+        listeners.forEach(listener -> {
+            try {
+                listener.accept(key);
+            } catch (Exception ex) {
+                LOGGER.warn("Error notifying change on resource '{}': {}", key, ex.getMessage(), ex);
+            }
+        });
+    }
+
+    private void register(WatchService ws, Path folder) throws IOException {
+        if (!recursive) {
+            folder.register(ws, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            return;
+        }
+        try (Stream<Path> folders = Files.walk(folder)) {
+            for (Path dir : folders.filter(Files::isDirectory).collect(Collectors.toList())) {
+                dir.register(ws, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        }
+    }
+
+    private List<Path> listFiles() {
+        return listFiles(root);
+    }
+
+    private List<Path> listFiles(Path folder) {
+        try (Stream<Path> files = recursive ? Files.walk(folder) : Files.list(folder)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException ex) {
+            warn("Cannot read files in folder: {}, message: {}", folder, ex.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private void warn(String message, Object... args) {
+        if (!closing) {
+            LOGGER.warn(message, args);
+        }
+    }
+
+    private static String hash(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            // Unreadable files are considered changed, they'll be hashed again on the next event
+            return null;
+        }
+    }
+
+    private ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "devui-catalog-" + name + "-" + root.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.tools.quarkus.devui.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceCatalogTest {
+
+    private static final long DEBOUNCE = 100;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private Path folder;
+    private AtomicInteger loads;
+    private List<String> changes;
+    private ResourceCatalog<String, String> catalog;
+
+    @BeforeEach
+    public void init() throws IOException {
+        folder = Files.createTempDirectory("ResourceCatalogTest");
+        Files.writeString(folder.resolve("hiring.txt"), "hiring");
+        Files.writeString(folder.resolve("Onboarding.txt"), "onboarding");
+        Files.writeString(folder.resolve("ignored.bin"), "ignored");
+        Files.createDirectories(folder.resolve("nested"));
+        Files.writeString(folder.resolve("nested/travels.txt"), "travels");
+
+        loads = new AtomicInteger();
+        changes = new CopyOnWriteArrayList<>();
+        catalog = new ResourceCatalog<>(folder, true, new TextIndexer(), info -> {
+            loads.incrementAndGet();
+            return Files.readString(folder.resolve(info));
+        }, DEBOUNCE);
+        catalog.scan();
+        catalog.addListener(changes::add);
+    }
+
+    @AfterEach
+    public void dispose() {
+        catalog.close();
+        FileUtils.deleteQuietly(folder.toFile());
+    }
+
+    @Test
+    public void testScan() {
+        assertEquals(3, catalog.size());
+        assertEquals("hiring.txt", catalog.get("hiring"));
+        assertEquals("nested/travels.txt", catalog.get("travels"));
+        assertNull(catalog.get("ignored"));
+    }
+
+    @Test
+    public void testFind() {
+        assertEquals(3, catalog.find(null).size());
+        assertEquals(3, catalog.find(List.of()).size());
+        assertEquals(List.of("Onboarding.txt"), catalog.find(List.of("BOARD")));
+        assertEquals(2, catalog.find(Arrays.asList("hir", "trav")).size());
+        assertEquals(0, catalog.find(List.of("unknown")).size());
+
+        Collection<String> result = catalog.find(Arrays.asList("hir", "trav"));
+        assertSame(result, catalog.find(Arrays.asList("TRAV", "hir")));
+    }
+
+    @Test
+    public void testContentIsCached() throws IOException {
+        assertEquals("hiring", catalog.getContent("hiring"));
+        assertEquals("hiring", catalog.getContent("hiring"));
+        assertEquals(1, loads.get());
+        assertNull(catalog.getContent("unknown"));
+    }
+
+    @Test
+    public void testUpdate() throws IOException {
+        Collection<String> result = catalog.find(List.of("hiring"));
+        catalog.update("hiring", "hiring.txt", "updated");
+
+        assertEquals("updated", catalog.getContent("hiring"));
+        assertEquals(0, loads.get());
+        assertEquals(List.of("hiring"), changes);
+        assertTrue(result != catalog.find(List.of("hiring")));
+    }
+
+    @Test
+    public void testWatchChanges() throws Exception {
+        catalog.watch();
+        assertEquals("hiring", catalog.getContent("hiring"));
+
+        Files.writeString(folder.resolve("hiring.txt"), "modified");
+        Files.writeString(folder.resolve("hiring.txt"), "modified again");
+        awaitChanges(1);
+        assertEquals(List.of("hiring"), changes);
+        assertEquals("modified again", catalog.getContent("hiring"));
+
+        Files.createDirectories(folder.resolve("other"));
+        Files.writeString(folder.resolve("other/payments.txt"), "payments");
+        awaitChanges(2);
+        assertEquals("other/payments.txt", catalog.get("payments"));
+        assertEquals(1, catalog.find(List.of("pay")).size());
+
+        Files.delete(folder.resolve("Onboarding.txt"));
+        awaitChanges(3);
+        assertNull(catalog.get("Onboarding"));
+        assertEquals(3, catalog.size());
+    }
+
+    @Test
+    public void testWatchSkipsUnchangedContent() throws Exception {
+        catalog.watch();
+
+        Files.writeString(folder.resolve("hiring.txt"), "hiring");
+        Files.writeString(folder.resolve("Onboarding.txt"), "changed");
+        awaitChanges(1);
+
+        assertEquals(List.of("Onboarding"), changes);
+    }
+
+    @Test
+    public void testWatchAnotherFolder() throws Exception {
+        Path sources = Files.createTempDirectory("ResourceCatalogTestSources");
+        try {
+            catalog.watch(sources);
+
+            Files.writeString(folder.resolve("hiring.txt"), "modified");
+            Files.writeString(sources.resolve("hiring.txt"), "modified");
+            awaitChanges(1);
+            assertEquals(List.of("hiring"), changes);
+            assertEquals("modified", catalog.getContent("hiring"));
+
+            Files.writeString(sources.resolve("payments.txt"), "payments");
+            awaitChanges(1);
+            assertNull(catalog.get("payments"));
+        } finally {
+            catalog.close();
+            FileUtils.deleteQuietly(sources.toFile());
+        }
+    }
+
+    @Test
+    public void testCloseDropsPendingChanges() throws Exception {
+        catalog.watch();
+        Files.writeString(folder.resolve("hiring.txt"), "modified");
+        catalog.close();
+
+        Thread.sleep(DEBOUNCE * 3);
+        assertTrue(changes.isEmpty());
+
+        catalog.watch();
+        Files.writeString(folder.resolve("Onboarding.txt"), "modified");
+        awaitChanges(1);
+        assertEquals(List.of("Onboarding"), changes);
+    }
+
+    private void awaitChanges(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (changes.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(DEBOUNCE);
+        }
+        // Give the catalog time to flush any extra event
+        Thread.sleep(DEBOUNCE * 3);
+        assertEquals(count, changes.size());
+    }
+
+    private class TextIndexer implements ResourceCatalog.ResourceIndexer<String> {
+
+        @Override
+        public String getKey(Path file) {
+            String name = file.getFileName().toString();
+            return name.endsWith(".txt") ? name.substring(0, name.length() - 4) : null;
+        }
+
+        @Override
+        public String index(String key, Path file) {
+            return Files.exists(file) ? folder.relativize(file).toString() : null;
+        }
+    }
+}
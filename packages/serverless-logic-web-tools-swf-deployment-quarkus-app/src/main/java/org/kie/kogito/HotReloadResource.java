@@ -20,15 +20,20 @@
 
 package org.kie.kogito;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -38,6 +43,7 @@ import jakarta.ws.rs.core.Response;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.annotations.providers.multipart.MultipartForm;
 import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataInput;
+import org.kie.kogito.api.ManifestService;
 import org.kie.kogito.api.UploadService;
 import org.kie.kogito.model.UploadException;
 import org.kie.kogito.model.ValidationException;
@@ -48,6 +54,7 @@ public class HotReloadResource {
     private static final Logger LOGGER = Logger.getLogger(HotReloadResource.class);
 
     private static final String DATA_PART_KEY = "zipFile";
+    private static final String KEPT_PATHS_PART_KEY = "keptPaths";
 
     private static final String ERRORS_KEY = "errors";
     private static final String PATHS_KEY = "paths";
@@ -55,6 +62,42 @@ public class HotReloadResource {
     @Inject
     UploadService uploadService;
 
+    @Inject
+    ManifestService manifestService;
+
+    /**
+     * Receives the content hashes of the client files, keyed by path, and answers with the paths of the files that
+     * need to be uploaded. The other ones can be listed in the {@code keptPaths} part of the upload instead.
+     * <p>
+     * The application.properties file is stored merged with the default properties, so its hash never matches the
+     * client one and it is always listed. The merge output is stable, so uploading it again doesn't rewrite the file.
+     */
+    @POST
+    @Path("upload/delta")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response handleDelta(Map<String, String> hashes) {
+        try {
+            if (hashes == null) {
+                return Response.status(Response.Status.BAD_REQUEST).entity("No hashes found").build();
+            }
+
+            final Map<String, List<String>> pathMap = new HashMap<>();
+            pathMap.put(PATHS_KEY, manifestService.getChangedPaths(hashes));
+
+            return Response.ok(pathMap, MediaType.APPLICATION_JSON_TYPE).build();
+        } catch (Exception e) {
+            LOGGER.error("Something went wrong", e);
+
+            final Map<String, List<String>> errorsMap = new HashMap<>();
+            errorsMap.put(ERRORS_KEY, Collections.singletonList(e.getMessage()));
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(errorsMap)
+                    .type(MediaType.APPLICATION_JSON_TYPE)
+                    .build();
+        }
+    }
+
     @POST
     @Path("upload")
     @Consumes(MediaType.MULTIPART_FORM_DATA)
@@ -66,7 +109,7 @@ public class HotReloadResource {
                 return Response.status(Response.Status.BAD_REQUEST).entity("No file part found").build();
             }
 
-            final List<String> validPaths = uploadService.upload(inputStream);
+            final List<String> validPaths = uploadService.upload(inputStream, getKeptPaths(dataInput));
 
             final Map<String, List<String>> pathMap = new HashMap<>();
             pathMap.put(PATHS_KEY, validPaths);
@@ -104,4 +147,18 @@ public class HotReloadResource {
                     .build();
         }
     }
+
+    private List<String> getKeptPaths(final MultipartFormDataInput dataInput) throws IOException {
+        final String keptPaths = dataInput.getFormDataPart(KEPT_PATHS_PART_KEY, String.class, null);
+        if (keptPaths == null || keptPaths.isBlank()) {
+            return Collections.emptyList();
+        }
+        try (JsonReader reader = Json.createReader(new StringReader(keptPaths))) {
+            return reader.readArray()
+                    .getValuesAs(JsonString.class)
+                    .stream()
+                    .map(JsonString::getString)
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -40,8 +40,12 @@ public interface FileService {
 
     void mergePropertiesFiles(Path pathA, Path pathB, Path mergedPath) throws IOException;
 
+    byte[] mergeProperties(byte[] properties, Path overridingPropertiesPath) throws IOException;
+
     List<FileValidationResult> validateFiles(List<Path> filePaths);
 
+    List<FileValidationResult> validateFiles(Map<Path, byte[]> files);
+
     void copyFiles(Map<Path, Path> sourceTargetMap) throws IOException;
 
     boolean exists(Path path);
@@ -20,11 +20,24 @@
 
 package org.kie.kogito.api;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.kie.kogito.model.FileValidationResult;
 
 public interface FileValidation {
 
-    FileValidationResult validate(Path path);
+    default FileValidationResult validate(Path path) {
+        try {
+            return validate(path, Files.readAllBytes(path));
+        } catch (IOException e) {
+            return FileValidationResult.createInvalidResult(path, e.getMessage());
+        }
+    }
+
+    /**
+     * Validates the in-memory content of a file, {@code path} is only used to identify the file in the result.
+     */
+    FileValidationResult validate(Path path, byte[] content);
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.kogito.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the content hashes of the project resources, so uploads only touch the files that changed.
+ */
+public interface ManifestService {
+
+    String hash(byte[] content);
+
+    /**
+     * @return the key of a path relative to the resources folder, the one its hash is listed under.
+     */
+    String toKey(Path relativePath);
+
+    /**
+     * @return the content hashes of the project resources, keyed by their path relative to the resources folder.
+     */
+    Map<String, String> getHashes() throws IOException;
+
+    /**
+     * @return the paths whose given hash doesn't match the project resources, i.e. the files a client needs to upload.
+     */
+    List<String> getChangedPaths(Map<String, String> hashes) throws IOException;
+
+    /**
+     * Brings the project resources to the given content, writing only new or modified files and deleting the files
+     * that are not part of it anymore.
+     *
+     * @param files the content of every project resource, keyed by their path relative to the resources folder.
+     * @param keptPaths resources that are left as they are.
+     */
+    void sync(Map<Path, byte[]> files, Collection<Path> keptPaths) throws IOException;
+}
@@ -29,5 +29,13 @@ import org.kie.kogito.model.ValidationException;
 
 public interface UploadService {
 
-    List<String> upload(InputStream inputStream) throws IOException, UploadException, ValidationException;
+    default List<String> upload(InputStream inputStream) throws IOException, UploadException, ValidationException {
+        return upload(inputStream, List.of());
+    }
+
+    /**
+     * @param inputStream the zip with the new and modified files.
+     * @param keptPaths the previously uploaded files the client didn't send again because they didn't change.
+     */
+    List<String> upload(InputStream inputStream, List<String> keptPaths) throws IOException, UploadException, ValidationException;
 }
@@ -21,10 +21,21 @@
 package org.kie.kogito.api;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+
+import org.kie.kogito.model.UploadException;
 
 public interface ZipService {
 
     List<Path> unzip(Path zipFilePath, Path destinationFolderPath) throws IOException;
+
+    /**
+     * Reads the files of a zip stream in memory, keyed by their relative path in the archive.
+     *
+     * @throws UploadException if the archive has too many entries or its content is too large once uncompressed.
+     */
+    Map<Path, byte[]> read(InputStream zipInputStream) throws IOException, UploadException;
 }
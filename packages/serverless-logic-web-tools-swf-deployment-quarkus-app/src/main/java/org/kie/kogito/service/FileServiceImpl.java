@@ -20,10 +20,13 @@
 
 package org.kie.kogito.service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,11 +34,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import org.apache.commons.io.FileUtils;
@@ -59,12 +67,26 @@ public class FileServiceImpl implements FileService {
     private static final String YAML_REGEX = ".*\\.ya?ml";
     private static final String JSON_REGEX = ".*\\.json";
 
+    private static final int VALIDATION_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private final Map<FileType, List<FileValidation>> VALIDATION_MAP =
             Map.ofEntries(Map.entry(FileType.SERVERLESS_WORKFLOW, List.of(new ServerlessWorkflowValidation())),
                           Map.entry(FileType.APPLICATION_PROPERTIES, List.of(new PropertiesValidation())),
                           Map.entry(FileType.YAML, List.of(new OpenApiValidation())),
                           Map.entry(FileType.JSON, List.of(new OpenApiValidation(), new JsonSchemaValidation())));
 
+    // Dedicated to the validations, they must not compete with the request handlers for the common pool
+    private final ExecutorService validationExecutor = Executors.newFixedThreadPool(VALIDATION_THREADS, runnable -> {
+        final Thread thread = new Thread(runnable, "file-validation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
     @Override
     public void createFolder(final Path folderPath) {
         if (exists(folderPath)) {
@@ -140,13 +162,56 @@ public class FileServiceImpl implements FileService {
             properties.load(inputStream);
         }
 
-        try (var outputStream = new FileOutputStream(mergedPath.toFile())) {
-            properties.store(outputStream, null);
+        Files.write(mergedPath, store(properties));
+    }
+
+    @Override
+    public byte[] mergeProperties(final byte[] properties, final Path overridingPropertiesPath) throws IOException {
+        Properties mergedProperties = new Properties();
+
+        try (var inputStream = new ByteArrayInputStream(properties)) {
+            mergedProperties.load(inputStream);
         }
+
+        // Overwrite duplicates
+        try (var inputStream = new FileInputStream(overridingPropertiesPath.toFile())) {
+            mergedProperties.load(inputStream);
+        }
+
+        return store(mergedProperties);
+    }
+
+    // Properties.store writes the current date and follows the hash table order, so the same properties would get
+    // different bytes on every upload and the manifest would rewrite the file each time
+    private static byte[] store(final Properties properties) throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+        properties.store(outputStream, null);
+        final String lines = outputStream.toString(StandardCharsets.ISO_8859_1)
+                .lines()
+                .filter(line -> !line.startsWith("#"))
+                .sorted()
+                .map(line -> line + System.lineSeparator())
+                .collect(Collectors.joining());
+        return lines.getBytes(StandardCharsets.ISO_8859_1);
     }
 
     @Override
     public List<FileValidationResult> validateFiles(final List<Path> filePaths) {
+        return validateFiles(filePaths, path -> {
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<FileValidationResult> validateFiles(final Map<Path, byte[]> files) {
+        return validateFiles(new ArrayList<>(files.keySet()), files::get);
+    }
+
+    private List<FileValidationResult> validateFiles(final List<Path> filePaths, final Function<Path, byte[]> contentProvider) {
         LOGGER.info("Validate " + filePaths.size() + " incoming file(s) ...");
 
         final List<Path> supportedFiles = filePaths
@@ -160,28 +225,54 @@ public class FileServiceImpl implements FileService {
         }
 
         LOGGER.info(supportedFiles.size() + " supported file(s) have been found to be validated");
-        List<FileValidationResult> results = new ArrayList<>();
+        // Files are independent from each other, so they are validated concurrently (keeping their order)
+        final List<Future<List<FileValidationResult>>> validations = new ArrayList<>();
         for (Path filePath : supportedFiles) {
-            LOGGER.info("Validating file '" + filePath + "'...");
-            final FileType fileType = getFileType(filePath);
-            final List<FileValidation> validators = VALIDATION_MAP.get(fileType);
-            final List<FileValidationResult> validationResults = validators.stream()
-                    .map(fileValidation -> fileValidation.validate(filePath))
-                    .collect(Collectors.toList());
-            Optional<FileValidationResult> firstValidResult = validationResults.stream()
-                    .filter(FileValidationResult::isValid)
-                    .findFirst();
-            if (firstValidResult.isPresent()) {
-                results.add(firstValidResult.get());
-            } else {
-                results.addAll(validationResults);
-            }
+            validations.add(validationExecutor.submit(() -> validateFile(filePath, contentProvider)));
+        }
+        final List<FileValidationResult> results = new ArrayList<>();
+        for (Future<List<FileValidationResult>> validation : validations) {
+            results.addAll(getValidationResults(validation));
         }
         LOGGER.info("Validate " + filePaths.size() + " incoming file(s) ... done");
 
         return results;
     }
 
+    private static List<FileValidationResult> getValidationResults(final Future<List<FileValidationResult>> validation) {
+        try {
+            return validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<FileValidationResult> validateFile(final Path filePath, final Function<Path, byte[]> contentProvider) {
+        LOGGER.info("Validating file '" + filePath + "'...");
+        final byte[] content;
+        try {
+            content = contentProvider.apply(filePath);
+        } catch (UncheckedIOException e) {
+            return List.of(FileValidationResult.createInvalidResult(filePath, e.getCause().getMessage()));
+        }
+
+        final List<FileValidationResult> validationResults = new ArrayList<>();
+        for (FileValidation fileValidation : VALIDATION_MAP.get(getFileType(filePath))) {
+            final FileValidationResult result = fileValidation.validate(filePath, content);
+            if (result.isValid()) {
+                return List.of(result);
+            }
+            validationResults.add(result);
+        }
+        return validationResults;
+    }
+
     @Override
     public void copyFiles(final Map<Path, Path> sourceTargetMap) throws IOException {
         LOGGER.info("Copying resources ...");
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.kogito.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.logging.Logger;
+import org.kie.kogito.FileStructureConstants;
+import org.kie.kogito.api.ManifestService;
+
+@ApplicationScoped
+public class ManifestServiceImpl implements ManifestService {
+
+    private static final Logger LOGGER = Logger.getLogger(ManifestService.class);
+
+    private final Path resourcesFolderPath;
+
+    private final Map<String, String> hashes = new HashMap<>();
+
+    // Size and modification time of each hashed file, so files changed on disk by someone else get hashed again
+    private final Map<String, String> stamps = new HashMap<>();
+
+    public ManifestServiceImpl() {
+        this(FileStructureConstants.PROJECT_RESOURCES_FOLDER_PATH);
+    }
+
+    ManifestServiceImpl(final Path resourcesFolderPath) {
+        this.resourcesFolderPath = resourcesFolderPath;
+    }
+
+    @Override
+    public String hash(final byte[] content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            final StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Keys use '/' as separator on every platform
+    @Override
+    public String toKey(final Path relativePath) {
+        return relativePath.normalize().toString().replace(File.separatorChar, '/');
+    }
+
+    @Override
+    public synchronized Map<String, String> getHashes() throws IOException {
+        return new HashMap<>(loadHashes());
+    }
+
+    @Override
+    public synchronized List<String> getChangedPaths(final Map<String, String> clientHashes) throws IOException {
+        final Map<String, String> currentHashes = loadHashes();
+        return clientHashes.entrySet()
+                .stream()
+                .filter(entry -> !Objects.equals(entry.getValue(), currentHashes.get(toKey(Path.of(entry.getKey())))))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized void sync(final Map<Path, byte[]> files, final Collection<Path> keptPaths) throws IOException {
+        final Map<String, String> currentHashes = loadHashes();
+        final Set<String> expectedKeys = new HashSet<>();
+        int written = 0;
+
+        for (var entry : files.entrySet()) {
+            final String key = toKey(entry.getKey());
+            final String hash = hash(entry.getValue());
+            expectedKeys.add(key);
+            if (hash.equals(currentHashes.get(key))) {
+                continue;
+            }
+            final Path target = resourcesFolderPath.resolve(key);
+            LOGGER.info("Write file: " + target);
+            Files.createDirectories(target.getParent());
+            Files.write(target, entry.getValue());
+            currentHashes.put(key, hash);
+            stamps.put(key, stamp(target));
+            written++;
+        }
+
+        keptPaths.forEach(path -> expectedKeys.add(toKey(path)));
+
+        final List<String> deletedKeys = currentHashes.keySet()
+                .stream()
+                .filter(key -> !expectedKeys.contains(key))
+                .collect(Collectors.toList());
+        for (String key : deletedKeys) {
+            final Path target = resourcesFolderPath.resolve(key);
+            LOGGER.info("Delete file: " + target);
+            Files.deleteIfExists(target);
+            deleteEmptyParentFolders(target);
+            currentHashes.remove(key);
+            stamps.remove(key);
+        }
+
+        LOGGER.info("Synced resources: " + written + " written, " + deletedKeys.size() + " deleted, "
+                            + (expectedKeys.size() - written) + " unchanged");
+    }
+
+    // The resources are listed on every call, only the files whose size or modification time changed are read
+    private Map<String, String> loadHashes() throws IOException {
+        final Set<String> keys = new HashSet<>();
+        if (Files.isDirectory(resourcesFolderPath)) {
+            try (Stream<Path> paths = Files.walk(resourcesFolderPath)) {
+                for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    final String key = toKey(resourcesFolderPath.relativize(path));
+                    final String stamp = stamp(path);
+                    keys.add(key);
+                    if (!stamp.equals(stamps.get(key))) {
+                        hashes.put(key, hash(Files.readAllBytes(path)));
+                        stamps.put(key, stamp);
+                    }
+                }
+            }
+        }
+        hashes.keySet().retainAll(keys);
+        stamps.keySet().retainAll(keys);
+        return hashes;
+    }
+
+    private static String stamp(final Path path) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime();
+    }
+
+    private void deleteEmptyParentFolders(final Path path) throws IOException {
+        Path folder = path.getParent();
+        while (folder != null && !folder.equals(resourcesFolderPath) && folder.startsWith(resourcesFolderPath)) {
+            try (Stream<Path> children = Files.list(folder)) {
+                if (children.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.delete(folder);
+            folder = folder.getParent();
+        }
+    }
+}
@@ -24,12 +24,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -37,6 +39,7 @@ import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
 import org.kie.kogito.FileStructureConstants;
 import org.kie.kogito.api.FileService;
+import org.kie.kogito.api.ManifestService;
 import org.kie.kogito.api.UploadService;
 import org.kie.kogito.api.ZipService;
 import org.kie.kogito.model.FileType;
@@ -55,19 +58,32 @@ public class UploadServiceImpl implements UploadService {
     @Inject
     FileService fileService;
 
+    @Inject
+    ManifestService manifestService;
+
     @Override
-    public List<String> upload(final InputStream inputStream) throws IOException, UploadException, ValidationException {
+    public synchronized List<String> upload(final InputStream inputStream, final List<String> keptPaths) throws IOException, UploadException, ValidationException {
         LOGGER.info("Upload files ...");
-        Files.copy(inputStream, FileStructureConstants.UPLOADED_ZIP_FILE_PATH, StandardCopyOption.REPLACE_EXISTING);
 
-        final List<Path> unzippedFilePaths = zipService.unzip(FileStructureConstants.UPLOADED_ZIP_FILE_PATH,
-                                                              FileStructureConstants.UNZIP_FOLDER_PATH);
+        // Files are read straight from the uploaded zip stream and only written once validated
+        final Map<Path, byte[]> files = zipService.read(inputStream);
 
-        if (unzippedFilePaths.isEmpty()) {
+        if (files.isEmpty() && keptPaths.isEmpty()) {
             throw new UploadException("No file has been found in the provided zip file.");
         }
 
-        final List<FileValidationResult> fileValidationResults = fileService.validateFiles(unzippedFilePaths);
+        final Map<String, String> currentHashes = manifestService.getHashes();
+        final List<Path> keptFilePaths = keptPaths.stream().map(Path::of).map(Path::normalize).collect(Collectors.toList());
+        final Set<String> keptKeys = new HashSet<>();
+        for (Path keptFilePath : keptFilePaths) {
+            final String keptKey = manifestService.toKey(keptFilePath);
+            if (!currentHashes.containsKey(keptKey)) {
+                throw new UploadException("File '" + keptFilePath + "' has not been uploaded before and must be sent.");
+            }
+            keptKeys.add(keptKey);
+        }
+
+        final List<FileValidationResult> fileValidationResults = fileService.validateFiles(files);
 
         final List<String> errors = fileValidationResults
                 .stream()
@@ -79,28 +95,21 @@ public class UploadServiceImpl implements UploadService {
             throw new ValidationException(errors);
         }
 
-        final boolean hasAnySwf = fileValidationResults
-                .stream()
-                .anyMatch(r -> fileService.getFileType(r.getFilePath()) == FileType.SERVERLESS_WORKFLOW);
+        final boolean hasAnySwf = Stream.concat(fileValidationResults.stream().map(FileValidationResult::getFilePath), keptFilePaths.stream())
+                .anyMatch(path -> fileService.getFileType(path) == FileType.SERVERLESS_WORKFLOW);
 
         if (!hasAnySwf) {
             throw new UploadException("No valid Serverless Workflow file has been found.");
         }
 
-        LOGGER.info("Uploading " + fileValidationResults.size() + " validated file(s).");
-
-        fileService.cleanUpFolder(FileStructureConstants.PROJECT_RESOURCES_FOLDER_PATH);
+        LOGGER.info("Uploading " + fileValidationResults.size() + " validated file(s), keeping " + keptFilePaths.size() + " unchanged file(s).");
 
-        final Map<Path, Path> sourceTargetMap = fileValidationResults.stream()
+        // Paths relative to the project resources folder
+        final Map<Path, byte[]> resources = new LinkedHashMap<>();
+        fileValidationResults.stream()
                 .map(FileValidationResult::getFilePath)
                 .filter(path -> !path.getFileName().toString().equals(FileStructureConstants.APPLICATION_PROPERTIES_FILE_NAME))
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        path -> {
-                            final String relativePathStr =
-                                    path.toString().replace(FileStructureConstants.UNZIP_FOLDER_PATH.toString(), "");
-                            return Path.of(FileStructureConstants.PROJECT_RESOURCES_FOLDER_PATH.toString(), relativePathStr);
-                        }));
+                .forEach(path -> resources.put(path, files.get(path)));
 
         final Optional<Path> applicationPropertiesPath = fileValidationResults
                 .stream()
@@ -108,32 +117,27 @@ public class UploadServiceImpl implements UploadService {
                 .filter(path -> fileService.getFileType(path) == FileType.APPLICATION_PROPERTIES)
                 .findFirst();
 
+        final Path applicationPropertiesRelativePath = FileStructureConstants.PROJECT_RESOURCES_FOLDER_PATH.relativize(FileStructureConstants.APPLICATION_PROPERTIES_FILE_PATH);
         if (applicationPropertiesPath.isPresent()) {
-            Path mergedPath = Files.createTempFile("merged", FileStructureConstants.APPLICATION_PROPERTIES_FILE_NAME);
-            fileService.mergePropertiesFiles(applicationPropertiesPath.get(),
-                                             FileStructureConstants.BACKUP_APPLICATION_PROPERTIES_FILE_PATH,
-                                             mergedPath);
-            sourceTargetMap.put(mergedPath,
-                                FileStructureConstants.APPLICATION_PROPERTIES_FILE_PATH);
+            resources.put(applicationPropertiesRelativePath,
+                          fileService.mergeProperties(files.get(applicationPropertiesPath.get()),
+                                                      FileStructureConstants.BACKUP_APPLICATION_PROPERTIES_FILE_PATH));
             LOGGER.info("Merging incoming application.properties with default file.");
-        } else {
-            sourceTargetMap.put(FileStructureConstants.BACKUP_APPLICATION_PROPERTIES_FILE_PATH,
-                                FileStructureConstants.APPLICATION_PROPERTIES_FILE_PATH);
+        } else if (keptKeys.contains(manifestService.toKey(applicationPropertiesRelativePath))) {
+            LOGGER.info("Keeping the current application.properties file.");
+        } else if (fileService.exists(FileStructureConstants.BACKUP_APPLICATION_PROPERTIES_FILE_PATH)) {
+            resources.put(applicationPropertiesRelativePath,
+                          Files.readAllBytes(FileStructureConstants.BACKUP_APPLICATION_PROPERTIES_FILE_PATH));
             LOGGER.info("Using default application.properties file since no one was sent.");
         }
 
-        fileService.copyFiles(sourceTargetMap);
-
-        fileService.cleanUpFolder(FileStructureConstants.UNZIP_FOLDER_PATH);
+        // Only the files whose content changed are written, so Quarkus dev mode only reloads what's needed
+        manifestService.sync(resources, keptFilePaths);
 
         LOGGER.info("Upload files ... done");
 
-        return fileValidationResults
-                .stream()
-                .map(r -> r.getFilePath()
-                        .toAbsolutePath()
-                        .toString()
-                        .replace(FileStructureConstants.UNZIP_FOLDER_PATH + "/", ""))
+        return Stream.concat(fileValidationResults.stream().map(FileValidationResult::getFilePath), keptFilePaths.stream())
+                .map(Path::toString)
                 .collect(Collectors.toList());
     }
 }
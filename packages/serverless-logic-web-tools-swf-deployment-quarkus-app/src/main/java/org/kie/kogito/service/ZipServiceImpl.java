@@ -20,25 +20,48 @@
 
 package org.kie.kogito.service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.IOUtils;
 import org.kie.kogito.api.ZipService;
+import org.kie.kogito.model.UploadException;
 
 @ApplicationScoped
 public class ZipServiceImpl implements ZipService {
 
+    static final int MAX_ENTRIES = 1000;
+    static final long MAX_UNCOMPRESSED_SIZE = 50L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int maxEntries;
+    private final long maxUncompressedSize;
+
+    public ZipServiceImpl() {
+        this(MAX_ENTRIES, MAX_UNCOMPRESSED_SIZE);
+    }
+
+    ZipServiceImpl(final int maxEntries, final long maxUncompressedSize) {
+        this.maxEntries = maxEntries;
+        this.maxUncompressedSize = maxUncompressedSize;
+    }
+
     @Override
     public List<Path> unzip(final Path zipFilePath, final Path destinationFolderPath) throws IOException {
         var filePaths = new ArrayList<Path>();
@@ -61,4 +84,39 @@ public class ZipServiceImpl implements ZipService {
         }
         return filePaths;
     }
+
+    @Override
+    public Map<Path, byte[]> read(final InputStream zipInputStream) throws IOException, UploadException {
+        var files = new LinkedHashMap<Path, byte[]>();
+        var buffer = new byte[BUFFER_SIZE];
+        int entryCount = 0;
+        long uncompressedSize = 0;
+        try (ZipArchiveInputStream zipStream = new ZipArchiveInputStream(zipInputStream)) {
+            ZipArchiveEntry entry;
+            while ((entry = zipStream.getNextEntry()) != null) {
+                if (++entryCount > maxEntries) {
+                    throw new UploadException("The zip file has more than " + maxEntries + " entries.");
+                }
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                Path filePath = Path.of(entry.getName()).normalize();
+                if (filePath.isAbsolute() || filePath.startsWith("..")) {
+                    throw new IOException("Invalid zip entry: " + entry.getName());
+                }
+                // The declared entry sizes can't be trusted, the limit is checked against the bytes actually read
+                var content = new ByteArrayOutputStream();
+                int read;
+                while ((read = zipStream.read(buffer)) != -1) {
+                    uncompressedSize += read;
+                    if (uncompressedSize > maxUncompressedSize) {
+                        throw new UploadException("The zip file content is larger than " + maxUncompressedSize + " bytes.");
+                    }
+                    content.write(buffer, 0, read);
+                }
+                files.put(filePath, content.toByteArray());
+            }
+        }
+        return files;
+    }
 }
@@ -20,7 +20,7 @@
 
 package org.kie.kogito.validation;
 
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
 
 import org.everit.json.schema.loader.SchemaLoader;
@@ -32,10 +32,9 @@ import org.kie.kogito.model.FileValidationResult;
 public class JsonSchemaValidation implements FileValidation {
 
     @Override
-    public FileValidationResult validate(final Path path) {
+    public FileValidationResult validate(final Path path, final byte[] content) {
         try {
-            FileInputStream schemaStream = new FileInputStream(path.toFile());
-            JSONObject rawSchema = new JSONObject(new JSONTokener(schemaStream));
+            JSONObject rawSchema = new JSONObject(new JSONTokener(new ByteArrayInputStream(content)));
             SchemaLoader.load(rawSchema);
             return FileValidationResult.createValidResult(path);
         } catch (Exception e) {
@@ -20,6 +20,7 @@
 
 package org.kie.kogito.validation;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import io.swagger.v3.oas.models.PathItem;
@@ -30,12 +31,11 @@ import org.kie.kogito.model.FileValidationResult;
 
 public class OpenApiValidation implements FileValidation {
 
-    private final OpenAPIV3Parser parser = new OpenAPIV3Parser();
-
     @Override
-    public FileValidationResult validate(final Path path) {
+    public FileValidationResult validate(final Path path, final byte[] content) {
         try {
-            final SwaggerParseResult result = parser.readLocation(path.toAbsolutePath().toString(), null, null);
+            // Files are validated concurrently, so a parser is created per validation
+            final SwaggerParseResult result = new OpenAPIV3Parser().readContents(new String(content, StandardCharsets.UTF_8), null, null);
             if (result.getMessages() != null && result.getMessages().size() > 0) {
                 return FileValidationResult.createInvalidResult(path, "Errors have been found when parsing the OpenAPI");
             }
@@ -20,8 +20,8 @@
 
 package org.kie.kogito.validation;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Properties;
 
@@ -31,10 +31,10 @@ import org.kie.kogito.model.FileValidationResult;
 public class PropertiesValidation implements FileValidation {
 
     @Override
-    public FileValidationResult validate(final Path path) {
+    public FileValidationResult validate(final Path path, final byte[] content) {
         try {
             final Properties properties = new Properties();
-            try (var inputStream = Files.newInputStream(path)) {
+            try (var inputStream = new ByteArrayInputStream(content)) {
                 properties.load(inputStream);
             }
             for (String key : properties.stringPropertyNames()) {
@@ -20,9 +20,11 @@
 
 package org.kie.kogito.validation;
 
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.kie.kogito.api.FileValidation;
@@ -33,16 +35,14 @@ import org.kie.kogito.serverless.workflow.utils.WorkflowFormat;
 public class ServerlessWorkflowValidation implements FileValidation {
 
     @Override
-    public FileValidationResult validate(final Path path) {
-        try {
-            final WorkflowFormat format = resolveFormat(path);
-
-            if (format == null) {
-                return FileValidationResult.createInvalidResult(path, "Not a valid Serverless Workflow file format");
-            }
-            ServerlessWorkflowUtils.getWorkflow(
-                    new InputStreamReader(new FileInputStream(path.toAbsolutePath().toString())),
-                    format);
+    public FileValidationResult validate(final Path path, final byte[] content) {
+        final WorkflowFormat format = resolveFormat(path);
+
+        if (format == null) {
+            return FileValidationResult.createInvalidResult(path, "Not a valid Serverless Workflow file format");
+        }
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            ServerlessWorkflowUtils.getWorkflow(reader, format);
             return FileValidationResult.createValidResult(path);
         } catch (IOException e) {
             return FileValidationResult.createInvalidResult(path, e.getMessage());
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.kogito;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.api.ManifestService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class HotReloadResourceTest {
+
+    private HotReloadResource resource;
+    private Map<String, String> receivedHashes;
+    private List<String> changedPaths;
+
+    @BeforeEach
+    void setUp() {
+        resource = new HotReloadResource();
+        resource.manifestService = new TestManifestService();
+    }
+
+    @Test
+    void testHandleDelta() {
+        changedPaths = List.of("application.properties", "specs/api.yaml");
+        Map<String, String> hashes = Map.of("hello.sw.json", "hash1",
+                                            "specs/api.yaml", "hash2",
+                                            "application.properties", "hash3");
+
+        Response response = resource.handleDelta(hashes);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(Map.of("paths", changedPaths), response.getEntity());
+        assertEquals(hashes, receivedHashes);
+    }
+
+    @Test
+    void testHandleDeltaWithoutChanges() {
+        changedPaths = List.of();
+
+        Response response = resource.handleDelta(Map.of("hello.sw.json", "hash1"));
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(Map.of("paths", List.of()), response.getEntity());
+    }
+
+    @Test
+    void testHandleDeltaWithoutHashes() {
+        Response response = resource.handleDelta(null);
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+        assertNull(receivedHashes);
+    }
+
+    @Test
+    void testHandleDeltaWithManifestError() {
+        Response response = resource.handleDelta(Map.of("hello.sw.json", "hash1"));
+
+        assertEquals(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), response.getStatus());
+        assertEquals(Map.of("errors", List.of("Unreadable resources")), response.getEntity());
+    }
+
+    private class TestManifestService implements ManifestService {
+
+        @Override
+        public String hash(final byte[] content) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String toKey(final Path relativePath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> getHashes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> getChangedPaths(final Map<String, String> hashes) throws IOException {
+            receivedHashes = hashes;
+            if (changedPaths == null) {
+                throw new IOException("Unreadable resources");
+            }
+            return changedPaths;
+        }
+
+        @Override
+        public void sync(final Map<Path, byte[]> files, final Collection<Path> keptPaths) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
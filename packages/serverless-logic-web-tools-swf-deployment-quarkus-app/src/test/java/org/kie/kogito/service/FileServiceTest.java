@@ -20,15 +20,19 @@
 
 package org.kie.kogito.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -163,6 +167,21 @@ public class FileServiceTest {
         assertEquals(3, (int) results.stream().filter(FileValidationResult::isValid).count());
     }
 
+    @Test
+    void testValidateFilesInMemory() throws Exception {
+        Map<Path, byte[]> files;
+        try (InputStream inputStream = Files.newInputStream(Path.of("src/test/resources/test-with-invalid.zip"))) {
+            files = new ZipServiceImpl().read(inputStream);
+        }
+
+        List<FileValidationResult> results = fileService.validateFiles(files);
+        assertEquals(5, files.size());
+        assertEquals(4, results.size());
+        assertEquals(3, (int) results.stream().filter(FileValidationResult::isValid).count());
+        assertEquals(List.of(Path.of("application.properties"), Path.of("hello.sw.json"), Path.of("spec.yaml"), Path.of("notspec.yaml")),
+                     results.stream().map(FileValidationResult::getFilePath).collect(Collectors.toList()));
+    }
+
     @Test
     void testValidateFilesWithInvalid() throws IOException {
         Path zipFilePath = Path.of("src/test/resources/test-with-invalid.zip");
@@ -175,6 +194,32 @@ public class FileServiceTest {
         assertEquals(3, (int) results.stream().filter(FileValidationResult::isValid).count());
     }
 
+    @Test
+    void testMergeProperties() throws IOException {
+        Path defaults = Files.writeString(tempFolder.resolve("defaults.properties"), "defaultKey1=defaultValue1\ndefaultKey2=defaultValue2");
+
+        Properties mergedProps = new Properties();
+        byte[] merged = fileService.mergeProperties("customKey1=customValue1\ndefaultKey1=customValue".getBytes(StandardCharsets.UTF_8), defaults);
+        mergedProps.load(new ByteArrayInputStream(merged));
+
+        assertEquals(3, mergedProps.size());
+        assertEquals("customValue1", mergedProps.getProperty("customKey1"));
+        assertEquals("defaultValue1", mergedProps.getProperty("defaultKey1"));
+        assertEquals("defaultValue2", mergedProps.getProperty("defaultKey2"));
+    }
+
+    @Test
+    void testMergePropertiesIsStable() throws IOException {
+        Path defaults = Files.writeString(tempFolder.resolve("defaults.properties"), "defaultKey1=defaultValue1\ndefaultKey2=defaultValue2");
+
+        byte[] merged = fileService.mergeProperties("customKey1=customValue1\ncustomKey2=customValue2".getBytes(StandardCharsets.UTF_8), defaults);
+        byte[] mergedAgain = fileService.mergeProperties("customKey2=customValue2\ncustomKey1=customValue1".getBytes(StandardCharsets.UTF_8), defaults);
+
+        assertEquals(new String(merged, StandardCharsets.ISO_8859_1), new String(mergedAgain, StandardCharsets.ISO_8859_1));
+        assertEquals(List.of("customKey1=customValue1", "customKey2=customValue2", "defaultKey1=defaultValue1", "defaultKey2=defaultValue2"),
+                     new String(merged, StandardCharsets.ISO_8859_1).lines().collect(Collectors.toList()));
+    }
+
     @Test
     void testCopyFiles() throws IOException {
         Path subFolders = tempFolder.resolve("foo/bar/baz");
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.kogito.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.api.ManifestService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManifestServiceTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    private ManifestService manifestService;
+    private Path resourcesFolder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        resourcesFolder = Files.createTempDirectory("manifestServiceTest");
+        Files.writeString(resourcesFolder.resolve("application.properties"), "key=value");
+        Files.createDirectories(resourcesFolder.resolve("specs"));
+        Files.writeString(resourcesFolder.resolve("specs/api.yaml"), "openapi: 3.0.0");
+        manifestService = new ManifestServiceImpl(resourcesFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtils.deleteQuietly(resourcesFolder.toFile());
+    }
+
+    @Test
+    void testGetHashes() throws IOException {
+        Map<String, String> hashes = manifestService.getHashes();
+
+        assertEquals(2, hashes.size());
+        assertEquals(manifestService.hash("key=value".getBytes(StandardCharsets.UTF_8)), hashes.get("application.properties"));
+        assertEquals(manifestService.hash("openapi: 3.0.0".getBytes(StandardCharsets.UTF_8)), hashes.get("specs/api.yaml"));
+    }
+
+    @Test
+    void testGetHashesSeesChangesMadeOnDisk() throws IOException {
+        manifestService.getHashes();
+
+        Files.writeString(resourcesFolder.resolve("specs/api.yaml"), "openapi: 3.1.0\ninfo: {}");
+        Files.delete(resourcesFolder.resolve("application.properties"));
+        Files.writeString(resourcesFolder.resolve("hello.sw.json"), "{}");
+
+        assertEquals(Map.of("specs/api.yaml", manifestService.hash("openapi: 3.1.0\ninfo: {}".getBytes(StandardCharsets.UTF_8)),
+                            "hello.sw.json", manifestService.hash("{}".getBytes(StandardCharsets.UTF_8))),
+                     manifestService.getHashes());
+    }
+
+    @Test
+    void testGetChangedPaths() throws IOException {
+        Map<String, String> clientHashes = new LinkedHashMap<>();
+        clientHashes.put("specs/api.yaml", manifestService.hash("openapi: 3.0.0".getBytes(StandardCharsets.UTF_8)));
+        clientHashes.put("application.properties", manifestService.hash("key=other".getBytes(StandardCharsets.UTF_8)));
+        clientHashes.put("hello.sw.json", manifestService.hash("{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("application.properties", "hello.sw.json"), manifestService.getChangedPaths(clientHashes));
+    }
+
+    @Test
+    void testSyncOnlyTouchesChangedFiles() throws IOException {
+        Path properties = resourcesFolder.resolve("application.properties");
+        Path spec = resourcesFolder.resolve("specs/api.yaml");
+        Files.setLastModifiedTime(properties, OLD_TIME);
+        Files.setLastModifiedTime(spec, OLD_TIME);
+
+        Map<Path, byte[]> files = new LinkedHashMap<>();
+        files.put(Path.of("application.properties"), "key=value".getBytes(StandardCharsets.UTF_8));
+        files.put(Path.of("hello.sw.json"), "{}".getBytes(StandardCharsets.UTF_8));
+        manifestService.sync(files, List.of(Path.of("specs/api.yaml")));
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(properties));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(spec));
+        assertEquals("{}", Files.readString(resourcesFolder.resolve("hello.sw.json")));
+        assertEquals(3, manifestService.getHashes().size());
+    }
+
+    @Test
+    void testSyncReplacesAndDeletesFiles() throws IOException {
+        Map<Path, byte[]> files = new LinkedHashMap<>();
+        files.put(Path.of("application.properties"), "key=other".getBytes(StandardCharsets.UTF_8));
+        manifestService.sync(files, List.of());
+
+        assertEquals("key=other", Files.readString(resourcesFolder.resolve("application.properties")));
+        assertFalse(Files.exists(resourcesFolder.resolve("specs")));
+        assertTrue(Files.exists(resourcesFolder));
+        assertEquals(Map.of("application.properties", manifestService.hash("key=other".getBytes(StandardCharsets.UTF_8))),
+                     manifestService.getHashes());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.kogito.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.TestConstants;
+import org.kie.kogito.model.UploadException;
+import org.kie.kogito.model.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UploadServiceTest {
+
+    private static final Path WORKFLOW_ASSET_PATH = Path.of(TestConstants.ASSETS_FOLDER + "valid.sw.json");
+    private static final Path OPENAPI_ASSET_PATH = Path.of(TestConstants.ASSETS_FOLDER + "valid-openapi.yaml");
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    private UploadServiceImpl uploadService;
+    private Path resourcesFolder;
+    private Path defaultProperties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        resourcesFolder = Files.createTempDirectory("uploadServiceTest");
+        Files.copy(WORKFLOW_ASSET_PATH, resourcesFolder.resolve("hello.sw.json"));
+        Files.writeString(resourcesFolder.resolve("application.properties"), "key=value");
+        Files.createDirectories(resourcesFolder.resolve("specs"));
+        Files.writeString(resourcesFolder.resolve("specs/api.yaml"), "openapi: 3.0.0");
+
+        uploadService = new UploadServiceImpl();
+        uploadService.zipService = new ZipServiceImpl();
+        defaultProperties = Files.writeString(Files.createTempFile("uploadServiceTest", ".properties"), "defaultKey=defaultValue");
+        uploadService.fileService = new FileServiceImpl() {
+            @Override
+            public byte[] mergeProperties(final byte[] properties, final Path overridingPropertiesPath) throws IOException {
+                return super.mergeProperties(properties, defaultProperties);
+            }
+        };
+        uploadService.manifestService = new ManifestServiceImpl(resourcesFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FileUtils.deleteQuietly(resourcesFolder.toFile());
+        FileUtils.deleteQuietly(defaultProperties.toFile());
+    }
+
+    @Test
+    void testUploadWithKeptPaths() throws Exception {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("specs/api.yaml", Files.readAllBytes(OPENAPI_ASSET_PATH));
+
+        List<String> paths = uploadService.upload(zip(entries), List.of("./hello.sw.json", "application.properties"));
+
+        assertEquals(List.of("specs/api.yaml", "hello.sw.json", "application.properties"), paths);
+        assertEquals(Files.readString(OPENAPI_ASSET_PATH), Files.readString(resourcesFolder.resolve("specs/api.yaml")));
+        assertEquals(Files.readString(WORKFLOW_ASSET_PATH), Files.readString(resourcesFolder.resolve("hello.sw.json")));
+        assertEquals("key=value", Files.readString(resourcesFolder.resolve("application.properties")));
+    }
+
+    @Test
+    void testUploadDeletesFilesNeitherSentNorKept() throws Exception {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("hello.sw.json", Files.readAllBytes(WORKFLOW_ASSET_PATH));
+
+        uploadService.upload(zip(entries), List.of("application.properties"));
+
+        assertFalse(Files.exists(resourcesFolder.resolve("specs")));
+        assertEquals("key=value", Files.readString(resourcesFolder.resolve("application.properties")));
+    }
+
+    @Test
+    void testUploadSamePropertiesTwiceWritesNothing() throws Exception {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("hello.sw.json", Files.readAllBytes(WORKFLOW_ASSET_PATH));
+        entries.put("application.properties", "customKey=customValue".getBytes(StandardCharsets.UTF_8));
+        uploadService.upload(zip(entries), List.of());
+
+        Path properties = resourcesFolder.resolve("application.properties");
+        Path workflow = resourcesFolder.resolve("hello.sw.json");
+        Files.setLastModifiedTime(properties, OLD_TIME);
+        Files.setLastModifiedTime(workflow, OLD_TIME);
+
+        uploadService.upload(zip(entries), List.of());
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(properties));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(workflow));
+        assertEquals("customValue", load(properties).getProperty("customKey"));
+        assertEquals("defaultValue", load(properties).getProperty("defaultKey"));
+    }
+
+    @Test
+    void testUploadWithKeptPathNotUploadedBefore() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("hello.sw.json", Files.readAllBytes(WORKFLOW_ASSET_PATH));
+        InputStream zip = zip(entries);
+
+        assertThrows(UploadException.class, () -> uploadService.upload(zip, List.of("application.properties", "other.sw.json")));
+        assertEquals("openapi: 3.0.0", Files.readString(resourcesFolder.resolve("specs/api.yaml")));
+    }
+
+    @Test
+    void testUploadWithoutServerlessWorkflow() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("specs/api.yaml", Files.readAllBytes(OPENAPI_ASSET_PATH));
+        InputStream zip = zip(entries);
+
+        assertThrows(UploadException.class, () -> uploadService.upload(zip, List.of("application.properties")));
+    }
+
+    @Test
+    void testUploadInvalidFile() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("hello.sw.json", Files.readAllBytes(Path.of(TestConstants.ASSETS_FOLDER + "invalid.sw.json")));
+        InputStream zip = zip(entries);
+
+        assertThrows(ValidationException.class, () -> uploadService.upload(zip, List.of("application.properties")));
+        assertEquals(Files.readString(WORKFLOW_ASSET_PATH), Files.readString(resourcesFolder.resolve("hello.sw.json")));
+    }
+
+    private static Properties load(final Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    private static InputStream zip(final Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream zipContent = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zipStream = new ZipArchiveOutputStream(zipContent)) {
+            for (var entry : entries.entrySet()) {
+                zipStream.putArchiveEntry(new ZipArchiveEntry(entry.getKey()));
+                zipStream.write(entry.getValue());
+                zipStream.closeArchiveEntry();
+            }
+        }
+        return new ByteArrayInputStream(zipContent.toByteArray());
+    }
+}
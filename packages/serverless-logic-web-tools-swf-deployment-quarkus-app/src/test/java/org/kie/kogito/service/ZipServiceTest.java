@@ -20,13 +20,22 @@
 
 package org.kie.kogito.service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.api.ZipService;
+import org.kie.kogito.model.UploadException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,6 +55,42 @@ public class ZipServiceTest {
         assertEquals(4, unzippedFiles.size());
     }
 
+    @Test
+    public void read_validZipStream() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(ZIP_FILE_PATH)) {
+            Map<Path, byte[]> files = zipService.read(inputStream);
+
+            assertEquals(4, files.size());
+            assertArrayEquals(new Path[] { Path.of("application.properties"), Path.of("hello.sw.json"), Path.of("test.txt"), Path.of("spec.yaml") },
+                              files.keySet().toArray());
+            assertEquals(538, files.get(Path.of("hello.sw.json")).length);
+        }
+    }
+
+    @Test
+    public void read_zipStreamWithEntryOutsideFolder() throws IOException {
+        byte[] zipContent = zip(Map.of("../outside.sw.json", "{}"));
+
+        assertThrows(IOException.class, () -> zipService.read(new ByteArrayInputStream(zipContent)));
+    }
+
+    @Test
+    public void read_zipStreamWithTooManyEntries() throws IOException {
+        byte[] zipContent = zip(Map.of("a.sw.json", "{}", "b.sw.json", "{}", "c.sw.json", "{}"));
+
+        assertThrows(UploadException.class, () -> new ZipServiceImpl(2, 1024).read(new ByteArrayInputStream(zipContent)));
+        assertEquals(3, assertDoesNotThrow(() -> new ZipServiceImpl(3, 1024).read(new ByteArrayInputStream(zipContent))).size());
+    }
+
+    @Test
+    public void read_zipStreamLargerThanLimit() throws IOException {
+        // Compresses to a few bytes, the limit is on the uncompressed content
+        byte[] zipContent = zip(Map.of("a.sw.json", "{" + " ".repeat(2048) + "}"));
+
+        assertThrows(UploadException.class, () -> new ZipServiceImpl(10, 2048).read(new ByteArrayInputStream(zipContent)));
+        assertEquals(2050, assertDoesNotThrow(() -> new ZipServiceImpl(10, 2050).read(new ByteArrayInputStream(zipContent))).get(Path.of("a.sw.json")).length);
+    }
+
     @Test
     public void unzip_invalidZipFile() {
         Path invalidZipFilePath = Path.of("src/test/resources/invalid.zip");
@@ -53,4 +98,16 @@ public class ZipServiceTest {
 
         assertThrows(IOException.class, () -> zipService.unzip(invalidZipFilePath, destinationFolderPath));
     }
+
+    private static byte[] zip(final Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream zipContent = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zipStream = new ZipArchiveOutputStream(zipContent)) {
+            for (var entry : entries.entrySet()) {
+                zipStream.putArchiveEntry(new ZipArchiveEntry(entry.getKey()));
+                zipStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zipStream.closeArchiveEntry();
+            }
+        }
+        return zipContent.toByteArray();
+    }
 }
@@ -24,10 +24,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import com.ait.lienzo.client.core.layout.Layout;
 import com.ait.lienzo.client.core.layout.OrientedEdgeImpl;
 import com.ait.lienzo.client.core.layout.ReorderedGraph;
+import com.ait.lienzo.client.core.layout.VertexPosition;
 
 public class LayeredGraph implements ReorderedGraph {
 
@@ -36,6 +39,7 @@ public class LayeredGraph implements ReorderedGraph {
     private final List<GraphLayer> layers;
     private final HashMap<String, Integer> verticesWidth;
     private final HashMap<String, Integer> verticesHeight;
+    private final HashMap<String, VertexPosition> previousPositions;
 
     private String startingVertexId;
     private String endingVertexId;
@@ -52,6 +56,7 @@ public class LayeredGraph implements ReorderedGraph {
         this.layers = new ArrayList<>();
         this.verticesWidth = new HashMap<>();
         this.verticesHeight = new HashMap<>();
+        this.previousPositions = new HashMap<>();
     }
 
     /**
@@ -82,6 +87,25 @@ public class LayeredGraph implements ReorderedGraph {
         return endingVertexId;
     }
 
+    /**
+     * Sets the layout this graph had before its last changes. The layout steps keep the
+     * vertices of the previous layout in place as much as possible.
+     *
+     * @param previousLayout The previous layout, or <code>null</code> to lay out from scratch.
+     */
+    public void setPreviousLayout(final Layout previousLayout) {
+        this.previousPositions.clear();
+        if (null != previousLayout) {
+            for (final VertexPosition position : previousLayout.getVerticesPositions()) {
+                this.previousPositions.put(position.getId(), position);
+            }
+        }
+    }
+
+    public Map<String, VertexPosition> getPreviousPositions() {
+        return this.previousPositions;
+    }
+
     public void addEdge(final String from,
                         final String to) {
         addEdge(new OrientedEdgeImpl(from, to));
@@ -78,9 +78,28 @@ public class SugiyamaLayoutService extends AbstractLayoutService {
     public Layout createLayout(final List<Vertex> vertices,
                                final String startingVertexId,
                                final String endingVertexId) {
+        return createLayout(vertices, startingVertexId, endingVertexId, null);
+    }
+
+    /**
+     * Creates a layout that keeps the vertices of a previous layout in place as much as possible.
+     * Vertices keep their previous order inside their layers, new vertices are inserted next to
+     * their neighbours and crossings are only reduced in the layers touched by the changes.
+     *
+     * @param vertices         The vertices.
+     * @param startingVertexId The starting vertex.
+     * @param endingVertexId   The ending vertex.
+     * @param previousLayout   The previous layout, or <code>null</code> to lay out from scratch.
+     * @return The layout.
+     */
+    public Layout createLayout(final List<Vertex> vertices,
+                               final String startingVertexId,
+                               final String endingVertexId,
+                               final Layout previousLayout) {
 
         final HashMap<String, Vertex> indexByUuid = createIndex(vertices);
         final LayeredGraph layeredGraph = createLayeredGraph(vertices, startingVertexId, endingVertexId);
+        layeredGraph.setPreviousLayout(previousLayout);
 
         this.cycleBreaker.breakCycle(layeredGraph);
         this.vertexLayerer.createLayers(layeredGraph);
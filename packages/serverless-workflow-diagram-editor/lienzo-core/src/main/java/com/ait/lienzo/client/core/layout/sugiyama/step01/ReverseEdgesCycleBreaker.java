@@ -35,9 +35,11 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
 
     private LayeredGraph graph;
     private final HashSet<String> visitedVertices;
+    private final HashSet<String> acyclicVertices;
 
     public ReverseEdgesCycleBreaker() {
         this.visitedVertices = new HashSet<>();
+        this.acyclicVertices = new HashSet<>();
     }
 
     /**
@@ -47,6 +49,9 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
     @Override
     public void breakCycle(final ReorderedGraph graph) {
         this.graph = (LayeredGraph) graph;
+        // The breaker can be reused, vertices of a previous graph say nothing about this one
+        this.visitedVertices.clear();
+        this.acyclicVertices.clear();
 
         for (final String vertex : this.graph.getVertices()) {
             visit(vertex);
@@ -63,6 +68,10 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
             // Found a cycle.
             return false;
         }
+        if (acyclicVertices.contains(vertex)) {
+            // Already visited from another path, no cycles left from here.
+            return true;
+        }
         visitedVertices.add(vertex);
 
         final String[] verticesFromThis = getVerticesFrom(vertex);
@@ -84,6 +93,7 @@ public final class ReverseEdgesCycleBreaker implements CycleBreaker {
         }
 
         visitedVertices.remove(vertex);
+        acyclicVertices.add(vertex);
         return true;
     }
 
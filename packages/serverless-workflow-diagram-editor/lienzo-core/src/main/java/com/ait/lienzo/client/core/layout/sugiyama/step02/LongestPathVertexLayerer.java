@@ -21,7 +21,6 @@
 package com.ait.lienzo.client.core.layout.sugiyama.step02;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,12 +39,14 @@ import com.ait.lienzo.client.core.layout.sugiyama.LayeredGraph;
 public final class LongestPathVertexLayerer implements VertexLayerer {
 
     private VertexPosition[] vertices;
+    private final HashMap<String, VertexPosition> verticesById;
     private final HashMap<String, Integer> vertexHeight;
     private final HashMap<Integer, List<VertexPosition>> layeredVertices;
 
     private LayeredGraph graph;
 
     public LongestPathVertexLayerer() {
+        this.verticesById = new HashMap<>();
         this.vertexHeight = new HashMap<>();
         this.layeredVertices = new HashMap<>();
     }
@@ -63,6 +64,7 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
     public void createLayers(final ReorderedGraph graph) {
         this.graph = (LayeredGraph) graph;
         this.vertices = new VertexPosition[this.graph.getVertices().size()];
+        this.verticesById.clear();
 
         for (int i = 0; i < this.graph.getVertices().size(); i++) {
             final String v = this.graph.getVertices().get(i);
@@ -71,6 +73,7 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
             createdVertexPosition.setHeight(this.graph.getVertexHeight(v));
 
             this.vertices[i] = createdVertexPosition;
+            this.verticesById.putIfAbsent(v, createdVertexPosition);
 
             this.vertexHeight.put(v, -1);
         }
@@ -94,12 +97,10 @@ public final class LongestPathVertexLayerer implements VertexLayerer {
         final String[] verticesFromHere = graph.getVerticesTo(vertexPosition.getId());
         for (final String nextVertex : verticesFromHere) {
             if (!Objects.equals(nextVertex, vertexPosition.getId())) {
-                final VertexPosition next = Arrays.stream(this.vertices)
-                        .filter(f -> Objects.equals(f.getId(), nextVertex))
-                        .findFirst()
-                        .orElseThrow(() -> new NoSuchElementException(
-                                "Can not found the vertex pointed in other side of the OrientedEdge."
-                        ));
+                final VertexPosition next = this.verticesById.get(nextVertex);
+                if (null == next) {
+                    throw new NoSuchElementException("Can not found the vertex pointed in other side of the OrientedEdge.");
+                }
 
                 final int targetHeight = visit(next);
                 maxHeight = Math.max(maxHeight, targetHeight + 1);
@@ -20,19 +20,29 @@
 
 package com.ait.lienzo.client.core.layout.sugiyama.step03;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
+import com.ait.lienzo.client.core.layout.Edge;
 import com.ait.lienzo.client.core.layout.OrientedEdgeImpl;
 import com.ait.lienzo.client.core.layout.ReorderedGraph;
 import com.ait.lienzo.client.core.layout.VertexPosition;
 import com.ait.lienzo.client.core.layout.sugiyama.GraphLayer;
 import com.ait.lienzo.client.core.layout.sugiyama.LayeredGraph;
 import com.ait.lienzo.client.core.layout.sugiyama.OrientedEdge;
+import com.ait.lienzo.client.core.types.Point2D;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.emptyList;
 
 /**
  * Order vertices inside layers trying to reduce crossing between edges.
@@ -71,14 +81,30 @@ public final class DefaultVertexOrdering implements VertexOrdering {
     public void orderVertices(final ReorderedGraph graph) {
         final LayeredGraph layered = (LayeredGraph) graph;
         final List<OrientedEdge> edges = graph.getEdges();
+        final Map<String, VertexPosition> previousPositions = layered.getPreviousPositions();
+        final Set<String> touched = previousPositions.isEmpty()
+                ? Collections.emptySet()
+                : getTouchedVertices(layered, edges, previousPositions);
         final List<GraphLayer> virtualized = createVirtual(edges, layered);
+        final VertexAdjacency adjacency = new VertexAdjacency(virtualized, edges);
+
+        if (!previousPositions.isEmpty()) {
+            orderFromPrevious(virtualized, edges, adjacency, previousPositions, touched);
+            layered.getLayers().clear();
+            layered.getLayers().addAll(virtualized);
+            return;
+        }
+
         List<GraphLayer> best = copy(virtualized);
+        int bestCrossing = this.crossingCount.crossing(best, adjacency);
 
         for (int i = 0; i < MAX_ITERATIONS; i++) {
-            this.vertexPositioning.positionVertices(virtualized, edges, i);
-            this.verticesTransposer.transpose(virtualized, edges, i);
-            if (this.crossingCount.crossing(best, edges) > this.crossingCount.crossing(virtualized, edges)) {
+            this.vertexPositioning.positionVertices(virtualized, adjacency, i);
+            this.verticesTransposer.transpose(virtualized, adjacency, i);
+            final int crossing = this.crossingCount.crossing(virtualized, adjacency);
+            if (bestCrossing > crossing) {
                 best = copy(virtualized);
+                bestCrossing = crossing;
             } else {
                 break;
             }
@@ -88,6 +114,259 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         layered.getLayers().addAll(best);
     }
 
+    /**
+     * Keeps the order of a previous layout. Vertices are sorted by their previous position, new vertices
+     * go next to their neighbours and then crossings are reduced by transposing vertices, only in the
+     * layers touched by the changes.
+     */
+    private void orderFromPrevious(final List<GraphLayer> layers,
+                                   final List<OrientedEdge> edges,
+                                   final VertexAdjacency adjacency,
+                                   final Map<String, VertexPosition> previousPositions,
+                                   final Set<String> touched) {
+        final Map<String, List<String>> neighbours = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            neighbours.computeIfAbsent(edge.getFromVertexId(), id -> new ArrayList<>()).add(edge.getToVertexId());
+            neighbours.computeIfAbsent(edge.getToVertexId(), id -> new ArrayList<>()).add(edge.getFromVertexId());
+        }
+
+        final Map<String, Double> keys = new HashMap<>();
+        for (final GraphLayer layer : layers) {
+            for (final VertexPosition vertex : layer.getVertices()) {
+                final VertexPosition previous = previousPositions.get(vertex.getId());
+                if (!vertex.isVirtual() && null != previous) {
+                    keys.put(vertex.getId(), (double) previous.getX());
+                }
+            }
+        }
+        seedFromBendingPoints(layers, neighbours, previousPositions, keys);
+        for (int i = 0; i < layers.size(); i++) {
+            seedFromNeighbours(layers.get(i), neighbours, keys);
+        }
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            seedFromNeighbours(layers.get(i), neighbours, keys);
+        }
+        for (final GraphLayer layer : layers) {
+            layer.getVertices().sort(Comparator.comparingDouble(v -> keys.getOrDefault(v.getId(), Double.MAX_VALUE)));
+        }
+
+        final boolean[] affected = getAffectedLayers(layers, neighbours, previousPositions, touched);
+        int crossing = this.crossingCount.crossing(layers, adjacency);
+        for (int i = 0; i < MAX_ITERATIONS && crossing > 0; i++) {
+            this.verticesTransposer.transpose(layers, adjacency, i, affected);
+            final int newCrossing = this.crossingCount.crossing(layers, adjacency);
+            if (newCrossing >= crossing) {
+                break;
+            }
+            crossing = newCrossing;
+        }
+    }
+
+    /**
+     * Virtual vertices were bending points of the same edge in the previous layout.
+     */
+    private static void seedFromBendingPoints(final List<GraphLayer> layers,
+                                              final Map<String, List<String>> neighbours,
+                                              final Map<String, VertexPosition> previousPositions,
+                                              final Map<String, Double> keys) {
+        final Map<String, List<Point2D>> previousBendingPoints = new HashMap<>();
+        for (final VertexPosition previous : previousPositions.values()) {
+            for (final Edge edge : previous.getOutgoingEdges()) {
+                if (!edge.getBendingPoints().isEmpty()) {
+                    previousBendingPoints.put(edgeKey(edge.getSource(), edge.getTarget()), edge.getBendingPoints());
+                }
+            }
+        }
+        if (previousBendingPoints.isEmpty()) {
+            return;
+        }
+
+        final Map<String, VertexPosition> virtualVertices = new HashMap<>();
+        for (final GraphLayer layer : layers) {
+            for (final VertexPosition vertex : layer.getVertices()) {
+                if (vertex.isVirtual()) {
+                    virtualVertices.put(vertex.getId(), vertex);
+                }
+            }
+        }
+
+        for (final GraphLayer layer : layers) {
+            final Integer layerY = getPreviousY(layer, previousPositions);
+            if (null == layerY) {
+                continue;
+            }
+            for (final VertexPosition vertex : layer.getVertices()) {
+                if (!vertex.isVirtual()) {
+                    continue;
+                }
+                final List<String> ends = neighbours.getOrDefault(vertex.getId(), emptyList());
+                if (ends.size() != 2) {
+                    continue;
+                }
+                final String from = getRealVertex(vertex.getId(), ends.get(0), neighbours, virtualVertices);
+                final String to = getRealVertex(vertex.getId(), ends.get(1), neighbours, virtualVertices);
+                final List<Point2D> bendingPoints = null != from && null != to
+                        ? previousBendingPoints.get(edgeKey(from, to))
+                        : null;
+                if (null != bendingPoints) {
+                    // Bending points are in the layers the edge crossed, take the one in this layer.
+                    Point2D closest = null;
+                    for (final Point2D point : bendingPoints) {
+                        if (null == closest || Math.abs(point.getY() - layerY) < Math.abs(closest.getY() - layerY)) {
+                            closest = point;
+                        }
+                    }
+                    keys.put(vertex.getId(), closest.getX());
+                }
+            }
+        }
+    }
+
+    private static Integer getPreviousY(final GraphLayer layer,
+                                        final Map<String, VertexPosition> previousPositions) {
+        for (final VertexPosition vertex : layer.getVertices()) {
+            final VertexPosition previous = previousPositions.get(vertex.getId());
+            if (!vertex.isVirtual() && null != previous) {
+                return previous.getY();
+            }
+        }
+        return null;
+    }
+
+    // Follows a chain of virtual vertices, which have a single edge on each side, up to a real vertex.
+    private static String getRealVertex(final String from,
+                                        final String next,
+                                        final Map<String, List<String>> neighbours,
+                                        final Map<String, VertexPosition> virtualVertices) {
+        String previous = from;
+        String current = next;
+        while (virtualVertices.containsKey(current)) {
+            final List<String> ends = neighbours.getOrDefault(current, emptyList());
+            if (ends.size() != 2) {
+                return null;
+            }
+            final String following = Objects.equals(ends.get(0), previous) ? ends.get(1) : ends.get(0);
+            previous = current;
+            current = following;
+        }
+        return current;
+    }
+
+    private static void seedFromNeighbours(final GraphLayer layer,
+                                           final Map<String, List<String>> neighbours,
+                                           final Map<String, Double> keys) {
+        for (final VertexPosition vertex : layer.getVertices()) {
+            if (keys.containsKey(vertex.getId())) {
+                continue;
+            }
+            double sum = 0;
+            int count = 0;
+            for (final String neighbour : neighbours.getOrDefault(vertex.getId(), emptyList())) {
+                final Double key = keys.get(neighbour);
+                if (null != key) {
+                    sum += key;
+                    count++;
+                }
+            }
+            if (count > 0) {
+                keys.put(vertex.getId(), sum / count);
+            }
+        }
+    }
+
+    /**
+     * The vertices that are new, or that gained or lost an edge, since the previous layout.
+     */
+    private static Set<String> getTouchedVertices(final LayeredGraph graph,
+                                                  final List<OrientedEdge> edges,
+                                                  final Map<String, VertexPosition> previousPositions) {
+        final Set<String> touched = new HashSet<>();
+        for (final String vertex : graph.getVertices()) {
+            if (!previousPositions.containsKey(vertex)) {
+                touched.add(vertex);
+            }
+        }
+
+        final Set<String> currentEdges = new HashSet<>();
+        for (final OrientedEdge edge : edges) {
+            currentEdges.add(edgeKey(edge.getFromVertexId(), edge.getToVertexId()));
+        }
+        final Set<String> previousEdges = new HashSet<>();
+        for (final VertexPosition previous : previousPositions.values()) {
+            for (final Edge edge : previous.getOutgoingEdges()) {
+                final String key = edgeKey(edge.getSource(), edge.getTarget());
+                previousEdges.add(key);
+                if (!currentEdges.contains(key)) {
+                    touched.add(edge.getSource());
+                    touched.add(edge.getTarget());
+                }
+            }
+        }
+        for (final OrientedEdge edge : edges) {
+            if (!previousEdges.contains(edgeKey(edge.getFromVertexId(), edge.getToVertexId()))) {
+                touched.add(edge.getFromVertexId());
+                touched.add(edge.getToVertexId());
+            }
+        }
+        return touched;
+    }
+
+    // Cycle breaking may have reversed the edge, so the key does not depend on the direction.
+    private static String edgeKey(final String vertex1,
+                                  final String vertex2) {
+        return vertex1.compareTo(vertex2) <= 0 ? vertex1 + "|" + vertex2 : vertex2 + "|" + vertex1;
+    }
+
+    /**
+     * The layers that contain touched vertices, the virtual vertices of their edges, or vertices
+     * that were in different layers in the previous layout.
+     */
+    private static boolean[] getAffectedLayers(final List<GraphLayer> layers,
+                                               final Map<String, List<String>> neighbours,
+                                               final Map<String, VertexPosition> previousPositions,
+                                               final Set<String> touched) {
+        final boolean[] affected = new boolean[layers.size()];
+        final Map<String, Integer> layerIndexes = new HashMap<>();
+        final Set<String> virtualVertices = new HashSet<>();
+        for (int i = 0; i < layers.size(); i++) {
+            Integer previousY = null;
+            for (final VertexPosition vertex : layers.get(i).getVertices()) {
+                layerIndexes.putIfAbsent(vertex.getId(), i);
+                if (vertex.isVirtual()) {
+                    virtualVertices.add(vertex.getId());
+                    continue;
+                }
+                final VertexPosition previous = previousPositions.get(vertex.getId());
+                if (null != previous) {
+                    if (null == previousY) {
+                        previousY = previous.getY();
+                    } else if (previousY != previous.getY()) {
+                        affected[i] = true;
+                    }
+                }
+            }
+        }
+
+        final Deque<String> pending = new ArrayDeque<>(touched);
+        final Set<String> visited = new HashSet<>();
+        while (!pending.isEmpty()) {
+            final String vertex = pending.pop();
+            if (!visited.add(vertex)) {
+                continue;
+            }
+            final Integer index = layerIndexes.get(vertex);
+            if (null != index) {
+                affected[index] = true;
+            }
+            for (final String neighbour : neighbours.getOrDefault(vertex, emptyList())) {
+                if (virtualVertices.contains(neighbour)) {
+                    pending.push(neighbour);
+                }
+            }
+        }
+        return affected;
+    }
+
     private List<GraphLayer> copy(final List<GraphLayer> input) {
         final ArrayList<GraphLayer> copy = new ArrayList<>(input.size());
         for (final GraphLayer value : input) {
@@ -107,42 +386,67 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         int virtualIndex = 0;
         final List<GraphLayer> virtualized = copy(graph.getLayers());
 
+        final Map<String, Integer> layerIndexes = new HashMap<>();
+        for (int i = 0; i < virtualized.size(); i++) {
+            for (final VertexPosition vertexPosition : virtualized.get(i).getVertices()) {
+                layerIndexes.putIfAbsent(vertexPosition.getId(), i);
+            }
+        }
+        final Map<String, List<OrientedEdge>> outgoingEdges = new HashMap<>();
+        final Map<String, List<OrientedEdge>> incomingEdges = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            addEdge(edge, outgoingEdges, incomingEdges);
+        }
+
         for (int i = 0; i < virtualized.size() - 1; i++) {
             final GraphLayer currentLayer = virtualized.get(i);
             final GraphLayer nextLayer = virtualized.get(i + 1);
             final int layerHeight = calculateLayerHeight(nextLayer);
             for (final VertexPosition vertexPosition : currentLayer.getVertices()) {
+                final int layerNumber = getLayerNumber(vertexPosition.getId(), virtualized, layerIndexes);
 
-                final List<OrientedEdge> outgoing = edges.stream()
-                        .filter(e -> Objects.equals(e.getFromVertexId(), vertexPosition.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), virtualized) - getLayerNumber(vertexPosition.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> outgoing = new ArrayList<>();
+                for (final OrientedEdge e : outgoingEdges.getOrDefault(vertexPosition.getId(), emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getToVertexId(), virtualized, layerIndexes) - layerNumber) > 1) {
+                        outgoing.add(e);
+                    }
+                }
 
-                final List<OrientedEdge> incoming = edges.stream()
-                        .filter(e -> Objects.equals(e.getToVertexId(), vertexPosition.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), virtualized) - getLayerNumber(vertexPosition.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> incoming = new ArrayList<>();
+                for (final OrientedEdge e : incomingEdges.getOrDefault(vertexPosition.getId(), emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getFromVertexId(), virtualized, layerIndexes) - layerNumber) > 1) {
+                        incoming.add(e);
+                    }
+                }
 
                 for (final OrientedEdge edge : outgoing) {
                     final VertexPosition virtualVertexPosition = new VertexPosition("V" + virtualIndex++, true);
                     virtualVertexPosition.setHeight(layerHeight);
                     nextLayer.getVertices().add(virtualVertexPosition);
+                    layerIndexes.merge(virtualVertexPosition.getId(), i + 1, Math::min);
                     edges.remove(edge);
+                    removeEdge(edge, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertexPosition.getId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(virtualVertexPosition.getId(), edge.getToVertexId());
                     edges.add(v1);
                     edges.add(v2);
+                    addEdge(v1, outgoingEdges, incomingEdges);
+                    addEdge(v2, outgoingEdges, incomingEdges);
                 }
 
                 for (final OrientedEdge edge : incoming) {
                     final VertexPosition virtualVertexPosition = new VertexPosition("V" + virtualIndex++, true);
                     virtualVertexPosition.setHeight(layerHeight);
                     nextLayer.getVertices().add(virtualVertexPosition);
+                    layerIndexes.merge(virtualVertexPosition.getId(), i + 1, Math::min);
                     edges.remove(edge);
+                    removeEdge(edge, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(virtualVertexPosition.getId(), edge.getToVertexId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertexPosition.getId());
                     edges.add(v1);
                     edges.add(v2);
+                    addEdge(v1, outgoingEdges, incomingEdges);
+                    addEdge(v2, outgoingEdges, incomingEdges);
                 }
             }
         }
@@ -150,18 +454,31 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         return virtualized;
     }
 
+    private static void addEdge(final OrientedEdge edge,
+                                final Map<String, List<OrientedEdge>> outgoingEdges,
+                                final Map<String, List<OrientedEdge>> incomingEdges) {
+        outgoingEdges.computeIfAbsent(edge.getFromVertexId(), id -> new ArrayList<>()).add(edge);
+        incomingEdges.computeIfAbsent(edge.getToVertexId(), id -> new ArrayList<>()).add(edge);
+    }
+
+    private static void removeEdge(final OrientedEdge edge,
+                                   final Map<String, List<OrientedEdge>> outgoingEdges,
+                                   final Map<String, List<OrientedEdge>> incomingEdges) {
+        outgoingEdges.get(edge.getFromVertexId()).remove(edge);
+        incomingEdges.get(edge.getToVertexId()).remove(edge);
+    }
+
     int calculateLayerHeight(final GraphLayer currentLayer) {
         return currentLayer.getVertices().stream().mapToInt(v -> v.getHeight()).max().orElse(0);
     }
 
     private int getLayerNumber(final String vertex,
-                               final List<GraphLayer> layers) {
-        final GraphLayer layer = layers
-                .stream()
-                .filter(l -> l.getVertices().stream().anyMatch(v -> Objects.equals(v.getId(), vertex)))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Can not found the layer of the vertex."));
-
-        return layer.getLevel();
+                               final List<GraphLayer> layers,
+                               final Map<String, Integer> layerIndexes) {
+        final Integer index = layerIndexes.get(vertex);
+        if (null == index) {
+            throw new NoSuchElementException("Can not found the layer of the vertex.");
+        }
+        return layers.get(index).getLevel();
     }
 }
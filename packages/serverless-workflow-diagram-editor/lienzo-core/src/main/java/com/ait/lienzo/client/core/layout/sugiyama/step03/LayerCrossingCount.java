@@ -20,9 +20,8 @@
 
 package com.ait.lienzo.client.core.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.ait.lienzo.client.core.layout.sugiyama.GraphLayer;
 import com.ait.lienzo.client.core.layout.sugiyama.OrientedEdge;
@@ -48,8 +47,22 @@ public class LayerCrossingCount {
     public int crossing(final List<OrientedEdge> edges,
                         final GraphLayer north,
                         final GraphLayer south) {
+        return crossing(new VertexAdjacency(Arrays.asList(north, south), edges), north, south);
+    }
+
+    /**
+     * Counts the edges crossing considering two layers.
+     *
+     * @param adjacency The indexed edges.
+     * @param north     The north layer.
+     * @param south     The south layer.
+     * @return The total of edges crossing.
+     */
+    public int crossing(final VertexAdjacency adjacency,
+                        final GraphLayer north,
+                        final GraphLayer south) {
 
-        final Object[] entries = flat(edges, north, south);
+        final int[] entries = adjacency.flat(north, south);
 
         int firstIndex = 1;
         while (firstIndex < south.getVertices().size()) {
@@ -61,8 +74,8 @@ public class LayerCrossingCount {
 
         int crossings = 0;
 
-        for (final Object entry : entries) {
-            int index = ((Integer) entry) + firstIndex;
+        for (final int entry : entries) {
+            int index = entry + firstIndex;
             if (index < 0) {
                 continue;
             }
@@ -90,33 +103,22 @@ public class LayerCrossingCount {
      */
     int crossing(final List<GraphLayer> layers,
                  final List<OrientedEdge> edges) {
+        return crossing(layers, new VertexAdjacency(layers, edges));
+    }
+
+    /**
+     * Counts the total of edges crossing in all layers.
+     *
+     * @param layers    Existing layers.
+     * @param adjacency The indexed edges.
+     * @return The sum of edges crossing between all layers.
+     */
+    int crossing(final List<GraphLayer> layers,
+                 final VertexAdjacency adjacency) {
         int crossingCount = 0;
         for (int i = 1; i < layers.size(); i++) {
-            crossingCount += crossing(edges, layers.get(i - 1), layers.get(i));
+            crossingCount += crossing(adjacency, layers.get(i - 1), layers.get(i));
         }
         return crossingCount;
     }
-
-    private Object[] flat(final List<OrientedEdge> edges,
-                          final GraphLayer north,
-                          final GraphLayer south) {
-
-        final ArrayList<String> southPos = new ArrayList<>(south.getVertices().size());
-        for (int i = 0; i < south.getVertices().size(); i++) {
-            southPos.add(south.getVertices().get(i).getId());
-        }
-
-        return north.getVertices().stream().flatMap(v -> {
-            List<OrientedEdge> connectedEdges = edges.stream()
-                    .filter(e -> (e.getToVertexId().equals(v.getId()) || e.getFromVertexId().equals(v.getId())))
-                    .collect(Collectors.toList());
-
-            return connectedEdges.stream().map(e -> {
-                if (southPos.contains(e.getToVertexId())) {
-                    return southPos.indexOf(e.getToVertexId());
-                }
-                return southPos.indexOf(e.getFromVertexId());
-            }).sorted();
-        }).toArray();
-    }
 }
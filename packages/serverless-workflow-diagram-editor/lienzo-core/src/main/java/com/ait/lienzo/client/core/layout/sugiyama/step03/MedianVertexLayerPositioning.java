@@ -20,10 +20,8 @@
 
 package com.ait.lienzo.client.core.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 
 import com.ait.lienzo.client.core.layout.VertexPosition;
 import com.ait.lienzo.client.core.layout.sugiyama.GraphLayer;
@@ -46,13 +44,28 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public void positionVertices(final List<GraphLayer> layers,
                                  final List<OrientedEdge> edges,
                                  final int currentIteration) {
+        positionVertices(layers, new VertexAdjacency(layers, edges), currentIteration);
+    }
+
+    /**
+     * Position the vertices inside each layer using the median calc, putting each vertex V in layer L in the median
+     * position based in vertices in layer L-1 connected to this vertex V.
+     *
+     * @param layers           The existing layers.
+     * @param adjacency        The indexed edges.
+     * @param currentIteration The current iteration of the execution. If is even goes up-down in layers, otherwise down-up.
+     */
+    @Override
+    public void positionVertices(final List<GraphLayer> layers,
+                                 final VertexAdjacency adjacency,
+                                 final int currentIteration) {
 
         if ((currentIteration % 2 == 0)) {
             for (int j = layers.size() - 1; j >= 1; j--) {
                 final GraphLayer currentLayer = layers.get(j);
                 for (final VertexPosition vertexPosition : currentLayer.getVertices()) {
                     //positionVertices value of vertices in rank r-1 connected to v
-                    final double median = calculateMedianOfVerticesConnectedTo(vertexPosition.getId(), layers.get(j - 1), edges);
+                    final double median = adjacency.median(vertexPosition.getId(), layers.get(j - 1));
                     vertexPosition.setMedian(median);
                 }
 
@@ -64,7 +77,7 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                 final GraphLayer currentLayer = layers.get(j);
 
                 for (final VertexPosition vertexPosition : layers.get(j).getVertices()) {
-                    final double median = calculateMedianOfVerticesConnectedTo(vertexPosition.getId(), layers.get(j + 1), edges);
+                    final double median = adjacency.median(vertexPosition.getId(), layers.get(j + 1));
                     vertexPosition.setMedian(median);
                 }
 
@@ -84,41 +97,6 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public double calculateMedianOfVerticesConnectedTo(final String vertex,
                                                        final GraphLayer layer,
                                                        final List<OrientedEdge> edges) {
-        final List<Integer> connectedVerticesIndex = new ArrayList<>();
-        final List<VertexPosition> vertices = layer.getVertices();
-        for (int i = 0; i < vertices.size(); i++) {
-            final VertexPosition vertexPositionInLayer = vertices.get(i);
-
-            final boolean hasConnection = edges.stream()
-                    .anyMatch(e -> e.isLinkedWithVertexId(vertexPositionInLayer.getId()) && e.isLinkedWithVertexId(vertex));
-
-            if (hasConnection) {
-                connectedVerticesIndex.add(i);
-            }
-        }
-
-        final int size = connectedVerticesIndex.size();
-
-        if (size == 0) {
-            final Optional<VertexPosition> first = layer.getVertices()
-                    .stream()
-                    .filter(v -> Objects.equals(v.getId(), vertex))
-                    .findFirst();
-            return first.map(vertex1 -> layer.getVertices().indexOf(vertex1)).orElse(-1);
-        }
-
-        if (size == 1) {
-            return connectedVerticesIndex.get(0);
-        }
-
-        final double median;
-
-        if (size % 2 == 0) {
-            median = ((double) connectedVerticesIndex.get(size / 2) + (double) connectedVerticesIndex.get(size / 2 - 1)) / 2;
-        } else {
-            median = connectedVerticesIndex.get(size / 2);
-        }
-
-        return median;
+        return new VertexAdjacency(Collections.singletonList(layer), edges).median(vertex, layer);
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package com.ait.lienzo.client.core.layout.sugiyama.step03;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ait.lienzo.client.core.layout.VertexPosition;
+import com.ait.lienzo.client.core.layout.sugiyama.GraphLayer;
+import com.ait.lienzo.client.core.layout.sugiyama.OrientedEdge;
+
+/**
+ * The edges of a layered graph indexed by vertex ordinal, so the ordering steps can look up
+ * the neighbours of a vertex without scanning all the edges.
+ * <p>
+ * The index is built once the virtual vertices are in place and stays valid while the vertices
+ * are only reordered inside their layers.
+ */
+public final class VertexAdjacency {
+
+    private static final int[] NO_NEIGHBOURS = new int[0];
+
+    private final List<OrientedEdge> edges;
+    private final Map<String, Integer> ordinals;
+    private final int[][] neighbours;
+    private final int[] positions;
+    private final int[] marks;
+    private int mark;
+
+    /**
+     * Indexes the given edges.
+     * @param layers The layers with vertices.
+     * @param edges The edges connecting vertices.
+     */
+    public VertexAdjacency(final List<GraphLayer> layers,
+                           final List<OrientedEdge> edges) {
+        this.edges = edges;
+        this.ordinals = new HashMap<>();
+        for (final GraphLayer layer : layers) {
+            for (final VertexPosition vertex : layer.getVertices()) {
+                register(vertex.getId());
+            }
+        }
+        final int[] degrees = new int[ordinals.size() + 2 * edges.size()];
+        for (final OrientedEdge edge : edges) {
+            final int from = register(edge.getFromVertexId());
+            final int to = register(edge.getToVertexId());
+            degrees[from]++;
+            if (to != from) {
+                degrees[to]++;
+            }
+        }
+
+        final int size = ordinals.size();
+        this.neighbours = new int[size][];
+        for (int i = 0; i < size; i++) {
+            neighbours[i] = degrees[i] == 0 ? NO_NEIGHBOURS : new int[degrees[i]];
+            degrees[i] = 0;
+        }
+        // The neighbours of each vertex keep the order of the edges list.
+        for (final OrientedEdge edge : edges) {
+            final int from = ordinals.get(edge.getFromVertexId());
+            final int to = ordinals.get(edge.getToVertexId());
+            neighbours[from][degrees[from]++] = to;
+            if (to != from) {
+                neighbours[to][degrees[to]++] = from;
+            }
+        }
+
+        this.positions = new int[size];
+        Arrays.fill(positions, -1);
+        this.marks = new int[size];
+        this.mark = 0;
+    }
+
+    public List<OrientedEdge> getEdges() {
+        return edges;
+    }
+
+    /**
+     * For each vertex in the north layer, the positions in the south layer of its neighbours, sorted.
+     * Neighbours that are not in the south layer get -1.
+     */
+    int[] flat(final GraphLayer north,
+               final GraphLayer south) {
+        final List<VertexPosition> southVertices = south.getVertices();
+        // Backwards, so duplicated vertices get their first position.
+        for (int i = southVertices.size() - 1; i >= 0; i--) {
+            setPosition(southVertices.get(i).getId(), i);
+        }
+
+        final List<VertexPosition> northVertices = north.getVertices();
+        int count = 0;
+        for (final VertexPosition vertex : northVertices) {
+            count += neighboursOf(ordinalOf(vertex.getId())).length;
+        }
+        final int[] entries = new int[count];
+        int index = 0;
+        for (final VertexPosition vertex : northVertices) {
+            final int start = index;
+            for (final int neighbour : neighboursOf(ordinalOf(vertex.getId()))) {
+                entries[index++] = positions[neighbour];
+            }
+            Arrays.sort(entries, start, index);
+        }
+
+        for (final VertexPosition vertex : southVertices) {
+            setPosition(vertex.getId(), -1);
+        }
+        return entries;
+    }
+
+    /**
+     * The median position of the vertices in the given layer connected to a vertex.
+     * @return The median position. -1 (out of bounds) if there is no connection and the vertex is not in the layer.
+     */
+    double median(final String vertex,
+                  final GraphLayer layer) {
+        final int ordinal = ordinalOf(vertex);
+        final int[] connected = neighboursOf(ordinal);
+        final List<VertexPosition> vertices = layer.getVertices();
+
+        mark++;
+        for (final int neighbour : connected) {
+            marks[neighbour] = mark;
+        }
+
+        final int[] connectedIndex = new int[vertices.size()];
+        int size = 0;
+        int ownIndex = -1;
+        for (int i = 0; i < vertices.size(); i++) {
+            final int current = ordinalOf(vertices.get(i).getId());
+            if (current >= 0 && current == ordinal) {
+                if (ownIndex < 0) {
+                    ownIndex = i;
+                }
+                if (connected.length > 0) {
+                    connectedIndex[size++] = i;
+                }
+            } else if (current >= 0 && marks[current] == mark) {
+                connectedIndex[size++] = i;
+            }
+        }
+
+        if (size == 0) {
+            return ownIndex;
+        }
+        if (size == 1) {
+            return connectedIndex[0];
+        }
+        if (size % 2 == 0) {
+            return ((double) connectedIndex[size / 2] + (double) connectedIndex[size / 2 - 1]) / 2;
+        }
+        return connectedIndex[size / 2];
+    }
+
+    private void setPosition(final String id,
+                             final int position) {
+        final int ordinal = ordinalOf(id);
+        if (ordinal >= 0) {
+            positions[ordinal] = position;
+        }
+    }
+
+    private int[] neighboursOf(final int ordinal) {
+        return ordinal < 0 ? NO_NEIGHBOURS : neighbours[ordinal];
+    }
+
+    private int ordinalOf(final String id) {
+        final Integer ordinal = ordinals.get(id);
+        return null != ordinal ? ordinal : -1;
+    }
+
+    private int register(final String id) {
+        final Integer ordinal = ordinals.get(id);
+        if (null != ordinal) {
+            return ordinal;
+        }
+        final int created = ordinals.size();
+        ordinals.put(id, created);
+        return created;
+    }
+}
@@ -30,4 +30,8 @@ public interface VertexLayerPositioning {
     void positionVertices(final List<GraphLayer> layers,
                           final List<OrientedEdge> edges,
                           final int currentIteration);
+
+    void positionVertices(final List<GraphLayer> layers,
+                          final VertexAdjacency adjacency,
+                          final int currentIteration);
 }
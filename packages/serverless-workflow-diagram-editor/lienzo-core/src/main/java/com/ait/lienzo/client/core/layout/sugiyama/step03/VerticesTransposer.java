@@ -47,6 +47,32 @@ public class VerticesTransposer {
     void transpose(final List<GraphLayer> layers,
                    final List<OrientedEdge> edges,
                    final int currentIteration) {
+        transpose(layers, new VertexAdjacency(layers, edges), currentIteration);
+    }
+
+    /**
+     * Transpose neighbouring vertices inside layers trying to reduce crossing.
+     *
+     * @param layers    The layers with vertices.
+     * @param adjacency The indexed edges connecting vertices.
+     */
+    void transpose(final List<GraphLayer> layers,
+                   final VertexAdjacency adjacency,
+                   final int currentIteration) {
+        transpose(layers, adjacency, currentIteration, null);
+    }
+
+    /**
+     * Transpose neighbouring vertices inside the given layers trying to reduce crossing.
+     *
+     * @param layers    The layers with vertices.
+     * @param adjacency The indexed edges connecting vertices.
+     * @param affected  The layers that can be changed, by index, or <code>null</code> for all of them.
+     */
+    void transpose(final List<GraphLayer> layers,
+                   final VertexAdjacency adjacency,
+                   final int currentIteration,
+                   final boolean[] affected) {
 
         boolean improved = true;
         final boolean bottomUp = (currentIteration % 2) == 0;
@@ -60,7 +86,9 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index - 1);
                     previous = layers.get(index);
-                    improved = doTranspose(current, previous, edges);
+                    if (isAffected(affected, index - 1)) {
+                        improved = doTranspose(current, previous, adjacency);
+                    }
                 }
             } else {
                 for (int index = 1; index < layers.size(); index++) {
@@ -68,28 +96,35 @@ public class VerticesTransposer {
                     final GraphLayer previous;
                     current = layers.get(index);
                     previous = layers.get(index - 1);
-                    improved = doTranspose(current, previous, edges);
+                    if (isAffected(affected, index)) {
+                        improved = doTranspose(current, previous, adjacency);
+                    }
                 }
             }
         }
     }
 
+    private static boolean isAffected(final boolean[] affected,
+                                      final int index) {
+        return null == affected || affected[index];
+    }
+
     private boolean doTranspose(final GraphLayer current,
                                 final GraphLayer previous,
-                                final List<OrientedEdge> edges) {
+                                final VertexAdjacency adjacency) {
 
         final List<VertexPosition> vertices = current.getVertices();
         boolean improved = false;
+        int currentCrossing = vertices.size() > 1 ? this.crossingCount.crossing(adjacency, previous, current) : 0;
         for (int i = 1; i < vertices.size(); i++) {
 
-            final int currentCrossing = this.crossingCount.crossing(edges, previous, current);
-
             Collections.swap(vertices, i, i - 1);
 
-            final int newCrossing = this.crossingCount.crossing(edges, previous, current);
+            final int newCrossing = this.crossingCount.crossing(adjacency, previous, current);
             if (newCrossing >= currentCrossing) {
                 Collections.swap(vertices, i - 1, i);
             } else {
+                currentCrossing = newCrossing;
                 improved = true;
             }
         }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package com.ait.lienzo.client.core.layout.sugiyama.step01;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.ait.lienzo.client.core.layout.sugiyama.LayeredGraph;
+import com.ait.lienzo.client.core.layout.sugiyama.OrientedEdge;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReverseEdgesCycleBreakerTest {
+
+    @Test
+    public void testBreakCycle() {
+        final LayeredGraph graph = new LayeredGraph(new String[][]{{"A", "B"}, {"B", "C"}, {"C", "A"}, {"C", "D"}});
+        graph.getVertices().addAll(Arrays.asList("A", "B", "C", "D"));
+        assertFalse(graph.isAcyclic());
+
+        new ReverseEdgesCycleBreaker().breakCycle(graph);
+
+        assertTrue(graph.isAcyclic());
+        assertEquals(Arrays.asList("A>B", "B>C", "C>D", "A>C"), edges(graph));
+    }
+
+    @Test
+    public void testBreakCycleReusedForAnotherGraph() {
+        final ReverseEdgesCycleBreaker tested = new ReverseEdgesCycleBreaker();
+        final LayeredGraph acyclic = new LayeredGraph(new String[][]{{"A", "B"}, {"B", "C"}});
+        acyclic.getVertices().addAll(Arrays.asList("A", "B", "C"));
+        tested.breakCycle(acyclic);
+
+        // Same vertices, but now with a cycle
+        final LayeredGraph cyclic = new LayeredGraph(new String[][]{{"A", "B"}, {"B", "C"}, {"C", "A"}});
+        cyclic.getVertices().addAll(Arrays.asList("A", "B", "C"));
+        tested.breakCycle(cyclic);
+
+        assertTrue(cyclic.isAcyclic());
+    }
+
+    @Test
+    public void testBreakCycleSharedDescendants() {
+        // B and C share D, a cycle under D must be broken once
+        final LayeredGraph graph = new LayeredGraph(new String[][]{{"A", "B"}, {"A", "C"}, {"B", "D"}, {"C", "D"}, {"D", "E"}, {"E", "D"}});
+        graph.getVertices().addAll(Arrays.asList("A", "B", "C", "D", "E"));
+
+        new ReverseEdgesCycleBreaker().breakCycle(graph);
+
+        assertTrue(graph.isAcyclic());
+        assertEquals(Arrays.asList("A>B", "A>C", "B>D", "C>D", "D>E", "D>E"), edges(graph));
+    }
+
+    private static List<String> edges(final LayeredGraph graph) {
+        return graph.getEdges().stream()
+                .map(OrientedEdge.class::cast)
+                .map(edge -> edge.getFromVertexId() + ">" + edge.getToVertexId())
+                .collect(Collectors.toList());
+    }
+}
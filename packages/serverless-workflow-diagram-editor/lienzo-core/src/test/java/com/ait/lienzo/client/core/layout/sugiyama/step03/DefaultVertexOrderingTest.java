@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package com.ait.lienzo.client.core.layout.sugiyama.step03;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.ait.lienzo.client.core.layout.VertexPosition;
+import com.ait.lienzo.client.core.layout.sugiyama.GraphLayerImpl;
+import com.ait.lienzo.client.core.layout.sugiyama.LayeredGraph;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The expected orderings are the ones of the string keyed steps the indexed ones replaced.
+ */
+public class DefaultVertexOrderingTest {
+
+    @Test
+    public void testOrderVertices() {
+        final LayerCrossingCount crossingCount = new LayerCrossingCount();
+        final DefaultVertexOrdering tested = new DefaultVertexOrdering(new MedianVertexLayerPositioning(),
+                                                                       crossingCount,
+                                                                       new VerticesTransposer(crossingCount));
+
+        final LayeredGraph graph = graph(new String[][]{{"a", "b", "c"}, {"d", "e", "f"}, {"g", "h"}},
+                                         new String[][]{{"a", "f"}, {"b", "d"}, {"c", "e"}, {"a", "g"},
+                                                 {"d", "h"}, {"e", "g"}, {"f", "h"}, {"c", "h"}});
+        tested.orderVertices(graph);
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b", "c"),
+                                   Arrays.asList("V0", "f", "e", "d", "V1"),
+                                   Arrays.asList("g", "h")),
+                     layers(graph));
+        assertEquals(Arrays.asList("a>f", "b>d", "c>e", "d>h", "e>g", "f>h", "a>V0", "V0>g", "c>V1", "V1>h"),
+                     edges(graph));
+        assertEquals(2, crossingCount.crossing(graph.getLayers(), graph.getEdges()));
+
+        // Long edges get a virtual vertex in every layer they cross
+        final LayeredGraph spanning = graph(new String[][]{{"a", "b"}, {"c", "d", "e", "f"}, {"g", "h", "i"}, {"j"}},
+                                            new String[][]{{"a", "f"}, {"a", "d"}, {"b", "c"}, {"b", "e"}, {"c", "i"},
+                                                    {"d", "g"}, {"e", "h"}, {"f", "g"}, {"b", "j"}, {"g", "j"},
+                                                    {"h", "j"}, {"i", "j"}, {"a", "i"}});
+        tested.orderVertices(spanning);
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"),
+                                   Arrays.asList("d", "f", "V0", "e", "c", "V1"),
+                                   Arrays.asList("g", "h", "i", "V2"),
+                                   Arrays.asList("j")),
+                     layers(spanning));
+        assertEquals(Arrays.asList("a>f", "a>d", "b>c", "b>e", "c>i", "d>g", "e>h", "f>g", "g>j", "h>j", "i>j",
+                                   "a>V0", "V0>i", "b>V1", "V1>V2", "V2>j"),
+                     edges(spanning));
+        assertEquals(8, crossingCount.crossing(spanning.getLayers(), spanning.getEdges()));
+    }
+
+    private static LayeredGraph graph(final String[][] layers,
+                                      final String[][] edges) {
+        final LayeredGraph graph = new LayeredGraph();
+        for (int i = 0; i < layers.length; i++) {
+            final GraphLayerImpl layer = new GraphLayerImpl(i);
+            for (String id : layers[i]) {
+                layer.addVertex(new VertexPosition(id));
+                graph.getVertices().add(id);
+            }
+            graph.getLayers().add(layer);
+        }
+        for (String[] edge : edges) {
+            graph.addEdge(edge[0], edge[1]);
+        }
+        return graph;
+    }
+
+    private static List<List<String>> layers(final LayeredGraph graph) {
+        return graph.getLayers().stream()
+                .map(layer -> layer.getVertices().stream().map(VertexPosition::getId).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> edges(final LayeredGraph graph) {
+        return graph.getEdges().stream()
+                .map(edge -> edge.getFromVertexId() + ">" + edge.getToVertexId())
+                .collect(Collectors.toList());
+    }
+}
@@ -76,8 +76,37 @@ public class AutoLayout {
                                             final boolean isSubset,
                                             final String startingNodeId,
                                             final String endingNodeId) {
+        final Promise<Layout> layoutPromise = applyLayout(graph,
+                                                          parentNode,
+                                                          promises,
+                                                          context,
+                                                          isSubset,
+                                                          startingNodeId,
+                                                          endingNodeId,
+                                                          null);
+        return promises.create((resolve, reject) -> layoutPromise
+                .then(layout -> {
+                    resolve.onInvoke(parentNode);
+                    return null;
+                }));
+    }
+
+    /**
+     * Applies the auto-layout keeping the nodes of a previous layout in place as much as possible.
+     * @param previousLayout The layout returned by a previous call, or <code>null</code> to lay out from scratch.
+     * @return The new layout, or <code>null</code> if it could not be created.
+     */
+    @SuppressWarnings("all")
+    public static Promise<Layout> applyLayout(final Graph graph,
+                                              final Node parentNode,
+                                              final Promises promises,
+                                              final DirectGraphCommandExecutionContext context,
+                                              final boolean isSubset,
+                                              final String startingNodeId,
+                                              final String endingNodeId,
+                                              final Layout previousLayout) {
         final Map<String, Vertex> vertices = loadVertices(graph, parentNode, false);
-        final Promise<Layout> autoLayoutPromise = new LienzoAutoLayout().layout(graph, vertices, startingNodeId, endingNodeId);
+        final Promise<Layout> autoLayoutPromise = new LienzoAutoLayout().layout(graph, vertices, startingNodeId, endingNodeId, previousLayout);
 
         return promises.create((resolve, reject) -> autoLayoutPromise
                 .then(layout -> {
@@ -99,10 +128,10 @@ public class AutoLayout {
 
                     applyOrthogonalLinesBehaviour(graph);
 
-                    resolve.onInvoke(parentNode);
+                    resolve.onInvoke(layout);
                     return null;
                 }, error -> {
-                    resolve.onInvoke(parentNode);
+                    resolve.onInvoke((Layout) null);
                     return null;
                 }));
     }
@@ -413,7 +442,7 @@ public class AutoLayout {
     }
 
     @SuppressWarnings("all")
-    private static void deleteNode(Node parentNode, String nodeId, Graph graph) {
+    static void deleteNode(Node parentNode, String nodeId, Graph graph) {
         final Optional outParent = parentNode.getOutEdges().stream()
                 .filter(outEdge -> Objects.equals(((Edge) outEdge).getTargetNode().getUUID(), nodeId))
                 .findFirst();
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+package org.kie.workbench.common.stunner.sw.autolayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.ait.lienzo.client.core.layout.Layout;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+
+/**
+ * Keeps the last auto-layout result so that a workflow parsed again with the same structure
+ * (same states, same transitions) gets the previous positions instead of a new layout.
+ * When the structure changes, the last layout is the starting point for the new one.
+ * <p>
+ * Editing a state's properties in the text editor does not change the structure, so this spares
+ * the layout of the whole workflow on most keystrokes.
+ */
+public class LayoutCache {
+
+    private String signature;
+    private Graph graph;
+    private Layout layout;
+
+    /**
+     * Copies the cached layout into the given graph if it has the same structure.
+     * @param signature The structure signature of the graph, taken before applying any layout.
+     * @param graph The graph to lay out.
+     * @param parentNode The workflow root node.
+     * @return <code>true</code> if the cached layout was applied, <code>false</code> if the graph must be laid out.
+     */
+    @SuppressWarnings("all")
+    public boolean restore(final String signature,
+                           final Graph graph,
+                           final Node parentNode) {
+        if (null == this.graph || !Objects.equals(this.signature, signature)) {
+            return false;
+        }
+        final List<Node> hiddenNodes = new ArrayList<>();
+        for (final Object o : graph.nodes()) {
+            final Node node = (Node) o;
+            final Node cached = this.graph.getNode(node.getUUID());
+            if (null == cached) {
+                // Not connected start/end nodes are removed by the layout.
+                hiddenNodes.add(node);
+            } else {
+                copyLayout(cached, node);
+            }
+        }
+        hiddenNodes.forEach(node -> AutoLayout.deleteNode(parentNode, node.getUUID(), graph));
+        return true;
+    }
+
+    public void store(final String signature,
+                      final Graph graph,
+                      final Layout layout) {
+        this.signature = signature;
+        this.graph = graph;
+        this.layout = layout;
+    }
+
+    /**
+     * The last auto-layout result, used to keep the diagram stable when its structure changes.
+     * @return The last layout, or <code>null</code> if there is none.
+     */
+    public Layout getLayout() {
+        return layout;
+    }
+
+    public void clear() {
+        signature = null;
+        graph = null;
+        layout = null;
+    }
+
+    /**
+     * The structure of a graph: its nodes and their types and sizes, and the edges between them.
+     * Positions and connection details are not part of it.
+     */
+    public static String signatureOf(final Graph graph) {
+        return signatureOf(graph, false);
+    }
+
+    /**
+     * Whether both graphs have the same structure and the same positions, so one can be
+     * rendered in place of the other without changing the layout.
+     */
+    public static boolean isSameLayout(final Graph graph1,
+                                       final Graph graph2) {
+        if (null == graph1 || null == graph2) {
+            return false;
+        }
+        return signatureOf(graph1, true).equals(signatureOf(graph2, true));
+    }
+
+    @SuppressWarnings("all")
+    static String signatureOf(final Graph graph,
+                              final boolean withLayout) {
+        final List<Node> nodes = (List<Node>) StreamSupport.stream(graph.nodes().spliterator(), false)
+                .sorted((n1, n2) -> ((Node) n1).getUUID().compareTo(((Node) n2).getUUID()))
+                .collect(Collectors.toList());
+        final StringBuilder builder = new StringBuilder();
+        for (final Node node : nodes) {
+            builder.append(node.getUUID()).append(':').append(typeOf(node.getContent()));
+            if (node.getContent() instanceof View) {
+                final Bounds bounds = ((View) node.getContent()).getBounds();
+                if (null != bounds) {
+                    if (withLayout) {
+                        builder.append('@').append(bounds.getX()).append(',').append(bounds.getY());
+                    }
+                    builder.append('[').append(bounds.getWidth()).append('x').append(bounds.getHeight()).append(']');
+                }
+            }
+            for (final Edge edge : (List<Edge>) node.getOutEdges()) {
+                builder.append('>').append(typeOf(edge.getContent()))
+                        .append(':').append(null != edge.getTargetNode() ? edge.getTargetNode().getUUID() : null);
+                if (withLayout && edge.getContent() instanceof ViewConnector) {
+                    appendConnectorLayout(builder, (ViewConnector) edge.getContent());
+                }
+            }
+            builder.append(';');
+        }
+        return builder.toString();
+    }
+
+    private static void appendConnectorLayout(final StringBuilder builder,
+                                              final ViewConnector connector) {
+        builder.append('{');
+        appendConnection(builder, (Connection) connector.getSourceConnection().orElse(null));
+        appendConnection(builder, (Connection) connector.getTargetConnection().orElse(null));
+        final ControlPoint[] controlPoints = connector.getControlPoints();
+        if (null != controlPoints) {
+            for (final ControlPoint cp : controlPoints) {
+                appendPoint(builder, cp.getLocation());
+            }
+        }
+        builder.append('}');
+    }
+
+    private static void appendConnection(final StringBuilder builder,
+                                         final Connection connection) {
+        if (connection instanceof MagnetConnection) {
+            final MagnetConnection magnet = (MagnetConnection) connection;
+            builder.append(magnet.isAuto()).append(magnet.getMagnetIndex().orElse(-1));
+        }
+        appendPoint(builder, null != connection ? connection.getLocation() : null);
+    }
+
+    private static void appendPoint(final StringBuilder builder,
+                                    final Point2D point) {
+        builder.append('(');
+        if (null != point) {
+            builder.append(point.getX()).append(',').append(point.getY());
+        }
+        builder.append(')');
+    }
+
+    private static String typeOf(final Object content) {
+        if (content instanceof View) {
+            final Object definition = ((View) content).getDefinition();
+            return null != definition ? definition.getClass().getName() : null;
+        }
+        return null != content ? content.getClass().getName() : null;
+    }
+
+    @SuppressWarnings("all")
+    private static void copyLayout(final Node from,
+                                   final Node to) {
+        if (from.getContent() instanceof View && to.getContent() instanceof View) {
+            final Bounds bounds = ((View) from.getContent()).getBounds();
+            ((View) to.getContent()).setBounds(Bounds.create(bounds.getUpperLeft().getX(),
+                                                             bounds.getUpperLeft().getY(),
+                                                             bounds.getLowerRight().getX(),
+                                                             bounds.getLowerRight().getY()));
+        }
+        forEachMatchingEdge(from, to, (cached, edge) -> {
+            if (cached.getContent() instanceof ViewConnector && edge.getContent() instanceof ViewConnector) {
+                copyLayout((ViewConnector) cached.getContent(), (ViewConnector) edge.getContent());
+            }
+        });
+    }
+
+    /**
+     * Calls the consumer with each node and edge of the target graph, and its counterpart in the
+     * source graph. Nodes are matched by UUID, edges by source and target nodes.
+     */
+    @SuppressWarnings("all")
+    public static void forEachMatchingElement(final Graph source,
+                                              final Graph target,
+                                              final BiConsumer<Element, Element> consumer) {
+        for (final Object o : target.nodes()) {
+            final Node node = (Node) o;
+            final Node counterpart = source.getNode(node.getUUID());
+            if (null != counterpart) {
+                consumer.accept(counterpart, node);
+                forEachMatchingEdge(counterpart, node, consumer::accept);
+            }
+        }
+    }
+
+    // The layout may re-add edges while updating their connections, so match them by target.
+    @SuppressWarnings("all")
+    private static void forEachMatchingEdge(final Node from,
+                                            final Node to,
+                                            final BiConsumer<Edge, Edge> consumer) {
+        final Map<String, Edge> sourceEdges = new HashMap<>();
+        for (final Edge edge : (List<Edge>) from.getOutEdges()) {
+            sourceEdges.put(edgeKey(edge, sourceEdges), edge);
+        }
+        final Map<String, Edge> targetEdges = new HashMap<>();
+        for (final Edge edge : (List<Edge>) to.getOutEdges()) {
+            final String key = edgeKey(edge, targetEdges);
+            targetEdges.put(key, edge);
+            final Edge counterpart = sourceEdges.get(key);
+            if (null != counterpart) {
+                consumer.accept(counterpart, edge);
+            }
+        }
+    }
+
+    private static String edgeKey(final Edge edge,
+                                  final Map<String, Edge> keyed) {
+        final String target = null != edge.getTargetNode() ? edge.getTargetNode().getUUID() : null;
+        int occurrence = 0;
+        while (keyed.containsKey(target + '#' + occurrence)) {
+            occurrence++;
+        }
+        return target + "#" + occurrence;
+    }
+
+    @SuppressWarnings("all")
+    private static void copyLayout(final ViewConnector from,
+                                   final ViewConnector to) {
+        from.getSourceConnection().ifPresent(c -> to.setSourceConnection(copy((Connection) c)));
+        from.getTargetConnection().ifPresent(c -> to.setTargetConnection(copy((Connection) c)));
+        final ControlPoint[] controlPoints = from.getControlPoints();
+        if (null != controlPoints) {
+            final ControlPoint[] copies = new ControlPoint[controlPoints.length];
+            for (int i = 0; i < controlPoints.length; i++) {
+                copies[i] = controlPoints[i].copy();
+            }
+            to.setControlPoints(copies);
+        }
+    }
+
+    private static Connection copy(final Connection connection) {
+        if (!(connection instanceof MagnetConnection)) {
+            return connection;
+        }
+        final MagnetConnection magnet = (MagnetConnection) connection;
+        final MagnetConnection.Builder builder = new MagnetConnection.Builder().auto(magnet.isAuto());
+        if (null != magnet.getLocation()) {
+            builder.atX(magnet.getLocation().getX())
+                    .atY(magnet.getLocation().getY());
+        }
+        magnet.getMagnetIndex().ifPresent(builder::magnet);
+        return builder.build();
+    }
+}
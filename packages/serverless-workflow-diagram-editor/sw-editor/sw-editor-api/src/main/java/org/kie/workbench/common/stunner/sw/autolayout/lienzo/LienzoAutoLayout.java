@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.ait.lienzo.client.core.layout.AbstractLayoutService;
 import com.ait.lienzo.client.core.layout.Layout;
 import com.ait.lienzo.client.core.layout.VertexPosition;
 import com.ait.lienzo.client.core.layout.graph.Vertex;
@@ -52,16 +51,36 @@ public class LienzoAutoLayout {
                                   final Map<String, Vertex> vertices,
                                   final String startingNodeId,
                                   final String endingNodeId) {
-        return Promise.resolve(processGraph(graph, vertices, startingNodeId, endingNodeId));
+        return layout(graph, vertices, startingNodeId, endingNodeId, null);
+    }
+
+    public Promise<Layout> layout(final Graph graph,
+                                  final Map<String, Vertex> vertices,
+                                  final String startingNodeId,
+                                  final String endingNodeId,
+                                  final Layout previousLayout) {
+        return Promise.resolve(processGraph(graph, vertices, startingNodeId, endingNodeId, previousLayout));
     }
 
     public Layout processGraph(final Graph graph,
                                final Map<String, Vertex> vertices,
                                final String startingNodeId,
                                final String endingNodeId) {
+        return processGraph(graph, vertices, startingNodeId, endingNodeId, null);
+    }
+
+    /**
+     * Lays out the graph. If there is a previous layout, the nodes in it keep their order
+     * and new nodes are inserted next to their neighbours.
+     */
+    public Layout processGraph(final Graph graph,
+                               final Map<String, Vertex> vertices,
+                               final String startingNodeId,
+                               final String endingNodeId,
+                               final Layout previousLayout) {
 
-        final AbstractLayoutService layoutService = createLayoutService();
-        final Layout layout = layoutService.createLayout(new ArrayList<>(vertices.values()), startingNodeId, endingNodeId);
+        final SugiyamaLayoutService layoutService = createLayoutService();
+        final Layout layout = layoutService.createLayout(new ArrayList<>(vertices.values()), startingNodeId, endingNodeId, previousLayout);
 
         applyLayout(layout, graph);
 
@@ -99,7 +118,7 @@ public class LienzoAutoLayout {
         }
     }
 
-    private AbstractLayoutService createLayoutService() {
+    SugiyamaLayoutService createLayoutService() {
 
         final ReverseEdgesCycleBreaker cycleBreaker = new ReverseEdgesCycleBreaker();
         final VertexLayerer vertexLayerer = new LongestPathVertexLayerer();
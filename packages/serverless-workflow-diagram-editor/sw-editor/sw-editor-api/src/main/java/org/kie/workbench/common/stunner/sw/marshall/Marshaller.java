@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import com.ait.lienzo.client.core.layout.Layout;
 import elemental2.dom.DomGlobal;
 import elemental2.promise.IThenable;
 import elemental2.promise.Promise;
@@ -46,6 +47,7 @@ import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
 import org.kie.workbench.common.stunner.sw.autolayout.AutoLayout;
+import org.kie.workbench.common.stunner.sw.autolayout.LayoutCache;
 import org.kie.workbench.common.stunner.sw.definition.CallbackState;
 import org.kie.workbench.common.stunner.sw.definition.CompensationTransition;
 import org.kie.workbench.common.stunner.sw.definition.DataConditionTransition;
@@ -116,6 +118,7 @@ public class Marshaller {
 
     private Context context;
     private Workflow workflow;
+    private final LayoutCache layoutCache = new LayoutCache();
     private final Workflow_JsonMapperImpl jsonMapper = Workflow_JsonMapperImpl.INSTANCE;
     private final Workflow_YamlMapperImpl yamlMapper = Workflow_YamlMapperImpl.INSTANCE;
 
@@ -205,25 +208,44 @@ public class Marshaller {
 
         removeEdgesWithNullTargets(graph);
 
+        // Text edits that keep the states and transitions as they are reuse the previous layout.
+        final String layoutSignature = LayoutCache.signatureOf(graph);
+        if (layoutCache.restore(layoutSignature, graph, context.getWorkflowRootNode())) {
+            return promises.create(new Promise.PromiseExecutorCallbackFn<ParseResult>() {
+                @Override
+                public void onInvoke(ResolveCallbackFn<ParseResult> success, RejectCallbackFn reject) {
+                    success.onInvoke(
+                            new ParseResult(diagramFactory.build("diagram", new MetadataImpl(), (Graph) graph),
+                                            context.getMessages()));
+                }
+            });
+        }
+
         try {
 
             final String startNodeUuId = getStartNodeUuid(graph);
             final String endNodeUuid = getEndNodeUuid(graph);
 
-            final Promise<Node> layout = AutoLayout.applyLayout(graph,
-                                                                context.getWorkflowRootNode(),
-                                                                promises,
-                                                                builderContext.buildExecutionContext(),
-                                                                false,
-                                                                startNodeUuId,
-                                                                endNodeUuid
+            final Promise<Layout> layout = AutoLayout.applyLayout(graph,
+                                                                  context.getWorkflowRootNode(),
+                                                                  promises,
+                                                                  builderContext.buildExecutionContext(),
+                                                                  false,
+                                                                  startNodeUuId,
+                                                                  endNodeUuid,
+                                                                  layoutCache.getLayout()
             );
             return promises.create(new Promise.PromiseExecutorCallbackFn<ParseResult>() {
                 @Override
                 public void onInvoke(ResolveCallbackFn<ParseResult> success, RejectCallbackFn reject) {
-                    layout.then(new IThenable.ThenOnFulfilledCallbackFn<Node, Object>() {
+                    layout.then(new IThenable.ThenOnFulfilledCallbackFn<Layout, Object>() {
                         @Override
-                        public IThenable<Object> onInvoke(Node node) {
+                        public IThenable<Object> onInvoke(Layout result) {
+                            if (null != result) {
+                                layoutCache.store(layoutSignature, graph, result);
+                            } else {
+                                layoutCache.clear();
+                            }
                             success.onInvoke(
                                     new ParseResult(diagramFactory.build("diagram", new MetadataImpl(), (Graph) graph),
                                                     context.getMessages()));
@@ -243,6 +265,14 @@ public class Marshaller {
         }
     }
 
+    /**
+     * Forgets the last layout, so the next workflow gets laid out from scratch. Call it when
+     * loading a different workflow or closing the editor.
+     */
+    public void clearLayoutCache() {
+        layoutCache.clear();
+    }
+
     public static String getEndNodeUuid(final GraphImpl<Object> graph) {
 
         final Optional<Node> endNode = StreamSupport.stream(graph.nodes().spliterator(), false)
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.ait.lienzo.client.core.layout.Layout;
+import com.ait.lienzo.client.core.layout.VertexPosition;
 import com.ait.lienzo.client.core.layout.graph.Vertex;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
 import org.junit.Test;
@@ -202,6 +203,32 @@ public class AutoLayoutTest extends BaseMarshallingTest {
         });
     }
 
+    @Test
+    public void testProcessGraphWithPreviousLayout() {
+        final String startNodeUuid = Marshaller.getStartNodeUuid((GraphImpl) getGraph());
+        final String endNodeUuid = Marshaller.getEndNodeUuid((GraphImpl) getGraph());
+        final LienzoAutoLayout autoLayout = new LienzoAutoLayout();
+        final Layout previous = autoLayout.processGraph(getGraph(),
+                                                        AutoLayout.loadVertices(getGraph(), context.getWorkflowRootNode(), false),
+                                                        startNodeUuid,
+                                                        endNodeUuid);
+        final Map<String, VertexPosition> previousPositions = previous.getVerticesPositions().stream()
+                .collect(Collectors.toMap(VertexPosition::getId, v -> v));
+
+        final Layout layout = autoLayout.processGraph(getGraph(),
+                                                      AutoLayout.loadVertices(getGraph(), context.getWorkflowRootNode(), false),
+                                                      startNodeUuid,
+                                                      endNodeUuid,
+                                                      previous);
+
+        assertEquals(previousPositions.size(), layout.getVerticesPositions().size());
+        for (VertexPosition position : layout.getVerticesPositions()) {
+            final VertexPosition previousPosition = previousPositions.get(position.getId());
+            assertEquals(previousPosition.getX(), position.getX());
+            assertEquals(previousPosition.getY(), position.getY());
+        }
+    }
+
     @SuppressWarnings("all")
     @Test
     public void testAdjustIncomingConnectionsNonBackwardsNoControlPoints() {
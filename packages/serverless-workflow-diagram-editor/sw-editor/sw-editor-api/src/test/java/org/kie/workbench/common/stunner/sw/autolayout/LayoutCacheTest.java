@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+package org.kie.workbench.common.stunner.sw.autolayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.sw.definition.InjectState;
+import org.kie.workbench.common.stunner.sw.definition.State;
+import org.kie.workbench.common.stunner.sw.definition.Workflow;
+import org.kie.workbench.common.stunner.sw.marshall.BaseMarshallingTest;
+import org.kie.workbench.common.stunner.sw.marshall.BuilderContext;
+import org.kie.workbench.common.stunner.sw.marshall.Context;
+import org.kie.workbench.common.stunner.sw.marshall.Marshaller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayoutCacheTest extends BaseMarshallingTest {
+
+    @Override
+    protected Workflow createWorkflow() {
+        return createWorkflow("State2");
+    }
+
+    private static Workflow createWorkflow(String state1Transition) {
+        InjectState state1 = new InjectState();
+        state1.setName("State1");
+        state1.setTransition(state1Transition);
+
+        InjectState state2 = new InjectState();
+        state2.setName("State2");
+        state2.setTransition("State3");
+
+        InjectState state3 = new InjectState();
+        state3.setName("State3");
+        state3.setEnd(true);
+
+        return new Workflow()
+                .setId("workflow1")
+                .setName("Workflow1")
+                .setStart("State1")
+                .setStates(new State[]{state1, state2, state3});
+    }
+
+    @Override
+    public void setUp() {
+        super.setUp();
+        unmarshallWorkflow();
+    }
+
+    @Test
+    public void testSameStructureSameSignature() {
+        Graph graph = unmarshallAgain(createWorkflow("State2"));
+
+        assertEquals(LayoutCache.signatureOf(getGraph()), LayoutCache.signatureOf(graph));
+    }
+
+    @Test
+    public void testChangedTransitionChangesSignature() {
+        Graph graph = unmarshallAgain(createWorkflow("State3"));
+
+        assertNotEquals(LayoutCache.signatureOf(getGraph()), LayoutCache.signatureOf(graph));
+    }
+
+    @Test
+    public void testRestoreCopiesLayout() {
+        Node state2 = getNodeByName("State2");
+        ((View) state2.getContent()).setBounds(Bounds.create(100, 200, 150, 250));
+        LayoutCache cache = new LayoutCache();
+        cache.store(LayoutCache.signatureOf(getGraph()), getGraph(), null);
+
+        Graph graph = unmarshallAgain(createWorkflow("State2"));
+
+        assertTrue(cache.restore(LayoutCache.signatureOf(graph), graph, null));
+        Bounds bounds = ((View) graph.getNode(state2.getUUID()).getContent()).getBounds();
+        assertEquals(100d, bounds.getX(), 0d);
+        assertEquals(200d, bounds.getY(), 0d);
+        assertTrue(LayoutCache.isSameLayout(getGraph(), graph));
+    }
+
+    @Test
+    public void testRestoreIgnoresDifferentStructure() {
+        LayoutCache cache = new LayoutCache();
+        cache.store(LayoutCache.signatureOf(getGraph()), getGraph(), null);
+
+        Graph graph = unmarshallAgain(createWorkflow("State3"));
+
+        assertFalse(cache.restore(LayoutCache.signatureOf(graph), graph, null));
+    }
+
+    @Test
+    public void testRestoreAfterClear() {
+        LayoutCache cache = new LayoutCache();
+        cache.store(LayoutCache.signatureOf(getGraph()), getGraph(), null);
+        cache.clear();
+
+        Graph graph = unmarshallAgain(createWorkflow("State2"));
+
+        assertFalse(cache.restore(LayoutCache.signatureOf(graph), graph, null));
+    }
+
+    @Test
+    public void testForEachMatchingElement() {
+        Graph graph = unmarshallAgain(createWorkflow("State2"));
+        List<Element> matched = new ArrayList<>();
+
+        LayoutCache.forEachMatchingElement(getGraph(), graph, (current, updated) -> {
+            if (current instanceof Node) {
+                assertEquals(current.getUUID(), updated.getUUID());
+            }
+            matched.add(current);
+        });
+
+        int elements = 0;
+        for (Object node : getGraph().nodes()) {
+            elements += 1 + ((Node) node).getOutEdges().size();
+        }
+        assertEquals(elements, matched.size());
+    }
+
+    @SuppressWarnings("all")
+    private Graph unmarshallAgain(Workflow workflow) {
+        TestingGraphMockHandler handler = new TestingGraphMockHandler();
+        Context newContext = new Context(handler.graphIndex);
+        BuilderContext newBuilderContext = new BuilderContext(newContext,
+                                                              handler.getDefinitionManager(),
+                                                              handler.getFactoryManager());
+        newBuilderContext.setPreviousNameToUUIDBindings(context.getNameToUUIDBindings());
+        Marshaller.unmarshallNode(newBuilderContext, workflow);
+        newBuilderContext.execute();
+        return handler.graph;
+    }
+}
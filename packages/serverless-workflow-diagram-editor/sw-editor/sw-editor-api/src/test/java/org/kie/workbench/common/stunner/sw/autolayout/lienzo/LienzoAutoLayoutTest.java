@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.sw.autolayout.lienzo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ait.lienzo.client.core.layout.Edge;
+import com.ait.lienzo.client.core.layout.Layout;
+import com.ait.lienzo.client.core.layout.VertexPosition;
+import com.ait.lienzo.client.core.layout.graph.OutgoingEdge;
+import com.ait.lienzo.client.core.layout.graph.Vertex;
+import com.ait.lienzo.client.core.layout.sugiyama.GraphLayer;
+import com.ait.lienzo.client.core.layout.sugiyama.GraphLayerImpl;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LienzoAutoLayoutTest {
+
+    private static final String[] DIAMOND = {"S>A", "S>B", "A>C", "B>D", "C>E", "D>E"};
+
+    // Both pairs of edges A>D, B>C and F>I, G>H cross
+    private static final String[] CROSSED = {"S>A", "S>B", "A>D", "B>C", "C>E", "D>E", "E>F", "E>G", "F>I", "G>H"};
+
+    private final LienzoAutoLayout tested = new LienzoAutoLayout();
+
+    @Test
+    public void testSameGraphKeepsPositions() {
+        final Layout previous = layout(null, DIAMOND);
+        final Layout layout = layout(previous, DIAMOND);
+
+        final Map<String, VertexPosition> previousPositions = index(previous);
+        for (VertexPosition position : layout.getVerticesPositions()) {
+            assertEquals(previousPositions.get(position.getId()).getX(), position.getX());
+            assertEquals(previousPositions.get(position.getId()).getY(), position.getY());
+        }
+    }
+
+    @Test
+    public void testInsertedVertexKeepsOrderOfExistingVertices() {
+        final Layout previous = layout(null, DIAMOND);
+        final Layout layout = layout(previous, "S>A", "S>B", "A>C", "B>D", "C>E", "D>E", "S>X", "X>Y", "Y>E");
+
+        final Map<String, VertexPosition> before = index(previous);
+        final Map<String, VertexPosition> after = index(layout);
+        // Existing vertices stay in their layers and in the same order inside them
+        for (String id : before.keySet()) {
+            assertEquals(before.get(id).getY(), after.get(id).getY());
+        }
+        assertTrue(after.get("A").getX() < after.get("B").getX());
+        assertTrue(after.get("C").getX() < after.get("D").getX());
+        // New vertices go next to their neighbours, between the existing branches
+        assertTrue(after.get("A").getX() < after.get("X").getX());
+        assertTrue(after.get("X").getX() < after.get("B").getX());
+        assertTrue(after.get("C").getX() < after.get("Y").getX());
+        assertTrue(after.get("Y").getX() < after.get("D").getX());
+    }
+
+    @Test
+    public void testUnchangedGraphIsNotTransposed() {
+        final Layout previous = previousLayout(new String[][]{{"S"}, {"A", "B"}, {"C", "D"}, {"E"}, {"F", "G"}, {"H", "I"}},
+                                               CROSSED);
+        final Map<String, VertexPosition> after = index(layout(previous, CROSSED));
+
+        assertTrue(after.get("C").getX() < after.get("D").getX());
+        assertTrue(after.get("H").getX() < after.get("I").getX());
+    }
+
+    @Test
+    public void testOnlyAffectedLayersAreTransposed() {
+        final Layout previous = previousLayout(new String[][]{{"S"}, {"A", "B"}, {"C", "D"}, {"E"}, {"F", "G"}, {"H", "I"}},
+                                               CROSSED);
+        final List<String> edges = new ArrayList<>(Arrays.asList(CROSSED));
+        edges.add("H>N");
+        final Map<String, VertexPosition> after = index(layout(previous, edges.toArray(new String[0])));
+
+        // H gained an edge, so its layer gets transposed to remove the crossing
+        assertTrue(after.get("I").getX() < after.get("H").getX());
+        // The other layers did not change, so the crossing there is kept
+        assertTrue(after.get("C").getX() < after.get("D").getX());
+        assertTrue(after.get("F").getX() < after.get("G").getX());
+
+        // A layout from scratch removes both crossings
+        final Map<String, VertexPosition> scratch = index(layout(null, edges.toArray(new String[0])));
+        assertTrue(scratch.get("D").getX() < scratch.get("C").getX());
+        assertTrue(scratch.get("I").getX() < scratch.get("H").getX());
+    }
+
+    private Layout layout(final Layout previous,
+                          final String... edges) {
+        final List<Vertex> vertices = vertices(edges);
+        return tested.createLayoutService().createLayout(vertices,
+                                                         vertices.get(0).getId(),
+                                                         vertices.get(vertices.size() - 1).getId(),
+                                                         previous);
+    }
+
+    private static List<Vertex> vertices(final String... edges) {
+        final Map<String, Vertex> vertices = new LinkedHashMap<>();
+        for (String edge : edges) {
+            final String[] ends = edge.split(">");
+            final Vertex from = vertices.computeIfAbsent(ends[0], Vertex::new);
+            final Vertex to = vertices.computeIfAbsent(ends[1], Vertex::new);
+            from.getOutgoingEdges().add(new OutgoingEdge(edge, to));
+        }
+        for (Vertex vertex : vertices.values()) {
+            vertex.setWidth(50);
+            vertex.setHeight(50);
+        }
+        return new ArrayList<>(vertices.values());
+    }
+
+    private static Layout previousLayout(final String[][] layers,
+                                         final String... edges) {
+        final List<GraphLayer> graphLayers = new ArrayList<>();
+        final Map<String, VertexPosition> positions = new HashMap<>();
+        for (int i = 0; i < layers.length; i++) {
+            final GraphLayerImpl layer = new GraphLayerImpl(i);
+            for (int j = 0; j < layers[i].length; j++) {
+                final VertexPosition position = new VertexPosition(layers[i][j]);
+                position.setX(100 * j);
+                position.setY(100 * i);
+                layer.addVertex(position);
+                positions.put(position.getId(), position);
+            }
+            graphLayers.add(layer);
+        }
+        for (String edge : edges) {
+            final String[] ends = edge.split(">");
+            positions.get(ends[0]).getOutgoingEdges().add(new Edge(edge, ends[0], ends[1]));
+        }
+        return new Layout(graphLayers);
+    }
+
+    private static Map<String, VertexPosition> index(final Layout layout) {
+        final Map<String, VertexPosition> index = new HashMap<>();
+        for (VertexPosition position : layout.getVerticesPositions()) {
+            index.put(position.getId(), position);
+        }
+        return index;
+    }
+}
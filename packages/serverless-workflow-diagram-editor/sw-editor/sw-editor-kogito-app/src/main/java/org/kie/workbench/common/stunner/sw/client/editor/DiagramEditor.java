@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.ait.lienzo.client.widget.panel.impl.ScrollablePanel;
 import com.ait.lienzo.client.widget.panel.util.PanelTransformUtils;
@@ -36,6 +37,7 @@ import jakarta.inject.Inject;
 import jsinterop.annotations.JsType;
 import jsinterop.base.Js;
 import org.appformer.kogito.bridge.client.diagramApi.DiagramApi;
+import org.gwtproject.timer.client.Timer;
 import org.kie.j2cl.tools.di.ui.translation.client.TranslationService;
 import org.kie.workbench.common.stunner.client.lienzo.canvas.wires.WiresCanvas;
 import org.kie.workbench.common.stunner.client.lienzo.components.mediators.preview.TogglePreviewEvent;
@@ -47,12 +49,12 @@ import org.kie.workbench.common.stunner.core.client.api.JsWindow;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.SelectionControl;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandManager;
 import org.kie.workbench.common.stunner.core.client.command.ClearAllCommand;
 import org.kie.workbench.common.stunner.core.client.service.ClientRuntimeError;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.client.session.impl.AbstractSession;
+import org.kie.workbench.common.stunner.core.client.shape.MutationContext;
 import org.kie.workbench.common.stunner.core.client.theme.StunnerTheme;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
@@ -61,9 +63,11 @@ import org.kie.workbench.common.stunner.core.diagram.DiagramParsingException;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.sw.SWDomainInitializer;
+import org.kie.workbench.common.stunner.sw.autolayout.LayoutCache;
 import org.kie.workbench.common.stunner.sw.client.services.ClientDiagramService;
 import org.kie.workbench.common.stunner.sw.client.theme.ColorTheme;
 import org.kie.workbench.common.stunner.sw.client.theme.DarkMode;
@@ -84,6 +88,12 @@ public class DiagramEditor {
 
     public static final String EDITOR_ID = "SWDiagramEditor";
 
+    /**
+     * Content set within this time after the previous one is deferred, so while typing only the latest document
+     * gets parsed and drawn.
+     */
+    static final int CONTENT_THROTTLE = 300;
+
     static String ID_SEARCH_PATTERN_JSON = "(?:\\\"|\\')(?<id>[^\"]*)(?:\\\"|\\')(?=:)(?:\\:\\s*)(?:\\\"|\\')" +
             "?(?<value>true|false|[0-9a-zA-Z\\+\\-\\,\\.\\$]*)";
 
@@ -94,13 +104,23 @@ public class DiagramEditor {
     private final Promises promises;
     private final StunnerEditor stunnerEditor;
     private final ClientDiagramService diagramService;
-    private final CanvasFileExport canvasFileExport;
+    private final DiagramPreview diagramPreview;
     private final Event<TogglePreviewEvent> togglePreviewEvent;
     private final DiagramApi diagramApi;
     private DocType currentDocType = DocType.JSON;
     private String currentPath;
     private String currentValue;
     ColorTheme themeToBeApplied = null;
+    private final Timer contentTimer = new Timer() {
+        @Override
+        public void run() {
+            setPendingContent();
+        }
+    };
+    private PendingContent pendingContent;
+    // Set while a document is being applied, the documents set meanwhile wait for it
+    private Object contentInFlight;
+    private double lastContentTime;
 
     @Inject
     private TranslationService translationService;
@@ -109,13 +129,13 @@ public class DiagramEditor {
     public DiagramEditor(Promises promises,
                          StunnerEditor stunnerEditor,
                          ClientDiagramService diagramService,
-                         CanvasFileExport canvasFileExport,
+                         DiagramPreview diagramPreview,
                          final Event<TogglePreviewEvent> togglePreviewEvent,
                          final DiagramApi diagramApi) {
         this.promises = promises;
         this.stunnerEditor = stunnerEditor;
         this.diagramService = diagramService;
-        this.canvasFileExport = canvasFileExport;
+        this.diagramPreview = diagramPreview;
         this.togglePreviewEvent = togglePreviewEvent;
         this.diagramApi = diagramApi;
     }
@@ -135,12 +155,16 @@ public class DiagramEditor {
     public Promise<String> getPreview() {
         CanvasHandler canvasHandler = stunnerEditor.getCanvasHandler();
         if (canvasHandler != null) {
-            return promises.resolve(canvasFileExport.exportToSvg((AbstractCanvasHandler) canvasHandler));
+            return promises.resolve(diagramPreview.getSvg((AbstractCanvasHandler) canvasHandler));
         } else {
             return promises.resolve("");
         }
     }
 
+    private AbstractCanvasHandler getPreviewCanvasHandler() {
+        return stunnerEditor.isClosed() ? null : (AbstractCanvasHandler) stunnerEditor.getCanvasHandler();
+    }
+
     @SuppressWarnings("all")
     public Promise validate() {
         return Promise.resolve(new Notification[0]);
@@ -183,6 +207,7 @@ public class DiagramEditor {
 
     private void setTheme() {
         StunnerTheme.setTheme(themeToBeApplied);
+        diagramPreview.invalidate();
         setCanvasColors();
         themeToBeApplied = null;
     }
@@ -209,10 +234,90 @@ public class DiagramEditor {
     }
 
     private Promise<Void> setContent(final String path, final String value, final DocType docType) {
+        if (null != contentInFlight || null != pendingContent || now() - lastContentTime < CONTENT_THROTTLE) {
+            return deferContent(path, value, docType);
+        }
+        lastContentTime = now();
+        return applyContent(path, value, docType);
+    }
+
+    private Promise<Void> deferContent(final String path, final String value, final DocType docType) {
+        if (null == pendingContent) {
+            pendingContent = new PendingContent();
+        }
+        final PendingContent content = pendingContent;
+        content.path = path;
+        content.value = value;
+        content.docType = docType;
+        contentTimer.schedule(CONTENT_THROTTLE);
+        return promises.create((success, failure) -> content.callbacks.add(error -> {
+            if (null == error) {
+                success.onInvoke((Void) null);
+            } else {
+                failure.onInvoke(error);
+            }
+        }));
+    }
+
+    void setPendingContent() {
+        if (null != contentInFlight) {
+            // Applied as soon as the current document is set
+            return;
+        }
+        final PendingContent content = pendingContent;
+        pendingContent = null;
+        if (null == content) {
+            return;
+        }
+        lastContentTime = now();
+        // Superseded documents are never parsed, their callers get notified once the latest one is set
+        applyContent(content.path, content.value, content.docType)
+                .then(v -> {
+                    content.complete(null);
+                    return promises.resolve();
+                })
+                .catch_(error -> {
+                    content.complete(null != error ? error : new ClientRuntimeError("Error setting content."));
+                    return promises.resolve();
+                });
+    }
+
+    double now() {
+        return System.currentTimeMillis();
+    }
+
+    // Documents are applied one at a time, the latest one set meanwhile is applied once the current one is done
+    private Promise<Void> applyContent(final String path, final String value, final DocType docType) {
+        final Object token = new Object();
+        contentInFlight = token;
+        return promises.create((success, failure) -> doSetContent(path, value, docType)
+                .then(v -> {
+                    success.onInvoke((Void) null);
+                    onContentApplied(token);
+                    return promises.resolve();
+                })
+                .catch_(error -> {
+                    failure.onInvoke(error);
+                    onContentApplied(token);
+                    return promises.resolve();
+                }));
+    }
+
+    private void onContentApplied(final Object token) {
+        // Stale once the editor has been closed, a newer document may be in flight by now
+        if (contentInFlight != token) {
+            return;
+        }
+        contentInFlight = null;
+        setPendingContent();
+    }
+
+    private Promise<Void> doSetContent(final String path, final String value, final DocType docType) {
         this.currentPath = path;
         this.currentValue = value;
 
         this.currentDocType = docType;
+        diagramPreview.invalidate();
         TogglePreviewEvent event = new TogglePreviewEvent(TogglePreviewEvent.EventType.HIDE);
         togglePreviewEvent.fire(event);
         Promise<Void> setContentPromise;
@@ -223,6 +328,8 @@ public class DiagramEditor {
         }
 
         return setContentPromise.then(v -> promises.create((success, failure) -> {
+            // Export the preview once the editor is idle, so it's ready when the host asks for it
+            diagramPreview.scheduleUpdate(this::getPreviewCanvasHandler);
             diagramApi.setContentSuccess();
             success.onInvoke((Void) null);
         }));
@@ -235,6 +342,8 @@ public class DiagramEditor {
     public Promise<Void> setNewContent(final String path, final String value, final DocType docType) {
         return promises.create((success, failure) -> {
             stunnerEditor.clearAlerts();
+            // A different workflow must not be laid out from the previous one
+            diagramService.getMarshaller().clearLayoutCache();
             diagramService.transform(path,
                                      value,
                                      docType,
@@ -359,6 +468,15 @@ public class DiagramEditor {
     }
 
     void close() {
+        contentTimer.cancel();
+        contentInFlight = null;
+        if (null != pendingContent) {
+            // Documents that were never applied must not be reported as set
+            pendingContent.complete(new ClientRuntimeError("The editor was closed before the content was set."));
+            pendingContent = null;
+        }
+        diagramPreview.invalidate();
+        diagramService.getMarshaller().clearLayoutCache();
         stunnerEditor.close();
         getJsCanvas().close();
     }
@@ -369,6 +487,13 @@ public class DiagramEditor {
 
         AbstractCanvasHandler canvasHandler = (AbstractCanvasHandler) stunnerEditor.getCanvasHandler();
         Diagram currentDiagram = stunnerEditor.getCanvasHandler().getDiagram();
+
+        // Same states, transitions and positions: refresh the existing shapes instead of redrawing.
+        if (LayoutCache.isSameLayout(currentDiagram.getGraph(), diagram.getGraph())) {
+            updateShapes(canvasHandler, currentDiagram.getGraph(), diagram.getGraph());
+            return;
+        }
+
         CanvasCommandManager<AbstractCanvasHandler> commandManager = session.getCommandManager();
 
         // Preserve session state.
@@ -408,6 +533,17 @@ public class DiagramEditor {
         centerFirstSelectedNode(stunnerEditor, getJsCanvas());
     }
 
+    @SuppressWarnings("all")
+    static void updateShapes(AbstractCanvasHandler canvasHandler, Graph currentGraph, Graph graph) {
+        LayoutCache.forEachMatchingElement(currentGraph, graph, (current, updated) -> {
+            final Object content = updated.getContent();
+            if (content instanceof View && current.getContent() instanceof View) {
+                ((View) current.getContent()).setDefinition(((View) content).getDefinition());
+                canvasHandler.applyElementMutation(current, MutationContext.STATIC);
+            }
+        });
+    }
+
     @SuppressWarnings("all")
     private boolean isSameWorkflow(final String value, DocType docType) {
         Boolean found = false;
@@ -474,4 +610,17 @@ public class DiagramEditor {
             lienzoPanel.setPostResizeCallback(null);
         }));
     }
+
+    private static class PendingContent {
+
+        private final List<Consumer<Object>> callbacks = new ArrayList<>();
+        private String path;
+        private String value;
+        private DocType docType;
+
+        private void complete(Object error) {
+            callbacks.forEach(callback -> callback.accept(error));
+            callbacks.clear();
+        }
+    }
 }
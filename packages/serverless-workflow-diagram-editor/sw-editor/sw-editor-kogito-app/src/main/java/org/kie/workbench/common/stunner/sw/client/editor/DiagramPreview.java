@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.kie.workbench.common.stunner.sw.client.editor;
+
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import org.gwtproject.timer.client.Timer;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+
+/**
+ * Keeps the SVG preview of the diagram, so it is only exported again once the canvas changes. Updates requested
+ * while the diagram is being edited are coalesced and run when the editor gets idle, instead of on save.
+ */
+@Dependent
+public class DiagramPreview {
+
+    static final int UPDATE_DELAY = 1000;
+
+    private final CanvasFileExport canvasFileExport;
+    private final Timer updateTimer;
+    private Supplier<AbstractCanvasHandler> canvasHandlerSupplier;
+    private String svg;
+
+    @Inject
+    public DiagramPreview(CanvasFileExport canvasFileExport) {
+        this.canvasFileExport = canvasFileExport;
+        this.updateTimer = new Timer() {
+            @Override
+            public void run() {
+                update();
+            }
+        };
+    }
+
+    public String getSvg(AbstractCanvasHandler canvasHandler) {
+        updateTimer.cancel();
+        if (null == svg) {
+            svg = canvasFileExport.exportToSvg(canvasHandler);
+        }
+        return svg;
+    }
+
+    public void scheduleUpdate(Supplier<AbstractCanvasHandler> canvasHandlerSupplier) {
+        invalidate();
+        this.canvasHandlerSupplier = canvasHandlerSupplier;
+        updateTimer.schedule(UPDATE_DELAY);
+    }
+
+    public void invalidate() {
+        updateTimer.cancel();
+        svg = null;
+    }
+
+    void update() {
+        AbstractCanvasHandler canvasHandler = null != canvasHandlerSupplier ? canvasHandlerSupplier.get() : null;
+        if (null != canvasHandler) {
+            getSvg(canvasHandler);
+        }
+    }
+
+    boolean isCached() {
+        return null != svg;
+    }
+}
@@ -23,6 +23,7 @@ package org.kie.workbench.common.stunner.sw.client.editor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.ait.lienzo.client.core.shape.Viewport;
@@ -53,16 +54,22 @@ import org.kie.workbench.common.stunner.core.client.command.CanvasCommandManager
 import org.kie.workbench.common.stunner.core.client.command.ClearAllCommand;
 import org.kie.workbench.common.stunner.core.client.session.ClientSession;
 import org.kie.workbench.common.stunner.core.client.session.impl.ViewerSession;
+import org.kie.workbench.common.stunner.core.client.shape.MutationContext;
 import org.kie.workbench.common.stunner.core.client.theme.StunnerTheme;
 import org.kie.workbench.common.stunner.core.diagram.DiagramImpl;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
 import org.kie.workbench.common.stunner.sw.SWDomainInitializer;
 import org.kie.workbench.common.stunner.sw.client.services.ClientDiagramService;
 import org.kie.workbench.common.stunner.sw.client.theme.DarkMode;
 import org.kie.workbench.common.stunner.sw.client.theme.LightMode;
+import org.kie.workbench.common.stunner.sw.definition.InjectState;
 import org.kie.workbench.common.stunner.sw.marshall.Context;
 import org.kie.workbench.common.stunner.sw.marshall.DocType;
 import org.kie.workbench.common.stunner.sw.marshall.Marshaller;
@@ -75,10 +82,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -122,6 +131,8 @@ public class DiagramEditorTest {
     @Mock
     private CanvasFileExport canvasFileExport;
 
+    private DiagramPreview diagramPreview;
+
     @Mock
     private ClientDiagramService diagramServices;
 
@@ -240,10 +251,13 @@ public class DiagramEditorTest {
         when(viewerSession.getCanvasHandler()).thenReturn(canvasHandler2);
         when(stunnerEditor2.getCanvasHandler()).thenReturn(canvasHandler2);
         when(stunnerEditor2.getDiagram()).thenReturn(diagram);
+        when(diagramServices.getMarshaller()).thenReturn(marshaller);
+        diagramPreview = spy(new DiagramPreview(canvasFileExport));
+        doNothing().when(diagramPreview).scheduleUpdate(any());
         tested = spy(new DiagramEditor(promises,
                                        stunnerEditor2,
                                        diagramServices,
-                                       canvasFileExport,
+                                       diagramPreview,
                                        togglePreviewEvent,
                                        diagramApi));
         tested.jsRegExpJson = jsRegExp;
@@ -403,6 +417,34 @@ public class DiagramEditorTest {
         assertEquals("<svg/>", result[0]);
     }
 
+    @Test
+    public void testGetPreviewIsCached() {
+        when(canvasFileExport.exportToSvg(eq(canvasHandler2))).thenReturn("<svg/>");
+        tested.getPreview();
+        tested.getPreview();
+
+        verify(canvasFileExport, times(1)).exportToSvg(eq(canvasHandler2));
+    }
+
+    @Test
+    public void testSetContentInvalidatesPreview() {
+        when(jsRegExp.exec(rawJSON)).thenReturn(regExpResult);
+        when(regExpResult.getAt(2)).thenReturn("injectExample");
+        when(graph.getUUID()).thenReturn("SomeOtherStuff");
+        when(canvasFileExport.exportToSvg(eq(canvasHandler2))).thenReturn("<svg/>");
+        doReturn(promises.create((success, failure) -> success.onInvoke((Void) null))).when(tested).setNewContent(anyString(), anyString(), any(DocType.class));
+
+        tested.getPreview();
+        tested.setContent("", rawJSON);
+
+        verify(diagramPreview, times(1)).invalidate();
+        verify(diagramPreview, times(1)).scheduleUpdate(any());
+
+        tested.getPreview();
+
+        verify(canvasFileExport, times(2)).exportToSvg(eq(canvasHandler2));
+    }
+
     @Test
     public void testSetNewContent() {
         when(jsRegExp.exec(rawJSON)).thenReturn(regExpResult);
@@ -434,6 +476,83 @@ public class DiagramEditorTest {
         verify(diagramApi).setContentSuccess();
     }
 
+    @Test
+    @SuppressWarnings("all")
+    public void testSetContentWhileTypingOnlySetsLatestContent() {
+        final String supersededJSON = rawJSON.replace("Inject Example", "Superseded Example");
+        final String latestJSON = rawJSON.replace("Inject Example", "Latest Example");
+        when(jsRegExp.exec(anyString())).thenReturn(regExpResult);
+        when(regExpResult.getAt(2)).thenReturn("injectExample");
+        when(graph.getUUID()).thenReturn("SomeOtherStuff");
+        doReturn(1000d).when(tested).now();
+        doReturn(promises.create((success, failure) -> success.onInvoke((Void) null))).when(tested).setNewContent(anyString(), anyString(), any(DocType.class));
+
+        tested.setContent("", rawJSON);
+        SyncPromises.SyncPromise superseded = (SyncPromises.SyncPromise) tested.setContent("", supersededJSON);
+        SyncPromises.SyncPromise latest = (SyncPromises.SyncPromise) tested.setContent("", latestJSON);
+
+        verify(tested, times(1)).setNewContent("", rawJSON, DocType.JSON);
+        assertEquals(SyncPromises.Status.PENDING, superseded.status);
+        assertEquals(SyncPromises.Status.PENDING, latest.status);
+
+        tested.setPendingContent();
+
+        verify(tested, never()).setNewContent("", supersededJSON, DocType.JSON);
+        verify(tested, times(1)).setNewContent("", latestJSON, DocType.JSON);
+        assertEquals(SyncPromises.Status.RESOLVED, superseded.status);
+        assertEquals(SyncPromises.Status.RESOLVED, latest.status);
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    public void testSetContentWaitsForContentInFlight() {
+        final String nextJSON = rawJSON.replace("Inject Example", "Next Example");
+        final SyncPromises.SyncPromise[] next = new SyncPromises.SyncPromise[1];
+        final List<String> applied = new ArrayList<>();
+        when(jsRegExp.exec(anyString())).thenReturn(regExpResult);
+        when(regExpResult.getAt(2)).thenReturn("injectExample");
+        when(graph.getUUID()).thenReturn("SomeOtherStuff");
+        doReturn(1000d, 2000d, 3000d, 4000d).when(tested).now();
+        doAnswer(invocation -> {
+            applied.add(invocation.getArgument(1));
+            if (rawJSON.equals(invocation.getArgument(1))) {
+                // Set while the first document is still being applied
+                next[0] = (SyncPromises.SyncPromise) tested.setContent("", nextJSON);
+                assertEquals(List.of(rawJSON), applied);
+            }
+            return promises.create((success, failure) -> success.onInvoke((Void) null));
+        }).when(tested).setNewContent(anyString(), anyString(), any(DocType.class));
+
+        SyncPromises.SyncPromise first = (SyncPromises.SyncPromise) tested.setContent("", rawJSON);
+
+        assertEquals(List.of(rawJSON, nextJSON), applied);
+        assertEquals(SyncPromises.Status.RESOLVED, first.status);
+        assertEquals(SyncPromises.Status.RESOLVED, next[0].status);
+
+        tested.setPendingContent();
+
+        verify(tested, times(2)).setNewContent(anyString(), anyString(), any(DocType.class));
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    public void testCloseRejectsPendingContent() {
+        final String pendingJSON = rawJSON.replace("Inject Example", "Pending Example");
+        when(jsRegExp.exec(anyString())).thenReturn(regExpResult);
+        when(regExpResult.getAt(2)).thenReturn("injectExample");
+        when(graph.getUUID()).thenReturn("SomeOtherStuff");
+        doReturn(1000d).when(tested).now();
+        doReturn(promises.create((success, failure) -> success.onInvoke((Void) null))).when(tested).setNewContent(anyString(), anyString(), any(DocType.class));
+
+        tested.setContent("", rawJSON);
+        SyncPromises.SyncPromise pending = (SyncPromises.SyncPromise) tested.setContent("", pendingJSON);
+        tested.close();
+        tested.setPendingContent();
+
+        assertEquals(SyncPromises.Status.REJECTED, pending.status);
+        verify(tested, never()).setNewContent("", pendingJSON, DocType.JSON);
+    }
+
     @Test
     public void testClose() {
         when(jsRegExp.exec(rawJSON)).thenReturn(regExpResult);
@@ -445,6 +564,23 @@ public class DiagramEditorTest {
 
         verify(stunnerEditor2, times(1)).close();
         verify(jsCanvas, times(1)).close();
+        verify(marshaller, times(1)).clearLayoutCache();
+    }
+
+    @Test
+    public void testSetNewContentClearsLayoutCache() {
+        tested.setNewContent("", rawJSON, DocType.JSON);
+
+        verify(marshaller, times(1)).clearLayoutCache();
+        verify(diagramServices, times(1)).transform(eq(""), eq(rawJSON), eq(DocType.JSON), any());
+    }
+
+    @Test
+    public void testUpdateContentKeepsLayoutCache() {
+        tested.updateContent("", rawJSON, DocType.JSON);
+
+        verify(marshaller, never()).clearLayoutCache();
+        verify(diagramServices, times(1)).transform(eq(""), eq(rawJSON), eq(DocType.JSON), any());
     }
 
     @Test
@@ -471,6 +607,38 @@ public class DiagramEditorTest {
         verify(jsCanvas, times(1)).center("uuid");
     }
 
+    @Test
+    @SuppressWarnings("all")
+    public void testUpdateDiagramWithSameLayoutUpdatesShapes() {
+        InjectState state = new InjectState();
+        state.setName("State1");
+        InjectState updatedState = new InjectState();
+        updatedState.setName("State1");
+        updatedState.setEnd(true);
+        Graph currentGraph = createGraph(state);
+        diagram.setGraph(currentGraph);
+        DiagramImpl newDiagram = new DiagramImpl("testDiagram", metadata);
+        newDiagram.setGraph(createGraph(updatedState));
+        when(viewerSession.getCommandManager()).thenReturn(commandManager);
+
+        tested.updateDiagram(newDiagram);
+
+        Node node = currentGraph.getNode("node1");
+        assertSame(updatedState, ((View) node.getContent()).getDefinition());
+        verify(canvasHandler2, times(1)).applyElementMutation(node, MutationContext.STATIC);
+        verify(commandManager, never()).execute(any(), any(ClearAllCommand.class));
+        verify(canvasHandler2, never()).draw(any(), any());
+    }
+
+    @SuppressWarnings("all")
+    private static Graph createGraph(Object definition) {
+        Graph graph = GraphImpl.build("graph");
+        Node node = new NodeImpl<>("node1");
+        node.setContent(new ViewImpl<>(definition, org.kie.workbench.common.stunner.core.graph.content.Bounds.create(0, 0, 100, 50)));
+        graph.addNode(node);
+        return graph;
+    }
+
     @Test
     public void testSelectStateByName() {
         Map<String, String> nameToUUIDBindings = new HashMap<>();
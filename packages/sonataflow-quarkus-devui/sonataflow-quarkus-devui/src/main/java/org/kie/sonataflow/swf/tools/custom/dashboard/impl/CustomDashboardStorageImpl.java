@@ -19,57 +19,41 @@
 package org.kie.sonataflow.swf.tools.custom.dashboard.impl;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.FileSystems;
-import java.nio.file.FileVisitResult;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.WatchEvent;
-import java.nio.file.WatchKey;
-import java.nio.file.WatchService;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.TimeZone;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.kie.sonataflow.swf.tools.custom.dashboard.CustomDashboardStorage;
 import org.kie.sonataflow.swf.tools.custom.dashboard.model.CustomDashboardFilter;
 import org.kie.sonataflow.swf.tools.custom.dashboard.model.CustomDashboardInfo;
+import org.kie.tools.quarkus.devui.storage.ResourceCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 
-import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
-import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
-
 @ApplicationScoped
 public class CustomDashboardStorageImpl implements CustomDashboardStorage {
 
     public static final String PROJECT_CUSTOM_DASHBOARD_STORAGE_PROP = "quarkus.kogito-runtime-tools.custom.dashboard.folder";
     private static final String CUSTOM_DASHBOARD_STORAGE_PATH = "/dashboards/";
+    private static final String[] CUSTOM_DASHBOARD_EXTENSIONS = { "dash.yaml", "dash.yml" };
     private static final Logger LOGGER = LoggerFactory.getLogger(CustomDashboardStorageImpl.class);
 
-    private final Map<String, CustomDashboardInfo> customDashboardInfoMap = new HashMap<>();
-
     private URL classLoaderCustomDashboardUrl;
     private URL customDashStorageUrl;
+    private ResourceCatalog<CustomDashboardInfo, String> dashboards;
 
     public CustomDashboardStorageImpl() {
         start(Thread.currentThread().getContextClassLoader().getResource(CUSTOM_DASHBOARD_STORAGE_PATH));
@@ -90,14 +74,14 @@ public class CustomDashboardStorageImpl implements CustomDashboardStorage {
         } catch (Exception ex) {
             LOGGER.warn("Couldn't properly initialize CustomDashboardStorageImpl");
         } finally {
-            if (classLoaderCustomDashboardUrl == null) {
-                return;
-            }
+            init();
+        }
+    }
 
-            init(readCustomDashboardResources());
-            String storageUrl = getStorageUrl(classLoaderCustomDashboardUrl);
-            Thread t = new Thread(new DashboardFilesWatcher(reload(), storageUrl));
-            t.start();
+    @PreDestroy
+    public void shutdown() {
+        if (dashboards != null) {
+            dashboards.close();
         }
     }
 
@@ -130,29 +114,24 @@ public class CustomDashboardStorageImpl implements CustomDashboardStorage {
 
     @Override
     public int getCustomDashboardFilesCount() {
-        return customDashboardInfoMap.size();
+        return dashboards != null ? dashboards.size() : 0;
     }
 
     @Override
     public Collection<CustomDashboardInfo> getCustomDashboardFiles(CustomDashboardFilter filter) {
-        if (filter != null && !filter.getNames().isEmpty()) {
-            return customDashboardInfoMap.entrySet().stream()
-                    .filter(entry -> StringUtils.containsAnyIgnoreCase(entry.getKey(), filter.getNames().toArray(new String[0])))
-                    .map(Map.Entry::getValue)
-                    .collect(Collectors.toList());
-        } else {
-            return customDashboardInfoMap.values();
+        if (dashboards == null) {
+            return Collections.emptyList();
         }
+        return dashboards.find(filter != null ? filter.getNames() : null);
     }
 
     @Override
     public String getCustomDashboardFileContent(String name) throws IOException {
-        try {
-            return IOUtils.toString(new FileInputStream(customDashboardInfoMap.get(name).getPath()), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            LOGGER.info("custom-dashboard's file {} can not ready, because of {}", customDashboardInfoMap.get(name).getPath(), e.getMessage());
-            throw e;
+        String content = dashboards != null ? dashboards.getContent(name) : null;
+        if (content == null) {
+            throw new FileNotFoundException("Cannot find custom-dashboard '" + name + "'");
         }
+        return content;
     }
 
     @Override
@@ -160,67 +139,58 @@ public class CustomDashboardStorageImpl implements CustomDashboardStorage {
 
     }
 
-    private void init(Collection<File> files) {
-        customDashboardInfoMap.clear();
-        files.stream()
-                .forEach(file -> {
-                    LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(file.lastModified()), TimeZone.getDefault().toZoneId());
-                    customDashboardInfoMap.put(file.getName(),
-                            new CustomDashboardInfo(file.getName(), file.getPath(), lastModified));
-                });
+    private String loadCustomDashboard(CustomDashboardInfo info) throws IOException {
+        try {
+            return FileUtils.readFileToString(new File(info.getPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.info("custom-dashboard's file {} can not ready, because of {}", info.getPath(), e.getMessage());
+            throw e;
+        }
     }
 
-    private Collection<File> readCustomDashboardResources() {
-        if (classLoaderCustomDashboardUrl != null) {
-            LOGGER.info("custom-dashboard's files path is {}", classLoaderCustomDashboardUrl.toString());
-            File rootFolder = FileUtils.toFile(classLoaderCustomDashboardUrl);
-            return FileUtils.listFiles(rootFolder, new String[] { "dash.yaml", "dash.yml" }, true);
+    private void init() {
+        if (classLoaderCustomDashboardUrl == null) {
+            return;
+        }
+        LOGGER.info("custom-dashboard's files path is {}", classLoaderCustomDashboardUrl.toString());
+        dashboards = new ResourceCatalog<>(FileUtils.toFile(classLoaderCustomDashboardUrl).toPath(), true, new DashboardsIndexer(), this::loadCustomDashboard);
+        dashboards.scan();
+        String storageUrl = getStorageUrl(classLoaderCustomDashboardUrl);
+        try {
+            dashboards.watch(Path.of(storageUrl));
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot watch custom dashboard folder: {}, dashboards won't be refreshed on change: {}", storageUrl, ex.getMessage());
         }
-        return Collections.emptyList();
     }
 
-    private Consumer<Collection<File>> reload() {
-        return this::init;
+    private boolean isCustomDashboardFile(String name) {
+        for (String extension : CUSTOM_DASHBOARD_EXTENSIONS) {
+            if (name.endsWith("." + extension)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private class DashboardFilesWatcher implements Runnable {
+    /**
+     * Indexes a dashboard by its file name, wherever the file is in the dashboards folder.
+     */
+    private class DashboardsIndexer implements ResourceCatalog.ResourceIndexer<CustomDashboardInfo> {
 
-        private final Map<WatchKey, Path> keys = new HashMap<>();
-        private Consumer<Collection<File>> consumer;
-        private String folder;
-
-        public DashboardFilesWatcher(Consumer<Collection<File>> consumer, String folder) {
-            this.consumer = consumer;
-            this.folder = folder;
+        @Override
+        public String getKey(Path file) {
+            String name = file.getFileName().toString();
+            return isCustomDashboardFile(name) ? name : null;
         }
 
         @Override
-        public void run() {
-            try (WatchService ws = FileSystems.getDefault().newWatchService()) {
-                Path path = Path.of(folder);
-                keys.put(path.register(ws, ENTRY_MODIFY, ENTRY_CREATE), path);
-
-                Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
-                    @Override
-                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                        keys.put(dir.register(ws, ENTRY_MODIFY, ENTRY_CREATE, ENTRY_DELETE), dir);
-                        return FileVisitResult.CONTINUE;
-                    }
-                });
-                WatchKey key;
-                while ((key = ws.take()) != null) {
-                    for (WatchEvent<?> event : key.pollEvents()) {
-                        LOGGER.warn("Event kind: {}. File affected: {}", event.kind(), event.context());
-                        consumer.accept(readCustomDashboardResources());
-                    }
-                    key.reset();
-                }
-            } catch (InterruptedException e) {
-                LOGGER.warn("Exception in custom dashboard folder watcher for folder: {}, message: {}", folder, e.getMessage(), e);
-                Thread.currentThread().interrupt();
-            } catch (IOException ex) {
-                LOGGER.warn("Exception in custom dashboard folder watcher for folder: {}, message: {}", folder, ex.getMessage(), ex);
+        public CustomDashboardInfo index(String name, Path file) {
+            File dashboardFile = file.toFile();
+            if (!dashboardFile.isFile()) {
+                return null;
             }
+            LocalDateTime lastModified = LocalDateTime.ofInstant(Instant.ofEpochMilli(dashboardFile.lastModified()), TimeZone.getDefault().toZoneId());
+            return new CustomDashboardInfo(name, dashboardFile.getPath(), lastModified);
         }
     }
 }
@@ -21,6 +21,7 @@
 package org.appformer.client.stateControl.registry;
 
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents a basic items registry.
@@ -57,6 +58,26 @@ public interface Registry<C> {
      */
     void setMaxSize(final int size);
 
+    /**
+     * Sets the max estimated size, in the units given by the estimator, that the items stored on the registry can
+     * retain. The oldest items are evicted first once the budget is exceeded, the last registered item is always kept.
+     *
+     * @param sizeEstimator   A function that estimates the size retained by an item
+     * @param maxRetainedSize A positive number
+     */
+    void setMaxRetainedSize(final ToLongFunction<C> sizeEstimator,
+                            final long maxRetainedSize);
+
+    /**
+     * Sets a {@link RegistryCoalescer} to merge an item with the previous one when both are registered within the
+     * given time window.
+     *
+     * @param coalescer    A {@link RegistryCoalescer}, or null to disable coalescing
+     * @param windowMillis The max elapsed time between two registrations to consider merging them
+     */
+    void setCoalescer(final RegistryCoalescer<C> coalescer,
+                      final int windowMillis);
+
     /**
      * Clears the registry
      */
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.appformer.client.stateControl.registry;
+
+/**
+ * This functional interface represents the code that decides whether two consecutive items registered on a
+ * {@link Registry} can be merged into a single one, so they are undone and redone as a single step.
+ */
+@FunctionalInterface
+public interface RegistryCoalescer<C> {
+
+    /**
+     * Merges the item that is on top of the registry with the one that is being registered.
+     *
+     * @param previous The last registered item
+     * @param next     The item that is being registered
+     * @return The merged item, or null if the items cannot be merged
+     */
+    C coalesce(final C previous,
+               final C next);
+}
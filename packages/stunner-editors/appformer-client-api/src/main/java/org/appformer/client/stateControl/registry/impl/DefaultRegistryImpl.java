@@ -21,26 +21,45 @@
 package org.appformer.client.stateControl.registry.impl;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import org.appformer.client.stateControl.registry.DefaultRegistry;
 import org.appformer.client.stateControl.registry.Registry;
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
+import org.appformer.client.stateControl.registry.RegistryCoalescer;
 
 /**
- * The default generic implementation for the {@link Registry} type.
- * It's implemented for achieving an in-memory and lightweight registry approach, don't do an overuse of it.
- * Note: The Stack class behavior when using the iterator is not the expected one, so used
- * ArrayDeque instead of an Stack to provide right iteration order.
+ * In-memory implementation of {@link Registry}.
+ * <p>
+ * The history is capped by the amount of items and, optionally, by the estimated size retained by those items, the
+ * oldest items being evicted first. Consecutive items can also be merged by a {@link RegistryCoalescer} when they are
+ * registered within a given time window.
  */
 public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
 
-    private final Deque<C> items = new ArrayDeque<>();
+    private final Deque<Entry<C>> items = new ArrayDeque<>();
+    private final LongSupplier clock;
     private int maxStackSize = 200;
+    private ToLongFunction<C> sizeEstimator = item -> 0;
+    private long maxRetainedSize = Long.MAX_VALUE;
+    private long retainedSize = 0;
+    private RegistryCoalescer<C> coalescer;
+    private int coalesceWindow = 0;
+    private long lastRegistration = Long.MIN_VALUE;
     private RegistryChangeListener registryChangeListener;
 
+    public DefaultRegistryImpl() {
+        this(System::currentTimeMillis);
+    }
+
+    DefaultRegistryImpl(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
     @Override
     public void setMaxSize(final int size) {
         if (size < 0) {
@@ -49,6 +68,29 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
         this.maxStackSize = size;
     }
 
+    @Override
+    public void setMaxRetainedSize(final ToLongFunction<C> sizeEstimator,
+                                   final long maxRetainedSize) {
+        if (maxRetainedSize < 0) {
+            throw new IllegalArgumentException("The registry retained size should be a positive number");
+        }
+        this.sizeEstimator = sizeEstimator;
+        this.maxRetainedSize = maxRetainedSize;
+        this.retainedSize = 0;
+        items.forEach(entry -> {
+            entry.size = sizeEstimator.applyAsLong(entry.item);
+            retainedSize += entry.size;
+        });
+        evict();
+    }
+
+    @Override
+    public void setCoalescer(final RegistryCoalescer<C> coalescer,
+                             final int windowMillis) {
+        this.coalescer = coalescer;
+        this.coalesceWindow = windowMillis;
+    }
+
     @Override
     public void register(final C item) {
         addIntoStack(item);
@@ -58,12 +100,16 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
     @Override
     public void clear() {
         items.clear();
+        retainedSize = 0;
+        lastRegistration = Long.MIN_VALUE;
         notifyRegistryChange();
     }
 
     @Override
     public List<C> getHistory() {
-        return new ArrayList<>(items);
+        return items.stream()
+                .map(entry -> entry.item)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -73,14 +119,18 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
 
     @Override
     public C peek() {
-        return items.peek();
+        final Entry<C> entry = items.peek();
+        return null != entry ? entry.item : null;
     }
 
     @Override
     public C pop() {
-        C item = items.pop();
+        final Entry<C> entry = items.pop();
+        retainedSize -= entry.size;
+        // An item registered right after an undo must not be merged with the one below it.
+        lastRegistration = Long.MIN_VALUE;
         notifyRegistryChange();
-        return item;
+        return entry.item;
     }
 
     @Override
@@ -88,6 +138,10 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
         return items.isEmpty();
     }
 
+    public long getRetainedSize() {
+        return retainedSize;
+    }
+
     private void notifyRegistryChange() {
         if (registryChangeListener != null) {
             registryChangeListener.notifyRegistryChange();
@@ -96,10 +150,45 @@ public class DefaultRegistryImpl<C> implements DefaultRegistry<C> {
 
     private void addIntoStack(final C item) {
         if (null != item) {
-            if ((items.size() + 1) > maxStackSize) {
-                items.removeLast();
+            final long now = clock.getAsLong();
+            final C merged = coalesce(item, now);
+            if (null != merged) {
+                retainedSize -= items.pop().size;
             }
-            items.push(item);
+            final Entry<C> entry = new Entry<>(null != merged ? merged : item,
+                                               sizeEstimator.applyAsLong(null != merged ? merged : item));
+            items.push(entry);
+            retainedSize += entry.size;
+            lastRegistration = now;
+            evict();
+        }
+    }
+
+    private C coalesce(final C item,
+                       final long now) {
+        if (null == coalescer || items.isEmpty() || lastRegistration == Long.MIN_VALUE ||
+                now - lastRegistration > coalesceWindow) {
+            return null;
+        }
+        return coalescer.coalesce(items.peek().item, item);
+    }
+
+    private void evict() {
+        while (items.size() > maxStackSize ||
+                (retainedSize > maxRetainedSize && items.size() > 1)) {
+            retainedSize -= items.removeLast().size;
+        }
+    }
+
+    private static class Entry<C> {
+
+        private final C item;
+        private long size;
+
+        private Entry(final C item,
+                      final long size) {
+            this.item = item;
+            this.size = size;
         }
     }
 }
@@ -20,6 +20,8 @@
 
 package org.appformer.client.stateControl.registry.impl;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
@@ -46,9 +49,12 @@ public class DefaultRegistryImplTest {
 
     private DefaultRegistryImpl<Command> registry;
 
+    private AtomicLong clock;
+
     @Before
     public void init() {
-        registry = new DefaultRegistryImpl<>();
+        clock = new AtomicLong(1000);
+        registry = new DefaultRegistryImpl<>(clock::get);
 
         registry.setRegistryChangeListener(changeListener);
     }
@@ -145,6 +151,128 @@ public class DefaultRegistryImplTest {
                 .hasMessage("The registry size should be a positive number");
     }
 
+    @Test
+    public void testEvictOldestByRetainedSize() {
+        registry.setMaxRetainedSize(Command::getId, 7);
+
+        registry.register(COMMAND1);
+        registry.register(COMMAND2);
+        registry.register(COMMAND3);
+        assertEquals(6, registry.getRetainedSize());
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND3, COMMAND2, COMMAND1);
+
+        registry.register(COMMAND4);
+        assertEquals(7, registry.getRetainedSize());
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND4, COMMAND3);
+
+        registry.pop();
+        assertEquals(3, registry.getRetainedSize());
+        registry.register(COMMAND2);
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND2, COMMAND3);
+    }
+
+    @Test
+    public void testKeepLastItemOverRetainedSize() {
+        registry.setMaxRetainedSize(Command::getId, 3);
+
+        registry.register(COMMAND1);
+        registry.register(COMMAND4);
+
+        assertEquals(4, registry.getRetainedSize());
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND4);
+    }
+
+    @Test
+    public void testSetMaxRetainedSizeEvictsCurrentItems() {
+        registry.register(COMMAND1);
+        registry.register(COMMAND2);
+        registry.register(COMMAND3);
+
+        registry.setMaxRetainedSize(Command::getId, 5);
+
+        assertEquals(5, registry.getRetainedSize());
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND3, COMMAND2);
+    }
+
+    @Test
+    public void testSettingWrongMaxRetainedSize() {
+        Assertions.assertThatThrownBy(() -> registry.setMaxRetainedSize(Command::getId, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The registry retained size should be a positive number");
+    }
+
+    @Test
+    public void testCoalesceWithinWindow() {
+        registry.setMaxRetainedSize(Command::getId, 100);
+        registry.setCoalescer(DefaultRegistryImplTest::sum, 500);
+
+        registry.register(COMMAND1);
+        clock.addAndGet(500);
+        registry.register(COMMAND2);
+        clock.addAndGet(100);
+        registry.register(COMMAND3);
+
+        verify(changeListener, times(3)).notifyRegistryChange();
+        Assertions.assertThat(registry.getHistory())
+                .hasSize(1);
+        assertEquals(6, registry.peek().getId().intValue());
+        assertEquals(6, registry.getRetainedSize());
+
+        // Once undone, the merged item is registered again as a single step.
+        final Command merged = registry.pop();
+        assertTrue(registry.isEmpty());
+        registry.register(merged);
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(merged);
+    }
+
+    @Test
+    public void testCoalesceOutsideWindow() {
+        registry.setCoalescer(DefaultRegistryImplTest::sum, 500);
+
+        registry.register(COMMAND1);
+        clock.addAndGet(501);
+        registry.register(COMMAND2);
+
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND2, COMMAND1);
+    }
+
+    @Test
+    public void testCoalesceRejected() {
+        registry.setCoalescer((previous, next) -> null, 500);
+
+        registry.register(COMMAND1);
+        registry.register(COMMAND2);
+
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND2, COMMAND1);
+    }
+
+    @Test
+    public void testNoCoalesceAfterPop() {
+        registry.setCoalescer(DefaultRegistryImplTest::sum, 500);
+
+        registry.register(COMMAND1);
+        clock.addAndGet(501);
+        registry.register(COMMAND2);
+        registry.pop();
+        registry.register(COMMAND3);
+
+        Assertions.assertThat(registry.getHistory())
+                .containsExactly(COMMAND3, COMMAND1);
+    }
+
+    private static Command sum(final Command previous,
+                               final Command next) {
+        return new Command(previous.getId() + next.getId());
+    }
+
     public static class Command {
 
         private Integer id;
@@ -22,12 +22,15 @@ package org.appformer.kogito.bridge.client.stateControl.registry.impl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.appformer.client.stateControl.registry.Registry;
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
+import org.appformer.client.stateControl.registry.RegistryCoalescer;
 import org.appformer.kogito.bridge.client.interop.WindowRef;
 import org.appformer.kogito.bridge.client.stateControl.interop.StateControl;
 import org.appformer.kogito.bridge.client.stateControl.registry.interop.KogitoJSCommandRegistry;
@@ -41,21 +44,41 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
 
     private KogitoJSCommandRegistry<C> wrapped;
     private RegistryChangeListener registryChangeListener;
+    private final LongSupplier clock;
+    private int maxSize = 200;
+    private ToLongFunction<C> sizeEstimator;
+    private long maxRetainedSize = Long.MAX_VALUE;
+    private RegistryCoalescer<C> coalescer;
+    private int coalesceWindow = 0;
+    private long lastRegistration = Long.MIN_VALUE;
 
     public KogitoCommandRegistry() {
         this(WindowRef::isEnvelopeAvailable, () -> StateControl.get().getCommandRegistry());
     }
 
     KogitoCommandRegistry(Supplier<Boolean> envelopeEnabledSupplier, Supplier<KogitoJSCommandRegistry<C>> kogitoJSCommandRegistrySupplier) {
+        this(envelopeEnabledSupplier, kogitoJSCommandRegistrySupplier, System::currentTimeMillis);
+    }
+
+    KogitoCommandRegistry(Supplier<Boolean> envelopeEnabledSupplier, Supplier<KogitoJSCommandRegistry<C>> kogitoJSCommandRegistrySupplier, LongSupplier clock) {
         if (!envelopeEnabledSupplier.get()) {
             throw new RuntimeException("Envelope isn't present, we shouldn't be here!");
         }
         wrapped = kogitoJSCommandRegistrySupplier.get();
+        this.clock = clock;
     }
 
     @Override
     public void register(C item) {
-        wrapped.register(String.valueOf(item.hashCode()), item);
+        final long now = clock.getAsLong();
+        final C merged = coalesce(item, now);
+        if (null != merged) {
+            wrapped.pop();
+        }
+        final C toRegister = null != merged ? merged : item;
+        applyRetainedSize(toRegister);
+        wrapped.register(String.valueOf(toRegister.hashCode()), toRegister);
+        lastRegistration = now;
         notifyRegistryChange();
     }
 
@@ -66,6 +89,7 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
 
     @Override
     public C pop() {
+        lastRegistration = Long.MIN_VALUE;
         Optional<C> optional = Optional.ofNullable(wrapped.pop());
         if (optional.isPresent()) {
             notifyRegistryChange();
@@ -84,11 +108,35 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
         if (size < 0) {
             throw new IllegalArgumentException("The registry size should be a positive number");
         }
+        maxSize = size;
         wrapped.setMaxSize(size);
     }
 
+    /**
+     * The history is kept by the envelope, which drops its oldest command when a new one is registered over the max
+     * size. So the retained size is bounded by lowering the envelope's max size, right before each registration, to
+     * the amount of latest commands that fit into the budget together with the incoming one. The max size is restored
+     * as soon as the whole history fits again.
+     */
+    @Override
+    public void setMaxRetainedSize(ToLongFunction<C> sizeEstimator, long maxRetainedSize) {
+        if (maxRetainedSize < 0) {
+            throw new IllegalArgumentException("The registry retained size should be a positive number");
+        }
+        this.sizeEstimator = sizeEstimator;
+        this.maxRetainedSize = maxRetainedSize;
+        applyRetainedSize(null);
+    }
+
+    @Override
+    public void setCoalescer(RegistryCoalescer<C> coalescer, int windowMillis) {
+        this.coalescer = coalescer;
+        this.coalesceWindow = windowMillis;
+    }
+
     @Override
     public void clear() {
+        lastRegistration = Long.MIN_VALUE;
         wrapped.clear();
         notifyRegistryChange();
     }
@@ -103,6 +151,34 @@ public class KogitoCommandRegistry<C> implements Registry<C> {
         this.registryChangeListener = registryChangeListener;
     }
 
+    private C coalesce(C item, long now) {
+        if (null == coalescer || lastRegistration == Long.MIN_VALUE || now - lastRegistration > coalesceWindow || wrapped.isEmpty()) {
+            return null;
+        }
+        return coalescer.coalesce(wrapped.peek(), item);
+    }
+
+    private void applyRetainedSize(final C incoming) {
+        if (null == sizeEstimator) {
+            return;
+        }
+        final C[] commands = wrapped.getCommands();
+        long retainedSize = null != incoming ? sizeEstimator.applyAsLong(incoming) : 0;
+        int fitting = 0;
+        for (int i = commands.length - 1; i >= 0 && retainedSize <= maxRetainedSize; i--) {
+            retainedSize += sizeEstimator.applyAsLong(commands[i]);
+            if (retainedSize <= maxRetainedSize) {
+                fitting++;
+            }
+        }
+        if (fitting == commands.length && retainedSize <= maxRetainedSize) {
+            wrapped.setMaxSize(maxSize);
+        } else {
+            final int kept = null != incoming ? fitting + 1 : fitting;
+            wrapped.setMaxSize(Math.min(maxSize, Math.max(1, kept)));
+        }
+    }
+
     private void notifyRegistryChange() {
         if (registryChangeListener != null) {
             registryChangeListener.notifyRegistryChange();
@@ -20,6 +20,11 @@
 
 package org.appformer.kogito.bridge.client.stateControl.registry.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.appformer.client.stateControl.registry.RegistryChangeListener;
 import org.appformer.kogito.bridge.client.stateControl.registry.interop.KogitoJSCommandRegistry;
 import org.assertj.core.api.Assertions;
@@ -29,9 +34,13 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyObject;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -118,4 +127,80 @@ public class KogitoCommandRegistryTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("The registry size should be a positive number");
     }
+
+    @Test
+    public void testCoalesce() {
+        final AtomicLong clock = new AtomicLong(1000);
+        final Object merged = new Object();
+        commandRegistry = new KogitoCommandRegistry<>(() -> envelopeEnabled, () -> kogitoJSCommandRegistry, clock::get);
+        commandRegistry.setRegistryChangeListener(registryChangeListener);
+        commandRegistry.setCoalescer((previous, next) -> merged, 500);
+        when(kogitoJSCommandRegistry.isEmpty()).thenReturn(false);
+
+        final Object command1 = new Object();
+        commandRegistry.register(command1);
+        verify(kogitoJSCommandRegistry).register(eq(String.valueOf(command1.hashCode())), eq(command1));
+        verify(kogitoJSCommandRegistry, never()).pop();
+
+        clock.addAndGet(500);
+        commandRegistry.register(new Object());
+        verify(kogitoJSCommandRegistry).pop();
+        verify(kogitoJSCommandRegistry).register(eq(String.valueOf(merged.hashCode())), eq(merged));
+        verify(registryChangeListener, times(2)).notifyRegistryChange();
+
+        clock.addAndGet(501);
+        final Object command3 = new Object();
+        commandRegistry.register(command3);
+        verify(kogitoJSCommandRegistry).register(eq(String.valueOf(command3.hashCode())), eq(command3));
+        verify(kogitoJSCommandRegistry, times(1)).pop();
+    }
+
+    @Test
+    public void testSetMaxRetainedSize() {
+        when(kogitoJSCommandRegistry.getCommands()).thenReturn(new Object[]{1, 2, 3, 4});
+
+        commandRegistry.setMaxRetainedSize(command -> (Integer) command, 7);
+        verify(kogitoJSCommandRegistry).setMaxSize(eq(2));
+
+        commandRegistry.setMaxRetainedSize(command -> (Integer) command, 1);
+        verify(kogitoJSCommandRegistry).setMaxSize(eq(1));
+
+        commandRegistry.setMaxSize(3);
+        commandRegistry.setMaxRetainedSize(command -> (Integer) command, 100);
+        verify(kogitoJSCommandRegistry, times(2)).setMaxSize(eq(3));
+    }
+
+    @Test
+    public void testRetainedSizeFromEmptyRegistry() {
+        final List<Object> history = new ArrayList<>();
+        final AtomicInteger envelopeMaxSize = new AtomicInteger(200);
+        doAnswer(invocation -> {
+            if (history.size() + 1 > envelopeMaxSize.get()) {
+                history.remove(0);
+            }
+            history.add(invocation.getArgument(1));
+            return null;
+        }).when(kogitoJSCommandRegistry).register(anyString(), anyObject());
+        doAnswer(invocation -> {
+            envelopeMaxSize.set(invocation.getArgument(0));
+            return null;
+        }).when(kogitoJSCommandRegistry).setMaxSize(anyInt());
+        when(kogitoJSCommandRegistry.getCommands()).thenAnswer(invocation -> history.toArray());
+
+        commandRegistry.setMaxRetainedSize(command -> 1, 1000);
+        for (int i = 0; i < 5; i++) {
+            commandRegistry.register(new Object());
+        }
+
+        Assertions.assertThat(history).hasSize(5);
+        Assertions.assertThat(envelopeMaxSize.get()).isEqualTo(200);
+        verify(kogitoJSCommandRegistry, never()).setMaxSize(eq(1));
+    }
+
+    @Test
+    public void testSettingWrongMaxRetainedSize() {
+        Assertions.assertThatThrownBy(() -> commandRegistry.setMaxRetainedSize(command -> 1, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The registry retained size should be a positive number");
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package org.kie.workbench.common.dmn.api.definition.adapter.binding;
+
+import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.AbstractBindableAccessorsTest;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
+import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
+
+public class DMNBindableAccessorsTest extends AbstractBindableAccessorsTest {
+
+    @Override
+    protected DefinitionAdapter<Object> createDefinitionAdapter(StunnerTranslationService translationService,
+                                                                BindableAdapterFunctions functions) {
+        DMNDefinitionSetDefinitionAdapterImpl adapter = new DMNDefinitionSetDefinitionAdapterImpl(translationService, functions);
+        adapter.init();
+        return adapter;
+    }
+
+    @Override
+    protected PropertyAdapter<Object, Object> createPropertyAdapter(StunnerTranslationService translationService,
+                                                                    BindableAdapterFunctions functions) {
+        DMNDefinitionSetPropertyAdapterImpl adapter = new DMNDefinitionSetPropertyAdapterImpl(translationService, functions);
+        adapter.init();
+        return adapter;
+    }
+}
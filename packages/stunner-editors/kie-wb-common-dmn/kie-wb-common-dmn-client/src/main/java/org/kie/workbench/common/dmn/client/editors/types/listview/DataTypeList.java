@@ -94,6 +94,8 @@ public class DataTypeList {
 
     private DataTypeListItem currentEditingItem;
 
+    private Element pendingHighlightLevel;
+
     @Inject
     public DataTypeList(final View view,
                         final ManagedInstance<DataTypeListItem> listItems,
@@ -142,9 +144,30 @@ public class DataTypeList {
     }
 
     public void setupItems(final List<DataType> dataTypes) {
-        setupItemsView(dataTypes);
-        setupViewElements();
-        collapseItemsInTheFirstLevel();
+        startBatch();
+        try {
+            setupItemsView(dataTypes);
+            setupViewElements();
+            collapseItemsInTheFirstLevel();
+        } finally {
+            finishBatch();
+        }
+    }
+
+    /**
+     * While in a batch, positions and level highlights are computed once at the end instead of once per item.
+     */
+    void startBatch() {
+        getDNDListComponent().startBatch();
+    }
+
+    void finishBatch() {
+        getDNDListComponent().finishBatch();
+        if (pendingHighlightLevel != null) {
+            final Element element = pendingHighlightLevel;
+            pendingHighlightLevel = null;
+            highlightHelper.highlightLevel(element);
+        }
     }
 
     private void setupItemsView(final List<DataType> dataTypes) {
@@ -362,7 +385,12 @@ public class DataTypeList {
 
     public void collapseAll() {
         if (!getSearchBar().isEnabled()) {
-            getItems().forEach(DataTypeListItem::collapse);
+            startBatch();
+            try {
+                getItems().forEach(DataTypeListItem::collapse);
+            } finally {
+                finishBatch();
+            }
         }
     }
 
@@ -570,6 +598,10 @@ public class DataTypeList {
     }
 
     public void highlightLevel(final Element element) {
+        if (getDNDListComponent().isBatching()) {
+            pendingHighlightLevel = element;
+            return;
+        }
         highlightHelper.highlightLevel(element);
     }
 
@@ -43,6 +43,12 @@ public class DNDListComponent {
 
     private BiConsumer<Element, Element> onDropItem = (current, hover) -> {/* Nothing. */};
 
+    private boolean batching = false;
+
+    private boolean refreshPending = false;
+
+    private boolean consolidatePending = false;
+
     static int DEFAULT_ITEM_HEIGHT = 70;
 
     static int DEFAULT_INDENTATION_SIZE = 60;
@@ -60,14 +66,50 @@ public class DNDListComponent {
     }
 
     public void refreshItemsPosition() {
+        if (isBatching()) {
+            refreshPending = true;
+            return;
+        }
         view.refreshItemsPosition();
     }
 
     public void refreshItemsCSSAndHTMLPosition() {
+        if (isBatching()) {
+            consolidatePending = true;
+            return;
+        }
         consolidateHierarchicalLevel();
         refreshItemsPosition();
     }
 
+    /**
+     * Defers the position refreshes until {@link DNDListComponent#finishBatch()} is called, so that operations
+     * touching every item (like loading or collapsing all data types) compute the positions only once.
+     */
+    public void startBatch() {
+        batching = true;
+        view.startBatch();
+    }
+
+    public void finishBatch() {
+
+        batching = false;
+        view.finishBatch();
+
+        if (consolidatePending) {
+            refreshItemsCSSAndHTMLPosition();
+        } else if (refreshPending) {
+            refreshItemsPosition();
+        }
+
+        consolidatePending = false;
+        refreshPending = false;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
     public HTMLElement registerNewItem(final HTMLElement htmlElement) {
         return view.registerItem(htmlElement);
     }
@@ -175,6 +217,10 @@ public class DNDListComponent {
 
         HTMLElement registerItem(final HTMLElement htmlElement);
 
+        void startBatch();
+
+        void finishBatch();
+
         Optional<HTMLElement> getPreviousElement(final Element reference);
 
         void refreshItemsPosition();
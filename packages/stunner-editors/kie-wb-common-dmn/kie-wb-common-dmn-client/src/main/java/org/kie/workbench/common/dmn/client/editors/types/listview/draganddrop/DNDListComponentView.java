@@ -65,6 +65,8 @@ public class DNDListComponentView implements DNDListComponent.View {
 
     private DNDListComponent presenter;
 
+    private Integer batchMaxPositionY;
+
     @Inject
     public DNDListComponentView(final HTMLDivElement dragArea) {
         this.dragArea = dragArea;
@@ -83,7 +85,7 @@ public class DNDListComponentView implements DNDListComponent.View {
 
         final HTMLElement item = createItem(htmlElement);
 
-        Position.setY(item, getMaxPositionY() + 1d);
+        Position.setY(item, nextPositionY());
         Position.setX(item, 0);
 
         getDragArea().appendChild(item);
@@ -91,6 +93,27 @@ public class DNDListComponentView implements DNDListComponent.View {
         return item;
     }
 
+    @Override
+    public void startBatch() {
+        batchMaxPositionY = getMaxPositionY();
+    }
+
+    @Override
+    public void finishBatch() {
+        batchMaxPositionY = null;
+    }
+
+    int nextPositionY() {
+
+        // Outside a batch, positions may have been changed by anyone, so they are read from the DOM.
+        if (batchMaxPositionY == null) {
+            return getMaxPositionY() + 1;
+        }
+
+        batchMaxPositionY++;
+        return batchMaxPositionY;
+    }
+
     @Override
     public void refreshItemsPosition() {
 
@@ -165,6 +188,9 @@ public class DNDListComponentView implements DNDListComponent.View {
     @Override
     public void clear() {
         removeChildren(getDragArea());
+        if (batchMaxPositionY != null) {
+            batchMaxPositionY = HIDDEN_Y_POSITION;
+        }
     }
 
     @Override
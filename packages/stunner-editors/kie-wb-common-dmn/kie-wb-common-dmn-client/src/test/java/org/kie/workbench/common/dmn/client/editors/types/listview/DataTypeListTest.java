@@ -260,12 +260,14 @@ public class DataTypeListTest {
 
         final InOrder inOrder = Mockito.inOrder(dndListComponent, dataTypeList, view);
 
+        inOrder.verify(dndListComponent).startBatch();
         inOrder.verify(dndListComponent).clear();
         inOrder.verify(dataTypeList).makeDataTypeListItems(dataTypes);
         inOrder.verify(dndListComponent).refreshItemsPosition();
         inOrder.verify(view).showOrHideNoCustomItemsMessage();
         inOrder.verify(view).showReadOnlyMessage(false);
         inOrder.verify(dataTypeList).collapseItemsInTheFirstLevel();
+        inOrder.verify(dndListComponent).finishBatch();
 
         assertEquals(listItems, dataTypeList.getItems());
     }
@@ -360,9 +362,13 @@ public class DataTypeListTest {
 
         dataTypeList.collapseAll();
 
-        verify(listItem1).collapse();
-        verify(listItem2).collapse();
-        verify(listItem3).collapse();
+        final InOrder inOrder = Mockito.inOrder(dndListComponent, listItem1, listItem2, listItem3);
+
+        inOrder.verify(dndListComponent).startBatch();
+        inOrder.verify(listItem1).collapse();
+        inOrder.verify(listItem2).collapse();
+        inOrder.verify(listItem3).collapse();
+        inOrder.verify(dndListComponent).finishBatch();
     }
 
     @Test
@@ -1312,6 +1318,26 @@ public class DataTypeListTest {
         verify(highlightHelper).highlightLevel(element);
     }
 
+    @Test
+    public void testHighlightLevelWithElementWhileBatching() {
+        final Element element0 = mock(Element.class);
+        final Element element1 = mock(Element.class);
+
+        when(dndListComponent.isBatching()).thenReturn(true);
+
+        dataTypeList.highlightLevel(element0);
+        dataTypeList.highlightLevel(element1);
+
+        verify(highlightHelper, never()).highlightLevel(any(Element.class));
+
+        when(dndListComponent.isBatching()).thenReturn(false);
+
+        dataTypeList.finishBatch();
+
+        verify(highlightHelper, never()).highlightLevel(element0);
+        verify(highlightHelper).highlightLevel(element1);
+    }
+
     @Test
     public void testHighlight() {
         final Element element = mock(Element.class);
@@ -42,6 +42,7 @@ import static org.kie.workbench.common.dmn.client.editors.types.listview.dragand
 import static org.kie.workbench.common.dmn.client.editors.types.listview.draganddrop.DNDListDOMHelper.DATA_Y_POSITION;
 import static org.kie.workbench.common.dmn.client.editors.types.listview.draganddrop.DNDListDOMHelper.HIDDEN_Y_POSITION;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +82,52 @@ public class DNDListComponentTest {
         verify(view).refreshItemsPosition();
     }
 
+    @Test
+    public void testRefreshItemsPositionWhileBatching() {
+
+        dndListComponent.startBatch();
+        dndListComponent.refreshItemsPosition();
+        dndListComponent.refreshItemsPosition();
+
+        verify(view).startBatch();
+        verify(view, never()).refreshItemsPosition();
+
+        dndListComponent.finishBatch();
+
+        verify(view).finishBatch();
+        verify(view, never()).consolidateHierarchicalLevel(false);
+        verify(view).refreshItemsPosition();
+        assertFalse(dndListComponent.isBatching());
+    }
+
+    @Test
+    public void testRefreshItemsCSSAndHTMLPositionWhileBatching() {
+
+        dndListComponent.startBatch();
+        dndListComponent.refreshItemsCSSAndHTMLPosition();
+        dndListComponent.refreshItemsPosition();
+        dndListComponent.refreshItemsCSSAndHTMLPosition();
+
+        assertTrue(dndListComponent.isBatching());
+        verify(view, never()).consolidateHierarchicalLevel(false);
+        verify(view, never()).refreshItemsPosition();
+
+        dndListComponent.finishBatch();
+
+        verify(view).consolidateHierarchicalLevel(false);
+        verify(view).refreshItemsPosition();
+    }
+
+    @Test
+    public void testFinishBatchWithoutRefreshes() {
+
+        dndListComponent.startBatch();
+        dndListComponent.finishBatch();
+
+        verify(view, never()).consolidateHierarchicalLevel(false);
+        verify(view, never()).refreshItemsPosition();
+    }
+
     @Test
     public void testRegisterNewItem() {
 
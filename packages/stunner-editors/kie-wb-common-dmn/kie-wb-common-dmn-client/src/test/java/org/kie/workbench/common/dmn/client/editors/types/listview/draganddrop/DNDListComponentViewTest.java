@@ -105,6 +105,46 @@ public class DNDListComponentViewTest {
         assertEquals(expectedItem, actualItem);
     }
 
+    @Test
+    public void testRegisterItemWhileBatching() {
+
+        final HTMLElement htmlElement0 = mock(HTMLElement.class);
+        final HTMLElement htmlElement1 = mock(HTMLElement.class);
+        final HTMLElement item0 = mock(HTMLElement.class);
+        final HTMLElement item1 = mock(HTMLElement.class);
+
+        doReturn(item0).when(view).createItem(htmlElement0);
+        doReturn(item1).when(view).createItem(htmlElement1);
+        doReturn(2).when(view).getMaxPositionY();
+
+        view.startBatch();
+        view.registerItem(htmlElement0);
+        view.registerItem(htmlElement1);
+        view.finishBatch();
+
+        verify(item0).setAttribute(DATA_Y_POSITION, 3);
+        verify(item1).setAttribute(DATA_Y_POSITION, 4);
+        verify(view, times(1)).getMaxPositionY();
+    }
+
+    @Test
+    public void testRegisterItemAfterClearWhileBatching() {
+
+        final HTMLElement htmlElement = mock(HTMLElement.class);
+        final HTMLElement item = mock(HTMLElement.class);
+
+        doReturn(item).when(view).createItem(htmlElement);
+        doReturn(2).when(view).getMaxPositionY();
+        mockDragAreaWithChildren();
+
+        view.startBatch();
+        view.clear();
+        view.registerItem(htmlElement);
+        view.finishBatch();
+
+        verify(item).setAttribute(DATA_Y_POSITION, 0);
+    }
+
     @Test
     public void testGetMaxPositionY() {
 
@@ -59,7 +59,7 @@ import org.kie.workbench.common.stunner.core.client.api.SessionManager;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.ConfirmationDialog;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasPreviewSvg;
 import org.kie.workbench.common.stunner.core.client.command.SessionCommandManager;
 import org.kie.workbench.common.stunner.core.client.components.layout.OpenDiagramLayoutExecutor;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
@@ -108,7 +108,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
     protected final DMNEditorSearchIndex editorSearchIndex;
     protected final SearchBarComponent<DMNSearchableElement> searchBarComponent;
     protected final KogitoClientDiagramService diagramServices;
-    protected final CanvasFileExport canvasFileExport;
+    protected final CanvasPreviewSvg canvasPreviewSvg;
     protected final Promises promises;
     protected final IncludedModelsPage includedModelsPage;
     protected final KogitoChannelHelper kogitoChannelHelper;
@@ -119,6 +119,8 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
 
     private final PMMLDocumentMetadataProvider pmmlDocumentMetadataProvider;
 
+    private boolean isModelLoaded = false;
+
     protected AbstractDMNDiagramEditor(final View view,
                                        final MultiPageEditorContainerView containerView,
                                        final StunnerEditor stunnerEditor,
@@ -136,7 +138,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
                                        final OpenDiagramLayoutExecutor openDiagramLayoutExecutor,
                                        final DataTypesPage dataTypesPage,
                                        final KogitoClientDiagramService diagramServices,
-                                       final CanvasFileExport canvasFileExport,
+                                       final CanvasPreviewSvg canvasPreviewSvg,
                                        final Promises promises,
                                        final IncludedModelsPage includedModelsPage,
                                        final KogitoChannelHelper kogitoChannelHelper,
@@ -160,7 +162,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
         this.editorSearchIndex = editorSearchIndex;
         this.searchBarComponent = searchBarComponent;
         this.diagramServices = diagramServices;
-        this.canvasFileExport = canvasFileExport;
+        this.canvasPreviewSvg = canvasPreviewSvg;
         this.promises = promises;
         this.includedModelsPage = includedModelsPage;
         this.kogitoChannelHelper = kogitoChannelHelper;
@@ -320,17 +322,31 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
         }
         setupEditorSearchIndex();
         setupSearchComponent();
-        pmmlDocumentMetadataProvider.loadPMMLIncludedDocuments();
+        if (!isModelLoaded()) {
+            pmmlDocumentMetadataProvider.loadPMMLIncludedDocuments();
+        }
+        isModelLoaded = true;
     }
 
     protected void onDiagramLoad() {
 
     }
 
+    /**
+     * All DRDs of a model share the same definitions, imports and data types, so selecting
+     * another DRD only needs a new canvas session. Returns {@code true} once the current model
+     * has been opened, until its content is replaced or the editor is closed.
+     */
+    protected boolean isModelLoaded() {
+        return isModelLoaded;
+    }
+
     public void onOpen() {
     }
 
     public void onClose() {
+        isModelLoaded = false;
+        canvasPreviewSvg.invalidate();
         stunnerEditor.close();
 
         ensureDocksAreRemoved();
@@ -385,6 +401,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
     public Promise<Void> setContent(final String path,
                                     final String value) {
         // Close current editor, if any.
+        isModelLoaded = false;
         stunnerEditor.close();
         Promise promise =
                 promises.create((success, failure) -> {
@@ -430,7 +447,7 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
     public Promise<String> getPreview() {
         final CanvasHandler canvasHandler = stunnerEditor.getCanvasHandler();
         if (canvasHandler != null) {
-            return Promise.resolve(canvasFileExport.exportToSvg((AbstractCanvasHandler) canvasHandler));
+            return Promise.resolve(canvasPreviewSvg.getSvg((AbstractCanvasHandler) canvasHandler));
         } else {
             return Promise.resolve("");
         }
@@ -47,7 +47,7 @@ import org.kie.workbench.common.stunner.client.widgets.presenters.session.Sessio
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.ConfirmationDialog;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasPreviewSvg;
 import org.kie.workbench.common.stunner.core.client.command.SessionCommandManager;
 import org.kie.workbench.common.stunner.core.client.components.layout.OpenDiagramLayoutExecutor;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
@@ -70,6 +70,8 @@ import org.uberfire.mvp.Command;
 import org.uberfire.mvp.PlaceRequest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -142,7 +144,7 @@ public class AbstractDMNDiagramEditorTest {
     private KogitoClientDiagramService diagramServices;
 
     @Mock
-    private CanvasFileExport canvasFileExport;
+    private CanvasPreviewSvg canvasPreviewSvg;
 
     @Mock
     private Promises promises;
@@ -186,7 +188,7 @@ public class AbstractDMNDiagramEditorTest {
                                                       openDiagramLayoutExecutor,
                                                       dataTypesPage,
                                                       diagramServices,
-                                                      canvasFileExport,
+                                                      canvasPreviewSvg,
                                                       promises,
                                                       includedModelsPage,
                                                       kogitoChannelHelper,
@@ -442,6 +444,43 @@ public class AbstractDMNDiagramEditorTest {
         inOrder.verify(decisionNavigatorPresenter).refreshComponentsView();
     }
 
+    @Test
+    public void testInitialiseKieEditorForSessionLoadsModelOnlyOnce() {
+        final Diagram diagram = mock(Diagram.class);
+        doNothing().when(editor).setupSearchComponent();
+
+        assertFalse(editor.isModelLoaded());
+
+        editor.initialiseKieEditorForSession(diagram);
+        editor.initialiseKieEditorForSession(diagram);
+
+        assertTrue(editor.isModelLoaded());
+        verify(pmmlDocumentMetadataProvider, times(1)).loadPMMLIncludedDocuments();
+        verify(multiPageEditor, times(2)).addPage(dataTypesPage);
+    }
+
+    @Test
+    public void testInitialiseKieEditorForSessionReloadsModelAfterClose() {
+        final Diagram diagram = mock(Diagram.class);
+        doNothing().when(editor).setupSearchComponent();
+
+        editor.initialiseKieEditorForSession(diagram);
+        editor.onClose();
+
+        assertFalse(editor.isModelLoaded());
+
+        editor.initialiseKieEditorForSession(diagram);
+
+        verify(pmmlDocumentMetadataProvider, times(2)).loadPMMLIncludedDocuments();
+    }
+
+    @Test
+    public void testOnCloseDropsThePreview() {
+        editor.onClose();
+
+        verify(canvasPreviewSvg).invalidate();
+    }
+
     private class AbstractDMNDiagramEditorMock extends AbstractDMNDiagramEditor {
 
         protected AbstractDMNDiagramEditorMock(final View view,
@@ -461,7 +500,7 @@ public class AbstractDMNDiagramEditorTest {
                                                final OpenDiagramLayoutExecutor openDiagramLayoutExecutor,
                                                final DataTypesPage dataTypesPage,
                                                final KogitoClientDiagramService diagramServices,
-                                               final CanvasFileExport canvasFileExport,
+                                               final CanvasPreviewSvg canvasPreviewSvg,
                                                final Promises promises,
                                                final IncludedModelsPage includedModelsPage,
                                                final KogitoChannelHelper kogitoChannelHelper,
@@ -486,7 +525,7 @@ public class AbstractDMNDiagramEditorTest {
                   openDiagramLayoutExecutor,
                   dataTypesPage,
                   diagramServices,
-                  canvasFileExport,
+                  canvasPreviewSvg,
                   promises,
                   includedModelsPage,
                   kogitoChannelHelper,
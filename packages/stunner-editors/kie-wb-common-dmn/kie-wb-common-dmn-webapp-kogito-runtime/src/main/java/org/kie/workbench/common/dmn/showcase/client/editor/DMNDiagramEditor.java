@@ -56,7 +56,7 @@ import org.kie.workbench.common.stunner.core.client.ReadOnlyProvider;
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.ConfirmationDialog;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasPreviewSvg;
 import org.kie.workbench.common.stunner.core.client.command.SessionCommandManager;
 import org.kie.workbench.common.stunner.core.client.components.layout.OpenDiagramLayoutExecutor;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
@@ -96,7 +96,7 @@ public class DMNDiagramEditor extends AbstractDMNDiagramEditor {
                             final OpenDiagramLayoutExecutor openDiagramLayoutExecutor,
                             final DataTypesPage dataTypesPage,
                             final KogitoClientDiagramService diagramServices,
-                            final CanvasFileExport canvasFileExport,
+                            final CanvasPreviewSvg canvasPreviewSvg,
                             final Promises promises,
                             final IncludedModelsPage includedModelsPage,
                             final KogitoChannelHelper kogitoChannelHelper,
@@ -124,7 +124,7 @@ public class DMNDiagramEditor extends AbstractDMNDiagramEditor {
               openDiagramLayoutExecutor,
               dataTypesPage,
               diagramServices,
-              canvasFileExport,
+              canvasPreviewSvg,
               promises,
               includedModelsPage,
               kogitoChannelHelper,
@@ -147,10 +147,12 @@ public class DMNDiagramEditor extends AbstractDMNDiagramEditor {
         Optional.ofNullable(stunnerEditor.getCanvasHandler()).ifPresent(c -> {
             commands.bind(stunnerEditor.getSession());
             decisionNavigatorDock.reload();
-            dataTypesPage.reload();
             lazyCanvasFocusUtils.releaseFocus();
-            if (kogitoChannelHelper.isIncludedModelEnabled()) {
-                includedModelsPage.reload();
+            if (!isModelLoaded()) {
+                dataTypesPage.reload();
+                if (kogitoChannelHelper.isIncludedModelEnabled()) {
+                    includedModelsPage.reload();
+                }
             }
         });
         initLienzoType();
@@ -21,6 +21,8 @@
 package org.kie.workbench.common.forms.processing.engine.handling.impl;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,6 +32,7 @@ import javax.inject.Inject;
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
 import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
 
 import com.google.gwt.core.client.GWT;
 import org.jboss.errai.databinding.client.BindableProxy;
@@ -44,6 +47,8 @@ public class DefaultModelValidator<MODEL> implements ModelValidator<MODEL> {
 
     private Validator validator;
 
+    private Map<Class<?>, Map<String, PropertyValidation>> propertyValidations = new HashMap<>();
+
     @Inject
     public DefaultModelValidator(Validator validator) {
         this.validator = validator;
@@ -105,6 +110,65 @@ public class DefaultModelValidator<MODEL> implements ModelValidator<MODEL> {
     @Override
     public boolean validate(FormField formField,
                             MODEL model) {
+        if (isPropertyScoped(formField)) {
+            Object target = model instanceof BindableProxy ? ((BindableProxy) model).unwrap() : model;
+
+            if (target != null) {
+                switch (getPropertyValidation(target.getClass(), formField.getFieldBinding())) {
+                    case NONE:
+                        return true;
+                    case PROPERTY:
+                        return validateProperty(formField, target);
+                    default:
+                        break;
+                }
+            }
+        }
+
+        return validateModel(formField,
+                             model);
+    }
+
+    /**
+     * Field bound to a model property (not to a nested model property), its constraints can be validated without
+     * running the validations for the whole model.
+     */
+    private boolean isPropertyScoped(FormField formField) {
+        String binding = formField.getFieldBinding();
+        return binding != null && binding.indexOf('.') == -1 && binding.equals(formField.getFieldName());
+    }
+
+    private PropertyValidation getPropertyValidation(Class<?> modelClass,
+                                                     String property) {
+        return propertyValidations.computeIfAbsent(modelClass, clazz -> new HashMap<>())
+                .computeIfAbsent(property, name -> {
+                    try {
+                        PropertyDescriptor descriptor = validator.getConstraintsForClass(modelClass).getConstraintsForProperty(name);
+                        if (descriptor == null) {
+                            return PropertyValidation.NONE;
+                        }
+                        // Cascaded properties report the violations of the nested model, those need the model validation
+                        return descriptor.isCascaded() ? PropertyValidation.MODEL : PropertyValidation.PROPERTY;
+                    } catch (IllegalArgumentException ex) {
+                        return PropertyValidation.NONE;
+                    }
+                });
+    }
+
+    private boolean validateProperty(FormField formField,
+                                     Object model) {
+        Set<ConstraintViolation<Object>> result = validator.validateProperty(model,
+                                                                             formField.getFieldBinding());
+
+        Optional<ConstraintViolation<Object>> violation = result.stream().findFirst();
+
+        violation.ifPresent(constraintViolation -> formField.showError(constraintViolation.getMessage()));
+
+        return !violation.isPresent();
+    }
+
+    private boolean validateModel(FormField formField,
+                                  MODEL model) {
         boolean isValid = true;
 
         if (model instanceof BindableProxy) {
@@ -149,4 +213,10 @@ public class DefaultModelValidator<MODEL> implements ModelValidator<MODEL> {
         }
         return constraintViolation.getPropertyPath().iterator().next().getName();
     }
+
+    private enum PropertyValidation {
+        NONE,
+        PROPERTY,
+        MODEL
+    }
 }
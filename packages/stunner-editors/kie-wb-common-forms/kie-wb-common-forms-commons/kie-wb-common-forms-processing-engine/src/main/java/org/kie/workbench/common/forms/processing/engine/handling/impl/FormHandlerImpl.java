@@ -21,7 +21,9 @@
 package org.kie.workbench.common.forms.processing.engine.handling.impl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -53,6 +55,12 @@ public class FormHandlerImpl<T> implements FormHandler<T> {
 
     protected List<PropertyChangeUnsubscribeHandle> unsubscribeHandlers = new ArrayList<>();
 
+    /**
+     * Fields listening to changes on other fields (by the name of the field they listen to), they are validated
+     * again when that field changes.
+     */
+    protected Map<String, List<FormField>> dependentFields = new HashMap<>();
+
     protected Form form;
 
     private boolean enabledOnChangeValidations = true;
@@ -117,8 +125,11 @@ public class FormHandlerImpl<T> implements FormHandler<T> {
 
         fieldChangeManager.registerField(formField);
 
-        formField.getChangeListeners().forEach(listener -> fieldChangeManager.addFieldChangeHandler(listener.getFieldToListen(),
-                                                                                                    listener.getChangeHandler()));
+        formField.getChangeListeners().forEach(listener -> {
+            fieldChangeManager.addFieldChangeHandler(listener.getFieldToListen(),
+                                                     listener.getChangeHandler());
+            dependentFields.computeIfAbsent(listener.getFieldToListen(), fieldName -> new ArrayList<>()).add(formField);
+        });
 
         /*
          * if field isn't bindable we cannot listen to field value changes.
@@ -144,11 +155,25 @@ public class FormHandlerImpl<T> implements FormHandler<T> {
     protected void processFieldChange(FormField formField, Object newValue) {
         if (enabledOnChangeValidations) {
             fieldChangeManager.processFieldChange(formField.getFieldName(), newValue, getModel());
+            validateDependentFields(formField.getFieldName());
         } else {
             notifyFieldChange(formField.getFieldName(), newValue);
         }
     }
 
+    protected void validateDependentFields(String fieldName) {
+        List<FormField> dependents = dependentFields.get(fieldName);
+
+        if (dependents == null) {
+            return;
+        }
+
+        dependents.stream()
+                .filter(FormField::isValidateOnChange)
+                .forEach(dependent -> validator.validate(dependent,
+                                                         getModel()));
+    }
+
     protected Object readPropertyValue(BindableProxy proxy,
                                        String fieldBinding) {
         if (fieldBinding.indexOf(".") != -1) {
@@ -230,6 +255,8 @@ public class FormHandlerImpl<T> implements FormHandler<T> {
 
         unsubscribeHandlers.clear();
 
+        dependentFields.clear();
+
         fieldChangeManager.clear();
 
         binder.unbind();
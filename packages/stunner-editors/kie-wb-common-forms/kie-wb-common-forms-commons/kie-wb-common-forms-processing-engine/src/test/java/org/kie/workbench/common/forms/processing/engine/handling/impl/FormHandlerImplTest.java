@@ -20,6 +20,8 @@
 
 package org.kie.workbench.common.forms.processing.engine.handling.impl;
 
+import java.util.Collections;
+
 import javax.validation.Validation;
 import javax.validation.Validator;
 
@@ -33,6 +35,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeListener;
 import org.kie.workbench.common.forms.processing.engine.handling.IsNestedModel;
 import org.kie.workbench.common.forms.processing.engine.handling.NeedsFlush;
 import org.kie.workbench.common.forms.processing.engine.handling.impl.model.ModelProxy;
@@ -169,8 +173,10 @@ public class FormHandlerImplTest extends AbstractFormEngineTest {
         assertTrue(formHandler.validate(USER_MARRIED_FIELD_NAME));
         assertTrue(formHandler.validate(USER_ADDRESS_FIELD_NAME));
 
+        // Fields bound to a model property are validated without unwrapping the whole model
         verify(proxy,
-               times(7)).deepUnwrap();
+               times(6)).deepUnwrap();
+        verify(proxy).unwrap();
     }
 
     @Test
@@ -255,6 +261,36 @@ public class FormHandlerImplTest extends AbstractFormEngineTest {
         verify(userAddress).onFieldChange(eq(USER_ADDRESS_FIELD_NAME), eq(address));
     }
 
+    @Test
+    public void testProcessFieldChangeValidatesDependentFields() {
+        FieldChangeHandler dependentHandler = mock(FieldChangeHandler.class);
+        when(lastNameField.getChangeListeners()).thenReturn(Collections.singletonList(new FieldChangeListener(VALUE_FIELD_NAME, dependentHandler)));
+
+        testHandlerModelSetup();
+
+        model.getUser().setLastName("");
+
+        formHandler.processFieldChange(valueField, 30);
+
+        verify(dependentHandler).onFieldChange(eq(VALUE_FIELD_NAME), eq(30));
+        checkWrongFields(lastNameField);
+        verify(nameField, never()).clearError();
+    }
+
+    @Test
+    public void testValidateFieldBoundToModelProperty() {
+        testHandlerModelSetup();
+
+        assertTrue(formHandler.validate(VALUE_FIELD_NAME));
+
+        model.setValue(-123);
+
+        assertFalse(formHandler.validate(VALUE_FIELD_NAME));
+
+        verify(proxy, never()).deepUnwrap();
+        verify(proxy, times(2)).unwrap();
+        checkWrongFields(valueField);
+    }
 
     protected void runWrongValidationTest(boolean skipGetModel) {
         model.setValue(-123);
@@ -280,8 +316,10 @@ public class FormHandlerImplTest extends AbstractFormEngineTest {
         assertTrue(formHandler.validate(USER_MARRIED_FIELD_NAME));
         assertFalse(formHandler.validate(USER_ADDRESS_FIELD_NAME));
 
+        // Fields bound to a model property are validated without unwrapping the whole model
         verify(proxy,
-               times(7)).deepUnwrap();
+               times(6)).deepUnwrap();
+        verify(proxy).unwrap();
     }
 
     @After
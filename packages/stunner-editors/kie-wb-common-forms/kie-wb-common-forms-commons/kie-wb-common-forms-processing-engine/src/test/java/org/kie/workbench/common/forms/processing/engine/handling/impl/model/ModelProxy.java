@@ -76,6 +76,6 @@ public class ModelProxy extends Model implements BindableProxy {
 
     @Override
     public Object unwrap() {
-        return null;
+        return model;
     }
 }
@@ -48,12 +48,20 @@ public abstract class AbstractFormGenerator implements FormGenerator {
 
     protected Map<String, String> fieldModifierReferences = new HashMap<>();
 
+    /**
+     * Generated forms by model type and filter results. Only forms that don't depend on the model values are cached,
+     * so the generated {@link FormDefinition} (and its layout template) is shared by every model of the same type.
+     * Renderers must keep their per-rendering state (e.g. read only) out of the shared field definitions.
+     */
+    protected Map<String, FormDefinition> generatedForms = new HashMap<>();
+
     public AbstractFormGenerator(LayoutGenerator layoutGenerator) {
         this.layoutGenerator = layoutGenerator;
     }
 
     protected void registerProcessor(FormElementProcessor processor) {
         if (processor != null) {
+            clearCache();
             processors.put(processor.getSupportedElementType(),
                            processor);
         }
@@ -61,6 +69,7 @@ public abstract class AbstractFormGenerator implements FormGenerator {
 
     protected void registerResources(FormGenerationResourcesProvider provider) {
         if (provider != null) {
+            clearCache();
             if (isValid(provider.getDefinitionSettings())) {
                 formDefinitionSettings.putAll(provider.getDefinitionSettings());
             }
@@ -77,6 +86,13 @@ public abstract class AbstractFormGenerator implements FormGenerator {
         return map != null && !map.isEmpty();
     }
 
+    /**
+     * Discards the cached forms, must be called when the field or form definition metadata change.
+     */
+    public void clearCache() {
+        generatedForms.clear();
+    }
+
     @Override
     public FormDefinition generateFormForModel(Object model, FormElementFilter... filters) {
 
@@ -111,6 +127,17 @@ public abstract class AbstractFormGenerator implements FormGenerator {
                                                     Object model,
                                                     FormElementFilter... filters) {
 
+        String cacheKey = getCacheKey(settings,
+                                      model,
+                                      filters);
+
+        if (cacheKey != null) {
+            FormDefinition cachedForm = generatedForms.get(cacheKey);
+            if (cachedForm != null) {
+                return cachedForm;
+            }
+        }
+
         FormGenerationContext context = new FormGenerationContext(model,
                                                                   settings,
                                                                   getI18nHelper(settings.getI18nSettings()),
@@ -132,9 +159,42 @@ public abstract class AbstractFormGenerator implements FormGenerator {
 
         form.setLayoutTemplate(layoutGenerator.build());
 
+        if (cacheKey != null) {
+            generatedForms.put(cacheKey,
+                               form);
+        }
+
         return form;
     }
 
+    protected String getCacheKey(FormDefinitionSettings settings,
+                                 Object model,
+                                 FormElementFilter... filters) {
+        if (model != null && hasFieldStatusModifiers(settings)) {
+            // Field status depends on the model values, the form cannot be shared
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(settings.getModelType());
+
+        if (filters != null) {
+            for (FormElementFilter filter : filters) {
+                key.append('|')
+                        .append(filter.getElementName())
+                        .append('=')
+                        .append(filter.getPredicate().test(model));
+            }
+        }
+
+        return key.toString();
+    }
+
+    private boolean hasFieldStatusModifiers(FormDefinitionSettings settings) {
+        return settings.getFormElements()
+                .stream()
+                .anyMatch(formElement -> fieldModifierReferences.containsKey(settings.getModelType() + "." + formElement.getName()));
+    }
+
     protected abstract I18nHelper getI18nHelper(I18nSettings settings);
 
     protected void processElements(FormGenerationContext context) {
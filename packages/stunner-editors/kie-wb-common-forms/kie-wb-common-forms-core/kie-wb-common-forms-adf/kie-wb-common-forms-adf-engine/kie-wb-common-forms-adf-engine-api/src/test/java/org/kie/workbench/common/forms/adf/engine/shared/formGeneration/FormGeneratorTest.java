@@ -31,7 +31,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FormGeneratorTest extends AbstractFormGenerationTest {
@@ -87,6 +89,47 @@ public class FormGeneratorTest extends AbstractFormGenerationTest {
         checkFormGeneratedWithFilters(form);
     }
 
+    @Test
+    public void testGeneratedFormsAreCachedByType() {
+        FormDefinition form = generator.generateFormForClassName(Person.class.getName());
+
+        assertSame(form, generator.generateFormForClassName(Person.class.getName()));
+        assertSame(form, generator.generateFormForClass(Person.class));
+    }
+
+    @Test
+    public void testGeneratedFormsAreCachedByFilterResults() {
+        FormDefinition form = generator.generateFormForClassName(Person.class.getName());
+        FormDefinition filteredForm = generator.generateFormForClassName(Person.class.getName(), getFilters());
+
+        assertNotSame(form, filteredForm);
+        assertSame(filteredForm, generator.generateFormForClassName(Person.class.getName(), getFilters()));
+
+        checkFormGeneratedWithFilters(filteredForm);
+        testGeneratedForm(form,
+                          Person.class.getName());
+    }
+
+    @Test
+    public void testGeneratedFormsWithFieldStatusModifiersAreNotCached() {
+        FormDefinition form = generator.generateFormForModel(model);
+
+        assertNotSame(form, generator.generateFormForModel(model));
+    }
+
+    @Test
+    public void testClearCache() {
+        FormDefinition form = generator.generateFormForClassName(Person.class.getName());
+
+        generator.clearCache();
+
+        FormDefinition newForm = generator.generateFormForClassName(Person.class.getName());
+
+        assertNotSame(form, newForm);
+        testGeneratedForm(newForm,
+                          Person.class.getName());
+    }
+
     protected FormElementFilter[] getFilters() {
         FormElementFilter nameFilter = new FormElementFilter("name", o -> false);
         FormElementFilter lastNameFilter = new FormElementFilter("lastName", o -> false);
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.definition.adapter.binding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Direct getters and setters for the bindable fields of a single type, indexed by field position.
+ * Tables are generated by the Stunner annotation processor, so fields can be read and written without
+ * going through a data binder proxy. A field may have no setter, in which case it is <code>null</code>.
+ */
+public class BindableAccessors {
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<Function<Object, Object>> getters = new ArrayList<>();
+    private final List<BiConsumer<Object, Object>> setters = new ArrayList<>();
+
+    public BindableAccessors add(String field,
+                                 Function<Object, Object> getter,
+                                 BiConsumer<Object, Object> setter) {
+        indexes.put(field, getters.size());
+        getters.add(getter);
+        setters.add(setter);
+        return this;
+    }
+
+    public int getIndex(String field) {
+        final Integer index = indexes.get(field);
+        return null != index ? index : -1;
+    }
+
+    public Function<Object, Object> getGetter(int index) {
+        return getters.get(index);
+    }
+
+    public BiConsumer<Object, Object> getSetter(int index) {
+        return setters.get(index);
+    }
+
+    public int size() {
+        return getters.size();
+    }
+}
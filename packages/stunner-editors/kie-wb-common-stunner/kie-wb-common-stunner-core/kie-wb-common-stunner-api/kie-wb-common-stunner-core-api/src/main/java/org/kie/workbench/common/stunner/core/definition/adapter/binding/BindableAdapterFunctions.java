@@ -25,4 +25,8 @@ public interface BindableAdapterFunctions {
     Object getValue(Object pojo, String fieldName);
 
     void setValue(Object pojo, String field, Object value);
+
+    default void addAccessors(Class<?> type, BindableAccessors accessors) {
+        // Implementations that can use direct field accessors keep them, otherwise fields are resolved by name.
+    }
 }
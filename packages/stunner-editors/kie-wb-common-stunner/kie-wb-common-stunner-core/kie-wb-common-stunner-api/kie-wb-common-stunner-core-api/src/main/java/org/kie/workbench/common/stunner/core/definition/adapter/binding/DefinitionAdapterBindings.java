@@ -21,7 +21,9 @@
 package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class DefinitionAdapterBindings {
@@ -34,6 +36,7 @@ public class DefinitionAdapterBindings {
     private String categoryField;
     private String descriptionField;
     private List<String> propertiesFieldNames;
+    private Map<String, Integer> propertiesFieldIndexes;
     private List<Boolean> typedPropertyFields;
     private PropertyMetaTypes metaTypes;
 
@@ -119,9 +122,23 @@ public class DefinitionAdapterBindings {
 
     public DefinitionAdapterBindings setPropertiesFieldNames(List<String> propertiesFieldNames) {
         this.propertiesFieldNames = propertiesFieldNames;
+        this.propertiesFieldIndexes = null;
         return this;
     }
 
+    public int getPropertyIndex(String field) {
+        if (null == propertiesFieldIndexes) {
+            propertiesFieldIndexes = new HashMap<>();
+            if (null != propertiesFieldNames) {
+                for (int i = 0; i < propertiesFieldNames.size(); i++) {
+                    propertiesFieldIndexes.putIfAbsent(propertiesFieldNames.get(i), i);
+                }
+            }
+        }
+        final Integer index = propertiesFieldIndexes.get(field);
+        return null != index ? index : -1;
+    }
+
     public List<Boolean> getTypedPropertyFields() {
         return typedPropertyFields;
     }
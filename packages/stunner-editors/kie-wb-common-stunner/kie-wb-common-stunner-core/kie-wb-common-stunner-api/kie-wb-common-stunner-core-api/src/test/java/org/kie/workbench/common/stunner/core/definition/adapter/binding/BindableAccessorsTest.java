@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.definition.adapter.binding;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BindableAccessorsTest {
+
+    @Test
+    public void testAccessors() {
+        BindableAccessors accessors = new BindableAccessors()
+                .add("name", p -> ((SomeType) p).name, (p, v) -> ((SomeType) p).name = (String) v)
+                .add("readOnly", p -> "value", null);
+        SomeType pojo = new SomeType();
+        assertEquals(2, accessors.size());
+        assertEquals(0, accessors.getIndex("name"));
+        assertEquals(1, accessors.getIndex("readOnly"));
+        assertEquals(-1, accessors.getIndex("unknown"));
+        assertEquals(-1, accessors.getIndex(null));
+        accessors.getSetter(0).accept(pojo, "someName");
+        assertEquals("someName", accessors.getGetter(0).apply(pojo));
+        assertEquals("value", accessors.getGetter(1).apply(pojo));
+        assertNull(accessors.getSetter(1));
+    }
+
+    private static class SomeType {
+
+        private String name;
+    }
+}
@@ -56,6 +56,19 @@ public class DefinitionAdapterBindingsTest {
         assertEquals(metaTypes, bindings.getMetaTypes());
     }
 
+    @Test
+    public void testPropertyIndex() {
+        DefinitionAdapterBindings bindings = new DefinitionAdapterBindings();
+        assertEquals(-1, bindings.getPropertyIndex("p1"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p1", "p2"));
+        assertEquals(0, bindings.getPropertyIndex("p1"));
+        assertEquals(1, bindings.getPropertyIndex("p2"));
+        assertEquals(-1, bindings.getPropertyIndex("p3"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p3"));
+        assertEquals(0, bindings.getPropertyIndex("p3"));
+        assertEquals(-1, bindings.getPropertyIndex("p1"));
+    }
+
     @Test
     public void testMetaTypes() {
         DefinitionAdapterBindings.PropertyMetaTypes metaTypes = new DefinitionAdapterBindings.PropertyMetaTypes();
@@ -26,11 +26,13 @@ import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.client.api.ClientDefinitionManager;
 import org.kie.workbench.common.stunner.core.client.api.ShapeManager;
+import org.kie.workbench.common.stunner.core.client.canvas.command.DrawCanvasCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.actions.TextPropertyProviderFactory;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommand;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandFactory;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
@@ -58,6 +60,7 @@ public class CanvasHandlerImpl<D extends Diagram, C extends AbstractCanvas> exte
     private final Event<CanvasElementsClearEvent> canvasElementsClearEvent;
 
     private MutableIndex<?, ?> graphIndex;
+    private int drawGeneration;
 
     @Inject
     public CanvasHandlerImpl(final ClientDefinitionManager clientDefinitionManager,
@@ -103,7 +106,28 @@ public class CanvasHandlerImpl<D extends Diagram, C extends AbstractCanvas> exte
 
     @Override
     public void draw(final ParameterizedCommand<CommandResult> loadCallback) {
-        loadCallback.execute(commandFactory.draw().execute(this));
+        final CanvasCommand<AbstractCanvasHandler> drawCommand = commandFactory.draw();
+        if (drawCommand instanceof DrawCanvasCommand) {
+            // Clearing or destroying the handler cancels the frames still pending for this drawing.
+            final int generation = ++drawGeneration;
+            ((DrawCanvasCommand) drawCommand).executeProgressively(this,
+                                                                   () -> generation != drawGeneration,
+                                                                   loadCallback::execute);
+        } else {
+            loadCallback.execute(drawCommand.execute(this));
+        }
+    }
+
+    @Override
+    public CanvasHandler<D, C> doClear() {
+        drawGeneration++;
+        return super.doClear();
+    }
+
+    @Override
+    public void doDestroy() {
+        drawGeneration++;
+        super.doDestroy();
     }
 
     @Override
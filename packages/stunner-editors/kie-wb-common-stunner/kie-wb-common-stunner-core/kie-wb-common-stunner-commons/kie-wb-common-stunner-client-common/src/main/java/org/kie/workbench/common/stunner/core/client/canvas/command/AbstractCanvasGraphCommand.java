@@ -21,6 +21,7 @@
 package org.kie.workbench.common.stunner.core.client.canvas.command;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandResultBuilder;
@@ -71,6 +72,13 @@ public abstract class AbstractCanvasGraphCommand
         return graphCommand;
     }
 
+    /**
+     * Returns the graph command instance, only if it has already been created by some previous operation.
+     */
+    public Optional<Command<GraphCommandExecutionContext, RuleViolation>> getGraphCommandIfPresent() {
+        return Optional.ofNullable(graphCommand);
+    }
+
     public Command<AbstractCanvasHandler, CanvasViolation> getCanvasCommand(final AbstractCanvasHandler context) {
         if (null == canvasCommand) {
             canvasCommand = newCanvasCommand(context);
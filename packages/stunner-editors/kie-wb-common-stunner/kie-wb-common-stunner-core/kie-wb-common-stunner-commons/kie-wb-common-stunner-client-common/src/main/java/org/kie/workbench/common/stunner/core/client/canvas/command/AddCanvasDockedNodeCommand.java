@@ -70,6 +70,14 @@ public class AddCanvasDockedNodeCommand extends AbstractCanvasCommand {
                                            parent).execute(context);
     }
 
+    public Node getParent() {
+        return parent;
+    }
+
+    public Node getCandidate() {
+        return candidate;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() +
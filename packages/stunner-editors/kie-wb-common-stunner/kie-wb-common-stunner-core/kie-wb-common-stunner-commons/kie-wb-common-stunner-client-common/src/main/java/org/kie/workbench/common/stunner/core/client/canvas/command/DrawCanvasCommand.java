@@ -20,21 +20,32 @@
 
 package org.kie.workbench.common.stunner.core.client.canvas.command;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
+import elemental2.dom.DomGlobal;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvas;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.Transform;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
+import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractChildrenTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractContentTraverseCallback;
@@ -43,6 +54,11 @@ import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.V
 
 public class DrawCanvasCommand extends AbstractCanvasCommand {
 
+    /**
+     * Maximum amount of shapes built per animation frame when drawing progressively.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 250;
+
     private final ChildrenTraverseProcessor childrenTraverseProcessor;
     private final ViewTraverseProcessor viewTraverseProcessor;
 
@@ -53,8 +69,195 @@ public class DrawCanvasCommand extends AbstractCanvasCommand {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public CommandResult<CanvasViolation> execute(final AbstractCanvasHandler context) {
+        return executeCommands(context, buildCommands(context));
+    }
+
+    /**
+     * Draws the graph progressively, so the editor stays responsive while opening large diagrams.
+     * Shapes are built in chunks of, at most, {@link #DEFAULT_CHUNK_SIZE} commands, one chunk per animation frame.
+     * The nodes (along with their children and docked nodes) that intersect the current viewport are built first,
+     * connectors are built once all nodes are present.
+     * Diagrams that fit in a single chunk are drawn synchronously.
+     * @param context The canvas handler.
+     * @param callback Callback to run once the whole graph has been drawn, or once any chunk fails.
+     */
+    public void executeProgressively(final AbstractCanvasHandler context,
+                                     final Consumer<CommandResult<CanvasViolation>> callback) {
+        executeProgressively(context,
+                             () -> false,
+                             callback);
+    }
+
+    /**
+     * Same as {@link #executeProgressively(AbstractCanvasHandler, Consumer)}, but the drawing stops at the next
+     * animation frame once <code>cancelled</code> returns true, e.g. if the canvas handler has been cleared or
+     * destroyed meanwhile. The callback is not run for a cancelled drawing.
+     * @param context The canvas handler.
+     * @param cancelled Whether the drawing has been cancelled, checked before drawing each chunk.
+     * @param callback Callback to run once the whole graph has been drawn, or once any chunk fails.
+     */
+    public void executeProgressively(final AbstractCanvasHandler context,
+                                     final BooleanSupplier cancelled,
+                                     final Consumer<CommandResult<CanvasViolation>> callback) {
+        executeProgressively(context,
+                             DEFAULT_CHUNK_SIZE,
+                             command -> DomGlobal.requestAnimationFrame(timestamp -> command.run()),
+                             cancelled,
+                             callback);
+    }
+
+    public void executeProgressively(final AbstractCanvasHandler context,
+                                     final int chunkSize,
+                                     final Consumer<Runnable> frameScheduler,
+                                     final Consumer<CommandResult<CanvasViolation>> callback) {
+        executeProgressively(context,
+                             chunkSize,
+                             frameScheduler,
+                             () -> false,
+                             callback);
+    }
+
+    public void executeProgressively(final AbstractCanvasHandler context,
+                                     final int chunkSize,
+                                     final Consumer<Runnable> frameScheduler,
+                                     final BooleanSupplier cancelled,
+                                     final Consumer<CommandResult<CanvasViolation>> callback) {
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> commandBuilder = buildCommands(context);
+        if (commandBuilder.size() <= chunkSize) {
+            callback.accept(executeCommands(context, commandBuilder));
+            return;
+        }
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands = sortByViewport(context, commandBuilder);
+        final List<CompositeCommand<AbstractCanvasHandler, CanvasViolation>> executed = new ArrayList<>();
+        final List<CanvasViolation> violations = new ArrayList<>();
+        executeChunk(context, commands, 0, chunkSize, frameScheduler, cancelled, executed, violations, callback);
+    }
+
+    private void executeChunk(final AbstractCanvasHandler context,
+                              final List<Command<AbstractCanvasHandler, CanvasViolation>> commands,
+                              final int from,
+                              final int chunkSize,
+                              final Consumer<Runnable> frameScheduler,
+                              final BooleanSupplier cancelled,
+                              final List<CompositeCommand<AbstractCanvasHandler, CanvasViolation>> executed,
+                              final List<CanvasViolation> violations,
+                              final Consumer<CommandResult<CanvasViolation>> callback) {
+        if (cancelled.getAsBoolean()) {
+            // The canvas handler no longer holds this graph, nothing left to draw or to revert.
+            return;
+        }
+        final int to = Math.min(from + chunkSize, commands.size());
+        final CompositeCommand<AbstractCanvasHandler, CanvasViolation> chunk =
+                new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>()
+                        .forward()
+                        .addCommands(commands.subList(from, to))
+                        .build();
+        final CommandResult<CanvasViolation> result = chunk.execute(context);
+        result.getViolations().forEach(violations::add);
+
+        if (CommandUtils.isError(result)) {
+            // Same as the synchronous draw, revert the chunks already drawn.
+            for (int i = executed.size() - 1; i >= 0; i--) {
+                executed.get(i).undo(context);
+            }
+            callback.accept(new CanvasCommandResultBuilder(violations).setType(CommandResult.Type.ERROR).build());
+        } else if (to < commands.size()) {
+            executed.add(chunk);
+            frameScheduler.accept(() -> executeChunk(context, commands, to, chunkSize, frameScheduler, cancelled, executed, violations, callback));
+        } else {
+            callback.accept(new CanvasCommandResultBuilder(violations).build());
+        }
+    }
+
+    /**
+     * Reorders the draw commands so the node hierarchies that intersect the viewport come first. The relative
+     * order of the commands for a given hierarchy is preserved, so parents are always built before their
+     * children and docked nodes, and connectors are kept at the end.
+     */
+    private List<Command<AbstractCanvasHandler, CanvasViolation>> sortByViewport(final AbstractCanvasHandler context,
+                                                                                final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> commandBuilder) {
+        final Optional<Bounds> viewport = getViewport(context);
+        final List<List<Command<AbstractCanvasHandler, CanvasViolation>>> visible = new ArrayList<>();
+        final List<List<Command<AbstractCanvasHandler, CanvasViolation>>> hidden = new ArrayList<>();
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> connectors = new ArrayList<>();
+        final Map<String, List<Command<AbstractCanvasHandler, CanvasViolation>>> hierarchies = new HashMap<>();
+
+        for (int i = 0; i < commandBuilder.size(); i++) {
+            final Command<AbstractCanvasHandler, CanvasViolation> command = commandBuilder.get(i);
+            if (command instanceof AddCanvasChildNodeCommand) {
+                final AddCanvasChildNodeCommand childCommand = (AddCanvasChildNodeCommand) command;
+                addToHierarchy(hierarchies, hidden, childCommand.getParent(), childCommand.getCandidate(), command);
+            } else if (command instanceof AddCanvasDockedNodeCommand) {
+                final AddCanvasDockedNodeCommand dockCommand = (AddCanvasDockedNodeCommand) command;
+                addToHierarchy(hierarchies, hidden, dockCommand.getParent(), dockCommand.getCandidate(), command);
+            } else if (command instanceof AddCanvasNodeCommand) {
+                final Node node = ((AddCanvasNodeCommand) command).getCandidate();
+                final List<Command<AbstractCanvasHandler, CanvasViolation>> hierarchy = new ArrayList<>();
+                hierarchy.add(command);
+                hierarchies.put(node.getUUID(), hierarchy);
+                if (viewport.map(bounds -> intersects(node, bounds)).orElse(true)) {
+                    visible.add(hierarchy);
+                } else {
+                    hidden.add(hierarchy);
+                }
+            } else {
+                connectors.add(command);
+            }
+        }
+
+        final List<Command<AbstractCanvasHandler, CanvasViolation>> commands = new ArrayList<>(commandBuilder.size());
+        visible.forEach(commands::addAll);
+        hidden.forEach(commands::addAll);
+        commands.addAll(connectors);
+        return commands;
+    }
+
+    private static void addToHierarchy(final Map<String, List<Command<AbstractCanvasHandler, CanvasViolation>>> hierarchies,
+                                       final List<List<Command<AbstractCanvasHandler, CanvasViolation>>> orphans,
+                                       final Node parent,
+                                       final Node candidate,
+                                       final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        List<Command<AbstractCanvasHandler, CanvasViolation>> hierarchy = hierarchies.get(parent.getUUID());
+        if (null == hierarchy) {
+            hierarchy = new ArrayList<>();
+            orphans.add(hierarchy);
+        }
+        hierarchy.add(command);
+        hierarchies.put(candidate.getUUID(), hierarchy);
+    }
+
+    private static Optional<Bounds> getViewport(final AbstractCanvasHandler context) {
+        final AbstractCanvas canvas = context.getAbstractCanvas();
+        final Transform transform = null != canvas ? canvas.getTransform() : null;
+        if (null == transform) {
+            return Optional.empty();
+        }
+        final Point2D upperLeft = transform.inverse(0, 0);
+        final Point2D lowerRight = transform.inverse(canvas.getWidthPx(), canvas.getHeightPx());
+        if (null == upperLeft || null == lowerRight) {
+            return Optional.empty();
+        }
+        return Optional.of(Bounds.create(upperLeft.getX(), upperLeft.getY(), lowerRight.getX(), lowerRight.getY()));
+    }
+
+    private static boolean intersects(final Node node,
+                                      final Bounds viewport) {
+        if (!(node.getContent() instanceof View)) {
+            return true;
+        }
+        final Bounds bounds = ((View) node.getContent()).getBounds();
+        if (null == bounds || !bounds.hasUpperLeft() || !bounds.hasLowerRight()) {
+            return true;
+        }
+        return bounds.getUpperLeft().getX() < viewport.getLowerRight().getX() &&
+                bounds.getLowerRight().getX() > viewport.getUpperLeft().getX() &&
+                bounds.getUpperLeft().getY() < viewport.getLowerRight().getY() &&
+                bounds.getLowerRight().getY() > viewport.getUpperLeft().getY();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> buildCommands(final AbstractCanvasHandler context) {
         final Graph graph = context.getGraphIndex().getGraph();
         final String shapeSetId = getShapeSetId(context);
 
@@ -167,7 +370,7 @@ public class DrawCanvasCommand extends AbstractCanvasCommand {
                               }
                           });
 
-        return executeCommands(context, commandBuilder);
+        return commandBuilder;
     }
 
     @Override
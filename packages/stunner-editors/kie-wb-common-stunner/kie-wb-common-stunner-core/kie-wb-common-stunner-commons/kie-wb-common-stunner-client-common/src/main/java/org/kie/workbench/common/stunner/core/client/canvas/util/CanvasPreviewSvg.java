@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.canvas.util;
+package org.kie.workbench.common.stunner.core.client.canvas.util;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+
+/**
+ * Keeps the SVG exported for the preview of a canvas, so saving a diagram that did not change
+ * does not export the whole canvas again.
+ * The SVG is exported again once a command is executed or undone, or once the canvas shows another diagram.
+ */
+@Dependent
+public class CanvasPreviewSvg {
+
+    private final CanvasFileExport canvasFileExport;
+    private AbstractCanvasHandler canvasHandler;
+    private Diagram diagram;
+    private String svg;
+
+    protected CanvasPreviewSvg() {
+        this(null);
+    }
+
+    @Inject
+    public CanvasPreviewSvg(final CanvasFileExport canvasFileExport) {
+        this.canvasFileExport = canvasFileExport;
+    }
+
+    public String getSvg(final AbstractCanvasHandler canvasHandler) {
+        if (null == svg || canvasHandler != this.canvasHandler || canvasHandler.getDiagram() != diagram) {
+            svg = canvasFileExport.exportToSvg(canvasHandler);
+            this.canvasHandler = canvasHandler;
+            this.diagram = canvasHandler.getDiagram();
+        }
+        return svg;
+    }
+
+    public void invalidate() {
+        svg = null;
+        canvasHandler = null;
+        diagram = null;
+    }
+
+    void onCommandExecuted(final @Observes CanvasCommandExecutedEvent event) {
+        invalidate();
+    }
+
+    void onCommandUndone(final @Observes CanvasCommandUndoneEvent event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.command;
+
+import java.util.List;
+
+import org.appformer.client.stateControl.registry.RegistryCoalescer;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPositionCommand;
+import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPropertyCommand;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.impl.AbstractCompositeCommand;
+import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+
+/**
+ * Merges consecutive commands that update the same element, so a drag or a typing session on a single element
+ * is undone and redone as a single step.
+ * Two commands are merged if both update the location of the same element, or if both update the same
+ * property of the same element. The resulting command is a composite one, which undoes the merged commands
+ * in reverse order, so the element is restored to the state it had before the first one.
+ */
+public class CanvasCommandCoalescer implements RegistryCoalescer<Command<AbstractCanvasHandler, CanvasViolation>> {
+
+    public static final int DEFAULT_WINDOW_MILLIS = 1000;
+
+    @Override
+    public Command<AbstractCanvasHandler, CanvasViolation> coalesce(final Command<AbstractCanvasHandler, CanvasViolation> previous,
+                                                                   final Command<AbstractCanvasHandler, CanvasViolation> next) {
+        final String key = getElementKey(next);
+        if (null == key || !key.equals(getElementKey(previous))) {
+            return null;
+        }
+        final CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation> builder =
+                new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>().reverse();
+        if (previous instanceof CompositeCommand && ((CompositeCommand) previous).isUndoReverse()) {
+            builder.addCommands(((CompositeCommand<AbstractCanvasHandler, CanvasViolation>) previous).getCommands());
+        } else {
+            builder.addCommand(previous);
+        }
+        return builder
+                .addCommand(next)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getElementKey(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        if (command instanceof UpdateElementPositionCommand) {
+            return "position/" + ((UpdateElementPositionCommand) command).getElement().getUUID();
+        }
+        if (command instanceof UpdateElementPropertyCommand) {
+            final UpdateElementPropertyCommand propertyCommand = (UpdateElementPropertyCommand) command;
+            return "property/" + propertyCommand.getElement().getUUID() + "/" + propertyCommand.getField();
+        }
+        if (command instanceof AbstractCompositeCommand) {
+            final List<Command<AbstractCanvasHandler, CanvasViolation>> commands =
+                    ((AbstractCompositeCommand<AbstractCanvasHandler, CanvasViolation>) command).getCommands();
+            String key = null;
+            for (final Command<AbstractCanvasHandler, CanvasViolation> child : commands) {
+                final String childKey = getElementKey(child);
+                if (null == childKey || (null != key && !key.equals(childKey))) {
+                    return null;
+                }
+                key = childKey;
+            }
+            return key;
+        }
+        return null;
+    }
+}
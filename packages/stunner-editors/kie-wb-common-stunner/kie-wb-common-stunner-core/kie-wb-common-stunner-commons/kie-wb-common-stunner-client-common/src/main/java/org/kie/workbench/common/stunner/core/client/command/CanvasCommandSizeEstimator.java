@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.command;
+
+import java.util.function.ToLongFunction;
+
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.command.AbstractCanvasGraphCommand;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.impl.AbstractCompositeCommand;
+
+/**
+ * Estimates the size retained by an executed command as the amount of commands, both canvas and graph ones, it
+ * holds. Composite commands (e.g. paste, delete a subtree or auto-layout) retain every nested command, along with
+ * the elements and the state those keep for undoing the operation.
+ */
+public class CanvasCommandSizeEstimator implements ToLongFunction<Command<AbstractCanvasHandler, CanvasViolation>> {
+
+    public static final long DEFAULT_MAX_RETAINED_SIZE = 20000;
+
+    @Override
+    public long applyAsLong(final Command<AbstractCanvasHandler, CanvasViolation> command) {
+        return estimate(command);
+    }
+
+    private static long estimate(final Command<?, ?> command) {
+        long size = 1;
+        if (command instanceof AbstractCompositeCommand) {
+            for (final Command<?, ?> child : ((AbstractCompositeCommand<?, ?>) command).getCommands()) {
+                size += estimate(child);
+            }
+        } else if (command instanceof AbstractCanvasGraphCommand) {
+            size += ((AbstractCanvasGraphCommand) command).getGraphCommandIfPresent()
+                    .map(CanvasCommandSizeEstimator::estimate)
+                    .orElse(0L);
+        }
+        return size;
+    }
+}
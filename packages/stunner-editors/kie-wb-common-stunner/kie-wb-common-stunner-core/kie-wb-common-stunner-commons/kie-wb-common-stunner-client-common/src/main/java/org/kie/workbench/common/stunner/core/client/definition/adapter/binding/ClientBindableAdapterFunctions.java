@@ -20,20 +20,49 @@
 
 package org.kie.workbench.common.stunner.core.client.definition.adapter.binding;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 import javax.enterprise.context.ApplicationScoped;
 
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAccessors;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
 
 @ApplicationScoped
 public class ClientBindableAdapterFunctions implements BindableAdapterFunctions {
 
+    private final Map<Class<?>, BindableAccessors> accessors = new HashMap<>();
+
+    @Override
+    public void addAccessors(Class<?> type, BindableAccessors accessors) {
+        this.accessors.put(type, accessors);
+    }
+
     @Override
     public Object getValue(Object pojo, String fieldName) {
+        final BindableAccessors typeAccessors = getAccessors(pojo);
+        final int index = null != typeAccessors ? typeAccessors.getIndex(fieldName) : -1;
+        if (index > -1) {
+            return typeAccessors.getGetter(index).apply(pojo);
+        }
+        // Unknown type or field, such as a binder proxy, so resolve it by name.
         return ClientBindingUtils.getProxiedValue(pojo, fieldName);
     }
 
     @Override
     public void setValue(Object pojo, String field, Object value) {
-        ClientBindingUtils.setProxiedValue(pojo, field, value);
+        final BindableAccessors typeAccessors = getAccessors(pojo);
+        final int index = null != typeAccessors ? typeAccessors.getIndex(field) : -1;
+        final BiConsumer<Object, Object> setter = index > -1 ? typeAccessors.getSetter(index) : null;
+        if (null != setter) {
+            setter.accept(pojo, value);
+        } else {
+            ClientBindingUtils.setProxiedValue(pojo, field, value);
+        }
+    }
+
+    private BindableAccessors getAccessors(Object pojo) {
+        return null != pojo ? accessors.get(pojo.getClass()) : null;
     }
 }
@@ -24,6 +24,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.DefinitionBindableProperty;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.DefinitionBindablePropertyAdapter;
 
@@ -31,10 +32,13 @@ import org.kie.workbench.common.stunner.core.definition.adapter.binding.Definiti
 public class ClientDefinitionBindablePropertyAdapter implements DefinitionBindablePropertyAdapter<Object, Object> {
 
     private final ClientTranslationService translationService;
+    private final BindableAdapterFunctions functions;
 
     @Inject
-    public ClientDefinitionBindablePropertyAdapter(ClientTranslationService translationService) {
+    public ClientDefinitionBindablePropertyAdapter(ClientTranslationService translationService,
+                                                   BindableAdapterFunctions functions) {
         this.translationService = translationService;
+        this.functions = functions;
     }
 
     @Override
@@ -44,11 +48,11 @@ public class ClientDefinitionBindablePropertyAdapter implements DefinitionBindab
 
     @Override
     public Object getValue(DefinitionBindableProperty<Object> property) {
-        return ClientBindingUtils.getProxiedValue(property.getPojo(), property.getField());
+        return functions.getValue(property.getPojo(), property.getField());
     }
 
     @Override
     public void setValue(DefinitionBindableProperty<Object> property, Object value) {
-        ClientBindingUtils.setProxiedValue(property.getPojo(), property.getField(), value);
+        functions.setValue(property.getPojo(), property.getField(), value);
     }
 }
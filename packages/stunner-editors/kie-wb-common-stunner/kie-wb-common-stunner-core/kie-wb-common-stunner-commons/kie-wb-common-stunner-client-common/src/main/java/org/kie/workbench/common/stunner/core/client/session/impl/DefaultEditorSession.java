@@ -53,7 +53,9 @@ import org.kie.workbench.common.stunner.core.client.canvas.controls.keyboard.Abs
 import org.kie.workbench.common.stunner.core.client.canvas.controls.keyboard.KeyboardControl;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.select.MultipleSelection;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.RegisterChangedEvent;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommandCoalescer;
 import org.kie.workbench.common.stunner.core.client.command.CanvasCommandManager;
+import org.kie.workbench.common.stunner.core.client.command.CanvasCommandSizeEstimator;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.command.RequiresCommandManager;
 import org.kie.workbench.common.stunner.core.client.command.SessionCommandManager;
@@ -95,7 +97,13 @@ public class DefaultEditorSession
                 .onCanvasControlDestroyed(AbstractSession::onControlDestroyed)
                 .onCanvasHandlerControlDestroyed(AbstractSession::onControlDestroyed);
         Optional.ofNullable(getCommandRegistry())
-                .ifPresent(registry -> registry.setRegistryChangeListener(() -> fireRegistryChangedEvent()));
+                .ifPresent(registry -> {
+                    registry.setRegistryChangeListener(() -> fireRegistryChangedEvent());
+                    registry.setMaxRetainedSize(new CanvasCommandSizeEstimator(),
+                                                CanvasCommandSizeEstimator.DEFAULT_MAX_RETAINED_SIZE);
+                    registry.setCoalescer(new CanvasCommandCoalescer(),
+                                          CanvasCommandCoalescer.DEFAULT_WINDOW_MILLIS);
+                });
     }
 
     protected void fireRegistryChangedEvent() {
@@ -21,6 +21,7 @@ package org.kie.workbench.common.stunner.core.client.canvas;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import javax.enterprise.event.Event;
 
@@ -29,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.core.client.api.ClientDefinitionManager;
 import org.kie.workbench.common.stunner.core.client.api.ShapeManager;
+import org.kie.workbench.common.stunner.core.client.canvas.command.DrawCanvasCommand;
 import org.kie.workbench.common.stunner.core.client.canvas.controls.actions.TextPropertyProviderFactory;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
@@ -47,15 +49,20 @@ import org.kie.workbench.common.stunner.core.graph.processing.index.GraphIndexBu
 import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleManager;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BaseCanvasHandlerTest {
@@ -203,4 +210,35 @@ public class BaseCanvasHandlerTest {
         canvasHandler.doBatchUpdate(updatedElements);
         verify(updateListener, times(1)).updateBatch(any());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkDestroyCancelsProgressiveDraw() {
+        final DrawCanvasCommand drawCommand = mock(DrawCanvasCommand.class);
+        when(commandFactory.draw()).thenReturn(drawCommand);
+        final ArgumentCaptor<BooleanSupplier> cancelled = ArgumentCaptor.forClass(BooleanSupplier.class);
+
+        canvasHandler.draw(result -> {
+        });
+        verify(drawCommand).executeProgressively(eq(canvasHandler), cancelled.capture(), any());
+        assertFalse(cancelled.getValue().getAsBoolean());
+
+        canvasHandler.doDestroy();
+        assertTrue(cancelled.getValue().getAsBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkClearCancelsProgressiveDraw() {
+        final DrawCanvasCommand drawCommand = mock(DrawCanvasCommand.class);
+        when(commandFactory.draw()).thenReturn(drawCommand);
+        final ArgumentCaptor<BooleanSupplier> cancelled = ArgumentCaptor.forClass(BooleanSupplier.class);
+
+        canvasHandler.draw(result -> {
+        });
+        verify(drawCommand).executeProgressively(eq(canvasHandler), cancelled.capture(), any());
+
+        canvasHandler.doClear();
+        assertTrue(cancelled.getValue().getAsBoolean());
+    }
 }
@@ -20,8 +20,15 @@
 
 package org.kie.workbench.common.stunner.core.client.canvas.command;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.StreamSupport;
 
 import org.junit.Before;
@@ -31,26 +38,49 @@ import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
 import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvas;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.Transform;
 import org.kie.workbench.common.stunner.core.client.command.CanvasViolation;
 import org.kie.workbench.common.stunner.core.client.shape.Shape;
 import org.kie.workbench.common.stunner.core.client.shape.impl.ConnectorShape;
 import org.kie.workbench.common.stunner.core.client.shape.view.ShapeView;
 import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.diagram.Diagram;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ViewTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,6 +90,10 @@ public class DrawCanvasCommandTest {
 
     private static final String SHAPE_SET_ID = "shapeSet";
 
+    private static final int CONTAINERS = 50;
+    private static final int NODES_PER_CONTAINER = 100;
+    private static final int CHUNK_SIZE = 100;
+
     private DrawCanvasCommand tested;
 
     @Mock
@@ -131,4 +165,140 @@ public class DrawCanvasCommandTest {
         assertEquals(commandList.stream().filter(cmd -> cmd instanceof AddCanvasDockedNodeCommand).count(), 1);
         assertEquals(commandList.stream().filter(cmd -> cmd instanceof AddCanvasConnectorCommand).count(), 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void executeProgressivelySmallGraph() {
+        final AtomicReference<CommandResult<CanvasViolation>> result = new AtomicReference<>();
+        tested.executeProgressively(context,
+                                    CHUNK_SIZE,
+                                    command -> {
+                                        throw new IllegalStateException("Should not be scheduled");
+                                    },
+                                    result::set);
+        verify(tested).executeCommands(eq(context), commandsCapture.capture());
+        assertEquals(7, commandsCapture.getValue().size());
+        assertNotNull(result.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void executeProgressivelyLargeGraph() {
+        final Map<String, Node> containers = new HashMap<>();
+        final Graph graph = newLargeGraph(containers);
+        when(graphIndex.getGraph()).thenReturn(graph);
+        when(context.dock(any(), any())).thenReturn(true);
+        final List<String> registered = new ArrayList<>();
+        doAnswer(invocation -> registered.add(((Element) invocation.getArgument(1)).getUUID()))
+                .when(context).register(anyString(), any(Element.class));
+
+        // Synchronous drawing.
+        assertFalse(CommandUtils.isError(tested.execute(context)));
+        final List<String> expected = new ArrayList<>(registered);
+        registered.clear();
+
+        // Progressive drawing, the viewport only contains the first two containers.
+        final Transform transform = mock(Transform.class);
+        when(canvas.getTransform()).thenReturn(transform);
+        when(canvas.getWidthPx()).thenReturn(1500);
+        when(canvas.getHeightPx()).thenReturn(900);
+        when(transform.inverse(0d, 0d)).thenReturn(Point2D.create(0, 0));
+        when(transform.inverse(1500d, 900d)).thenReturn(Point2D.create(1500, 900));
+        final Deque<Runnable> frames = new ArrayDeque<>();
+        final AtomicReference<CommandResult<CanvasViolation>> result = new AtomicReference<>();
+        tested.executeProgressively(context, CHUNK_SIZE, frames::add, result::set);
+        int scheduledFrames = 0;
+        while (!frames.isEmpty()) {
+            assertTrue(registered.size() <= (scheduledFrames + 1) * CHUNK_SIZE);
+            frames.poll().run();
+            scheduledFrames++;
+        }
+
+        assertNotNull(result.get());
+        assertFalse(CommandUtils.isError(result.get()));
+        assertEquals(CONTAINERS * NODES_PER_CONTAINER, expected.size());
+        assertEquals(expected.size(), registered.size());
+        assertEquals(new HashSet<>(expected), new HashSet<>(registered));
+        assertEquals(CONTAINERS * NODES_PER_CONTAINER / CHUNK_SIZE - 1, scheduledFrames);
+
+        // The visible containers, along with their children, are drawn first.
+        final List<String> firstChunks = registered.subList(0, 2 * NODES_PER_CONTAINER);
+        assertTrue(firstChunks.contains(containers.get("container0").getUUID()));
+        assertTrue(firstChunks.contains(containers.get("container1").getUUID()));
+        assertTrue(firstChunks.stream().allMatch(uuid -> uuid.startsWith("container0_") || uuid.startsWith("container1_") ||
+                uuid.equals("container0") || uuid.equals("container1")));
+        // Parents are always drawn before their children.
+        for (int i = 0; i < CONTAINERS; i++) {
+            final String container = "container" + i;
+            assertTrue(registered.indexOf(container) < registered.indexOf(container + "_child1"));
+            assertTrue(registered.indexOf(container + "_child1") < registered.indexOf(container + "_docked"));
+        }
+    }
+
+    @Test
+    public void executeProgressivelyCancelledBetweenFrames() {
+        final Graph graph = newLargeGraph(new HashMap<>());
+        when(graphIndex.getGraph()).thenReturn(graph);
+        when(context.dock(any(), any())).thenReturn(true);
+        final List<String> registered = new ArrayList<>();
+        doAnswer(invocation -> registered.add(((Element) invocation.getArgument(1)).getUUID()))
+                .when(context).register(anyString(), any(Element.class));
+
+        final Deque<Runnable> frames = new ArrayDeque<>();
+        final AtomicBoolean destroyed = new AtomicBoolean(false);
+        final AtomicReference<CommandResult<CanvasViolation>> result = new AtomicReference<>();
+        tested.executeProgressively(context, CHUNK_SIZE, frames::add, destroyed::get, result::set);
+        final int drawn = registered.size();
+        assertTrue(drawn > 0 && drawn <= CHUNK_SIZE);
+        assertEquals(1, frames.size());
+
+        destroyed.set(true);
+        frames.poll().run();
+
+        assertTrue(frames.isEmpty());
+        assertEquals(drawn, registered.size());
+        assertNull(result.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Graph newLargeGraph(final Map<String, Node> containers) {
+        final GraphImpl graph = new GraphImpl<>("largeGraph", new GraphNodeStoreImpl());
+        for (int i = 0; i < CONTAINERS; i++) {
+            final double x = (i % 10) * 1000;
+            final double y = (i / 10) * 1000;
+            final Node container = newNode("container" + i, Bounds.create(x, y, x + 900, y + 900));
+            graph.addNode(container);
+            containers.put(container.getUUID(), container);
+            Node firstChild = null;
+            for (int j = 1; j < NODES_PER_CONTAINER - 1; j++) {
+                final Node child = newNode(container.getUUID() + "_child" + j, Bounds.create(10, 10, 50, 50));
+                graph.addNode(child);
+                connect(container, child, new Child());
+                firstChild = null == firstChild ? child : firstChild;
+            }
+            final Node docked = newNode(container.getUUID() + "_docked", Bounds.create(0, 0, 10, 10));
+            graph.addNode(docked);
+            connect(container, docked, new Child());
+            connect(firstChild, docked, new Dock());
+        }
+        return graph;
+    }
+
+    private static Node newNode(final String uuid,
+                                final Bounds bounds) {
+        final NodeImpl<Object> node = new NodeImpl<>(uuid);
+        node.setContent(new ViewImpl<>(new Object(), bounds));
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void connect(final Node source,
+                                final Node target,
+                                final Object content) {
+        final Edge edge = new EdgeImpl<>(source.getUUID() + "->" + target.getUUID());
+        edge.setContent(content);
+        edge.setSourceNode(source);
+        edge.setTargetNode(target);
+        source.getOutEdges().add(edge);
+        target.getInEdges().add(edge);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.canvas.util;
+package org.kie.workbench.common.stunner.core.client.canvas.util;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CanvasPreviewSvgTest {
+
+    private static final String SVG = "<svg/>";
+
+    @Mock
+    private CanvasFileExport canvasFileExport;
+
+    @Mock
+    private AbstractCanvasHandler canvasHandler;
+
+    @Mock
+    private Diagram diagram;
+
+    private CanvasPreviewSvg tested;
+
+    @Before
+    public void setUp() {
+        when(canvasHandler.getDiagram()).thenReturn(diagram);
+        when(canvasFileExport.exportToSvg(canvasHandler)).thenReturn(SVG);
+        tested = new CanvasPreviewSvg(canvasFileExport);
+    }
+
+    @Test
+    public void testSvgIsExportedOnce() {
+        assertEquals(SVG, tested.getSvg(canvasHandler));
+        assertEquals(SVG, tested.getSvg(canvasHandler));
+        verify(canvasFileExport, times(1)).exportToSvg(canvasHandler);
+    }
+
+    @Test
+    public void testSvgIsExportedAgainAfterCommands() {
+        tested.getSvg(canvasHandler);
+        tested.onCommandExecuted(mock(CanvasCommandExecutedEvent.class));
+        tested.getSvg(canvasHandler);
+        tested.onCommandUndone(mock(CanvasCommandUndoneEvent.class));
+        tested.getSvg(canvasHandler);
+        verify(canvasFileExport, times(3)).exportToSvg(canvasHandler);
+    }
+
+    @Test
+    public void testSvgIsExportedAgainForAnotherDiagram() {
+        tested.getSvg(canvasHandler);
+        when(canvasHandler.getDiagram()).thenReturn(mock(Diagram.class));
+        tested.getSvg(canvasHandler);
+        verify(canvasFileExport, times(2)).exportToSvg(canvasHandler);
+    }
+
+    @Test
+    public void testSvgIsExportedAgainForAnotherCanvas() {
+        final AbstractCanvasHandler otherCanvasHandler = mock(AbstractCanvasHandler.class);
+        when(otherCanvasHandler.getDiagram()).thenReturn(diagram);
+        tested.getSvg(canvasHandler);
+        tested.getSvg(otherCanvasHandler);
+        verify(canvasFileExport, times(1)).exportToSvg(canvasHandler);
+        verify(canvasFileExport, times(1)).exportToSvg(otherCanvasHandler);
+    }
+
+    @Test
+    public void testInvalidate() {
+        tested.getSvg(canvasHandler);
+        tested.invalidate();
+        tested.getSvg(canvasHandler);
+        verify(canvasFileExport, times(2)).exportToSvg(canvasHandler);
+    }
+}
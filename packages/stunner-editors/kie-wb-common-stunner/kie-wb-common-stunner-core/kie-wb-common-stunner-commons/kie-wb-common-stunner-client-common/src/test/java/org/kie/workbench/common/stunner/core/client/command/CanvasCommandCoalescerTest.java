@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.command;
+
+import org.appformer.client.stateControl.registry.impl.DefaultRegistryImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPositionCommand;
+import org.kie.workbench.common.stunner.core.client.canvas.command.UpdateElementPropertyCommand;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CanvasCommandCoalescerTest {
+
+    @Mock
+    private AbstractCanvasHandler context;
+
+    @Mock
+    private Node node1;
+
+    @Mock
+    private Node node2;
+
+    private DefaultRegistryImpl<Command<AbstractCanvasHandler, CanvasViolation>> registry;
+
+    private CanvasCommandCoalescer tested;
+
+    @Before
+    public void setUp() {
+        when(node1.getUUID()).thenReturn("node1");
+        when(node2.getUUID()).thenReturn("node2");
+        tested = new CanvasCommandCoalescer();
+        registry = new DefaultRegistryImpl<>();
+        registry.setCoalescer(tested, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testMergePositionUpdates() {
+        final UpdateElementPositionCommand move1 = newPositionCommand(node1);
+        final UpdateElementPositionCommand move2 = newPositionCommand(node1);
+        final UpdateElementPositionCommand move3 = newPositionCommand(node1);
+
+        registry.register(move1);
+        registry.register(move2);
+        registry.register(move3);
+
+        assertEquals(1, registry.getHistory().size());
+        final CompositeCommand<AbstractCanvasHandler, CanvasViolation> merged =
+                (CompositeCommand<AbstractCanvasHandler, CanvasViolation>) registry.peek();
+        assertEquals(3, merged.size());
+        assertSame(move1, merged.getCommands().get(0));
+        assertSame(move2, merged.getCommands().get(1));
+        assertSame(move3, merged.getCommands().get(2));
+    }
+
+    @Test
+    public void testMergedUndoRedo() {
+        final UpdateElementPositionCommand move1 = newPositionCommand(node1);
+        final UpdateElementPositionCommand move2 = newPositionCommand(node1);
+        registry.register(move1);
+        registry.register(move2);
+
+        // Undo.
+        final Command<AbstractCanvasHandler, CanvasViolation> merged = registry.pop();
+        merged.undo(context);
+        assertTrue(registry.isEmpty());
+
+        // Redo.
+        merged.execute(context);
+        registry.register(merged);
+        assertSame(merged, registry.peek());
+
+        final InOrder inOrder = inOrder(move1, move2);
+        inOrder.verify(move2).undo(context);
+        inOrder.verify(move1).undo(context);
+        inOrder.verify(move1).execute(context);
+        inOrder.verify(move2).execute(context);
+    }
+
+    @Test
+    public void testNoMergeAfterUndo() {
+        final UpdateElementPositionCommand move1 = newPositionCommand(node1);
+        final UpdateElementPositionCommand move2 = newPositionCommand(node1);
+        registry.register(move1);
+        registry.register(move2);
+        registry.pop();
+
+        final UpdateElementPositionCommand move3 = newPositionCommand(node1);
+        registry.register(move3);
+
+        assertEquals(1, registry.getHistory().size());
+        assertSame(move3, registry.peek());
+    }
+
+    @Test
+    public void testMergePropertyUpdates() {
+        final UpdateElementPropertyCommand name1 = newPropertyCommand(node1, "name");
+        final UpdateElementPropertyCommand name2 = newPropertyCommand(node1, "name");
+
+        final Command<AbstractCanvasHandler, CanvasViolation> merged = tested.coalesce(name1, name2);
+
+        assertEquals(2, ((CompositeCommand) merged).size());
+    }
+
+    @Test
+    public void testMergeSingleElementComposites() {
+        final Command<AbstractCanvasHandler, CanvasViolation> move1 =
+                new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>()
+                        .forward()
+                        .addCommand(newPositionCommand(node1))
+                        .build();
+        final UpdateElementPositionCommand move2 = newPositionCommand(node1);
+
+        final Command<AbstractCanvasHandler, CanvasViolation> merged = tested.coalesce(move1, move2);
+
+        assertEquals(2, ((CompositeCommand) merged).size());
+        assertSame(move1, ((CompositeCommand) merged).getCommands().get(0));
+    }
+
+    @Test
+    public void testNoMergeDifferentElements() {
+        assertNull(tested.coalesce(newPositionCommand(node1), newPositionCommand(node2)));
+        assertNull(tested.coalesce(newPropertyCommand(node1, "name"), newPropertyCommand(node2, "name")));
+    }
+
+    @Test
+    public void testNoMergeDifferentUpdates() {
+        assertNull(tested.coalesce(newPropertyCommand(node1, "name"), newPropertyCommand(node1, "documentation")));
+        assertNull(tested.coalesce(newPositionCommand(node1), newPropertyCommand(node1, "name")));
+        assertNull(tested.coalesce(newPositionCommand(node1), mock(Command.class)));
+    }
+
+    @Test
+    public void testNoMergeMultipleElementComposites() {
+        final Command<AbstractCanvasHandler, CanvasViolation> move =
+                new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>()
+                        .addCommand(newPositionCommand(node1))
+                        .addCommand(newPositionCommand(node2))
+                        .build();
+
+        assertNull(tested.coalesce(move, newPositionCommand(node1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private UpdateElementPositionCommand newPositionCommand(final Node node) {
+        final UpdateElementPositionCommand command = mock(UpdateElementPositionCommand.class);
+        when(command.getElement()).thenReturn(node);
+        when(command.execute(context)).thenReturn(CanvasCommandResultBuilder.SUCCESS);
+        when(command.undo(context)).thenReturn(CanvasCommandResultBuilder.SUCCESS);
+        return command;
+    }
+
+    private UpdateElementPropertyCommand newPropertyCommand(final Node node,
+                                                            final String field) {
+        final UpdateElementPropertyCommand command = mock(UpdateElementPropertyCommand.class);
+        when(command.getElement()).thenReturn(node);
+        when(command.getField()).thenReturn(field);
+        return command;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.client.command;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.command.AbstractCanvasGraphCommand;
+import org.kie.workbench.common.stunner.core.command.Command;
+import org.kie.workbench.common.stunner.core.command.impl.CompositeCommand;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CanvasCommandSizeEstimatorTest {
+
+    @Mock
+    private Command<AbstractCanvasHandler, CanvasViolation> command;
+
+    @Mock
+    private AbstractCanvasGraphCommand graphCommand;
+
+    private CanvasCommandSizeEstimator tested;
+
+    @Before
+    public void setUp() {
+        tested = new CanvasCommandSizeEstimator();
+    }
+
+    @Test
+    public void testEstimateCommand() {
+        assertEquals(1, tested.applyAsLong(command));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEstimateGraphCommand() {
+        final Command<GraphCommandExecutionContext, RuleViolation> graphLeaf = mock(Command.class);
+        when(graphCommand.getGraphCommandIfPresent())
+                .thenReturn(Optional.of(new CompositeCommand.Builder<GraphCommandExecutionContext, RuleViolation>()
+                                                .addCommand(graphLeaf)
+                                                .addCommand(graphLeaf)
+                                                .build()));
+
+        assertEquals(4, tested.applyAsLong(graphCommand));
+    }
+
+    @Test
+    public void testEstimateGraphCommandNotExecuted() {
+        when(graphCommand.getGraphCommandIfPresent()).thenReturn(Optional.empty());
+
+        assertEquals(1, tested.applyAsLong(graphCommand));
+    }
+
+    @Test
+    public void testEstimateComposite() {
+        when(graphCommand.getGraphCommandIfPresent()).thenReturn(Optional.empty());
+        final Command<AbstractCanvasHandler, CanvasViolation> composite =
+                new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>()
+                        .addCommand(command)
+                        .addCommand(graphCommand)
+                        .addCommand(new CompositeCommand.Builder<AbstractCanvasHandler, CanvasViolation>()
+                                            .addCommand(command)
+                                            .build())
+                        .build();
+
+        assertEquals(5, tested.applyAsLong(composite));
+    }
+}
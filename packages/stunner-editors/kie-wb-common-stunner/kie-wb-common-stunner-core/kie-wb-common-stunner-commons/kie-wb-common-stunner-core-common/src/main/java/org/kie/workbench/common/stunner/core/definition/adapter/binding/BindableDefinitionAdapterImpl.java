@@ -123,7 +123,7 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
     @Override
     public Optional<?> getProperty(T pojo, String field) {
         DefinitionAdapterBindings b = bindings.get(pojo.getClass());
-        final int index = b.getPropertiesFieldNames().indexOf(field);
+        final int index = b.getPropertyIndex(field);
         if (index > -1) {
             final Boolean isTyped = b.getTypedPropertyFields().get(index);
             return isTyped ?
@@ -22,8 +22,10 @@ package org.kie.workbench.common.stunner.core.registry.impl;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.kie.workbench.common.stunner.core.api.AbstractDefinitionManager;
@@ -49,13 +51,21 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     private final List<PropertyAdapter> propertyAdapters = new LinkedList<>();
     private final List<MorphAdapter> morphAdapters = new LinkedList<>();
 
+    // The adapter resolved for each type, or null if none accepts it. Cleared when the adapters change.
+    private final Map<Class<?>, DefinitionSetAdapter> definitionSetAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, DefinitionSetRuleAdapter> definitionSetRuleAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, DefinitionAdapter> definitionAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, PropertyAdapter> propertyAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, MorphAdapter> morphAdaptersByType = new HashMap<>();
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionSetAdapter<T> getDefinitionSetAdapter(final Class<?> type) {
-        for (DefinitionSetAdapter adapter : definitionSetAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionSetAdapter adapter = resolve(definitionSetAdaptersByType,
+                                                     definitionSetAdapters,
+                                                     type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionSetAdapter.class,
                             type);
@@ -64,10 +74,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionSetRuleAdapter<T> getDefinitionSetRuleAdapter(final Class<?> type) {
-        for (DefinitionSetRuleAdapter adapter : definitionSetRuleAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionSetRuleAdapter adapter = resolve(definitionSetRuleAdaptersByType,
+                                                         definitionSetRuleAdapters,
+                                                         type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionSetRuleAdapter.class,
                             type);
@@ -76,10 +87,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionAdapter<T> getDefinitionAdapter(final Class<?> type) {
-        for (DefinitionAdapter adapter : definitionAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionAdapter adapter = resolve(definitionAdaptersByType,
+                                                  definitionAdapters,
+                                                  type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionAdapter.class,
                             type);
@@ -88,10 +100,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> PropertyAdapter<T, ?> getPropertyAdapter(final Class<?> type) {
-        for (PropertyAdapter adapter : propertyAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final PropertyAdapter adapter = resolve(propertyAdaptersByType,
+                                                propertyAdapters,
+                                                type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(PropertyAdapter.class,
                             type);
@@ -100,18 +113,16 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> MorphAdapter<T> getMorphAdapter(final Class<?> type) {
-        for (MorphAdapter adapter : morphAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
-        }
-        return null;
+        return resolve(morphAdaptersByType,
+                       morphAdapters,
+                       type);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void register(final Adapter item) {
         boolean registered = false;
+        clearResolved();
         if (item instanceof DefinitionSetAdapter) {
             definitionSetAdapters.add((DefinitionSetAdapter) item);
             sortAdapters(definitionSetAdapters);
@@ -168,6 +179,7 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public boolean remove(final Adapter item) {
+        clearResolved();
         if (item instanceof DefinitionSetAdapter) {
             return definitionSetAdapters.remove(item);
         } else if (item instanceof DefinitionSetRuleAdapter) {
@@ -182,6 +194,31 @@ public class AdapterRegistryImpl implements AdapterRegistry,
         return false;
     }
 
+    private static <T extends Adapter> T resolve(final Map<Class<?>, T> resolved,
+                                                 final List<T> adapters,
+                                                 final Class<?> type) {
+        if (resolved.containsKey(type)) {
+            return resolved.get(type);
+        }
+        T result = null;
+        for (T adapter : adapters) {
+            if (adapter.accepts(type)) {
+                result = adapter;
+                break;
+            }
+        }
+        resolved.put(type, result);
+        return result;
+    }
+
+    private void clearResolved() {
+        definitionSetAdaptersByType.clear();
+        definitionSetRuleAdaptersByType.clear();
+        definitionAdaptersByType.clear();
+        propertyAdaptersByType.clear();
+        morphAdaptersByType.clear();
+    }
+
     private static <T extends PriorityAdapter> void sortAdapters(final List<T> adapters) {
         Collections.sort(adapters, Comparator.comparingInt(PriorityAdapter::getPriority));
     }
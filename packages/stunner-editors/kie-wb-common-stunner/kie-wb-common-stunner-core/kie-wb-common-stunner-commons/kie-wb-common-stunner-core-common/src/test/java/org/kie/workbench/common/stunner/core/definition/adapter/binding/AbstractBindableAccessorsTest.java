@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.definition.adapter.binding;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
+import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the generated accessors for the definitions and properties of a definition set with reading and
+ * writing the same fields by name through their bean methods, as the data binder does.
+ * <p>
+ * Subclasses create the generated adapters of the definition set for the given functions.
+ */
+public abstract class AbstractBindableAccessorsTest {
+
+    private AccessorFunctions accessors;
+    private BeanFunctions beans;
+    private DefinitionAdapter<Object> definitionAdapter;
+    private DefinitionAdapter<Object> beanDefinitionAdapter;
+    private PropertyAdapter<Object, Object> propertyAdapter;
+    private PropertyAdapter<Object, Object> beanPropertyAdapter;
+
+    protected abstract DefinitionAdapter<Object> createDefinitionAdapter(StunnerTranslationService translationService,
+                                                                         BindableAdapterFunctions functions);
+
+    protected abstract PropertyAdapter<Object, Object> createPropertyAdapter(StunnerTranslationService translationService,
+                                                                             BindableAdapterFunctions functions);
+
+    @Before
+    public void setup() {
+        StunnerTranslationService translationService = mock(StunnerTranslationService.class);
+        accessors = new AccessorFunctions();
+        beans = new BeanFunctions();
+        definitionAdapter = createDefinitionAdapter(translationService, accessors);
+        beanDefinitionAdapter = createDefinitionAdapter(translationService, beans);
+        propertyAdapter = createPropertyAdapter(translationService, accessors);
+        beanPropertyAdapter = createPropertyAdapter(translationService, beans);
+    }
+
+    @Test
+    public void testAccessorsMatchBeanProperties() {
+        int definitions = 0;
+        for (Class<?> type : accessors.accessors.keySet()) {
+            final Object definition = definitionAdapter.accepts(type) ? newInstance(type) : null;
+            if (null == definition) {
+                continue;
+            }
+            assertEquals(beanDefinitionAdapter.getId(definition).value(), definitionAdapter.getId(definition).value());
+            assertEquals(beanDefinitionAdapter.getCategory(definition), definitionAdapter.getCategory(definition));
+            assertEquals(beanDefinitionAdapter.getTitle(definition), definitionAdapter.getTitle(definition));
+            assertEquals(beanDefinitionAdapter.getDescription(definition), definitionAdapter.getDescription(definition));
+            assertArrayEquals(beanDefinitionAdapter.getLabels(definition), definitionAdapter.getLabels(definition));
+            for (String field : definitionAdapter.getPropertyFields(definition)) {
+                final Object property = accessors.getValue(definition, field);
+                assertEquals(type.getName() + "." + field, beans.getValue(definition, field), property);
+                if (null != property && propertyAdapter.accepts(property.getClass())) {
+                    final Object value = beanPropertyAdapter.getValue(property);
+                    assertEquals(property.getClass().getName(), value, propertyAdapter.getValue(property));
+                    beanPropertyAdapter.setValue(property, value);
+                    final Object beanValue = beanPropertyAdapter.getValue(property);
+                    propertyAdapter.setValue(property, value);
+                    assertEquals(property.getClass().getName(), beanValue, beanPropertyAdapter.getValue(property));
+                }
+            }
+            definitions++;
+        }
+        assertTrue(definitions > 0);
+    }
+
+    private static Object newInstance(final Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static class AccessorFunctions implements BindableAdapterFunctions {
+
+        private final Map<Class<?>, BindableAccessors> accessors = new HashMap<>();
+
+        @Override
+        public void addAccessors(Class<?> type, BindableAccessors accessors) {
+            this.accessors.put(type, accessors);
+        }
+
+        @Override
+        public Object getValue(Object pojo, String fieldName) {
+            if (null == fieldName) {
+                return null;
+            }
+            return accessors.get(pojo.getClass()).getGetter(getIndex(pojo, fieldName)).apply(pojo);
+        }
+
+        @Override
+        public void setValue(Object pojo, String field, Object value) {
+            final BindableAccessors typeAccessors = accessors.get(pojo.getClass());
+            assertNotNull("No setter for " + pojo.getClass().getName() + "." + field,
+                          typeAccessors.getSetter(getIndex(pojo, field)));
+            typeAccessors.getSetter(getIndex(pojo, field)).accept(pojo, value);
+        }
+
+        private int getIndex(Object pojo, String field) {
+            final BindableAccessors typeAccessors = accessors.get(pojo.getClass());
+            assertNotNull("No accessors for " + pojo.getClass().getName(), typeAccessors);
+            final int index = typeAccessors.getIndex(field);
+            assertTrue("No accessor for " + pojo.getClass().getName() + "." + field, index > -1);
+            return index;
+        }
+    }
+
+    private static class BeanFunctions implements BindableAdapterFunctions {
+
+        @Override
+        public Object getValue(Object pojo, String fieldName) {
+            Object value = pojo;
+            if (null != fieldName) {
+                for (String field : fieldName.split("\\.")) {
+                    if (null == value) {
+                        return null;
+                    }
+                    value = invoke(getGetter(value.getClass(), field), value);
+                }
+            }
+            return null != fieldName ? value : null;
+        }
+
+        @Override
+        public void setValue(Object pojo, String field, Object value) {
+            final int index = field.lastIndexOf('.');
+            final Object parent = index > -1 ? getValue(pojo, field.substring(0, index)) : pojo;
+            if (null != parent) {
+                final String name = "set" + capitalize(field.substring(index + 1));
+                for (Method method : parent.getClass().getMethods()) {
+                    if (method.getName().equals(name) &&
+                            method.getParameterCount() == 1 &&
+                            (null == value || method.getParameterTypes()[0].isPrimitive() || method.getParameterTypes()[0].isInstance(value))) {
+                        invoke(method, parent, value);
+                        return;
+                    }
+                }
+                throw new IllegalArgumentException("No setter for " + parent.getClass().getName() + "." + field);
+            }
+        }
+
+        private static Method getGetter(Class<?> type, String field) {
+            try {
+                return type.getMethod("get" + capitalize(field));
+            } catch (NoSuchMethodException e) {
+                try {
+                    return type.getMethod("is" + capitalize(field));
+                } catch (NoSuchMethodException e1) {
+                    throw new IllegalArgumentException("No getter for " + type.getName() + "." + field, e1);
+                }
+            }
+        }
+
+        private static Object invoke(Method method, Object target, Object... args) {
+            try {
+                method.setAccessible(true);
+                return method.invoke(target, args);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String capitalize(String s) {
+            return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+        }
+    }
+}
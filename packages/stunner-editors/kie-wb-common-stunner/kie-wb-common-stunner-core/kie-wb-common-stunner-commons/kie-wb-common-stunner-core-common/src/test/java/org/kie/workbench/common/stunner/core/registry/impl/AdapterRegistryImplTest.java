@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.registry.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.definition.adapter.AdapterManagerImpl;
+import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionId;
+import org.kie.workbench.common.stunner.core.definition.adapter.MorphAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.bootstrap.BootstrapAdapterFactory;
+import org.kie.workbench.common.stunner.core.definition.adapter.exception.AdapterNotFoundException;
+import org.kie.workbench.common.stunner.core.definition.clone.DeepCloneProcess;
+import org.kie.workbench.common.stunner.core.registry.RegistryFactory;
+import org.kie.workbench.common.stunner.core.util.ClassUtils;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AdapterRegistryImplTest {
+
+    private static final int ADAPTERS = 30;
+    private static final int DEFINITIONS = 1000;
+    private static final String[] FIELDS = {"name", "documentation", "description"};
+
+    @Mock
+    private DefinitionAdapter definitionAdapter;
+
+    @Mock
+    private DefinitionAdapter otherDefinitionAdapter;
+
+    @Mock
+    private MorphAdapter morphAdapter;
+
+    private AdapterRegistryImpl tested;
+
+    @Before
+    public void setup() {
+        tested = new AdapterRegistryImpl();
+    }
+
+    @Test
+    public void testDefinitionAdapterIsResolvedOnce() {
+        when(definitionAdapter.accepts(Definition.class)).thenReturn(true);
+        tested.register(definitionAdapter);
+
+        assertSame(definitionAdapter, tested.getDefinitionAdapter(Definition.class));
+        assertSame(definitionAdapter, tested.getDefinitionAdapter(Definition.class));
+        verify(definitionAdapter, times(1)).accepts(Definition.class);
+    }
+
+    @Test
+    public void testMissingMorphAdapterIsResolvedOnce() {
+        tested.register(morphAdapter);
+
+        assertNull(tested.getMorphAdapter(Definition.class));
+        assertNull(tested.getMorphAdapter(Definition.class));
+        verify(morphAdapter, times(1)).accepts(Definition.class);
+    }
+
+    @Test
+    public void testResolutionIsClearedOnRegister() {
+        when(definitionAdapter.accepts(Definition.class)).thenReturn(true);
+        when(definitionAdapter.getPriority()).thenReturn(1);
+        when(otherDefinitionAdapter.accepts(Definition.class)).thenReturn(true);
+        when(otherDefinitionAdapter.getPriority()).thenReturn(0);
+        tested.register(definitionAdapter);
+        assertSame(definitionAdapter, tested.getDefinitionAdapter(Definition.class));
+
+        tested.register(otherDefinitionAdapter);
+        assertSame(otherDefinitionAdapter, tested.getDefinitionAdapter(Definition.class));
+    }
+
+    @Test(expected = AdapterNotFoundException.class)
+    public void testResolutionIsClearedOnRemove() {
+        when(definitionAdapter.accepts(Definition.class)).thenReturn(true);
+        tested.register(definitionAdapter);
+        assertSame(definitionAdapter, tested.getDefinitionAdapter(Definition.class));
+
+        tested.remove(definitionAdapter);
+        tested.getDefinitionAdapter(Definition.class);
+    }
+
+    /**
+     * Deep clones a large set of definitions, through the adapter manager, and counts the calls to
+     * {@link org.kie.workbench.common.stunner.core.definition.adapter.Adapter#accepts(Class)}.
+     * Scanning the adapters on each lookup used to cost, per clone, one scan for the definition id, two for
+     * the definition adapters and two for the property adapters of each field; now each adapter is only asked
+     * once per type.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeepCloneLookupCost() {
+        final AtomicInteger accepts = new AtomicInteger();
+        for (int i = 0; i < ADAPTERS; i++) {
+            final DefinitionAdapter other = mock(DefinitionAdapter.class);
+            when(other.accepts(any())).thenAnswer(invocation -> accepts.incrementAndGet() < 0);
+            tested.register(other);
+            final PropertyAdapter otherProperty = mock(PropertyAdapter.class);
+            when(otherProperty.accepts(any())).thenAnswer(invocation -> accepts.incrementAndGet() < 0);
+            tested.register(otherProperty);
+        }
+        when(definitionAdapter.accepts(any())).thenAnswer(invocation -> accepts.incrementAndGet() > 0);
+        when(definitionAdapter.getId(any())).thenReturn(DefinitionId.build("definition"));
+        when(definitionAdapter.getPropertyFields(any())).thenReturn(FIELDS);
+        when(definitionAdapter.getProperty(any(), anyString()))
+                .thenAnswer(invocation -> Optional.of(((Definition) invocation.getArgument(0)).properties.get(invocation.getArgument(1))));
+        tested.register(definitionAdapter);
+        final PropertyAdapter propertyAdapter = mock(PropertyAdapter.class);
+        when(propertyAdapter.accepts(any())).thenAnswer(invocation -> accepts.incrementAndGet() > 0);
+        when(propertyAdapter.getValue(any())).thenAnswer(invocation -> ((Property) invocation.getArgument(0)).value);
+        doAnswer(invocation -> ((Property) invocation.getArgument(0)).value = invocation.getArgument(1))
+                .when(propertyAdapter).setValue(any(), any());
+        tested.register(propertyAdapter);
+
+        final RegistryFactory registryFactory = mock(RegistryFactory.class);
+        when(registryFactory.newAdapterRegistry()).thenReturn(tested);
+        final FactoryManager factoryManager = mock(FactoryManager.class);
+        when(factoryManager.newDefinition(eq("definition"))).thenAnswer(invocation -> new Definition(""));
+        final DeepCloneProcess cloneProcess = new DeepCloneProcess(factoryManager,
+                                                                   new AdapterManagerImpl(registryFactory,
+                                                                                          new BootstrapAdapterFactory()),
+                                                                   new ClassUtils());
+
+        final List<Definition> clones = new ArrayList<>();
+        for (int i = 0; i < DEFINITIONS; i++) {
+            clones.add(cloneProcess.clone(new Definition("value" + i)));
+        }
+
+        for (int i = 0; i < DEFINITIONS; i++) {
+            assertEquals("value" + i, clones.get(i).properties.get(FIELDS[0]).value);
+        }
+        // Definition and Property types, resolved once against each of the registered adapters
+        assertEquals(2 * (ADAPTERS + 1), accepts.get());
+    }
+
+    private static class Property {
+
+        private Object value;
+
+        private Property(final Object value) {
+            this.value = value;
+        }
+    }
+
+    private static class Definition {
+
+        private final Map<String, Property> properties = new HashMap<>();
+
+        private Definition(final String value) {
+            for (String field : FIELDS) {
+                properties.put(field, new Property(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.core.processors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the source of a <code>BindableAccessors</code> table for a bindable type: one getter and setter
+ * lambda per field path (e.g. <code>general.name</code>), calling the bean methods directly.
+ * Fields without a public getter are left out, so they are still resolved by name at runtime.
+ */
+public class BindableAccessorsBuilder {
+
+    private final Elements elementUtils;
+    private final Types typeUtils;
+
+    public BindableAccessorsBuilder(final ProcessingEnvironment processingEnvironment) {
+        this.elementUtils = processingEnvironment.getElementUtils();
+        this.typeUtils = processingEnvironment.getTypeUtils();
+    }
+
+    public String build(final TypeElement classElement,
+                        final Collection<String> fields) {
+        final StringBuilder result = new StringBuilder("new BindableAccessors()");
+        if (!isAccessible(classElement)) {
+            return result.toString();
+        }
+        final String owner = "((" + getTypeName(typeUtils.erasure(classElement.asType())) + ") p)";
+        for (String field : fields) {
+            final List<TypeElement> owners = new ArrayList<>();
+            final List<ExecutableElement> getters = getGetters(classElement,
+                                                               field.split("\\."),
+                                                               owners);
+            if (null != getters) {
+                final int last = getters.size() - 1;
+                final ExecutableElement setter = getSetter(owners.get(last),
+                                                           getters.get(last));
+                result.append(".add(\"").append(field).append("\", ")
+                        .append(getterSource(owner, owners, getters)).append(", ")
+                        .append(null != setter ? setterSource(owner, owners, getters, setter) : "null")
+                        .append(")");
+            }
+        }
+        return result.toString();
+    }
+
+    private String getterSource(final String owner,
+                                final List<TypeElement> owners,
+                                final List<ExecutableElement> getters) {
+        final int last = getters.size() - 1;
+        if (last == 0) {
+            return "p -> " + owner + "." + getters.get(0).getSimpleName() + "()";
+        }
+        return "p -> { " + navigate(owner, owners, getters, "null") +
+                "return v" + (last - 1) + "." + getters.get(last).getSimpleName() + "(); }";
+    }
+
+    private String setterSource(final String owner,
+                                final List<TypeElement> owners,
+                                final List<ExecutableElement> getters,
+                                final ExecutableElement setter) {
+        final int last = getters.size() - 1;
+        final String value = "(" + getTypeName(getParameterType(owners.get(last), setter)) + ") v";
+        if (last == 0) {
+            return "(p, v) -> " + owner + "." + setter.getSimpleName() + "(" + value + ")";
+        }
+        return "(p, v) -> { " + navigate(owner, owners, getters, "") +
+                "v" + (last - 1) + "." + setter.getSimpleName() + "(" + value + "); }";
+    }
+
+    // Declares the parent values of the last field in the path, returning early when any of them is null.
+    private String navigate(final String owner,
+                            final List<TypeElement> owners,
+                            final List<ExecutableElement> getters,
+                            final String returnValue) {
+        final StringBuilder source = new StringBuilder();
+        String current = owner;
+        for (int i = 0; i < getters.size() - 1; i++) {
+            final ExecutableElement getter = getters.get(i);
+            final String var = "v" + i;
+            source.append(getTypeName(getReturnType(owners.get(i), getter))).append(" ").append(var)
+                    .append(" = ").append(current).append(".").append(getter.getSimpleName()).append("(); ")
+                    .append("if (null == ").append(var).append(") { return")
+                    .append(returnValue.isEmpty() ? "" : " " + returnValue).append("; } ");
+            current = var;
+        }
+        return source.toString();
+    }
+
+    private List<ExecutableElement> getGetters(final TypeElement classElement,
+                                               final String[] path,
+                                               final List<TypeElement> owners) {
+        final List<ExecutableElement> result = new ArrayList<>(path.length);
+        TypeElement current = classElement;
+        for (String field : path) {
+            final ExecutableElement getter = null != current ? getGetter(current, field) : null;
+            if (null == getter) {
+                return null;
+            }
+            owners.add(current);
+            result.add(getter);
+            final Element next = typeUtils.asElement(getReturnType(current, getter));
+            current = next instanceof TypeElement ? (TypeElement) next : null;
+        }
+        return result;
+    }
+
+    private ExecutableElement getGetter(final TypeElement classElement,
+                                        final String field) {
+        final String suffix = capitalize(field);
+        ExecutableElement result = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(classElement))) {
+            final String name = method.getSimpleName().toString();
+            final TypeMirror type = getReturnType(classElement, method);
+            if (isPublicMember(method) &&
+                    method.getParameters().isEmpty() &&
+                    type.getKind() != TypeKind.VOID &&
+                    isAccessible(type)) {
+                if (name.equals("get" + suffix)) {
+                    return method;
+                }
+                if (name.equals("is" + suffix) && isBoolean(type)) {
+                    result = method;
+                }
+            }
+        }
+        return result;
+    }
+
+    private ExecutableElement getSetter(final TypeElement classElement,
+                                        final ExecutableElement getter) {
+        final String name = "set" + getter.getSimpleName().toString().replaceFirst("^(get|is)", "");
+        final TypeMirror type = typeUtils.erasure(getReturnType(classElement, getter));
+        ExecutableElement result = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(classElement))) {
+            if (isPublicMember(method) &&
+                    method.getSimpleName().toString().equals(name) &&
+                    method.getParameters().size() == 1 &&
+                    isAccessible(getParameterType(classElement, method))) {
+                if (typeUtils.isSameType(type, typeUtils.erasure(getParameterType(classElement, method)))) {
+                    return method;
+                }
+                result = null != result ? result : method;
+            }
+        }
+        return result;
+    }
+
+    // The method types as seen from the given class, so inherited generic members use its type arguments.
+    private TypeMirror getReturnType(final TypeElement classElement,
+                                     final ExecutableElement method) {
+        return asMemberOf(classElement, method).getReturnType();
+    }
+
+    private TypeMirror getParameterType(final TypeElement classElement,
+                                        final ExecutableElement method) {
+        return asMemberOf(classElement, method).getParameterTypes().get(0);
+    }
+
+    private ExecutableType asMemberOf(final TypeElement classElement,
+                                      final ExecutableElement method) {
+        return (ExecutableType) typeUtils.asMemberOf((DeclaredType) classElement.asType(), method);
+    }
+
+    private String getTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return typeUtils.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return typeUtils.erasure(type).toString();
+    }
+
+    private boolean isBoolean(final TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || Boolean.class.getName().equals(type.toString());
+    }
+
+    private boolean isAccessible(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType());
+        }
+        final Element element = typeUtils.asElement(typeUtils.erasure(type));
+        return element instanceof TypeElement && isAccessible((TypeElement) element);
+    }
+
+    private static boolean isAccessible(final TypeElement classElement) {
+        Element element = classElement;
+        while (element instanceof TypeElement) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static boolean isPublicMember(final ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) &&
+                !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static String capitalize(final String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+}
@@ -21,6 +21,7 @@
 package org.kie.workbench.common.stunner.core.processors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -476,6 +477,23 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
             processingContext.getDefinitionAnnotations().getTypedPropertyFields().put(defintionClassName, typedPropertyFields);
             processingContext.getMetaPropertyTypesFields().put(defintionClassName, defMetaTypes);
 
+            // Direct accessors, for the property fields first and then for the definition fields.
+            ProcessingDefinitionAnnotations definitionAnnotations = processingContext.getDefinitionAnnotations();
+            Set<String> accessorFields = new LinkedHashSet<>(propertyFieldNames);
+            for (Map<String, String> fieldNames : Arrays.asList(definitionAnnotations.getIdFieldNames(),
+                                                                definitionAnnotations.getCategoryFieldNames(),
+                                                                definitionAnnotations.getTitleFieldNames(),
+                                                                definitionAnnotations.getDescriptionFieldNames(),
+                                                                definitionAnnotations.getLabelsFieldNames())) {
+                String fieldName = fieldNames.get(defintionClassName);
+                if (null != fieldName) {
+                    accessorFields.add(fieldName);
+                }
+            }
+            definitionAnnotations.getAccessors().put(defintionClassName,
+                                                     new BindableAccessorsBuilder(processingEnv).build(classElement,
+                                                                                                       accessorFields));
+
             // -- Morphing annotations --
             MorphBase morphBaseAnn = e.getAnnotation(MorphBase.class);
             Morph morphAnn = e.getAnnotation(Morph.class);
@@ -693,6 +711,11 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
                              ANNOTATION_PROPERTY_VALUE,
                              processingContext.getPropertyAnnotations().getValueFieldNames(),
                              true);
+            // Direct value field accessors.
+            String valueField = processingContext.getPropertyAnnotations().getValueFieldNames().get(propertyClassName);
+            processingContext.getPropertyAnnotations().getAccessors().put(propertyClassName,
+                                                                          new BindableAccessorsBuilder(processingEnv).build(classElement,
+                                                                                                                            Collections.singletonList(valueField)));
         }
         return false;
     }
@@ -39,6 +39,7 @@ public class ProcessingDefinitionAnnotations {
     private final Map<String, String> descriptionFieldNames = new HashMap<>();
     private final Map<String, TypeConstructor> builderFieldNames = new HashMap<>();
     private final Map<String, String[]> shapeDefs = new HashMap<>();
+    private final Map<String, String> accessors = new HashMap<>();
 
     public Map<String, String> getBaseTypes() {
         return baseTypes;
@@ -83,4 +84,8 @@ public class ProcessingDefinitionAnnotations {
     public Map<String, String[]> getShapeDefinitions() {
         return shapeDefs;
     }
+
+    public Map<String, String> getAccessors() {
+        return accessors;
+    }
 }
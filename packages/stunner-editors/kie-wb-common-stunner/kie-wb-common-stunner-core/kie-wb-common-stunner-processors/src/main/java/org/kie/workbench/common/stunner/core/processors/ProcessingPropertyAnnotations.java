@@ -26,8 +26,13 @@ import java.util.Map;
 public class ProcessingPropertyAnnotations {
 
     private final Map<String, String> valueFieldNames = new HashMap<>();
+    private final Map<String, String> accessors = new HashMap<>();
 
     public Map<String, String> getValueFieldNames() {
         return valueFieldNames;
     }
+
+    public Map<String, String> getAccessors() {
+        return accessors;
+    }
 }
@@ -89,6 +89,9 @@ public class BindableDefinitionAdapterGenerator extends AbstractBindableAdapterG
         addFields("bindings",
                   root,
                   defAdapterBindings);
+        addFields("accessors",
+                  root,
+                  processingDefinitionAnnotations.getAccessors());
 
         //Generate code
         return writeTemplate(packageName,
@@ -50,6 +50,9 @@ public class BindablePropertyAdapterGenerator extends AbstractBindableAdapterGen
         addFields("valuePropNames",
                   root,
                   processingPropertyAnnotations.getValueFieldNames());
+        addFields("accessors",
+                  root,
+                  processingPropertyAnnotations.getAccessors());
         //Generate code
         return writeTemplate(packageName,
                              className,
@@ -27,6 +27,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.HasInheritance;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAccessors;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableDefinitionAdapter;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
 import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapterWrapper;
@@ -38,12 +39,15 @@ import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
 @ApplicationScoped
 public class ${className} extends DefinitionAdapterWrapper<Object, BindableDefinitionAdapter<Object>> implements HasInheritance {
 
+    private BindableAdapterFunctions functions;
+
     protected ${className}() {
     }
 
     @Inject
     public ${className}(StunnerTranslationService translationService, BindableAdapterFunctions functions) {
         super(BindableDefinitionAdapterImpl.create(translationService, functions, new HashMap<>(${bindingsSize})));
+        this.functions = functions;
     }
 
     @PostConstruct
@@ -51,6 +55,9 @@ public class ${className} extends DefinitionAdapterWrapper<Object, BindableDefin
         <#list bindings as binding>
             adapter.addBindings(${binding.className}.class, ${binding.methodName});
         </#list>
+        <#list accessors as accessor>
+            functions.addAccessors(${accessor.className}.class, ${accessor.methodName});
+        </#list>
     }
 
     @Override
@@ -26,6 +26,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapterWrapper;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAccessors;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindablePropertyAdapter;
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindablePropertyAdapterImpl;
@@ -35,10 +36,13 @@ import org.kie.workbench.common.stunner.core.i18n.StunnerTranslationService;
 @ApplicationScoped
 public class ${className} extends PropertyAdapterWrapper<Object, Object, BindablePropertyAdapter<Object, Object>> {
 
+    private BindableAdapterFunctions functions;
+
     @Inject
     public ${className}(StunnerTranslationService translationService,
                             BindableAdapterFunctions functions) {
         super(BindablePropertyAdapterImpl.create(translationService, functions, new HashMap<>(${valuePropNamesSize})));
+        this.functions = functions;
     }
 
     @PostConstruct
@@ -46,6 +50,9 @@ public class ${className} extends PropertyAdapterWrapper<Object, Object, Bindabl
         <#list valuePropNames as valuePropName>
             adapter.addBinding(${valuePropName.className}.class, "${valuePropName.methodName}");
         </#list>
+        <#list accessors as accessor>
+            functions.addAccessors(${accessor.className}.class, ${accessor.methodName});
+        </#list>
     }
 
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+
+package org.kie.workbench.common.stunner.forms.client.widgets.container;
+
+import java.util.Objects;
+
+/**
+ * Key of the form displayers shared by all the elements of a graph with the same definition type.
+ */
+public class FormDisplayerPoolKey {
+
+    private String graphUuid;
+    private String definitionType;
+
+    public FormDisplayerPoolKey(String graphUuid, String definitionType) {
+        this.graphUuid = graphUuid;
+        this.definitionType = definitionType;
+    }
+
+    public String getGraphUuid() {
+        return graphUuid;
+    }
+
+    public String getDefinitionType() {
+        return definitionType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FormDisplayerPoolKey that = (FormDisplayerPoolKey) o;
+
+        return Objects.equals(graphUuid, that.graphUuid) && Objects.equals(definitionType, that.definitionType);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = graphUuid.hashCode();
+        result = ~~result;
+        result = 31 * result + definitionType.hashCode();
+        result = ~~result;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "FormDisplayerPoolKey{" +
+                "graphUuid='" + graphUuid + '\'' +
+                ", definitionType='" + definitionType + '\'' +
+                '}';
+    }
+}
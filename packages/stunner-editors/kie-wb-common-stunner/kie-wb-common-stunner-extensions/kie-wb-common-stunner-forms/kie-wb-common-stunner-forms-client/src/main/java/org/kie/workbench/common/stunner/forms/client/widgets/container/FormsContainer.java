@@ -21,6 +21,8 @@
 package org.kie.workbench.common.stunner.forms.client.widgets.container;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -47,9 +49,16 @@ public class FormsContainer implements IsElement {
 
     private static Logger LOGGER = Logger.getLogger(FormsContainer.class.getName());
 
+    /**
+     * Maximum number of displayers kept alive. Displayers are pooled per graph and definition type, so this only
+     * applies on diagrams using lots of different definition types; the least recently used ones are destroyed.
+     */
+    static final int MAX_DISPLAYERS = 20;
+
     private final FormsContainerView view;
     protected final ManagedInstance<FormDisplayer> displayersInstance;
     protected final Map<FormDisplayerKey, FormDisplayer> formDisplayers;
+    protected final LinkedHashMap<FormDisplayerPoolKey, FormDisplayer> pooledDisplayers;
     private final Event<FormFieldChanged> formFieldChangedEvent;
 
     private FormDisplayer currentDisplayer;
@@ -62,6 +71,7 @@ public class FormsContainer implements IsElement {
         this.displayersInstance = displayersInstance;
         this.formFieldChangedEvent = formFieldChangedEvent;
         this.formDisplayers = new HashMap<>();
+        this.pooledDisplayers = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     public void render(final String graphUuid,
@@ -70,7 +80,7 @@ public class FormsContainer implements IsElement {
                        final Path diagramPath,
                        final FieldChangeHandler changeHandler,
                        final RenderMode renderMode) {
-        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID);
+        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID, getDefinitionType(domainObject));
 
         displayer.render(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
 
@@ -87,34 +97,69 @@ public class FormsContainer implements IsElement {
     }
 
     protected FormDisplayer getDisplayer(final String graphUuid,
-                                         final String elementUuid) {
+                                         final String elementUuid,
+                                         final String definitionType) {
         FormDisplayerKey key = new FormDisplayerKey(graphUuid, elementUuid);
-        FormDisplayer displayer = formDisplayers.get(key);
+        FormDisplayerPoolKey poolKey = new FormDisplayerPoolKey(graphUuid, definitionType);
 
         LOGGER.fine("Getting form displayer for : " + key);
 
+        // Elements sharing a definition type share the displayer, which is re-rendered for the requested element.
+        FormDisplayer displayer = pooledDisplayers.get(poolKey);
+
         if (displayer != null) {
+            unbindElement(displayer);
+            formDisplayers.put(key, displayer);
             return displayer;
         }
 
-        LOGGER.fine("Creating new form displayer for : " + key);
+        LOGGER.fine("Creating new form displayer for : " + poolKey);
 
         displayer = displayersInstance.get();
         displayer.hide();
         view.addDisplayer(displayer);
 
-        formDisplayers.put(new FormDisplayerKey(graphUuid, elementUuid), displayer);
+        formDisplayers.put(key, displayer);
+        pooledDisplayers.put(poolKey, displayer);
+
+        evictDisplayers(displayer);
 
         return displayer;
     }
 
+    private void unbindElement(final FormDisplayer displayer) {
+        formDisplayers.values().removeIf(displayer::equals);
+    }
+
+    private void evictDisplayers(final FormDisplayer newDisplayer) {
+        Iterator<Map.Entry<FormDisplayerPoolKey, FormDisplayer>> it = pooledDisplayers.entrySet().iterator();
+        while (pooledDisplayers.size() > MAX_DISPLAYERS && it.hasNext()) {
+            FormDisplayer displayer = it.next().getValue();
+            if (displayer.equals(currentDisplayer) || displayer.equals(newDisplayer)) {
+                continue;
+            }
+            LOGGER.fine("Evicting least recently used form displayer");
+            it.remove();
+            unbindElement(displayer);
+            destroyDisplayer(displayer);
+        }
+    }
+
+    private static String getDefinitionType(final Object domainObject) {
+        return domainObject.getClass().getName();
+    }
+
     public void clearDiagramDisplayers(final String graphUuid) {
         LOGGER.fine("Clearing properties forms for graph: " + graphUuid);
-        List<FormDisplayerKey> keys = formDisplayers.keySet()
+        List<FormDisplayerPoolKey> keys = pooledDisplayers.keySet()
                 .stream()
                 .filter(entry -> entry.getGraphUuid().equals(graphUuid)).collect(Collectors.toList());
 
-        keys.forEach(this::clearDisplayer);
+        keys.forEach(key -> {
+            FormDisplayer displayer = pooledDisplayers.remove(key);
+            unbindElement(displayer);
+            destroyDisplayer(displayer);
+        });
         LOGGER.fine("Cleared properties forms for graph: " + graphUuid);
     }
 
@@ -128,7 +173,11 @@ public class FormsContainer implements IsElement {
     }
 
     public void flush(String graphUUID, String elementUUID) {
-        FormDisplayer displayer = getDisplayer(graphUUID, elementUUID);
+        FormDisplayer displayer = formDisplayers.get(new FormDisplayerKey(graphUUID, elementUUID));
+        if (null == displayer) {
+            // The element form is not rendered anymore, there's nothing pending to flush.
+            return;
+        }
         DynamicFormRenderer renderer = displayer.getRenderer();
         renderer.flush();
     }
@@ -136,6 +185,11 @@ public class FormsContainer implements IsElement {
     private void clearDisplayer(final FormDisplayerKey key) {
         FormDisplayer displayer = formDisplayers.remove(key);
         LOGGER.fine("Clearing form displayer for element: " + key.getElementUid());
+        pooledDisplayers.values().removeIf(displayer::equals);
+        destroyDisplayer(displayer);
+    }
+
+    private void destroyDisplayer(final FormDisplayer displayer) {
         view.removeDisplayer(displayer);
         displayer.hide();
         if (displayer.equals(currentDisplayer)) {
@@ -155,6 +209,7 @@ public class FormsContainer implements IsElement {
         currentDisplayer = null;
         displayersInstance.destroyAll();
         formDisplayers.clear();
+        pooledDisplayers.clear();
         currentDisplayer = null;
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+package org.kie.workbench.common.stunner.forms.client.widgets.container;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.client.DynamicFormRenderer;
+import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
+import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
+import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class FormsContainerTest {
+
+    private static final String GRAPH_UUID = "graph";
+    private static final String ELEMENT1_UUID = "element1";
+    private static final String ELEMENT2_UUID = "element2";
+
+    @Mock
+    private FormsContainerView view;
+
+    @Mock
+    private ManagedInstance<FormDisplayer> displayersInstance;
+
+    @Mock
+    private Event<FormFieldChanged> formFieldChangedEvent;
+
+    @Mock
+    private Path path;
+
+    @Mock
+    private FieldChangeHandler changeHandler;
+
+    private List<FormDisplayer> displayers = new ArrayList<>();
+
+    private FormsContainer formsContainer;
+
+    @Before
+    public void init() {
+        when(displayersInstance.get()).thenAnswer(invocation -> {
+            FormDisplayer displayer = mock(FormDisplayer.class);
+            when(displayer.getRenderer()).thenReturn(mock(DynamicFormRenderer.class));
+            displayers.add(displayer);
+            return displayer;
+        });
+
+        formsContainer = new FormsContainer(view, displayersInstance, formFieldChangedEvent);
+    }
+
+    @Test
+    public void testRenderSameDefinitionTypeReusesDisplayer() {
+        render(GRAPH_UUID, ELEMENT1_UUID, new FirstDefinition());
+        render(GRAPH_UUID, ELEMENT2_UUID, new FirstDefinition());
+
+        assertEquals(1, displayers.size());
+        FormDisplayer displayer = displayers.get(0);
+        verify(view, times(1)).addDisplayer(displayer);
+        verify(displayer).render(eq(ELEMENT1_UUID), any(), eq(path), eq(changeHandler), eq(RenderMode.EDIT_MODE));
+        verify(displayer).render(eq(ELEMENT2_UUID), any(), eq(path), eq(changeHandler), eq(RenderMode.EDIT_MODE));
+
+        assertFalse(formsContainer.formDisplayers.containsKey(new FormDisplayerKey(GRAPH_UUID, ELEMENT1_UUID)));
+        assertSame(displayer, formsContainer.formDisplayers.get(new FormDisplayerKey(GRAPH_UUID, ELEMENT2_UUID)));
+        assertSame(displayer, formsContainer.pooledDisplayers.get(new FormDisplayerPoolKey(GRAPH_UUID, FirstDefinition.class.getName())));
+    }
+
+    @Test
+    public void testRenderDifferentDefinitionTypes() {
+        render(GRAPH_UUID, ELEMENT1_UUID, new FirstDefinition());
+        render(GRAPH_UUID, ELEMENT2_UUID, new SecondDefinition());
+
+        assertEquals(2, displayers.size());
+        verify(displayers.get(0), times(2)).hide();
+        verify(displayers.get(1)).show();
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedDisplayers() {
+        for (int i = 0; i <= FormsContainer.MAX_DISPLAYERS; i++) {
+            render(GRAPH_UUID + i, ELEMENT1_UUID, new FirstDefinition());
+        }
+
+        assertEquals(FormsContainer.MAX_DISPLAYERS + 1, displayers.size());
+        assertEquals(FormsContainer.MAX_DISPLAYERS, formsContainer.pooledDisplayers.size());
+
+        FormDisplayer evicted = displayers.get(0);
+        verify(view).removeDisplayer(evicted);
+        verify(displayersInstance).destroy(evicted);
+        assertFalse(formsContainer.formDisplayers.containsValue(evicted));
+
+        FormDisplayer current = displayers.get(FormsContainer.MAX_DISPLAYERS);
+        verify(displayersInstance, never()).destroy(current);
+    }
+
+    @Test
+    public void testFlush() {
+        render(GRAPH_UUID, ELEMENT1_UUID, new FirstDefinition());
+
+        formsContainer.flush(GRAPH_UUID, ELEMENT1_UUID);
+        formsContainer.flush(GRAPH_UUID, ELEMENT2_UUID);
+
+        assertEquals(1, displayers.size());
+        verify(displayers.get(0).getRenderer(), times(1)).flush();
+    }
+
+    @Test
+    public void testClearFormDisplayer() {
+        render(GRAPH_UUID, ELEMENT1_UUID, new FirstDefinition());
+        FormDisplayer displayer = displayers.get(0);
+
+        formsContainer.clearFormDisplayer(GRAPH_UUID, ELEMENT1_UUID);
+
+        verify(view).removeDisplayer(displayer);
+        verify(displayersInstance).destroy(displayer);
+        assertTrue(formsContainer.formDisplayers.isEmpty());
+        assertTrue(formsContainer.pooledDisplayers.isEmpty());
+    }
+
+    @Test
+    public void testClearDiagramDisplayers() {
+        render(GRAPH_UUID, ELEMENT1_UUID, new FirstDefinition());
+        render(GRAPH_UUID, ELEMENT2_UUID, new SecondDefinition());
+        render("anotherGraph", ELEMENT1_UUID, new FirstDefinition());
+
+        formsContainer.clearDiagramDisplayers(GRAPH_UUID);
+
+        verify(displayersInstance).destroy(displayers.get(0));
+        verify(displayersInstance).destroy(displayers.get(1));
+        verify(displayersInstance, never()).destroy(displayers.get(2));
+        assertEquals(1, formsContainer.formDisplayers.size());
+        assertEquals(1, formsContainer.pooledDisplayers.size());
+    }
+
+    private void render(final String graphUuid,
+                        final String elementUuid,
+                        final Object definition) {
+        formsContainer.render(graphUuid, elementUuid, definition, path, changeHandler, RenderMode.EDIT_MODE);
+    }
+
+    private static class FirstDefinition {
+
+    }
+
+    private static class SecondDefinition {
+
+    }
+}
@@ -46,6 +46,12 @@ public abstract class AbstractComboBoxFieldRenderer<T extends ComboBoxFieldDefin
 
     private ListBoxValues valueListBoxValues;
 
+    /**
+     * Read only state of this rendering. It's not stored on the field definition, which is shared by every form
+     * generated for the same model type.
+     */
+    private boolean readOnly;
+
     @Inject
     public AbstractComboBoxFieldRenderer(final ComboBoxWidgetView comboBoxEditor, final ClientTranslationService translationService) {
         this.view = comboBoxEditor;
@@ -81,7 +87,7 @@ public abstract class AbstractComboBoxFieldRenderer<T extends ComboBoxFieldDefin
     protected FormGroup getFormGroup(RenderMode renderMode) {
         DefaultFormGroup formGroup = formGroupsInstance.get();
 
-        view.setReadOnly(field.getReadOnly());
+        view.setReadOnly(field.getReadOnly() || readOnly);
         refreshSelectorOptions();
 
         formGroup.render(view.asWidget(), field);
@@ -91,6 +97,6 @@ public abstract class AbstractComboBoxFieldRenderer<T extends ComboBoxFieldDefin
     @Override
     protected void setReadOnly(boolean readOnly) {
         view.setReadOnly(readOnly);
-        field.setReadOnly(readOnly);
+        this.readOnly = readOnly;
     }
 }
@@ -51,6 +51,8 @@ public class ConditionalComboBoxFieldRenderer extends AbstractComboBoxFieldRende
 
     private AdapterManager adapterManager;
 
+    private boolean conditionReadOnly;
+
     @Inject
     public ConditionalComboBoxFieldRenderer(@FixedValues final ComboBoxFixedValuesWidgetView comboBoxEditor,
                                             final ClientTranslationService translationService,
@@ -92,11 +94,12 @@ public class ConditionalComboBoxFieldRenderer extends AbstractComboBoxFieldRende
                                                 List<String> fields) {
         final Object formModel = getModelFromFormContext(renderingContext);
 
-        setReadOnly(fields.stream().allMatch(f -> {
+        conditionReadOnly = fields.stream().allMatch(f -> {
             Object relatedFieldDefinition = getFormFieldProxiedDefinition(formModel,
                                                                           extractSubFields(f));
             return verifyReadOnlyCondition(adapterManager.forProperty().getValue(relatedFieldDefinition));
-        }));
+        });
+        setReadOnly(conditionReadOnly);
     }
 
     private Object getFormFieldProxiedDefinition(Object formModel,
@@ -137,8 +140,13 @@ public class ConditionalComboBoxFieldRenderer extends AbstractComboBoxFieldRende
     }
 
     public void refreshFieldCondition(Object conditionValue) {
-        boolean readOnly = verifyReadOnlyCondition(conditionValue);
-        setReadOnly(readOnly);
+        conditionReadOnly = verifyReadOnlyCondition(conditionValue);
+        setReadOnly(conditionReadOnly);
+    }
+
+    @Override
+    protected void setReadOnly(boolean readOnly) {
+        super.setReadOnly(readOnly || conditionReadOnly);
     }
 
     private boolean verifyReadOnlyCondition(Object conditionValue) {
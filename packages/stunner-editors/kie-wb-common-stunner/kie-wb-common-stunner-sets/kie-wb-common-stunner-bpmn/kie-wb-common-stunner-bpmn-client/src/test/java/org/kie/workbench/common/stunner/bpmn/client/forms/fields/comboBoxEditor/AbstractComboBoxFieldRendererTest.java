@@ -25,9 +25,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jboss.errai.ioc.client.api.ManagedInstance;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.client.rendering.formGroups.impl.def.DefaultFormGroup;
+import org.kie.workbench.common.forms.dynamic.client.rendering.util.FormsElementWrapperWidgetUtil;
+import org.kie.workbench.common.forms.dynamic.service.shared.FormRenderingContext;
+import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
 import org.kie.workbench.common.stunner.bpmn.client.forms.fields.i18n.StunnerBPMNConstants;
 import org.kie.workbench.common.stunner.bpmn.client.forms.util.ListBoxValues;
 import org.kie.workbench.common.stunner.bpmn.forms.model.ComboBoxFieldDefinition;
@@ -37,7 +42,11 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +63,18 @@ public class AbstractComboBoxFieldRendererTest {
     @Mock
     private ComboBoxFieldDefinition comboBoxFieldDefinition;
 
+    @Mock
+    private ManagedInstance<DefaultFormGroup> formGroupsInstanceMock;
+
+    @Mock
+    private DefaultFormGroup formGroup;
+
+    @Mock
+    private FormsElementWrapperWidgetUtil wrapperWidgetUtilMock;
+
+    @Mock
+    private FormRenderingContext renderingContext;
+
     @Spy
     @InjectMocks
     private AbstractComboBoxFieldRenderer comboBoxFieldRenderer = new ComboBoxFieldRenderer(comboBoxWidgetView, translationService);
@@ -95,4 +116,38 @@ public class AbstractComboBoxFieldRendererTest {
         verify(comboBoxWidgetView,
                times(1)).setReadOnly(true);
     }
+
+    @Test
+    public void testRenderReadOnlyThenEditableWithSameFieldDefinition() {
+        ComboBoxFieldDefinition sharedField = new ComboBoxFieldDefinition();
+        when(formGroupsInstanceMock.get()).thenReturn(formGroup);
+
+        when(renderingContext.getRenderMode()).thenReturn(RenderMode.READ_ONLY_MODE);
+        render(sharedField);
+
+        verify(comboBoxWidgetView).setReadOnly(true);
+        assertFalse(sharedField.getReadOnly());
+
+        reset(comboBoxWidgetView);
+        when(renderingContext.getRenderMode()).thenReturn(RenderMode.EDIT_MODE);
+        render(sharedField);
+
+        verify(comboBoxWidgetView,
+               never()).setReadOnly(true);
+        verify(comboBoxWidgetView,
+               atLeastOnce()).setReadOnly(false);
+    }
+
+    private void render(ComboBoxFieldDefinition field) {
+        ComboBoxFieldRenderer renderer = new ComboBoxFieldRenderer(comboBoxWidgetView,
+                                                                   translationService) {
+            {
+                formGroupsInstance = formGroupsInstanceMock;
+                wrapperWidgetUtil = wrapperWidgetUtilMock;
+            }
+        };
+        renderer.init(renderingContext,
+                      field);
+        renderer.renderWidget();
+    }
 }
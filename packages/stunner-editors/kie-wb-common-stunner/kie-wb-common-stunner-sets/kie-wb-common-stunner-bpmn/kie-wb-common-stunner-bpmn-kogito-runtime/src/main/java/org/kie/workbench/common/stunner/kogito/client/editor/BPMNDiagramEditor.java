@@ -42,7 +42,7 @@ import org.kie.workbench.common.stunner.client.widgets.resources.i18n.StunnerWid
 import org.kie.workbench.common.stunner.core.client.ReadOnlyProvider;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasPreviewSvg;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
 import org.kie.workbench.common.stunner.core.client.service.ClientRuntimeError;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
@@ -77,7 +77,7 @@ public class BPMNDiagramEditor {
     private final StunnerEditor stunnerEditor;
     private final ClientTranslationService translationService;
     private final AbstractKogitoClientDiagramService diagramServices;
-    private final CanvasFileExport canvasFileExport;
+    private final CanvasPreviewSvg canvasPreviewSvg;
     private final DiagramEditorPreviewAndExplorerDock diagramPreviewAndExplorerDock;
     private final DiagramEditorPropertiesDock diagramPropertiesDock;
     private final FormsFlushManager formsFlushManager;
@@ -96,7 +96,7 @@ public class BPMNDiagramEditor {
                              StunnerEditor stunnerEditor,
                              ClientTranslationService translationService,
                              AbstractKogitoClientDiagramService diagramServices,
-                             CanvasFileExport canvasFileExport,
+                             CanvasPreviewSvg canvasPreviewSvg,
                              DiagramEditorPreviewAndExplorerDock diagramPreviewAndExplorerDock,
                              DiagramEditorPropertiesDock diagramPropertiesDock,
                              FormsFlushManager formsFlushManager,
@@ -107,7 +107,7 @@ public class BPMNDiagramEditor {
         this.stunnerEditor = stunnerEditor;
         this.translationService = translationService;
         this.diagramServices = diagramServices;
-        this.canvasFileExport = canvasFileExport;
+        this.canvasPreviewSvg = canvasPreviewSvg;
         this.diagramPreviewAndExplorerDock = diagramPreviewAndExplorerDock;
         this.diagramPropertiesDock = diagramPropertiesDock;
         this.formsFlushManager = formsFlushManager;
@@ -132,6 +132,7 @@ public class BPMNDiagramEditor {
     private void close() {
         commands.clear();
         docksClose();
+        canvasPreviewSvg.invalidate();
         stunnerEditor.close();
     }
 
@@ -147,7 +148,7 @@ public class BPMNDiagramEditor {
     public Promise<String> getPreview() {
         CanvasHandler canvasHandler = stunnerEditor.getCanvasHandler();
         if (canvasHandler != null) {
-            return promises.resolve(canvasFileExport.exportToSvg((AbstractCanvasHandler) canvasHandler));
+            return promises.resolve(canvasPreviewSvg.getSvg((AbstractCanvasHandler) canvasHandler));
         } else {
             return promises.resolve("");
         }
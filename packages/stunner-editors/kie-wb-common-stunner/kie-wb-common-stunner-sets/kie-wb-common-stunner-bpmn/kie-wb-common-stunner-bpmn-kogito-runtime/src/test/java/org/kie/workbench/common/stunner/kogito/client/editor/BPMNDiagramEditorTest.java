@@ -31,7 +31,7 @@ import org.kie.workbench.common.stunner.client.widgets.editor.StunnerEditor;
 import org.kie.workbench.common.stunner.client.widgets.presenters.Viewer;
 import org.kie.workbench.common.stunner.core.client.ReadOnlyProvider;
 import org.kie.workbench.common.stunner.core.client.canvas.AbstractCanvasHandler;
-import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasFileExport;
+import org.kie.workbench.common.stunner.core.client.canvas.util.CanvasPreviewSvg;
 import org.kie.workbench.common.stunner.core.client.i18n.ClientTranslationService;
 import org.kie.workbench.common.stunner.core.client.service.ServiceCallback;
 import org.kie.workbench.common.stunner.core.client.session.ClientSession;
@@ -75,7 +75,7 @@ public class BPMNDiagramEditorTest {
     @Mock
     private AbstractKogitoClientDiagramService diagramServices;
     @Mock
-    private CanvasFileExport canvasFileExport;
+    private CanvasPreviewSvg canvasPreviewSvg;
     @Mock
     private DiagramEditorPreviewAndExplorerDock diagramPreviewAndExplorerDock;
     @Mock
@@ -117,7 +117,7 @@ public class BPMNDiagramEditorTest {
                                        stunnerEditor,
                                        translationService,
                                        diagramServices,
-                                       canvasFileExport,
+                                       canvasPreviewSvg,
                                        diagramPreviewAndExplorerDock,
                                        diagramPropertiesDock,
                                        formsFlushManager,
@@ -152,6 +152,7 @@ public class BPMNDiagramEditorTest {
         verify(commands, times(1)).clear();
         verify(diagramPropertiesDock, times(1)).close();
         verify(diagramPreviewAndExplorerDock, times(1)).close();
+        verify(canvasPreviewSvg, times(1)).invalidate();
         verify(stunnerEditor, times(1)).close();
     }
 
@@ -173,7 +174,7 @@ public class BPMNDiagramEditorTest {
 
     @Test
     public void testGetPreview() {
-        when(canvasFileExport.exportToSvg(eq(canvasHandler))).thenReturn("<svg/>");
+        when(canvasPreviewSvg.getSvg(eq(canvasHandler))).thenReturn("<svg/>");
         Promise content = tested.getPreview();
         final String[] result = {""};
         content.then(p -> {
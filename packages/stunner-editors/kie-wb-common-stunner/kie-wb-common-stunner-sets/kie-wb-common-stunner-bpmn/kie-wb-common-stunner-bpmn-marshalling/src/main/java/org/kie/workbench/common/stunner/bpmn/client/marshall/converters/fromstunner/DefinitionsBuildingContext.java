@@ -178,6 +178,18 @@ abstract class DefinitionsContextHelper<
 
     private Map<String, Node> findEdgesBydId(String nodeId) {
         Map<String, Node> nodes = new HashMap<>();
+        NodeT node = getNode(nodeId);
+        if (node != null) {
+            // every child edge of a node in this context starts from that node:
+            // read its out-edges instead of scanning the child edges of the whole context
+            // (that scan ran once per lane and sub-process, quadratic on large diagrams)
+            node.getOutEdges()
+                    .stream()
+                    .filter(this::isChild)
+                    .map(Edge::getTargetNode)
+                    .forEach(n -> nodes.put(n.getUUID(), n));
+            return nodes;
+        }
         childEdges()
                 .filter(e -> e.getSourceNode().getUUID().equals(nodeId))
                 .map(Edge::getTargetNode)
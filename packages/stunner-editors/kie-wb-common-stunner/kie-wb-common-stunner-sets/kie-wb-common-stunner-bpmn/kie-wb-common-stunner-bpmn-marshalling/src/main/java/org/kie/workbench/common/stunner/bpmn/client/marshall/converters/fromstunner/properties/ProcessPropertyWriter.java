@@ -23,9 +23,11 @@ package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstu
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import bpsim.BPSimDataType;
 import bpsim.BpsimPackage;
@@ -46,6 +48,7 @@ import org.eclipse.dd.di.DiagramElement;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.impl.EStructuralFeatureImpl;
 import org.eclipse.emf.ecore.util.FeatureMap;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.kie.workbench.common.stunner.bpmn.client.forms.util.StringUtils;
 import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.customproperties.CustomAttribute;
 import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.customproperties.CustomElement;
@@ -70,6 +73,9 @@ public class ProcessPropertyWriter extends BasePropertyWriter implements Element
     private final BPMNDiagram bpmnDiagram;
     private final BPMNPlane bpmnPlane;
     private Map<String, BasePropertyWriter> childElements = new HashMap<>();
+    // identity of every shape/edge already on the plane: EList#contains and EList#add
+    // both scan the whole list, which made adding N shapes quadratic on large diagrams
+    private final Set<DiagramElement> planeElements = new HashSet<>();
     private Collection<ElementParameters> simulationParameters = new ArrayList<>();
 
     public ProcessPropertyWriter(Process process, VariableScope variableScope) {
@@ -98,22 +104,25 @@ public class ProcessPropertyWriter extends BasePropertyWriter implements Element
         if (shape == null) {
             return;
         }
-        List<DiagramElement> planeElement = bpmnPlane.getPlaneElement();
-        if (planeElement.contains(shape)) {
+        if (!planeElements.add(shape)) {
             throw new IllegalArgumentException("Cannot add the same shape twice: " + shape.getId());
         }
-        planeElement.add(shape);
+        addPlaneElement(shape);
     }
 
     public void addChildEdge(BPMNEdge edge) {
         if (edge == null) {
             return;
         }
-        List<DiagramElement> planeElement = bpmnPlane.getPlaneElement();
-        if (planeElement.contains(edge)) {
+        if (!planeElements.add(edge)) {
             throw new IllegalArgumentException("Cannot add the same edge twice: " + edge.getId());
         }
-        planeElement.add(edge);
+        addPlaneElement(edge);
+    }
+
+    // uniqueness is already guaranteed by planeElements, skip the linear check done by EList#add
+    private void addPlaneElement(DiagramElement element) {
+        ((InternalEList<DiagramElement>) bpmnPlane.getPlaneElement()).addUnique(element);
     }
 
     public BPMNDiagram getBpmnDiagram() {
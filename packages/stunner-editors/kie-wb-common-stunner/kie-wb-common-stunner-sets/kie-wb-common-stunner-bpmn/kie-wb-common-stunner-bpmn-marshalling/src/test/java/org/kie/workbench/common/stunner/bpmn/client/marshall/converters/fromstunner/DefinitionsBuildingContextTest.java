@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.bpmn.definition.AdHocSubprocess;
+import org.kie.workbench.common.stunner.bpmn.definition.BPMNDiagramImpl;
+import org.kie.workbench.common.stunner.bpmn.definition.BusinessRuleTask;
+import org.kie.workbench.common.stunner.bpmn.definition.EmbeddedSubprocess;
+import org.kie.workbench.common.stunner.bpmn.definition.EndCompensationEvent;
+import org.kie.workbench.common.stunner.bpmn.definition.EndNoneEvent;
+import org.kie.workbench.common.stunner.bpmn.definition.IntermediateSignalEventThrowing;
+import org.kie.workbench.common.stunner.bpmn.definition.ScriptTask;
+import org.kie.workbench.common.stunner.bpmn.definition.StartNoneEvent;
+import org.kie.workbench.common.stunner.bpmn.definition.UserTask;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL0_END_NODE;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL0_NODE1;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL0_NODE2;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL0_START_NODE;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL1_NODE1;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL1_NODE2;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL1_SUB_PROCESS1;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL2_NODE1;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL2_NODE2;
+import static org.kie.workbench.common.stunner.bpmn.client.marshall.converters.fromstunner.processes.TestingGraphInstanceBuilder2.NODES.LEVEL2_SUB_PROCESS1;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DefinitionsBuildingContextTest {
+
+    private TestingGraphInstanceBuilder2.Level2Graph graph;
+
+    private DefinitionsBuildingContext context;
+
+    @Before
+    public void setUp() {
+        graph = TestingGraphInstanceBuilder2.buildLevel2Graph(new TestingGraphMockHandler(),
+                                                              new BPMNDiagramImpl(),
+                                                              new StartNoneEvent(),
+                                                              new UserTask(),
+                                                              new UserTask(),
+                                                              new EndNoneEvent(),
+                                                              new EmbeddedSubprocess(),
+                                                              new ScriptTask(),
+                                                              new IntermediateSignalEventThrowing(),
+                                                              new AdHocSubprocess(),
+                                                              new BusinessRuleTask(),
+                                                              new EndCompensationEvent());
+        context = new DefinitionsBuildingContext(graph.graph);
+    }
+
+    @Test
+    public void testWithRootNodeOutsideTheContext() {
+        // The diagram node is not one of the context nodes, its children are found by scanning the child edges
+        final DefinitionsBuildingContext root = context.withRootNode(graph.parentNode);
+
+        assertThat(root.firstNode()).isSameAs(graph.parentNode);
+        assertThat(uuids(root)).containsExactlyInAnyOrder(LEVEL0_START_NODE.uuid(),
+                                                          LEVEL0_NODE1.uuid(),
+                                                          LEVEL0_NODE2.uuid(),
+                                                          LEVEL0_END_NODE.uuid(),
+                                                          LEVEL1_SUB_PROCESS1.uuid());
+        assertThat(uuids(root)).isEqualTo(scannedChildren(context, graph.parentNode));
+    }
+
+    @Test
+    public void testWithRootNodeNestedSubProcesses() {
+        final DefinitionsBuildingContext level1 = context.withRootNode(LEVEL1_SUB_PROCESS1.uuid());
+
+        assertThat(level1.firstNode()).isSameAs(graph.level1SubProcess1);
+        assertThat(uuids(level1)).containsExactlyInAnyOrder(LEVEL1_NODE1.uuid(),
+                                                            LEVEL1_NODE2.uuid(),
+                                                            LEVEL2_SUB_PROCESS1.uuid());
+        assertThat(uuids(level1)).isEqualTo(scannedChildren(context, graph.level1SubProcess1));
+
+        final DefinitionsBuildingContext level2 = level1.withRootNode(LEVEL2_SUB_PROCESS1.uuid());
+
+        assertThat(level2.firstNode()).isSameAs(graph.level2SubProcess1);
+        assertThat(uuids(level2)).containsExactlyInAnyOrder(LEVEL2_NODE1.uuid(),
+                                                            LEVEL2_NODE2.uuid());
+        assertThat(uuids(level2)).isEqualTo(scannedChildren(level1, graph.level2SubProcess1));
+        assertThat(uuids(level2)).isEqualTo(scannedChildren(context, graph.level2SubProcess1));
+    }
+
+    @Test
+    public void testWithRootNodeWithoutChildren() {
+        assertThat(uuids(context.withRootNode(LEVEL2_NODE1.uuid()))).isEmpty();
+    }
+
+    private static Set<String> uuids(final DefinitionsBuildingContext context) {
+        return context.nodes()
+                .map(Node::getUUID)
+                .collect(Collectors.toSet());
+    }
+
+    // The children found by scanning every child edge of the context, as withRootNode did before
+    private static Set<String> scannedChildren(final DefinitionsBuildingContext context,
+                                               final Node<?, ?> parent) {
+        return context.childEdges()
+                .filter(e -> e.getSourceNode().getUUID().equals(parent.getUUID()))
+                .map(e -> e.getTargetNode().getUUID())
+                .collect(Collectors.toSet());
+    }
+}
@@ -28,6 +28,7 @@ import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.ProcessType;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.dd.di.DiagramElement;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -129,6 +130,40 @@ public class ProcessPropertyWriterTest {
                 .hasMessageStartingWith("Cannot add the same edge twice");
     }
 
+    @Test
+    public void addChildShapesAndEdgesToSeveralPlanes() {
+        ProcessPropertyWriter other = new ProcessPropertyWriter(
+                bpmn2.createProcess(), variableScope);
+        List<DiagramElement> expected = new ArrayList<>();
+        List<DiagramElement> otherExpected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            BPMNShape shape = di.createBPMNShape();
+            shape.setId("shape" + i);
+            BPMNEdge edge = di.createBPMNEdge();
+            edge.setId("edge" + i);
+            BPMNShape otherShape = di.createBPMNShape();
+            otherShape.setId("otherShape" + i);
+            p.addChildShape(shape);
+            p.addChildEdge(edge);
+            other.addChildShape(otherShape);
+            expected.add(shape);
+            expected.add(edge);
+            otherExpected.add(otherShape);
+        }
+
+        // every plane keeps its own elements, in the order they were added
+        assertThat(p.getBpmnDiagram().getPlane().getPlaneElement()).containsExactlyElementsOf(expected);
+        assertThat(other.getBpmnDiagram().getPlane().getPlaneElement()).containsExactlyElementsOf(otherExpected);
+
+        assertThatThrownBy(() -> p.addChildShape((BPMNShape) expected.get(48)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot add the same shape twice: shape24");
+        assertThatThrownBy(() -> p.addChildEdge((BPMNEdge) expected.get(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot add the same edge twice: edge0");
+        assertThat(p.getBpmnDiagram().getPlane().getPlaneElement()).hasSize(100);
+    }
+
     @Test
     public void caseRoles() {
         CaseRoles caseRole = new CaseRoles("role");
@@ -19,6 +19,7 @@ package com.ait.lienzo.client.core.image;
 import java.util.Collection;
 
 import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.image.filter.AbstractImageDataFilter;
 import com.ait.lienzo.client.core.image.filter.ImageDataFilter;
 import com.ait.lienzo.client.core.image.filter.ImageDataFilterChain;
 import com.ait.lienzo.client.core.image.filter.ImageDataFilterable;
@@ -27,12 +28,10 @@ import com.ait.lienzo.client.core.shape.AbstractImageShape;
 import com.ait.lienzo.client.core.shape.Layer;
 import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.util.ScratchPad;
-import com.ait.lienzo.client.widget.RootPanel;
 import com.ait.lienzo.shared.core.types.ImageFilterType;
 import com.ait.lienzo.shared.core.types.ImageSelectionMode;
 import com.google.gwt.resources.client.ImageResource;
 import elemental2.dom.HTMLImageElement;
-import elemental2.dom.Image;
 import elemental2.dom.ImageData;
 
 /**
@@ -40,15 +39,21 @@ import elemental2.dom.ImageData;
  */
 public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFilterable<ImageProxy<T>> {
 
+    private static long s_id_counter = 0;
+
+    private final long m_id = ++s_id_counter;
+
     private final T m_image;
 
-    private Image m_img;
+    private final ImageProxyCache m_cache;
 
-    private HTMLImageElement m_jsimg;
+    private ImageProxyCache.ImageEntry m_source;
 
-    private final ScratchPad m_normalImage;
+    private ImageProxyCache.CanvasEntry m_canvas;
 
-    private final ScratchPad m_filterImage;
+    private HTMLImageElement m_jsimg;
+
+    private ScratchPad m_filterImage;
 
     private final ScratchPad m_selectImage;
 
@@ -84,23 +89,23 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
 
     /**
      * Creates an ImageProxy for the specified {@link AbstractImageShape}.
+     * The decoded image and the normal and filtered canvases are shared, through the {@link ImageProxyCache},
+     * with the other proxies showing the same image. The selection canvas is painted with the shape's
+     * own color key, so it is kept by each proxy.
      *
      * @param image {@link AbstractImageShape}
      */
     public ImageProxy(final T image) {
         this(image,
-             new ScratchPad(0, 0),
-             new ScratchPad(0, 0),
+             ImageProxyCache.get(),
              new ScratchPad(0, 0));
     }
 
     ImageProxy(final T image,
-               final ScratchPad normalImage,
-               final ScratchPad filterImage,
+               final ImageProxyCache cache,
                final ScratchPad selectionImage) {
         m_image = image;
-        m_normalImage = normalImage;
-        m_filterImage = filterImage;
+        m_cache = cache;
         m_selectImage = selectionImage;
     }
 
@@ -119,20 +124,7 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
 
         m_dest_high = m_obounds.getDestHigh();
 
-        m_img = new Image();
-
-        new ImageLoader(url,
-                        m_img) {
-            @Override
-            public final void onImageElementLoad(final HTMLImageElement elem) {
-                doInitialize(elem);
-            }
-
-            @Override
-            public final void onImageElementError(final String message) {
-                doneLoading(false, message);
-            }
-        };
+        doLoad(m_cache.loadImage(url));
     }
 
     public final void load(final ImageResource resource) {
@@ -150,20 +142,30 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
 
         m_dest_high = m_obounds.getDestHigh();
 
-        m_img = new Image();
+        doLoad(m_cache.loadImage(resource));
+    }
 
-        new ImageLoader(resource,
-                        m_img) {
+    private final void doLoad(final ImageProxyCache.ImageEntry source) {
+        release();
+
+        m_source = source;
+
+        source.addHandler(new ImageProxyCache.ImageElementHandler() {
             @Override
-            public final void onImageElementLoad(final HTMLImageElement elem) {
-                doInitialize(elem);
+            public void onImageElementLoad(final HTMLImageElement elem) {
+                // Ignore the outcome of a previous load
+                if (m_source == source) {
+                    doInitialize(elem);
+                }
             }
 
             @Override
-            public final void onImageElementError(final String message) {
-                doneLoading(false, message);
+            public void onImageElementError(final String message) {
+                if (m_source == source) {
+                    doneLoading(false, message);
+                }
             }
-        };
+        });
     }
 
     private final void doInitialize(final HTMLImageElement image) {
@@ -184,34 +186,110 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
         if ((!(m_filters.isActive())) && (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
             m_fastout = true;
 
+            releaseCanvas();
+
             doneLoading(true, "loaded " + m_image.getURL());
         } else {
             m_fastout = false;
 
-            m_normalImage.setPixelSize(m_dest_wide, m_dest_high);
-
-            m_filterImage.setPixelSize(m_dest_wide, m_dest_high);
-
-            m_selectImage.setPixelSize(m_dest_wide, m_dest_high);
-
-            m_normalImage.clear();
-
-            m_normalImage.getContext().drawImage(m_jsimg, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, 0, 0, m_dest_wide, m_dest_high);
-
             m_x_forms = m_filters.isTransforming();
 
-            doFiltering(m_normalImage, m_filterImage, m_filters);
+            loadCanvas(true, false);
 
             if ((!m_image.isListening()) || (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
                 doneLoading(true, "loaded " + m_image.getURL());
             } else {
-                doFiltering(m_filterImage, m_selectImage, m_ignores);
+                doSelectFiltering();
 
                 doneLoading(true, "loaded " + m_image.getURL());
             }
         }
     }
 
+    /**
+     * Acquires the shared canvases for the current image, clip bounds and filters, rendering them
+     * only if no other proxy did it yet.
+     *
+     * @param filtered whether the filter canvas must have the filters applied
+     * @param refresh  whether to render the canvases again even if they were cached, as the filters may have changed.
+     *                 Canvases still used by other proxies are not rendered again, this proxy gets its own copy.
+     */
+    private final void loadCanvas(final boolean filtered, final boolean refresh) {
+        final String key = m_source.getKey() + "|" + m_clip_xpos + "," + m_clip_ypos + "," + m_clip_wide + "," + m_clip_high + "," + m_dest_wide + "," + m_dest_high + "|" + (filtered ? getFiltersKey() : "");
+
+        final ImageProxyCache.CanvasEntry canvas;
+
+        if (refresh) {
+            // Released first, so the canvas is rendered again in place if no other proxy uses it
+            releaseCanvas();
+
+            canvas = m_cache.reloadCanvas(key, m_dest_wide, m_dest_high, entry -> doRendering(entry, filtered));
+        } else {
+            canvas = m_cache.loadCanvas(key, m_dest_wide, m_dest_high, entry -> doRendering(entry, filtered));
+
+            releaseCanvas();
+        }
+        m_canvas = canvas;
+
+        m_filterImage = canvas.getFilterImage();
+    }
+
+    private final void doRendering(final ImageProxyCache.CanvasEntry canvas, final boolean filtered) {
+        canvas.getNormalImage().clear();
+
+        canvas.getNormalImage().getContext().drawImage(m_jsimg, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, 0, 0, m_dest_wide, m_dest_high);
+
+        doFiltering(canvas.getNormalImage(), canvas.getFilterImage(), filtered ? m_filters : null);
+    }
+
+    /**
+     * Identifies the active filters, by instance, so only the proxies sharing the same filters share the canvases.
+     * Filters without a {@link AbstractImageDataFilter#getFilterId() filter id} are not shared with other proxies.
+     */
+    private final String getFiltersKey() {
+        if (!m_filters.isActive()) {
+            return "";
+        }
+        final StringBuilder key = new StringBuilder();
+
+        for (ImageDataFilter<?> filter : m_filters.getFilters()) {
+            if ((null != filter) && (filter.isActive())) {
+                if (filter instanceof AbstractImageDataFilter) {
+                    key.append(((AbstractImageDataFilter<?>) filter).getFilterId()).append(';');
+                } else {
+                    key.append("proxy").append(m_id).append(';');
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private final void doSelectFiltering() {
+        if (null == m_filterImage) {
+            return;
+        }
+        if ((m_selectImage.getWidth() != m_dest_wide) || (m_selectImage.getHeight() != m_dest_high)) {
+            m_selectImage.setPixelSize(m_dest_wide, m_dest_high);
+        }
+        doFiltering(m_filterImage, m_selectImage, m_ignores);
+    }
+
+    private final void releaseCanvas() {
+        m_cache.release(m_canvas);
+
+        m_canvas = null;
+
+        m_filterImage = null;
+    }
+
+    private final void release() {
+        releaseCanvas();
+
+        m_cache.release(m_source);
+
+        m_source = null;
+    }
+
     /**
      * Returns whether the image has been loaded and whether the
      * selection layer image has been prepared (if needed.)
@@ -235,7 +313,7 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
             return;
         }
         if (isLoaded()) {
-            doFiltering(m_filterImage, m_selectImage, m_ignores);
+            doSelectFiltering();
 
             if (m_image.isVisible()) {
                 final Layer layer = m_image.getLayer();
@@ -276,31 +354,22 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
         if ((!(m_filters.isActive())) && (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
             m_fastout = true;
 
+            releaseCanvas();
+
             handler.onImageShapeFiltered(m_image);
         } else {
-            if (m_fastout) {
-                m_normalImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_filterImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_selectImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_normalImage.clear();
-
-                m_normalImage.getContext().drawImage(m_jsimg, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, 0, 0, m_dest_wide, m_dest_high);
+            m_fastout = false;
 
-                m_fastout = false;
-            }
             boolean did_xform = m_x_forms;
 
             m_x_forms = m_filters.isTransforming();
 
-            doFiltering(m_normalImage, m_filterImage, m_filters);
+            loadCanvas(true, true);
 
             if ((!m_image.isListening()) || (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
                 handler.onImageShapeFiltered(m_image);
             } else if (did_xform || m_x_forms) {
-                doFiltering(m_filterImage, m_selectImage, m_ignores);
+                doSelectFiltering();
 
                 handler.onImageShapeFiltered(m_image);
             } else {
@@ -313,27 +382,18 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
         if ((!(m_filters.isActive())) && (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
             m_fastout = true;
 
+            releaseCanvas();
+
             handler.onImageShapeFiltered(m_image);
         } else {
-            if (m_fastout) {
-                m_normalImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_filterImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_selectImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_normalImage.clear();
-
-                m_normalImage.getContext().drawImage(m_jsimg, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, 0, 0, m_dest_wide, m_dest_high);
+            m_fastout = false;
 
-                m_fastout = false;
-            }
-            doFiltering(m_normalImage, m_filterImage, null);
+            loadCanvas(false, false);
 
             if ((!m_image.isListening()) || (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
                 handler.onImageShapeFiltered(m_image);
             } else if (m_x_forms) {
-                doFiltering(m_filterImage, m_selectImage, m_ignores);
+                doSelectFiltering();
 
                 handler.onImageShapeFiltered(m_image);
             } else {
@@ -440,25 +500,17 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
             }
             if ((!(m_filters.isActive())) && (ImageSelectionMode.SELECT_BOUNDS == m_image.getImageSelectionMode())) {
                 m_fastout = true;
+
+                releaseCanvas();
             } else {
                 m_fastout = false;
 
-                m_normalImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_filterImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_selectImage.setPixelSize(m_dest_wide, m_dest_high);
-
-                m_normalImage.clear();
-
-                m_normalImage.getContext().drawImage(m_jsimg, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, 0, 0, m_dest_wide, m_dest_high);
-
                 m_x_forms = m_filters.isTransforming();
 
-                doFiltering(m_normalImage, m_filterImage, m_filters);
+                loadCanvas(true, false);
 
                 if ((m_image.isListening()) && (ImageSelectionMode.SELECT_NON_TRANSPARENT == m_image.getImageSelectionMode())) {
-                    doFiltering(m_filterImage, m_selectImage, m_ignores);
+                    doSelectFiltering();
                 }
             }
         }
@@ -577,16 +629,13 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
         return BoundingBox.fromDoubles(0, 0, m_dest_wide, m_dest_high);
     }
 
+    /**
+     * Releases the shared image and canvases; they are disposed by the {@link ImageProxyCache}
+     * once no other proxy uses them.
+     */
     public void destroy() {
-        destroy(m_img);
-        m_img = null;
-    }
-
-    void destroy(final Image image) {
-        RootPanel.get().remove(image);
         m_image.removeFromParent();
-        m_normalImage.clear();
-        m_filterImage.clear();
+        release();
         m_selectImage.clear();
         m_filters.clearFilters();
         m_handler = null;
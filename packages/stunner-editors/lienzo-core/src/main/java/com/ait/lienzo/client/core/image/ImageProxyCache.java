@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.ait.lienzo.client.core.image;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import com.ait.lienzo.client.core.util.ScratchPad;
+import com.ait.lienzo.client.widget.RootPanel;
+import com.google.gwt.resources.client.ImageResource;
+import elemental2.dom.HTMLImageElement;
+
+/**
+ * Shares the decoded image elements and the rendered scratch canvases between the {@link ImageProxy} instances
+ * that display the same image, so a diagram with hundreds of nodes using the same icon holds a single copy of it.
+ * <p>
+ * Entries are reference counted. Once an entry is no longer referenced it is kept around, so it can be reused,
+ * until the total amount of pixels held by the cache exceeds its limit; unreferenced entries are then evicted
+ * in least recently released order.
+ */
+public class ImageProxyCache {
+
+    public static final long DEFAULT_MAX_PIXELS = 4096L * 4096L;
+
+    private static final ImageProxyCache INSTANCE = new ImageProxyCache(DEFAULT_MAX_PIXELS,
+                                                                        ImageProxyCache::loadURL,
+                                                                        ImageProxyCache::loadResource,
+                                                                        ScratchPad::new);
+
+    private final Map<String, Entry> m_entries = new HashMap<>();
+
+    private final LinkedHashMap<String, Entry> m_unused = new LinkedHashMap<>();
+
+    private final BiConsumer<String, ImageElementHandler> m_url_loader;
+
+    private final BiConsumer<ImageResource, ImageElementHandler> m_resource_loader;
+
+    private final BiFunction<Integer, Integer, ScratchPad> m_scratch_pads;
+
+    private long m_max_pixels;
+
+    private long m_pixels;
+
+    public static ImageProxyCache get() {
+        return INSTANCE;
+    }
+
+    ImageProxyCache(final long maxPixels,
+                    final BiConsumer<String, ImageElementHandler> urlLoader,
+                    final BiConsumer<ImageResource, ImageElementHandler> resourceLoader,
+                    final BiFunction<Integer, Integer, ScratchPad> scratchPads) {
+        m_max_pixels = maxPixels;
+        m_url_loader = urlLoader;
+        m_resource_loader = resourceLoader;
+        m_scratch_pads = scratchPads;
+    }
+
+    /**
+     * Sets the maximum amount of pixels, decoded images and canvases together, kept by the cache.
+     * Referenced entries are never evicted, so the limit may be exceeded while they are in use.
+     */
+    public void setMaxPixels(final long maxPixels) {
+        if (maxPixels < 0) {
+            throw new IllegalArgumentException("The maximum amount of pixels cannot be negative.");
+        }
+        m_max_pixels = maxPixels;
+        evict();
+    }
+
+    public long getMaxPixels() {
+        return m_max_pixels;
+    }
+
+    public long getPixels() {
+        return m_pixels;
+    }
+
+    public int size() {
+        return m_entries.size();
+    }
+
+    /**
+     * Acquires the image element for the given URL, loading it only if it is not cached yet.
+     */
+    public ImageEntry loadImage(final String url) {
+        return loadImage("url:" + url,
+                         handler -> m_url_loader.accept(url, handler));
+    }
+
+    /**
+     * Acquires the image element for the given resource, loading it only if it is not cached yet.
+     */
+    public ImageEntry loadImage(final ImageResource resource) {
+        return loadImage("resource:" + resource.getSafeUri().asString() + "#" + resource.getLeft() + "," + resource.getTop() + "," + resource.getWidth() + "," + resource.getHeight(),
+                         handler -> m_resource_loader.accept(resource, handler));
+    }
+
+    private ImageEntry loadImage(final String key,
+                                 final Consumer<ImageElementHandler> loader) {
+        ImageEntry entry = (ImageEntry) m_entries.get(key);
+        if (null == entry) {
+            entry = new ImageEntry(key);
+            m_entries.put(key, entry);
+            acquire(entry);
+            loader.accept(entry);
+            return entry;
+        }
+        acquire(entry);
+        return entry;
+    }
+
+    /**
+     * Acquires the canvases rendered for the given key, which must identify the source image, the clip bounds
+     * and the filters. The renderer is only called when the canvases are allocated.
+     */
+    public CanvasEntry loadCanvas(final String key,
+                                  final int wide,
+                                  final int high,
+                                  final Consumer<CanvasEntry> renderer) {
+        CanvasEntry entry = (CanvasEntry) m_entries.get(key);
+        if (null == entry) {
+            entry = new CanvasEntry(key,
+                                    wide,
+                                    high,
+                                    m_scratch_pads.apply(wide, high),
+                                    m_scratch_pads.apply(wide, high));
+            m_entries.put(key, entry);
+            m_pixels += entry.getPixels();
+            acquire(entry);
+            renderer.accept(entry);
+            evict();
+            return entry;
+        }
+        acquire(entry);
+        return entry;
+    }
+
+    /**
+     * Acquires the canvases for the given key and renders them again, as what the key identifies may have changed.
+     * Unused cached canvases are rendered again in place; canvases still used by other proxies are left to them,
+     * no longer shared, and new ones are allocated for the key.
+     */
+    public CanvasEntry reloadCanvas(final String key,
+                                    final int wide,
+                                    final int high,
+                                    final Consumer<CanvasEntry> renderer) {
+        final CanvasEntry entry = (CanvasEntry) m_entries.get(key);
+        if (null != entry) {
+            if (entry.getReferences() == 0) {
+                acquire(entry);
+                renderer.accept(entry);
+                return entry;
+            }
+            // Disposed once released by the proxies still using it
+            m_entries.remove(key);
+        }
+        return loadCanvas(key, wide, high, renderer);
+    }
+
+    /**
+     * Releases an entry previously acquired. Unreferenced entries stay cached until evicted.
+     */
+    public void release(final Entry entry) {
+        if ((null == entry) || (entry.m_references < 1)) {
+            return;
+        }
+        entry.m_references--;
+        if (entry.m_references == 0) {
+            if (m_entries.get(entry.m_key) == entry) {
+                m_unused.put(entry.m_key, entry);
+                evict();
+            } else {
+                // No longer cached, so no longer reusable
+                m_pixels -= entry.getPixels();
+                entry.dispose();
+            }
+        }
+    }
+
+    private void acquire(final Entry entry) {
+        entry.m_references++;
+        m_unused.remove(entry.m_key);
+    }
+
+    private void evict() {
+        final Iterator<Entry> unused = m_unused.values().iterator();
+        while ((m_pixels > m_max_pixels) && unused.hasNext()) {
+            final Entry entry = unused.next();
+            unused.remove();
+            m_entries.remove(entry.m_key);
+            m_pixels -= entry.getPixels();
+            entry.dispose();
+        }
+    }
+
+    private static void loadURL(final String url,
+                                final ImageElementHandler handler) {
+        new ImageLoader(url) {
+            @Override
+            public final void onImageElementLoad(final HTMLImageElement elem) {
+                handler.onImageElementLoad(elem);
+            }
+
+            @Override
+            public final void onImageElementError(final String message) {
+                handler.onImageElementError(message);
+            }
+        };
+    }
+
+    private static void loadResource(final ImageResource resource,
+                                     final ImageElementHandler handler) {
+        new ImageLoader(resource) {
+            @Override
+            public final void onImageElementLoad(final HTMLImageElement elem) {
+                handler.onImageElementLoad(elem);
+            }
+
+            @Override
+            public final void onImageElementError(final String message) {
+                handler.onImageElementError(message);
+            }
+        };
+    }
+
+    public interface ImageElementHandler {
+
+        void onImageElementLoad(HTMLImageElement elem);
+
+        void onImageElementError(String message);
+    }
+
+    public abstract static class Entry {
+
+        private final String m_key;
+
+        private int m_references;
+
+        private Entry(final String key) {
+            m_key = key;
+        }
+
+        public String getKey() {
+            return m_key;
+        }
+
+        public int getReferences() {
+            return m_references;
+        }
+
+        abstract long getPixels();
+
+        abstract void dispose();
+    }
+
+    public final class ImageEntry extends Entry implements ImageElementHandler {
+
+        private final List<ImageElementHandler> m_handlers = new ArrayList<>();
+
+        private HTMLImageElement m_element;
+
+        private String m_error;
+
+        private boolean m_disposed;
+
+        private ImageEntry(final String key) {
+            super(key);
+        }
+
+        public boolean isLoaded() {
+            return null != m_element;
+        }
+
+        public HTMLImageElement getElement() {
+            return m_element;
+        }
+
+        /**
+         * Notifies the handler once the element is loaded, or immediately if it already is.
+         */
+        public void addHandler(final ImageElementHandler handler) {
+            if (isLoaded()) {
+                handler.onImageElementLoad(m_element);
+            } else if (null != m_error) {
+                handler.onImageElementError(m_error);
+            } else {
+                m_handlers.add(handler);
+            }
+        }
+
+        @Override
+        public void onImageElementLoad(final HTMLImageElement elem) {
+            if (m_disposed) {
+                RootPanel.get().remove(elem);
+                return;
+            }
+            m_element = elem;
+            m_pixels += getPixels();
+            final List<ImageElementHandler> handlers = new ArrayList<>(m_handlers);
+            m_handlers.clear();
+            for (ImageElementHandler handler : handlers) {
+                handler.onImageElementLoad(elem);
+            }
+            evict();
+        }
+
+        @Override
+        public void onImageElementError(final String message) {
+            m_error = message;
+            // Failed loads are not cached, so the next request retries.
+            if (m_entries.get(getKey()) == this) {
+                m_entries.remove(getKey());
+                m_unused.remove(getKey());
+            }
+            final List<ImageElementHandler> handlers = new ArrayList<>(m_handlers);
+            m_handlers.clear();
+            for (ImageElementHandler handler : handlers) {
+                handler.onImageElementError(message);
+            }
+        }
+
+        @Override
+        long getPixels() {
+            return isLoaded() ? ((long) m_element.width) * m_element.height : 0;
+        }
+
+        @Override
+        void dispose() {
+            m_disposed = true;
+            m_handlers.clear();
+            if (isLoaded()) {
+                RootPanel.get().remove(m_element);
+                m_element = null;
+            }
+        }
+    }
+
+    public static final class CanvasEntry extends Entry {
+
+        private final int m_wide;
+
+        private final int m_high;
+
+        private final ScratchPad m_normal;
+
+        private final ScratchPad m_filtered;
+
+        private CanvasEntry(final String key,
+                            final int wide,
+                            final int high,
+                            final ScratchPad normal,
+                            final ScratchPad filtered) {
+            super(key);
+            m_wide = wide;
+            m_high = high;
+            m_normal = normal;
+            m_filtered = filtered;
+        }
+
+        public ScratchPad getNormalImage() {
+            return m_normal;
+        }
+
+        public ScratchPad getFilterImage() {
+            return m_filtered;
+        }
+
+        @Override
+        long getPixels() {
+            return 2L * m_wide * m_high;
+        }
+
+        @Override
+        void dispose() {
+            m_normal.clear();
+            m_filtered.clear();
+            m_normal.setPixelSize(0, 0);
+            m_filtered.setPixelSize(0, 0);
+        }
+    }
+}
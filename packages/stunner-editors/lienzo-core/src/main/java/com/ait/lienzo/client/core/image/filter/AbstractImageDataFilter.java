@@ -21,6 +21,10 @@ import jsinterop.annotations.JsProperty;
 
 public abstract class AbstractImageDataFilter<T extends AbstractImageDataFilter<T>> implements ImageDataFilter<T> {
 
+    private static long s_id_counter = 0;
+
+    private final long m_id = ++s_id_counter;
+
     private final ImageFilterType m_type;
 
     @JsProperty
@@ -55,6 +59,13 @@ public abstract class AbstractImageDataFilter<T extends AbstractImageDataFilter<
         this.active = active;
     }
 
+    /**
+     * @return an id unique to this filter instance, never reused by another filter.
+     */
+    public final long getFilterId() {
+        return m_id;
+    }
+
     @Override
     public final ImageFilterType getType() {
         return m_type;
@@ -17,6 +17,7 @@
 package com.ait.lienzo.client.core.shape;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import com.ait.lienzo.client.core.Context2D;
@@ -30,6 +31,12 @@ import com.ait.lienzo.shared.core.types.TextUnit;
  */
 public class TextBoundsAndLineBreaksWrap extends TextBoundsWrap {
 
+    // The last drawn lines, reused until the text, the font or the wrap width change.
+    private String layoutText;
+    private String layoutFont;
+    private double layoutWidth;
+    private final List<String> layoutLines = new ArrayList<>();
+
     public TextBoundsAndLineBreaksWrap(final Text text) {
         super(text);
     }
@@ -61,34 +68,11 @@ public class TextBoundsAndLineBreaksWrap extends TextBoundsWrap {
     public void drawString(final Context2D context,
                            final IDrawString drawCommand) {
         final BoundingBox wrapBoundaries = getWrapBoundaries();
-        final String[] textLines = text.getText().split("\\r?\\n");
-        if (textLines.length < 1) {
+        final List<String> lines = layoutLinesWithBreaks(text.getText());
+        if (lines.isEmpty()) {
             return;
         }
 
-        final ArrayList<String> lines = new ArrayList<>();
-        for (String line : textLines) {
-            String[] words = line.split("\\s");
-            if (words.length < 1) {
-                lines.add("");
-                continue;
-            }
-            final StringBuilder nextLine = new StringBuilder(words[0]);
-
-            for (int i = 1; i < words.length; i++) {
-                if (getBoundingBoxForString(nextLine + " " + words[i]).getWidth() <= wrapBoundaries.getWidth()) {
-                    nextLine.append(" ").append(words[i]);
-                } else {
-                    lines.add(nextLine.toString());
-                    nextLine.setLength(words[i].length());
-                    nextLine.replace(0,
-                                     words[i].length(),
-                                     words[i]);
-                }
-            }
-            lines.add(nextLine.toString());
-        }
-
         double xOffset = 0;
 
         switch (textAlignSupplier.get()) {
@@ -109,9 +93,10 @@ public class TextBoundsAndLineBreaksWrap extends TextBoundsWrap {
 
         double yOffset = 0.8;
 
+        final double spaceWidth = getWidthForString(" ");
         for (int i = 0; i < lines.size(); i++) {
             String line = lines.get(i);
-            int toPad = (int) Math.round((wrapBoundaries.getWidth() - getBoundingBoxForString(line).getWidth()) / getBoundingBoxForString(" ").getWidth());
+            int toPad = (int) Math.round((wrapBoundaries.getWidth() - getWidthForString(line)) / spaceWidth);
             line = textUtils.padString(line,
                                        line.length() + toPad,
                                        ' ',
@@ -122,4 +107,28 @@ public class TextBoundsAndLineBreaksWrap extends TextBoundsWrap {
                              i + yOffset);
         }
     }
+
+    private List<String> layoutLinesWithBreaks(final String text) {
+        final double wrapWidth = getWrapBoundaries().getWidth();
+        final String font = getFontString();
+        if (text.equals(layoutText) && font.equals(layoutFont) && wrapWidth == layoutWidth) {
+            return layoutLines;
+        }
+
+        layoutLines.clear();
+        final String[] textLines = text.split("\\r?\\n");
+        for (String line : textLines) {
+            String[] words = line.split("\\s");
+            if (words.length < 1) {
+                layoutLines.add("");
+                continue;
+            }
+            wrapWords(words, wrapWidth, layoutLines);
+        }
+
+        layoutText = text;
+        layoutFont = font;
+        layoutWidth = wrapWidth;
+        return layoutLines;
+    }
 }
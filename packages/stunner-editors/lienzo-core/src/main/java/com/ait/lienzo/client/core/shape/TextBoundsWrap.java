@@ -34,6 +34,14 @@ public class TextBoundsWrap extends TextNoWrap implements ITextWrapperWithBounda
     protected static final double Y_OFFSET = 0.8;
     private BoundingBox wrapBoundaries;
 
+    // The last computed layout, reused until the text, the font or the wrap width change.
+    private String layoutText;
+    private String layoutFont;
+    private TextBaseLine layoutBaseLine;
+    private double layoutWidth;
+    private double[] layoutBoundaries;
+    private final List<String> layoutLines = new ArrayList<>();
+
     public TextBoundsWrap(final Text text) {
         this(text,
              new BoundingBox());
@@ -84,59 +92,79 @@ public class TextBoundsWrap extends TextNoWrap implements ITextWrapperWithBounda
     }
 
     private double[] calculateWrapBoundaries() {
-        final String[] words = textSupplier.get().split("\\s");
-        if (words.length < 1) {
+        final String text = textSupplier.get();
+        if (layoutLines(text).isEmpty()) {
             return new double[]{getWrapBoundaries().getX(), getWrapBoundaries().getY()};
         }
-
-        final double wrapWidth = getWrapBoundaries().getWidth();
-        final String firstWord = words[0];
-        double width;
-        final StringBuilder nextLine = new StringBuilder(firstWord);
-        int numOfLines = 1;
-        double maxWidth = 0;
-        for (int i = 1; i < words.length; i++) {
-            width = getBoundingBoxForString(nextLine + " " + words[i]).getWidth();
-            if (width <= wrapWidth) {
-                nextLine.append(" ").append(words[i]);
-                if (maxWidth < width) {
-                    maxWidth = width;
-                }
-            } else {
-                nextLine.setLength(words[i].length());
-                nextLine.replace(0,
-                                 words[i].length(),
-                                 words[i]);
-                numOfLines++;
-            }
-        }
-        final double height = getBoundingBoxForString(textSupplier.get()).getHeight() * numOfLines;
-        return new double[]{maxWidth, height};
+        return layoutBoundaries;
     }
 
     @Override
     public void drawString(final Context2D context,
                            final IDrawString drawCommand) {
-        final String[] words = text.getText().split("\\s");
+        final List<String> lines = layoutLines(text.getText());
 
-        if (words.length < 1) {
+        if (lines.isEmpty()) {
             return;
         }
 
+        drawLines(context, drawCommand, lines, wrapBoundaries.getWidth());
+    }
+
+    private List<String> layoutLines(final String text) {
+        final double wrapWidth = getWrapBoundaries().getWidth();
+        final String font = getFontString();
+        final TextBaseLine baseLine = textBaseLineSupplier.get();
+        if (text.equals(layoutText) && font.equals(layoutFont) && baseLine == layoutBaseLine && wrapWidth == layoutWidth) {
+            return layoutLines;
+        }
+
+        layoutLines.clear();
+        final double maxWidth = wrapWords(text.split("\\s"), wrapWidth, layoutLines);
+        final double height = layoutLines.isEmpty() ? 0 : getBoundingBoxForString(text).getHeight() * layoutLines.size();
+        layoutBoundaries = new double[]{maxWidth, height};
+
+        layoutText = text;
+        layoutFont = font;
+        layoutBaseLine = baseLine;
+        layoutWidth = wrapWidth;
+        return layoutLines;
+    }
+
+    /**
+     * Adds to the given lines the words, wrapped at the given width. Line widths are computed in a single pass
+     * by summing the (cached) widths of the words and the separating spaces, so no line is measured twice.
+     * @return the maximum width reached by a line made of several words.
+     */
+    protected double wrapWords(final String[] words,
+                               final double wrapWidth,
+                               final List<String> lines) {
+        if (words.length < 1) {
+            return 0;
+        }
+
+        final double spaceWidth = getWidthForString(" ");
         final StringBuilder nextLine = new StringBuilder(words[0]);
-        final ArrayList<String> lines = new ArrayList<>();
+        double lineWidth = getWidthForString(words[0]);
+        double maxWidth = 0;
         for (int i = 1; i < words.length; i++) {
-            if (getBoundingBoxForString(nextLine + " " + words[i]).getWidth() <= getWrapBoundaries().getWidth()) {
+            final double wordWidth = getWidthForString(words[i]);
+            final double width = lineWidth + spaceWidth + wordWidth;
+            if (width <= wrapWidth) {
                 nextLine.append(" ").append(words[i]);
+                lineWidth = width;
+                if (maxWidth < width) {
+                    maxWidth = width;
+                }
             } else {
                 lines.add(nextLine.toString());
-                nextLine.setLength(words[i].length());
-                nextLine.replace(0, words[i].length(), words[i]);
+                nextLine.setLength(0);
+                nextLine.append(words[i]);
+                lineWidth = wordWidth;
             }
         }
         lines.add(nextLine.toString());
-
-        drawLines(context, drawCommand, lines, wrapBoundaries.getWidth());
+        return maxWidth;
     }
 
     protected void drawLines(Context2D context, IDrawString drawCommand, List<String> lines, double boundariesWidth) {
@@ -165,9 +193,7 @@ public class TextBoundsWrap extends TextNoWrap implements ITextWrapperWithBounda
             if (line.length() == 0) {
                 continue;
             }
-            final int toPad = (int) Math
-                    .round((boundariesWidth - getBoundingBoxForString(line).getWidth()) / getBoundingBoxForString(" ")
-                            .getWidth());
+            final int toPad = (int) Math.round((boundariesWidth - getWidthForString(line)) / getWidthForString(" "));
             line = textUtils.padString(line, line.length() + toPad, ' ', textAlignSupplier.get());
             drawCommand.draw(context, line, xOffset, i + Y_OFFSET);
         }
@@ -42,6 +42,8 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
 
     private final List<String> textLines;
 
+    private double[] textBoundaries;
+
     public TextLineBreakTruncateWrapper(final Text text, final BoundingBox wrapBoundaries) {
         super(text, wrapBoundaries);
         setMargin(10);
@@ -55,15 +57,19 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
     @Override
     protected double[] calculateWrapBoundaries() {
         final List<String> lines = getWrappedTextLines(textSupplier.get());
+        if (null != textBoundaries) {
+            return textBoundaries;
+        }
         final double height = getHeightByLines(lines.size());
 
         double maxWidth = 0;
         for (String line : lines) {
-            double lineWidth = getBoundingBoxForString(line).getWidth();
+            double lineWidth = getWidthForString(line);
             maxWidth = (lineWidth > maxWidth) ? lineWidth : maxWidth;
         }
 
-        return new double[]{maxWidth, height};
+        textBoundaries = new double[]{maxWidth, height};
+        return textBoundaries;
     }
 
     private double getRemainingHeight(int numOfLines) {
@@ -77,7 +83,7 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
     }
 
     private boolean hasChanged(String text) {
-        final int currentTextHash = Objects.hash(text, getWrapBoundaries());
+        final int currentTextHash = Objects.hash(text, getFontString(), getWrapBoundaries());
         boolean hasChanged = (currentTextHash != lastTextHash);
         if (hasChanged) {
             lastTextHash = currentTextHash;
@@ -92,23 +98,28 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
             return textLines;
         }
         textLines.clear();
+        textBoundaries = null;
 
         final String[] words = splitWords(text);
         final List<String> lines = new ArrayList<>();
         final double boundariesWidth = getWrapBoundariesWidth();
         final StringBuilder currentLine = new StringBuilder();
+        final double lineHeight = getLineHeight();
+        final double spaceWidth = getWidthForString(" ");
+        //width of the current line, kept as the sum of the cached widths of its words and whitespaces
+        double currentLineWidth = 0;
 
         for (int i = 0; i < words.length; i++) {
 
             int lineIndex = lines.size() + 1;
-            if (!hasVerticalSpace(lineIndex, getLineHeight(), getRemainingHeight(lineIndex)) && !lines.isEmpty()) {
+            if (!hasVerticalSpace(lineIndex, lineHeight, getRemainingHeight(lineIndex)) && !lines.isEmpty()) {
                 final int lastWordIndex = lines.size() - 1;
                 final String endWord = lines.get(lastWordIndex);
                 final String truncated =
                         (endWord.length() > 3 ? endWord.substring(0, endWord.length() - 4) : endWord) + "...";
                 lines.remove(lastWordIndex);
                 //add if it has space to draw the truncated word
-                if (hasHorizontalSpaceToDraw(truncated, "", boundariesWidth)) {
+                if (getWidthForString(truncated) <= boundariesWidth) {
                     lines.add(truncated);
                 }
                 break;
@@ -118,12 +129,14 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
             final String currentWord = words[i];
             if (currentWord.contains(LINEBREAK)) {
                 flushLine(lines, currentLine);
+                currentLineWidth = 0;
                 continue;
             }
 
-            if (!hasHorizontalSpaceToDraw(currentLine.toString(), currentWord, boundariesWidth)) {
+            final double currentWordWidth = getWidthForString(currentWord);
+            if (currentLineWidth + currentWordWidth > boundariesWidth) {
                 //find the currentWord max char index that fits the boundariesWidth
-                final int splitCharIndex = getSplitCharIndexToFitWidth(boundariesWidth, currentLine.toString(),
+                final int splitCharIndex = getSplitCharIndexToFitWidth(boundariesWidth, currentLineWidth,
                                                                        currentWord);
 
                 //spliting the word to fit the boundaries width
@@ -138,13 +151,16 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
 
                 currentLine.append(truncated);
                 flushLine(lines, currentLine);
+                currentLineWidth = 0;
 
                 //reprocess the remainingWord (i--)
                 words[i--] = remainingWord;
                 continue;
             }
 
-            currentLine.append(currentWord + ((i + 1 < words.length && !" ".equals(words[i])) ? " " : ""));
+            final boolean appendSpace = i + 1 < words.length && !" ".equals(words[i]);
+            currentLine.append(currentWord + (appendSpace ? " " : ""));
+            currentLineWidth += currentWordWidth + (appendSpace ? spaceWidth : 0);
 
             //handle last line
             if (i == words.length - 1) {
@@ -157,9 +173,14 @@ public class TextLineBreakTruncateWrapper extends TextTruncateWrapper {
         return lines;
     }
 
-    private int getSplitCharIndexToFitWidth(double boundariesWidth, String currentLine, String currentWord) {
+    private int getSplitCharIndexToFitWidth(double boundariesWidth, double currentLineWidth, String currentWord) {
         int remainingCharIndex = 0;
-        while (!currentWord.isEmpty() && hasHorizontalSpaceToDraw(currentLine, currentWord.substring(0, ++remainingCharIndex), boundariesWidth)) {
+        double width = currentLineWidth;
+        while (remainingCharIndex < currentWord.length()) {
+            width += getWidthForString(String.valueOf(currentWord.charAt(remainingCharIndex++)));
+            if (width > boundariesWidth) {
+                break;
+            }
         }
         return remainingCharIndex;
     }
@@ -83,6 +83,24 @@ public class TextNoWrap implements ITextWrapper {
                                         textAlignSupplier.get());
     }
 
+    /**
+     * Returns the width of the given string for the current font, using the shared width cache.
+     */
+    protected double getWidthForString(final String string) {
+        return textUtils.getTextWidth(string,
+                                      fontSizeSupplier.get(),
+                                      fontStyleSupplier.get(),
+                                      fontFamilySupplier.get(),
+                                      textUnitSupplier.get());
+    }
+
+    protected String getFontString() {
+        return textUtils.getFontString(fontSizeSupplier.get(),
+                                       textUnitSupplier.get(),
+                                       fontStyleSupplier.get(),
+                                       fontFamilySupplier.get());
+    }
+
     @Override
     public void drawString(final Context2D context,
                            final IDrawString drawCommand) {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.tools.client.collection.NFastStringMap;
+
+/**
+ * Measured text widths, by font and then by text. {@link TextUtils} shares a single instance, as the same words
+ * and fonts are measured over and over when wrapping the labels of a diagram.
+ * <p>
+ * Each font keeps at most {@link #DEFAULT_LIMIT} widths, its widths are cleared once the limit is reached.
+ */
+public class TextWidthCache {
+
+    public static final int DEFAULT_LIMIT = 4096;
+
+    private static final TextWidthCache INSTANCE = new TextWidthCache(DEFAULT_LIMIT);
+
+    private final NFastStringMap<NFastStringMap<Double>> m_widths = new NFastStringMap<>();
+
+    private final int m_limit;
+
+    public static TextWidthCache get() {
+        return INSTANCE;
+    }
+
+    TextWidthCache(final int limit) {
+        m_limit = limit;
+    }
+
+    /**
+     * @return the width measured for the given text and font, or null if it has not been measured yet.
+     */
+    public Double getWidth(final String font,
+                           final String text) {
+        final NFastStringMap<Double> widths = m_widths.get(font);
+        return (null == widths) ? null : widths.get(text);
+    }
+
+    public void putWidth(final String font,
+                         final String text,
+                         final double wide) {
+        NFastStringMap<Double> widths = m_widths.get(font);
+
+        if (null == widths) {
+            widths = new NFastStringMap<>();
+            m_widths.put(font, widths);
+        } else if (widths.size() >= m_limit) {
+            widths.clear();
+        }
+        widths.put(text, wide);
+    }
+}
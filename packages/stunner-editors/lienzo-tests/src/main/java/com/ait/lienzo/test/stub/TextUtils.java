@@ -20,6 +20,7 @@
 package com.ait.lienzo.test.stub;
 
 import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.TextWidthCache;
 import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.shared.core.types.ColorName;
@@ -38,10 +39,18 @@ import elemental2.core.Uint8ClampedArray;
 @StubClass("com.ait.lienzo.client.core.shape.TextUtils")
 public class TextUtils {
 
-    private ScratchPad FORBOUNDS = new ScratchPad(1, 1);
+    private final ScratchPad FORBOUNDS;
 
     private NFastStringMap<NFastDoubleArray> OFFSCACHE = new NFastStringMap<>();
 
+    public TextUtils() {
+        this(new ScratchPad(1, 1));
+    }
+
+    TextUtils(final ScratchPad forBounds) {
+        FORBOUNDS = forBounds;
+    }
+
     private NFastDoubleArray getTextOffsets(Uint8ClampedArray data, int wide, int high, int base) {
 
         int top = -1;
@@ -136,17 +145,39 @@ public class TextUtils {
             return BoundingBox.fromDoubles(0, 0, 0, 0);
         }
 
+        final double wide = measureTextWidth(font, text);
+
+        final BoundingBox bbox = new BoundingBox().addY(0).addY(1);
+        bbox.addX(0).addX(wide);
+        return bbox;
+    }
+
+    /**
+     * Returns the width of the given text, only measuring it the first time it is requested for the given font.
+     */
+    public double getTextWidth(final String text, final double size, final String style, final String family, final TextUnit unit) {
+        if ((null == text) || (text.isEmpty()) || (!(size > 0))) {
+            return 0;
+        }
+        final String font = getFontString(size, unit, style, family);
+
+        Double wide = TextWidthCache.get().getWidth(font, text);
+
+        if (null == wide) {
+            wide = measureTextWidth(font, text);
+            TextWidthCache.get().putWidth(font, text, wide);
+        }
+        return wide;
+    }
+
+    private double measureTextWidth(final String font, final String text) {
         FORBOUNDS.getContext().setTextFont(font);
 
         FORBOUNDS.getContext().setTextAlign(TextAlign.LEFT);
 
         FORBOUNDS.getContext().setTextBaseline(TextBaseLine.ALPHABETIC);
 
-        final double wide = FORBOUNDS.getContext().measureText(text).width;
-
-        final BoundingBox bbox = new BoundingBox().addY(0).addY(1);
-        bbox.addX(0).addX(wide);
-        return bbox;
+        return FORBOUNDS.getContext().measureText(text).width;
     }
 
     public String getFontString(final double size, final TextUnit unit, final String style, final String family) {
@@ -20,8 +20,14 @@
 
 package com.ait.lienzo.client.core.image;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.image.filter.InvertColorImageDataFilter;
 import com.ait.lienzo.client.core.shape.AbstractImageShape;
 import com.ait.lienzo.client.core.util.ScratchPad;
+import com.ait.lienzo.shared.core.types.ImageSelectionMode;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
 import com.google.gwtmockito.WithClassesToStub;
 import elemental2.core.JsArray;
@@ -31,48 +37,195 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(LienzoMockitoTestRunner.class)
 @WithClassesToStub(JsArray.class)
 public class ImageProxyTest {
 
-    @Mock
-    private elemental2.dom.Image image;
+    private static final String URL = "images/task.png";
 
     @Mock
-    private ScratchPad normalImage;
+    private elemental2.dom.Image image;
 
     @Mock
-    private ScratchPad filterImage;
+    private ScratchPad selectImage;
 
     @Mock
-    private ScratchPad selectImage;
+    private Context2D context;
 
     @Mock
     private AbstractImageShape imageShape;
 
+    private List<String> loads;
+
+    private List<ScratchPad> allocations;
+
+    private ImageProxyCache cache;
+
     private ImageProxy tested;
 
     @Before
     public void setup() {
+        loads = new ArrayList<>();
+        allocations = new ArrayList<>();
+        cache = new ImageProxyCache(ImageProxyCache.DEFAULT_MAX_PIXELS,
+                                    (url, handler) -> {
+                                        loads.add(url);
+                                        handler.onImageElementLoad(image);
+                                    },
+                                    (resource, handler) -> {
+                                        loads.add(resource.getName());
+                                        handler.onImageElementLoad(image);
+                                    },
+                                    (wide, high) -> {
+                                        final ScratchPad pad = mock(ScratchPad.class);
+                                        when(pad.getContext()).thenReturn(context);
+                                        allocations.add(pad);
+                                        return pad;
+                                    });
+        image.width = 20;
+        image.height = 10;
+        image.parentNode = new Node();
+        when(imageShape.getImageClipBounds()).thenReturn(new ImageClipBounds(0, 0, 0, 0, 0, 0));
+        when(imageShape.getImageSelectionMode()).thenReturn(ImageSelectionMode.SELECT_NON_TRANSPARENT);
         tested = new ImageProxy<>(imageShape,
-                                  normalImage,
-                                  filterImage,
+                                  cache,
                                   selectImage);
-        image.parentNode = new Node();
     }
 
     @Test
     public void testDestroy() {
-        tested.destroy(image);
-        verify(image, times(1)).remove();
+        tested.load(URL);
+        tested.destroy();
         verify(imageShape, times(1)).removeFromParent();
-        verify(normalImage, times(1)).clear();
-        verify(filterImage, times(1)).clear();
         verify(selectImage, times(1)).clear();
         assertTrue(tested.getFilters().isEmpty());
+        assertNull(tested.getImage());
+
+        // Still cached, until evicted
+        verify(image, never()).remove();
+        cache.setMaxPixels(0);
+        verify(image, times(1)).remove();
+        verify(allocations.get(0), times(1)).setPixelSize(0, 0);
+        verify(allocations.get(1), times(1)).setPixelSize(0, 0);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testProxiesShareImageAndCanvases() {
+        final List<ImageProxy> proxies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ImageProxy proxy = new ImageProxy<>(imageShape,
+                                                      cache,
+                                                      mock(ScratchPad.class));
+            proxy.load(URL);
+            proxies.add(proxy);
+        }
+
+        // One load and one set of (normal and filter) canvases
+        assertEquals(1, loads.size());
+        assertEquals(2, allocations.size());
+        assertEquals(2, cache.size());
+        assertEquals(20 * 10 * 3, cache.getPixels());
+        for (ImageProxy proxy : proxies) {
+            assertTrue(proxy.isLoaded());
+            assertSame(image, proxy.getImage());
+            assertEquals(20, proxy.getWidth());
+            assertEquals(10, proxy.getHeight());
+        }
+
+        // Released by reference count
+        for (int i = 1; i < proxies.size(); i++) {
+            proxies.get(i).destroy();
+        }
+        cache.setMaxPixels(0);
+        assertEquals(2, cache.size());
+        proxies.get(0).destroy();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getPixels());
+        verify(image, times(1)).remove();
+    }
+
+    @Test
+    public void testCanvasesAreKeyedByClipBounds() {
+        tested.load(URL);
+        when(imageShape.getImageClipBounds()).thenReturn(new ImageClipBounds(0, 0, 10, 10, 10, 10));
+        final ImageProxy other = new ImageProxy<>(imageShape,
+                                                  cache,
+                                                  mock(ScratchPad.class));
+        other.load(URL);
+
+        assertEquals(1, loads.size());
+        assertEquals(4, allocations.size());
+        assertEquals(10, other.getWidth());
+        assertEquals(20, tested.getWidth());
+    }
+
+    @Test
+    public void testCanvasesAreKeyedByFilterInstance() {
+        final InvertColorImageDataFilter filter = new InvertColorImageDataFilter();
+        tested.setFilters(filter);
+        tested.load(URL);
+        final ImageProxy same = new ImageProxy<>(imageShape,
+                                                 cache,
+                                                 mock(ScratchPad.class));
+        same.setFilters(filter);
+        same.load(URL);
+        assertEquals(2, allocations.size());
+
+        final ImageProxy other = new ImageProxy<>(imageShape,
+                                                  cache,
+                                                  mock(ScratchPad.class));
+        other.setFilters(new InvertColorImageDataFilter());
+        other.load(URL);
+        assertEquals(4, allocations.size());
+    }
+
+    @Test
+    public void testReFilterRendersAgainInPlaceWhenNotShared() {
+        tested.setFilters(new InvertColorImageDataFilter());
+        tested.load(URL);
+        tested.reFilter(mock(ImageShapeFilteredHandler.class));
+
+        assertEquals(2, allocations.size());
+        verify(allocations.get(0), times(2)).clear();
+    }
+
+    @Test
+    public void testReFilterDoesNotRenderCanvasesSharedWithOtherProxies() {
+        final InvertColorImageDataFilter filter = new InvertColorImageDataFilter();
+        tested.setFilters(filter);
+        tested.load(URL);
+        final ImageProxy other = new ImageProxy<>(imageShape,
+                                                  cache,
+                                                  mock(ScratchPad.class));
+        other.setFilters(filter);
+        other.load(URL);
+
+        final ImageShapeFilteredHandler handler = mock(ImageShapeFilteredHandler.class);
+        tested.reFilter(handler);
+        verify(handler, times(1)).onImageShapeFiltered(imageShape);
+
+        // The proxy got its own canvases, the shared ones are left untouched
+        assertEquals(4, allocations.size());
+        verify(allocations.get(0), times(1)).clear();
+        verify(allocations.get(2), times(1)).clear();
+        assertEquals(20 * 10 * 5, cache.getPixels());
+
+        // The old canvases are no longer cached, so they are disposed once released
+        other.destroy();
+        verify(allocations.get(0), times(1)).setPixelSize(0, 0);
+        verify(allocations.get(1), times(1)).setPixelSize(0, 0);
+        assertEquals(20 * 10 * 3, cache.getPixels());
+        assertEquals(2, cache.size());
     }
-}
\ No newline at end of file
+}
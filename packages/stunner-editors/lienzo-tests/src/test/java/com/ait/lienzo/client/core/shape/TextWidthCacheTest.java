@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class TextWidthCacheTest {
+
+    @Test
+    public void testWidthsAreKeptPerFont() {
+        final TextWidthCache tested = new TextWidthCache(10);
+        tested.putWidth("bold 12px Arial", "task", 20);
+        tested.putWidth("12px Arial", "task", 18);
+
+        assertEquals(20, tested.getWidth("bold 12px Arial", "task"), 0);
+        assertEquals(18, tested.getWidth("12px Arial", "task"), 0);
+        assertNull(tested.getWidth("12px Arial", "event"));
+        assertNull(tested.getWidth("10px Arial", "task"));
+    }
+
+    @Test
+    public void testFontWidthsAreClearedAtTheLimit() {
+        final TextWidthCache tested = new TextWidthCache(2);
+        tested.putWidth("12px Arial", "task", 18);
+        tested.putWidth("12px Arial", "event", 22);
+        tested.putWidth("bold 12px Arial", "task", 20);
+
+        tested.putWidth("12px Arial", "data", 17);
+
+        assertNull(tested.getWidth("12px Arial", "task"));
+        assertNull(tested.getWidth("12px Arial", "event"));
+        assertEquals(17, tested.getWidth("12px Arial", "data"), 0);
+        assertEquals(20, tested.getWidth("bold 12px Arial", "task"), 0);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import elemental2.dom.TextMetrics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the measureText calls on the mocked canvas context needed to wrap long labels. Each test uses its own
+ * font family, so the shared width cache starts empty.
+ */
+@RunWith(LienzoMockitoTestRunner.class)
+public class TextWrapMeasureBenchmarkTest extends BaseTextTest {
+
+    private static final String[] VOCABULARY = {"process", "task", "gateway", "event", "user",
+            "approval", "review", "data", "input", "output"};
+
+    private static final int WORDS = 2000;
+
+    private static final IDrawString NO_DRAW = (c, s, xOffset, lineNum) -> {
+    };
+
+    @Test
+    public void testTextBoundsWrap() {
+        final Text text = createText("benchmark-bounds");
+        assertMeasurements(text, new TextBoundsWrap(text, BoundingBox.fromDoubles(0, 0, 100, 100)));
+    }
+
+    @Test
+    public void testTextBoundsAndLineBreaksWrap() {
+        final Text text = createText("benchmark-linebreaks");
+        assertMeasurements(text, new TextBoundsAndLineBreaksWrap(text, BoundingBox.fromDoubles(0, 0, 100, 100)));
+    }
+
+    @Test
+    public void testTextLineBreakTruncateWrapper() {
+        final Text text = createText("benchmark-truncate");
+        assertMeasurements(text, new TextLineBreakTruncateWrapper(text, BoundingBox.fromDoubles(0, 0, 100, 100000)));
+    }
+
+    private void assertMeasurements(final Text text,
+                                    final TextNoWrap wrapper) {
+        // The measurements go to the mocked canvas context, the width cache is the production one
+        when(context.measureText(anyString())).thenAnswer(invocation -> {
+            final TextMetrics metrics = new TextMetrics();
+            metrics.width = ((String) invocation.getArgument(0)).length();
+            return metrics;
+        });
+        wrapper.textUtils = new TextUtils(scratchPad);
+        text.setWrapper(wrapper);
+
+        wrapper.getBoundingBox();
+        wrapper.drawString(context, NO_DRAW);
+
+        // Re-measuring the growing line for every word costs at least one measurement per word.
+        final long measurements = mockingDetails(context).getInvocations().stream()
+                .filter(invocation -> "measureText".equals(invocation.getMethod().getName()))
+                .count();
+        assertTrue("Too many measurements: " + measurements, measurements < WORDS / 10);
+
+        // The layout is reused until the text, the font or the boundaries change.
+        clearInvocations(context);
+        wrapper.getBoundingBox();
+        wrapper.drawString(context, NO_DRAW);
+        verify(context, never()).measureText(anyString());
+    }
+
+    private static Text createText(final String fontFamily) {
+        final StringBuilder label = new StringBuilder();
+        for (int i = 0; i < WORDS; i++) {
+            label.append(VOCABULARY[(i * 7) % VOCABULARY.length]).append(' ');
+        }
+        final Text text = new Text(label.toString().trim());
+        text.setFontFamily(fontFamily);
+        return text;
+    }
+}
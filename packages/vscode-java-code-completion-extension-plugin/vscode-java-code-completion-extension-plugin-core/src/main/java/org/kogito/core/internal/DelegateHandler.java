@@ -33,6 +33,8 @@ import org.kogito.core.internal.handlers.Handler;
 import org.kogito.core.internal.handlers.HandlerConstants;
 import org.kogito.core.internal.handlers.IsLanguageServerAvailableHandler;
 import org.kogito.core.internal.handlers.TypeHierarchyHandler;
+import org.kogito.core.internal.index.TypeIndex;
+import org.kogito.core.internal.index.TypeIndexer;
 
 public class DelegateHandler implements IDelegateCommandHandler {
 
@@ -40,14 +42,16 @@ public class DelegateHandler implements IDelegateCommandHandler {
     private static final ActivationChecker ACTIVATION_CHECKER = new ActivationChecker();
     private static final AutocompleteHandler AUTOCOMPLETE_HANDLER = new AutocompleteHandler(ACTIVATION_CHECKER);
     private static final TypeHierarchyHandler TYPE_HIERARCHY_HANDLER = new TypeHierarchyHandler(ACTIVATION_CHECKER);
+    private static final TypeIndexer TYPE_INDEXER = new TypeIndexer(new TypeIndex());
     private final IsLanguageServerAvailableHandler isAvailableHandler;
 
     private static final List<Handler<?>> handlers = List.of(
-            new GetClassesHandler(HandlerConstants.GET_CLASSES, JAVA_ENGINE, AUTOCOMPLETE_HANDLER),
-            new GetAccessorsHandler(HandlerConstants.GET_ACCESSORS, JAVA_ENGINE, AUTOCOMPLETE_HANDLER, TYPE_HIERARCHY_HANDLER));
+            new GetClassesHandler(HandlerConstants.GET_CLASSES, JAVA_ENGINE, AUTOCOMPLETE_HANDLER, TYPE_INDEXER),
+            new GetAccessorsHandler(HandlerConstants.GET_ACCESSORS, JAVA_ENGINE, AUTOCOMPLETE_HANDLER, TYPE_HIERARCHY_HANDLER, TYPE_INDEXER));
 
     public DelegateHandler() {
         ACTIVATION_CHECKER.check();
+        TYPE_INDEXER.start();
         this.isAvailableHandler = new IsLanguageServerAvailableHandler(HandlerConstants.IS_AVAILABLE,
                 ACTIVATION_CHECKER);
     }
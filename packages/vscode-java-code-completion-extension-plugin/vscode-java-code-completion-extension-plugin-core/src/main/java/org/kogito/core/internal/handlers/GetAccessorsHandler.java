@@ -31,24 +31,36 @@ import org.kogito.core.internal.api.GetPublicParameters;
 import org.kogito.core.internal.api.GetPublicResult;
 import org.kogito.core.internal.engine.BuildInformation;
 import org.kogito.core.internal.engine.JavaEngine;
+import org.kogito.core.internal.index.TypeIndex;
+import org.kogito.core.internal.index.TypeIndexer;
 
 public class GetAccessorsHandler extends Handler<List<GetPublicResult>> {
 
     private final JavaEngine javaEngine;
     private final AutocompleteHandler autocompleteHandler;
     private final TypeHierarchyHandler typeHierarchyHandler;
+    private final TypeIndexer typeIndexer;
 
     public GetAccessorsHandler(String id, JavaEngine javaEngine, AutocompleteHandler autocompleteHandler, TypeHierarchyHandler typeHierarchyHandler) {
+        this(id, javaEngine, autocompleteHandler, typeHierarchyHandler, null);
+    }
+
+    public GetAccessorsHandler(String id, JavaEngine javaEngine, AutocompleteHandler autocompleteHandler, TypeHierarchyHandler typeHierarchyHandler, TypeIndexer typeIndexer) {
         super(id);
         this.javaEngine = javaEngine;
         this.autocompleteHandler = autocompleteHandler;
         this.typeHierarchyHandler = typeHierarchyHandler;
+        this.typeIndexer = typeIndexer;
     }
 
     @Override
     public List<GetPublicResult> handle(List<Object> arguments, IProgressMonitor progress) {
         JavaLanguageServerPlugin.logInfo("Handle Accessors");
         GetPublicParameters parameters = checkParameters(arguments);
+        Optional<List<GetPublicResult>> indexed = typeIndexer != null ? typeIndexer.getAccessors(parameters.getFqcn()) : Optional.empty();
+        if (indexed.isPresent()) {
+            return filterAccessors(indexed.get(), parameters.getQuery());
+        }
         BuildInformation autoCompleteBuildInformation =
                 javaEngine.buildPublicContent(this.autocompleteHandler.getActivatorPath(),
                         parameters.getFqcn(),
@@ -77,6 +89,19 @@ public class GetAccessorsHandler extends Handler<List<GetPublicResult>> {
                 .collect(Collectors.toList());
     }
 
+    protected List<GetPublicResult> filterAccessors(List<GetPublicResult> accessors, String query) {
+        if (query == null || query.isBlank()) {
+            return accessors;
+        }
+        String pattern = query.trim();
+        String prefix = pattern.toLowerCase();
+        boolean camelCase = TypeIndex.isCamelCasePattern(pattern);
+        return accessors.stream()
+                .filter(accessor -> accessor.getAccessor().toLowerCase().startsWith(prefix) ||
+                        (camelCase && TypeIndex.camelCaseMatch(pattern, accessor.getAccessor())))
+                .collect(Collectors.toList());
+    }
+
     protected GetPublicResult getAccessor(CompletionItem item, String javaClassFqcn) {
         String accessorName = item.getLabelDetails().getDetail() != null ?
                 item.getLabel() + item.getLabelDetails().getDetail() :
@@ -20,6 +20,7 @@
 package org.kogito.core.internal.handlers;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,21 +29,38 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.kogito.core.internal.api.GetClassesResult;
 import org.kogito.core.internal.engine.BuildInformation;
 import org.kogito.core.internal.engine.JavaEngine;
+import org.kogito.core.internal.index.TypeIndexer;
 
 public class GetClassesHandler extends Handler<List<GetClassesResult>> {
 
     private final JavaEngine javaEngine;
     private final AutocompleteHandler autocompleteHandler;
+    private final TypeIndexer typeIndexer;
 
     public GetClassesHandler(String id, JavaEngine javaEngine, AutocompleteHandler autocompleteHandler) {
+        this(id, javaEngine, autocompleteHandler, null);
+    }
+
+    public GetClassesHandler(String id, JavaEngine javaEngine, AutocompleteHandler autocompleteHandler, TypeIndexer typeIndexer) {
         super(id);
         this.javaEngine = javaEngine;
         this.autocompleteHandler = autocompleteHandler;
+        this.typeIndexer = typeIndexer;
     }
 
     public List<GetClassesResult> handle(List<Object> arguments, IProgressMonitor progress) {
         checkParameters(arguments);
         String completeText = (String) arguments.get(0);
+        Optional<List<String>> indexed = typeIndexer != null ? typeIndexer.findClasses(completeText) : Optional.empty();
+        if (indexed.isPresent()) {
+            return indexed.get().stream()
+                    .map(fqcn -> {
+                        GetClassesResult result = new GetClassesResult();
+                        result.setFqcn(fqcn);
+                        return result;
+                    })
+                    .collect(Collectors.toList());
+        }
         BuildInformation buildInformation = javaEngine.buildImportClass(this.autocompleteHandler.getActivatorPath(), completeText);
         List<CompletionItem> items = this.autocompleteHandler.handle("GetClassesHandler", buildInformation);
         return this.transformCompletionItemsToResult(items);
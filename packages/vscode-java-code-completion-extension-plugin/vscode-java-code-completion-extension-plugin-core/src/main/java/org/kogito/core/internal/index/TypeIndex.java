@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package org.kogito.core.internal.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.kogito.core.internal.api.GetPublicResult;
+
+/**
+ * In-memory index of the public types visible to the workspace, and of the public accessors resolved for them.
+ * Types are grouped by owner (a compilation unit or a classpath root), so a single owner can be refreshed
+ * without rebuilding the whole index. Resolved accessors are cached until one of the types of their hierarchy changes.
+ */
+public class TypeIndex {
+
+    /**
+     * Same limit the language server applies by default to completion results.
+     */
+    public static final int MAX_RESULTS = 50;
+
+    private final NavigableSet<String> types = new ConcurrentSkipListSet<>();
+    private final NavigableMap<String, Set<String>> typesBySimpleName = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> typesByOwner = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> ownersByType = new ConcurrentHashMap<>();
+
+    private final Map<String, List<GetPublicResult>> accessors = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> accessorsDependents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public int size() {
+        return types.size();
+    }
+
+    public boolean contains(String fqcn) {
+        return fqcn != null && types.contains(fqcn);
+    }
+
+    /**
+     * Replaces the types declared by the given owner, invalidating the accessors depending on any of them.
+     */
+    public synchronized void replace(String owner, Collection<String> fqcns) {
+        Set<String> previous = typesByOwner.remove(owner);
+        if (previous != null) {
+            previous.forEach(fqcn -> unregister(owner, fqcn));
+        }
+        if (!fqcns.isEmpty()) {
+            Set<String> current = new HashSet<>(fqcns);
+            typesByOwner.put(owner, current);
+            current.forEach(fqcn -> register(owner, fqcn));
+        }
+    }
+
+    public void remove(String owner) {
+        replace(owner, Collections.emptyList());
+    }
+
+    public synchronized void clear() {
+        types.clear();
+        typesBySimpleName.clear();
+        typesByOwner.clear();
+        ownersByType.clear();
+        accessors.clear();
+        accessorsDependents.clear();
+    }
+
+    /**
+     * Looks for the types matching the given query: a qualified query (eg. `java.util.Li`) is matched against the
+     * fully qualified names, otherwise the query is matched case-insensitively against the start of the simple names
+     * and then, as JDT completion does, against their camel case parts (eg. `NPE` or `NuPoEx` for `NullPointerException`).
+     */
+    public List<String> findClasses(String query) {
+        String prefix = query == null ? "" : query.trim();
+        List<String> result = new ArrayList<>();
+        if (prefix.contains(".")) {
+            for (String fqcn : types.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+                if (result.size() >= MAX_RESULTS) {
+                    break;
+                }
+                result.add(fqcn);
+            }
+            return result;
+        }
+        String lowerCasePrefix = prefix.toLowerCase();
+        for (Set<String> fqcns : typesBySimpleName.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false).values()) {
+            for (String fqcn : new TreeSet<>(fqcns)) {
+                if (result.size() >= MAX_RESULTS) {
+                    return result;
+                }
+                result.add(fqcn);
+            }
+        }
+        if (isCamelCasePattern(prefix)) {
+            // Camel case matches start with the same first character, so only those simple names are scanned
+            String first = lowerCasePrefix.substring(0, 1);
+            Set<String> prefixMatches = new HashSet<>(result);
+            for (Set<String> fqcns : typesBySimpleName.subMap(first, true, first + Character.MAX_VALUE, false).values()) {
+                for (String fqcn : new TreeSet<>(fqcns)) {
+                    if (result.size() >= MAX_RESULTS) {
+                        return result;
+                    }
+                    if (!prefixMatches.contains(fqcn) && camelCaseMatch(prefix, getSimpleName(fqcn))) {
+                        result.add(fqcn);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A pattern with an upper case character after the first one, which JDT completion matches against camel case
+     * names. Other patterns only match as prefixes.
+     */
+    public static boolean isCamelCasePattern(String pattern) {
+        for (int i = 1; i < pattern.length(); i++) {
+            if (Character.isUpperCase(pattern.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean camelCaseMatch(String pattern, String name) {
+        return CharOperation.camelCaseMatch(pattern.toCharArray(), name.toCharArray());
+    }
+
+    public Optional<List<GetPublicResult>> getAccessors(String fqcn) {
+        return Optional.ofNullable(accessors.get(fqcn));
+    }
+
+    /**
+     * Caches the accessors resolved for a type, along with the types of its hierarchy they were resolved from.
+     */
+    public synchronized void putAccessors(String fqcn, Collection<String> hierarchy, List<GetPublicResult> results) {
+        accessors.put(fqcn, Collections.unmodifiableList(new ArrayList<>(results)));
+        accessorsDependents.computeIfAbsent(fqcn, key -> ConcurrentHashMap.newKeySet()).add(fqcn);
+        hierarchy.forEach(type -> accessorsDependents.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(fqcn));
+    }
+
+    public synchronized void invalidate(String fqcn) {
+        Set<String> dependents = accessorsDependents.remove(fqcn);
+        if (dependents != null) {
+            dependents.forEach(accessors::remove);
+        }
+    }
+
+    private void register(String owner, String fqcn) {
+        ownersByType.computeIfAbsent(fqcn, key -> ConcurrentHashMap.newKeySet()).add(owner);
+        types.add(fqcn);
+        typesBySimpleName.computeIfAbsent(getSimpleName(fqcn).toLowerCase(), key -> ConcurrentHashMap.newKeySet()).add(fqcn);
+        invalidate(fqcn);
+    }
+
+    private void unregister(String owner, String fqcn) {
+        Set<String> owners = ownersByType.get(fqcn);
+        if (owners != null) {
+            owners.remove(owner);
+            if (owners.isEmpty()) {
+                ownersByType.remove(fqcn);
+                types.remove(fqcn);
+                String simpleName = getSimpleName(fqcn).toLowerCase();
+                Set<String> sameName = typesBySimpleName.get(simpleName);
+                if (sameName != null) {
+                    sameName.remove(fqcn);
+                    if (sameName.isEmpty()) {
+                        typesBySimpleName.remove(simpleName);
+                    }
+                }
+            }
+        }
+        invalidate(fqcn);
+    }
+
+    static String getSimpleName(String fqcn) {
+        return fqcn.substring(fqcn.lastIndexOf('.') + 1);
+    }
+}
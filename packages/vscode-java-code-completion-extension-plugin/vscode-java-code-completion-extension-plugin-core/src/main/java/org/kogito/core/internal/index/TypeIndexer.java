@@ -0,0 +1,473 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package org.kogito.core.internal.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.kogito.core.internal.api.GetPublicResult;
+
+/**
+ * Keeps a {@link TypeIndex} in sync with the Java model: the index is first built from the JDT search engine, then
+ * compilation unit changes refresh only the types they declare, while classpath changes schedule a full rebuild.
+ * Accessors are resolved from the type hierarchy the first time they are requested, then served from the index.
+ */
+public class TypeIndexer implements IElementChangedListener {
+
+    private static final long REBUILD_DELAY = 500;
+
+    private static final int CLASSPATH_CHANGED = IJavaElementDelta.F_CLASSPATH_CHANGED |
+            IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED |
+            IJavaElementDelta.F_OPENED |
+            IJavaElementDelta.F_CLOSED;
+
+    private static final int ROOT_CHANGED = IJavaElementDelta.F_ADDED_TO_CLASSPATH |
+            IJavaElementDelta.F_REMOVED_FROM_CLASSPATH |
+            IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
+
+    private final TypeIndex typeIndex;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final Job buildJob = new Job("Indexing Java types") {
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            return build(monitor);
+        }
+    };
+
+    public TypeIndexer(TypeIndex typeIndex) {
+        this.typeIndex = typeIndex;
+        this.buildJob.setSystem(true);
+    }
+
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+            buildJob.schedule();
+        }
+    }
+
+    public void stop() {
+        if (started.compareAndSet(true, false)) {
+            JavaCore.removeElementChangedListener(this);
+            buildJob.cancel();
+            typeIndex.setReady(false);
+            typeIndex.clear();
+        }
+    }
+
+    /**
+     * Returns the public types matching the given query, or an empty optional if the index is not available yet.
+     */
+    public Optional<List<String>> findClasses(String query) {
+        if (!typeIndex.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(typeIndex.findClasses(query));
+    }
+
+    /**
+     * Returns the public accessors of the given type, or an empty optional if the type can't be resolved from the index.
+     */
+    public Optional<List<GetPublicResult>> getAccessors(String fqcn) {
+        if (!typeIndex.isReady() || !typeIndex.contains(fqcn)) {
+            return Optional.empty();
+        }
+        Optional<List<GetPublicResult>> cached = typeIndex.getAccessors(fqcn);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        try {
+            IType type = findType(fqcn);
+            if (type == null) {
+                return Optional.empty();
+            }
+            ITypeHierarchy hierarchy = type.newSupertypeHierarchy(null);
+            List<String> hierarchyNames = new ArrayList<>();
+            hierarchyNames.add(type.getFullyQualifiedName('.'));
+            for (IType superclass : hierarchy.getAllSuperclasses(type)) {
+                hierarchyNames.add(superclass.getFullyQualifiedName('.'));
+            }
+            for (IType superInterface : hierarchy.getAllSuperInterfaces(type)) {
+                hierarchyNames.add(superInterface.getFullyQualifiedName('.'));
+            }
+            List<GetPublicResult> results = resolveAccessors(fqcn, type, hierarchy);
+            typeIndex.putAccessors(fqcn, hierarchyNames, results);
+            return Optional.of(results);
+        } catch (JavaModelException e) {
+            JavaLanguageServerPlugin.logException("Can't resolve accessors of " + fqcn, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        visit(event.getDelta());
+    }
+
+    private void visit(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        switch (element.getElementType()) {
+            case IJavaElement.JAVA_PROJECT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_CHANGED) != 0) {
+                    scheduleRebuild();
+                    return;
+                }
+                break;
+            case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+            case IJavaElement.PACKAGE_FRAGMENT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ROOT_CHANGED) != 0) {
+                    scheduleRebuild();
+                    return;
+                }
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                update((ICompilationUnit) element, delta);
+                return;
+            default:
+                break;
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            visit(child);
+        }
+    }
+
+    private void update(ICompilationUnit unit, IJavaElementDelta delta) {
+        ICompilationUnit primary = unit.getPrimary();
+        String owner = primary.getHandleIdentifier();
+        if (delta.getKind() == IJavaElementDelta.REMOVED) {
+            typeIndex.remove(owner);
+            return;
+        }
+        boolean contentChanged = (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0;
+        if (delta.getKind() != IJavaElementDelta.ADDED && !contentChanged) {
+            // Opening or closing a working copy (eg. the synthetic completion document) doesn't change its types
+            return;
+        }
+        try {
+            List<String> fqcns = new ArrayList<>();
+            for (IType type : primary.getAllTypes()) {
+                if (Flags.isPublic(type.getFlags())) {
+                    fqcns.add(type.getFullyQualifiedName('.'));
+                }
+            }
+            typeIndex.replace(owner, fqcns);
+        } catch (JavaModelException e) {
+            JavaLanguageServerPlugin.logException("Can't index " + owner, e);
+            typeIndex.remove(owner);
+        }
+    }
+
+    private void scheduleRebuild() {
+        buildJob.cancel();
+        buildJob.schedule(REBUILD_DELAY);
+    }
+
+    private IStatus build(IProgressMonitor monitor) {
+        Map<String, List<String>> typesByOwner = new HashMap<>();
+        try {
+            new SearchEngine().searchAllTypeNames(null,
+                    SearchPattern.R_EXACT_MATCH,
+                    null,
+                    SearchPattern.R_PREFIX_MATCH,
+                    IJavaSearchConstants.TYPE,
+                    SearchEngine.createWorkspaceScope(),
+                    new TypeNameMatchRequestor() {
+                        @Override
+                        public void acceptTypeNameMatch(TypeNameMatch match) {
+                            if (Flags.isPublic(match.getModifiers())) {
+                                typesByOwner.computeIfAbsent(getOwner(match.getType()), key -> new ArrayList<>())
+                                        .add(getFullyQualifiedName(match));
+                            }
+                        }
+                    },
+                    IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+                    monitor);
+        } catch (OperationCanceledException e) {
+            return Status.CANCEL_STATUS;
+        } catch (CoreException e) {
+            JavaLanguageServerPlugin.logException("Can't build the Java types index", e);
+            return e.getStatus();
+        }
+        if (monitor.isCanceled()) {
+            return Status.CANCEL_STATUS;
+        }
+        typeIndex.setReady(false);
+        typeIndex.clear();
+        typesByOwner.forEach(typeIndex::replace);
+        typeIndex.setReady(true);
+        JavaLanguageServerPlugin.logInfo("Indexed " + typeIndex.size() + " Java types");
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Resolves the accessors the completion engine proposes on <code>new Fqcn().</code>: every public method of the
+     * type hierarchy, static and void ones included, typed as seen from the given type. Type variables of the
+     * supertypes are replaced by the type arguments the hierarchy binds them to, and when the type itself is generic
+     * the receiver is a raw type, so every member type is erased.
+     */
+    static List<GetPublicResult> resolveAccessors(String fqcn, IType type, ITypeHierarchy hierarchy) throws JavaModelException {
+        boolean raw = type.getTypeParameters().length > 0;
+        Map<String, GetPublicResult> accessors = new LinkedHashMap<>();
+        Deque<Map.Entry<IType, Map<String, String>>> superInterfaces = new ArrayDeque<>();
+        Set<IType> visited = new HashSet<>();
+
+        // Classes first, so their methods win over the interface default methods
+        IType current = type;
+        Map<String, String> bindings = Map.of();
+        while (current != null && visited.add(current)) {
+            collectAccessors(fqcn, current, bindings, raw, accessors);
+            queueSuperInterfaces(current, bindings, raw, hierarchy, superInterfaces);
+            IType superclass = hierarchy.getSuperclass(current);
+            if (superclass != null) {
+                bindings = bind(current, bindings, raw, superclass, current.getSuperclassTypeSignature());
+            }
+            current = superclass;
+        }
+        while (!superInterfaces.isEmpty()) {
+            Map.Entry<IType, Map<String, String>> entry = superInterfaces.poll();
+            if (visited.add(entry.getKey())) {
+                collectAccessors(fqcn, entry.getKey(), entry.getValue(), raw, accessors);
+                queueSuperInterfaces(entry.getKey(), entry.getValue(), raw, hierarchy, superInterfaces);
+            }
+        }
+        return new ArrayList<>(accessors.values());
+    }
+
+    private static void queueSuperInterfaces(IType type,
+                                             Map<String, String> bindings,
+                                             boolean raw,
+                                             ITypeHierarchy hierarchy,
+                                             Deque<Map.Entry<IType, Map<String, String>>> queue) throws JavaModelException {
+        String[] signatures = type.getSuperInterfaceTypeSignatures();
+        for (IType superInterface : hierarchy.getSuperInterfaces(type)) {
+            String signature = null;
+            for (String candidate : signatures) {
+                if (Signature.getSimpleName(Signature.toString(Signature.getTypeErasure(candidate))).equals(superInterface.getElementName())) {
+                    signature = candidate;
+                    break;
+                }
+            }
+            queue.add(Map.entry(superInterface, bind(type, bindings, raw, superInterface, signature)));
+        }
+    }
+
+    /**
+     * Maps the type parameters of a supertype to the type arguments given in its signature, resolved from the subtype.
+     */
+    private static Map<String, String> bind(IType type,
+                                            Map<String, String> bindings,
+                                            boolean raw,
+                                            IType supertype,
+                                            String supertypeSignature) throws JavaModelException {
+        if (raw || supertypeSignature == null) {
+            return Map.of();
+        }
+        String[] arguments = Signature.getTypeArguments(supertypeSignature);
+        ITypeParameter[] parameters = supertype.getTypeParameters();
+        if (arguments.length != parameters.length) {
+            return Map.of();
+        }
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            result.put(parameters[i].getElementName(), resolveSignature(type, null, arguments[i], bindings, false));
+        }
+        return result;
+    }
+
+    private static void collectAccessors(String fqcn,
+                                         IType type,
+                                         Map<String, String> bindings,
+                                         boolean raw,
+                                         Map<String, GetPublicResult> accessors) throws JavaModelException {
+        boolean isInterface = type.isInterface();
+        for (IMethod method : type.getMethods()) {
+            int flags = method.getFlags();
+            if ((!Flags.isPublic(flags) && !isInterface) ||
+                    Flags.isSynthetic(flags) ||
+                    method.isConstructor()) {
+                continue;
+            }
+            String accessor = getAccessorName(type, method, bindings, raw);
+            accessors.putIfAbsent(accessor,
+                    createResult(fqcn, accessor, toTypeName(resolveSignature(type, method, method.getReturnType(), bindings, raw))));
+        }
+    }
+
+    private static String getAccessorName(IType type, IMethod method, Map<String, String> bindings, boolean raw) throws JavaModelException {
+        String[] parameterTypes = method.getParameterTypes();
+        String[] parameterNames = method.getParameterNames();
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            String parameterType = resolveSignature(type, method, parameterTypes[i], bindings, raw);
+            parameters.add(Signature.getSimpleName(Signature.toString(parameterType)) + " " + parameterNames[i]);
+        }
+        return method.getElementName() + "(" + String.join(", ", parameters) + ")";
+    }
+
+    private static GetPublicResult createResult(String fqcn, String accessor, String type) {
+        GetPublicResult result = new GetPublicResult();
+        result.setFqcn(fqcn);
+        result.setAccessor(accessor);
+        result.setType(type);
+        return result;
+    }
+
+    /**
+     * Resolves a type signature declared in the given type to a signature with fully qualified, dot separated names,
+     * replacing the bound type variables. Unbound type variables, and every type argument of a raw receiver, are erased.
+     */
+    private static String resolveSignature(IType declaringType,
+                                           IMethod method,
+                                           String signature,
+                                           Map<String, String> bindings,
+                                           boolean raw) throws JavaModelException {
+        switch (Signature.getTypeSignatureKind(signature)) {
+            case Signature.ARRAY_TYPE_SIGNATURE:
+                return "[".repeat(Signature.getArrayCount(signature)) +
+                        resolveSignature(declaringType, method, Signature.getElementType(signature), bindings, raw);
+            case Signature.TYPE_VARIABLE_SIGNATURE:
+                String variable = Signature.toString(signature);
+                boolean declaredByMethod = method != null && method.getTypeParameter(variable).exists();
+                if (!raw && !declaredByMethod && bindings.containsKey(variable)) {
+                    return bindings.get(variable);
+                }
+                return resolveSignature(declaringType, method, getBound(declaringType, method, variable), Map.of(), true);
+            case Signature.WILDCARD_TYPE_SIGNATURE:
+                if (signature.charAt(0) == Signature.C_STAR) {
+                    return signature;
+                }
+                return signature.charAt(0) + resolveSignature(declaringType, method, signature.substring(1), bindings, raw);
+            case Signature.CLASS_TYPE_SIGNATURE:
+                String name = resolveClassName(declaringType, Signature.getTypeErasure(signature));
+                String[] arguments = raw ? new String[0] : Signature.getTypeArguments(signature);
+                StringBuilder resolved = new StringBuilder().append(Signature.C_RESOLVED).append(name);
+                if (arguments.length > 0) {
+                    resolved.append(Signature.C_GENERIC_START);
+                    for (String argument : arguments) {
+                        resolved.append(resolveSignature(declaringType, method, argument, bindings, false));
+                    }
+                    resolved.append(Signature.C_GENERIC_END);
+                }
+                return resolved.append(Signature.C_SEMICOLON).toString();
+            default:
+                return signature;
+        }
+    }
+
+    private static String getBound(IType declaringType, IMethod method, String variable) throws JavaModelException {
+        ITypeParameter parameter = method != null ? method.getTypeParameter(variable) : null;
+        if (parameter == null || !parameter.exists()) {
+            parameter = declaringType.getTypeParameter(variable);
+        }
+        if (parameter != null && parameter.exists() && parameter.getBoundsSignatures().length > 0) {
+            return parameter.getBoundsSignatures()[0];
+        }
+        return "Ljava.lang.Object;";
+    }
+
+    private static String resolveClassName(IType declaringType, String erasure) throws JavaModelException {
+        String name = Signature.toString(erasure);
+        if (erasure.charAt(0) == Signature.C_UNRESOLVED) {
+            String[][] resolved = declaringType.resolveType(name);
+            if (resolved != null && resolved.length == 1) {
+                name = resolved[0][0].isEmpty() ? resolved[0][1] : resolved[0][0] + "." + resolved[0][1];
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Formats a resolved signature as the completion fallback does, eg. <code>java.util.Map&lt;Ljava.lang.String;Lcom.Book;&gt;</code>.
+     */
+    private static String toTypeName(String signature) {
+        int arrayCount = Signature.getArrayCount(signature);
+        String elementType = Signature.getElementType(signature);
+        if (Signature.getTypeSignatureKind(elementType) != Signature.CLASS_TYPE_SIGNATURE) {
+            return Signature.toString(elementType) + "[]".repeat(arrayCount);
+        }
+        StringBuilder name = new StringBuilder(Signature.toString(Signature.getTypeErasure(elementType)));
+        String[] arguments = Signature.getTypeArguments(elementType);
+        if (arguments.length > 0) {
+            name.append('<').append(String.join("", arguments)).append('>');
+        }
+        return name.append("[]".repeat(arrayCount)).toString();
+    }
+
+    private IType findType(String fqcn) throws JavaModelException {
+        for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+            IType type = project.findType(fqcn);
+            if (type != null && type.exists()) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static String getOwner(IType type) {
+        ICompilationUnit unit = type.getCompilationUnit();
+        if (unit != null) {
+            return unit.getPrimary().getHandleIdentifier();
+        }
+        return type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT).getHandleIdentifier();
+    }
+
+    private static String getFullyQualifiedName(TypeNameMatch match) {
+        String packageName = match.getPackageName();
+        return packageName.isEmpty() ?
+                match.getTypeQualifiedName() :
+                packageName + "." + match.getTypeQualifiedName();
+    }
+}
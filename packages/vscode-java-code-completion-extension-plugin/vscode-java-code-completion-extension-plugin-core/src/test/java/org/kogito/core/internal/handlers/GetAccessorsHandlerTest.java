@@ -19,6 +19,7 @@
 
 package org.kogito.core.internal.handlers;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.lsp4j.CompletionItem;
@@ -97,4 +98,23 @@ class GetAccessorsHandlerTest {
         assertThat(accessor.getType()).isEqualTo("java.util.Map<Ljava.lang.String;Lcom.Book;>");
         assertThat(accessor.getAccessor()).isEqualTo("getBooksMap()");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFilterAccessors() {
+        GetPublicResult name = new GetPublicResult();
+        name.setAccessor("getName()");
+        GetPublicResult age = new GetPublicResult();
+        age.setAccessor("age");
+        GetPublicResult firstName = new GetPublicResult();
+        firstName.setAccessor("getFirstName()");
+        List<GetPublicResult> accessors = List.of(name, age, firstName);
+
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "")).containsExactly(name, age, firstName);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "getN")).containsExactly(name);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "gFN")).containsExactly(firstName);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "getFN")).containsExactly(firstName);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "gN")).containsExactly(name);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "AG")).containsExactly(age);
+        assertThat(this.getAccessorHandler.filterAccessors(accessors, "unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package org.kogito.core.internal.index;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kogito.core.internal.api.GetPublicResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeIndexTest {
+
+    private TypeIndex typeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        this.typeIndex = new TypeIndex();
+        this.typeIndex.replace("rt.jar", List.of("java.lang.String", "java.lang.StringBuilder", "java.util.List"));
+        this.typeIndex.replace("Author.java", List.of("org.kogito.Author", "org.kogito.Author.Address"));
+    }
+
+    @Test
+    void testFindClassesBySimpleName() {
+        assertThat(typeIndex.findClasses("Str")).containsExactly("java.lang.String", "java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("string")).containsExactly("java.lang.String", "java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("Addr")).containsExactly("org.kogito.Author.Address");
+        assertThat(typeIndex.findClasses("Unknown")).isEmpty();
+    }
+
+    @Test
+    void testFindClassesByCamelCase() {
+        typeIndex.replace("rt.jar", List.of("java.lang.String", "java.lang.StringBuilder", "java.util.List",
+                                            "java.lang.NullPointerException", "java.lang.StackOverflowError"));
+
+        assertThat(typeIndex.findClasses("SB")).containsExactly("java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("NPE")).containsExactly("java.lang.NullPointerException");
+        assertThat(typeIndex.findClasses("NuPoEx")).containsExactly("java.lang.NullPointerException");
+        assertThat(typeIndex.findClasses("StOE")).containsExactly("java.lang.StackOverflowError");
+        // Prefix matches come first
+        assertThat(typeIndex.findClasses("StrinB")).containsExactly("java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("St")).containsExactly("java.lang.StackOverflowError", "java.lang.String", "java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("npe")).isEmpty();
+    }
+
+    @Test
+    void testFindClassesByQualifiedName() {
+        assertThat(typeIndex.findClasses("java.lang.S")).containsExactly("java.lang.String", "java.lang.StringBuilder");
+        assertThat(typeIndex.findClasses("org.kogito.")).containsExactly("org.kogito.Author", "org.kogito.Author.Address");
+    }
+
+    @Test
+    void testFindClassesIsLimited() {
+        typeIndex.replace("generated", IntStream.range(0, TypeIndex.MAX_RESULTS * 2)
+                .mapToObj(i -> "org.generated.Type" + i)
+                .collect(Collectors.toList()));
+
+        assertThat(typeIndex.findClasses("Type")).hasSize(TypeIndex.MAX_RESULTS);
+    }
+
+    @Test
+    void testReplaceOwner() {
+        typeIndex.replace("Author.java", List.of("org.kogito.Writer"));
+
+        assertThat(typeIndex.contains("org.kogito.Author")).isFalse();
+        assertThat(typeIndex.contains("org.kogito.Writer")).isTrue();
+        assertThat(typeIndex.findClasses("Auth")).isEmpty();
+        assertThat(typeIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void testTypeSharedByOwners() {
+        typeIndex.replace("other.jar", List.of("java.util.List"));
+        typeIndex.remove("rt.jar");
+
+        assertThat(typeIndex.contains("java.util.List")).isTrue();
+        assertThat(typeIndex.contains("java.lang.String")).isFalse();
+    }
+
+    @Test
+    void testAccessorsInvalidatedByHierarchyChange() {
+        GetPublicResult name = new GetPublicResult();
+        name.setFqcn("org.kogito.Author");
+        name.setAccessor("getName()");
+        name.setType("java.lang.String");
+        typeIndex.putAccessors("org.kogito.Author", List.of("org.kogito.Person", "java.lang.Object"), List.of(name));
+
+        assertThat(typeIndex.getAccessors("org.kogito.Author")).hasValueSatisfying(accessors -> assertThat(accessors).containsExactly(name));
+
+        typeIndex.replace("Person.java", List.of("org.kogito.Person"));
+
+        assertThat(typeIndex.getAccessors("org.kogito.Author")).isEmpty();
+    }
+
+    @Test
+    void testClear() {
+        typeIndex.clear();
+
+        assertThat(typeIndex.size()).isZero();
+        assertThat(typeIndex.findClasses("")).isEmpty();
+    }
+}
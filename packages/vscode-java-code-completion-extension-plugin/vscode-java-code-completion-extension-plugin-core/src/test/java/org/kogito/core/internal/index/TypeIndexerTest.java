@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License. 
+ */
+
+package org.kogito.core.internal.index;
+package org.kogito.core.internal.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemLabelDetails;
+import org.eclipse.lsp4j.TypeHierarchyItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kogito.core.internal.api.GetPublicResult;
+import org.kogito.core.internal.engine.BuildInformation;
+import org.kogito.core.internal.engine.JavaEngine;
+import org.kogito.core.internal.handlers.AutocompleteHandler;
+import org.kogito.core.internal.handlers.GetAccessorsHandler;
+import org.kogito.core.internal.handlers.TypeHierarchyHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The index must answer exactly what the synthetic completion document answers for the same project, here a
+ * <code>com.Book extends com.Item&lt;String&gt;</code> type, mocked on both sides.
+ */
+class TypeIndexerTest {
+
+    private static final String BOOK = "com.Book";
+
+    private JavaEngine javaEngine;
+    private AutocompleteHandler autocompleteHandler;
+    private TypeHierarchyHandler typeHierarchyHandler;
+    private List<CompletionItem> completionItems;
+
+    private IType book;
+    private IType item;
+    private ITypeHierarchy hierarchy;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        javaEngine = mock(JavaEngine.class);
+        autocompleteHandler = mock(AutocompleteHandler.class);
+        typeHierarchyHandler = mock(TypeHierarchyHandler.class);
+        completionItems = new ArrayList<>();
+        when(javaEngine.buildPublicContent(any(), eq(BOOK), eq(""))).thenReturn(new BuildInformation(null, "", "", 0, 0));
+        when(autocompleteHandler.handle(eq("GetAccessorsHandler"), any())).thenReturn(completionItems);
+
+        item = mockType("Item", typeParameter("T"));
+        book = mockType("Book");
+        when(book.getSuperclassTypeSignature()).thenReturn("QItem<QString;>;");
+        when(book.resolveType("String")).thenReturn(new String[][]{{"java.lang", "String"}});
+        when(book.resolveType("Map")).thenReturn(new String[][]{{"java.util", "Map"}});
+        when(book.resolveType("Book")).thenReturn(new String[][]{{"com", "Book"}});
+        when(book.resolveType("Item")).thenReturn(new String[][]{{"com", "Item"}});
+
+        hierarchy = mock(ITypeHierarchy.class);
+        when(hierarchy.getSuperclass(book)).thenReturn(item);
+        when(hierarchy.getSuperInterfaces(any())).thenReturn(new IType[0]);
+    }
+
+    @Test
+    void testAccessorsMatchCompletionFallback() throws Exception {
+        IMethod constructor = mockMethod("Book", "V", Flags.AccPublic);
+        when(constructor.isConstructor()).thenReturn(true);
+        when(book.getMethods()).thenReturn(new IMethod[]{
+                constructor,
+                mockMethod("getName", "QString;", Flags.AccPublic),
+                mockMethod("getBooksMap", "QMap<QString;QBook;>;", Flags.AccPublic),
+                mockMethod("setName", "V", Flags.AccPublic, "QString;", "name"),
+                mockMethod("create", "QBook;", Flags.AccPublic | Flags.AccStatic),
+                mockMethod("getSecret", "I", Flags.AccPrivate)
+        });
+        when(item.getMethods()).thenReturn(new IMethod[]{
+                mockMethod("getId", "TT;", Flags.AccPublic)
+        });
+
+        // What the completion engine proposes on "new com.Book().", public fields are not accessors
+        addMethodCompletion("getName", "()", "String", "java.lang", "String");
+        addMethodCompletion("getBooksMap", "()", "Map<String,Book>", "java.util", "Map<Ljava.lang.String;Lcom.Book;>");
+        addMethodCompletion("setName", "(String name)", "void", null, null);
+        addMethodCompletion("create", "()", "Book", "com", "Book");
+        addMethodCompletion("getId", "()", "String", "java.lang", "String");
+        addFieldCompletion("title", "String");
+
+        List<GetPublicResult> fallback = new GetAccessorsHandler(null, javaEngine, autocompleteHandler, typeHierarchyHandler)
+                .handle(List.of(BOOK, ""), null);
+        List<GetPublicResult> indexed = TypeIndexer.resolveAccessors(BOOK, book, hierarchy);
+
+        assertThat(indexed).extracting(GetPublicResult::getFqcn, GetPublicResult::getAccessor, GetPublicResult::getType)
+                .containsExactlyInAnyOrderElementsOf(fallback.stream()
+                                                             .map(result -> tuple(result.getFqcn(), result.getAccessor(), result.getType()))
+                                                             .collect(Collectors.toList()));
+        assertThat(fallback).hasSize(5);
+        assertThat(indexed).extracting(GetPublicResult::getAccessor, GetPublicResult::getType)
+                .contains(tuple("getBooksMap()", "java.util.Map<Ljava.lang.String;Lcom.Book;>"),
+                          tuple("getId()", "java.lang.String"));
+    }
+
+    @Test
+    void testRawTypeAccessorsAreErased() throws Exception {
+        when(item.getMethods()).thenReturn(new IMethod[]{
+                mockMethod("getId", "TT;", Flags.AccPublic),
+                mockMethod("getNames", "QList<QString;>;", Flags.AccPublic)
+        });
+        when(item.resolveType("List")).thenReturn(new String[][]{{"java.util", "List"}});
+
+        List<GetPublicResult> indexed = TypeIndexer.resolveAccessors("com.Item", item, hierarchy);
+
+        assertThat(indexed).extracting(GetPublicResult::getAccessor, GetPublicResult::getType)
+                .containsExactlyInAnyOrder(tuple("getId()", "java.lang.Object"),
+                                           tuple("getNames()", "java.util.List"));
+    }
+
+    private void addMethodCompletion(String name, String parameters, String type, String hierarchyPackage, String hierarchyName) {
+        CompletionItem completionItem = new CompletionItem();
+        completionItem.setLabel(name);
+        completionItem.setDetail(BOOK + "." + name + parameters + " : " + type);
+        CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
+        labelDetails.setDetail(parameters);
+        labelDetails.setDescription(type);
+        completionItem.setLabelDetails(labelDetails);
+        completionItems.add(completionItem);
+
+        BuildInformation hover = new BuildInformation(null, name, name, 0, 0);
+        when(javaEngine.buildVarTypePublicContent(any(), eq(BOOK), eq(name + parameters + ";"))).thenReturn(hover);
+        List<TypeHierarchyItem> hierarchyItems = new ArrayList<>();
+        if (hierarchyPackage != null) {
+            TypeHierarchyItem hierarchyItem = new TypeHierarchyItem();
+            hierarchyItem.setName(hierarchyName);
+            hierarchyItem.setDetail(hierarchyPackage);
+            hierarchyItems.add(hierarchyItem);
+        }
+        when(typeHierarchyHandler.handle("GetAccessorsHandler", hover)).thenReturn(hierarchyItems);
+    }
+
+    private void addFieldCompletion(String name, String type) {
+        CompletionItem completionItem = new CompletionItem();
+        completionItem.setLabel(name);
+        completionItem.setDetail(type + " " + BOOK + "." + name);
+        completionItems.add(completionItem);
+    }
+
+    private static IType mockType(String name, ITypeParameter... typeParameters) throws Exception {
+        IType type = mock(IType.class);
+        when(type.getElementName()).thenReturn(name);
+        when(type.getFullyQualifiedName('.')).thenReturn("com." + name);
+        when(type.getTypeParameters()).thenReturn(typeParameters);
+        when(type.getSuperInterfaceTypeSignatures()).thenReturn(new String[0]);
+        when(type.getMethods()).thenReturn(new IMethod[0]);
+        ITypeParameter none = typeParameter("none", false);
+        when(type.getTypeParameter(anyString())).thenAnswer(invocation -> {
+            for (ITypeParameter typeParameter : typeParameters) {
+                if (typeParameter.getElementName().equals(invocation.getArgument(0))) {
+                    return typeParameter;
+                }
+            }
+            return none;
+        });
+        return type;
+    }
+
+    private static ITypeParameter typeParameter(String name) {
+        return typeParameter(name, true);
+    }
+
+    private static ITypeParameter typeParameter(String name, boolean exists) {
+        try {
+            ITypeParameter typeParameter = mock(ITypeParameter.class);
+            when(typeParameter.getElementName()).thenReturn(name);
+            when(typeParameter.exists()).thenReturn(exists);
+            when(typeParameter.getBoundsSignatures()).thenReturn(new String[0]);
+            return typeParameter;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IMethod mockMethod(String name, String returnType, int flags, String... parameters) throws Exception {
+        IMethod method = mock(IMethod.class);
+        when(method.getElementName()).thenReturn(name);
+        when(method.getReturnType()).thenReturn(returnType);
+        when(method.getFlags()).thenReturn(flags);
+        String[] parameterTypes = new String[parameters.length / 2];
+        String[] parameterNames = new String[parameters.length / 2];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = parameters[i * 2];
+            parameterNames[i] = parameters[i * 2 + 1];
+        }
+        when(method.getParameterTypes()).thenReturn(parameterTypes);
+        when(method.getParameterNames()).thenReturn(parameterNames);
+        ITypeParameter none = typeParameter("none", false);
+        when(method.getTypeParameter(anyString())).thenReturn(none);
+        return method;
+    }
+}
@@ -79,6 +79,19 @@ public class CustomTreeSet {
         return result;
     }
 
+    /**
+     * Textual form of all the keys, independent of the row location.
+     * Two rows with the same signature constrain the same columns the same way.
+     */
+    public String getSignature() {
+        final StringBuilder builder = new StringBuilder();
+        for (Key key : innerSet) {
+            builder.append(key.toString());
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+
     public boolean addAll(final CustomTreeSet c) {
         if (c instanceof CustomTreeSet) {
             equalColumns.addAll(((CustomTreeSet) c).equalColumns);
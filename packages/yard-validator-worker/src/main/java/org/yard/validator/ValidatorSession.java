@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.yard.validator;
+
+import org.yard.validator.checks.CheckItem;
+import org.yard.validator.checks.CheckProducer;
+import org.yard.validator.checks.OverlapSweep;
+import org.yard.validator.checks.SubsumptionCheck;
+import org.yard.validator.key.ColumnKey;
+import org.yard.validator.key.Location;
+import org.yard.validator.key.RowLocation;
+import org.yard.validator.util.Logger;
+
+import java.util.*;
+
+/**
+ * Keeps the result of the previous validation around, so that a small edit only
+ * re-checks the rows it touched.
+ * <p>
+ * Rows are matched to the previous document by their table row number and the signature of their keys.
+ * Issues between rows that did not change are carried over, changed rows are checked against
+ * the overlapping rows of their bundle. Under the FIRST and PRIORITY hit policies a change in the order
+ * of the rows falls back to a full run, since masking depends on which row comes first.
+ * The document is still parsed in full, since the YAML mapper has no partial parsing.
+ */
+public class ValidatorSession {
+
+    private String yaml;
+    private String hitPolicy;
+    private Set<ColumnKey> bundleKeys;
+    private Map<Integer, Row> rows = new HashMap<>();
+    private List<RowIssue> issues = new ArrayList<>();
+
+    public void validate(final String yaml,
+            final ReportBus bus) {
+        if (!Objects.equals(this.yaml, yaml)) {
+            update(yaml);
+        }
+        for (final RowIssue issue : issues) {
+            bus.report(issue.issue);
+        }
+    }
+
+    private void update(final String yaml) {
+        final ParserResult parse = new Parser().parse(yaml);
+        final Set<ColumnKey> newBundleKeys = CheckProducer.getBundleKeys(parse.getResult());
+        final Map<Integer, Row> newRows = new HashMap<>();
+        for (final Map.Entry<RowLocation, CustomTreeSet> entry : parse.getResult().entrySet()) {
+            final Row row = new Row(entry.getKey(), entry.getValue(), newBundleKeys);
+            newRows.put(row.getIndex(), row);
+        }
+
+        final List<RowIssue> newIssues = new ArrayList<>();
+        if (Objects.equals("COLLECT", parse.getHitPolicy())) {
+            Logger.log("COLLECT hit policy, nothing to check.");
+        } else if (this.yaml == null
+                || !Objects.equals(hitPolicy, parse.getHitPolicy())
+                || !Objects.equals(bundleKeys, newBundleKeys)) {
+            checkAll(parse.getHitPolicy(), newRows, newIssues);
+        } else {
+            checkChanged(parse.getHitPolicy(), newRows, newIssues);
+        }
+
+        this.yaml = yaml;
+        this.hitPolicy = parse.getHitPolicy();
+        this.bundleKeys = newBundleKeys;
+        this.rows = newRows;
+        this.issues = newIssues;
+    }
+
+    private void checkAll(final String hitPolicy,
+            final Map<Integer, Row> newRows,
+            final List<RowIssue> newIssues) {
+        Logger.log("Validating all " + newRows.size() + " rows.");
+        for (final List<Row> bundle : formBundles(newRows.values()).values()) {
+            final List<CheckItem> items = new ArrayList<>();
+            for (final Row row : bundle) {
+                items.add(row.item);
+            }
+            new OverlapSweep(hitPolicy, check -> {
+                final SubsumptionCheck subsumptionCheck = (SubsumptionCheck) check;
+                run(newRows.get(subsumptionCheck.getHigherCheckItem().getIndex()),
+                        newRows.get(subsumptionCheck.getLowerCheckItem().getIndex()),
+                        subsumptionCheck,
+                        newIssues);
+            }).sweep(items);
+        }
+    }
+
+    private void checkChanged(final String hitPolicy,
+            final Map<Integer, Row> newRows,
+            final List<RowIssue> newIssues) {
+        final Map<Row, Row> oldToNew = match(newRows);
+        if (isOrderSensitive(hitPolicy) && isReordered(oldToNew)) {
+            // Masking depends on which row comes first, unchanged rows may mask each other now.
+            checkAll(hitPolicy, newRows, newIssues);
+            return;
+        }
+        final Set<Row> changed = new HashSet<>(newRows.values());
+        changed.removeAll(oldToNew.values());
+
+        Logger.log("Validating " + changed.size() + " changed rows.");
+
+        for (final RowIssue issue : issues) {
+            final Row higher = oldToNew.get(issue.higher);
+            final Row lower = oldToNew.get(issue.lower);
+            if (higher == null || lower == null) {
+                continue;
+            }
+            if (higher.getIndex() < lower.getIndex()) {
+                newIssues.add(issue.moveTo(higher, lower));
+            } else {
+                // The rows swapped places, the outcome may depend on the order.
+                run(lower, higher, new SubsumptionCheck(hitPolicy, lower.item, higher.item), newIssues);
+            }
+        }
+
+        final Map<Integer, List<Row>> bundles = formBundles(newRows.values());
+        for (final Row row : changed) {
+            for (final Row other : bundles.get(row.bundleHash)) {
+                if (other == row
+                        || (changed.contains(other) && other.getIndex() < row.getIndex())
+                        || !row.item.overlaps(other.item)) {
+                    continue;
+                }
+                final Row higher = row.getIndex() < other.getIndex() ? row : other;
+                final Row lower = higher == row ? other : row;
+                run(higher, lower, new SubsumptionCheck(hitPolicy, higher.item, lower.item), newIssues);
+            }
+        }
+    }
+
+    /**
+     * Pairs the new rows with the previous ones. Rows that stayed on the same table row are matched first,
+     * the rest are matched by signature in table order, so inserting or removing a row does not
+     * invalidate the rows below it.
+     */
+    private Map<Row, Row> match(final Map<Integer, Row> newRows) {
+        final Map<Row, Row> oldToNew = new HashMap<>();
+        final Set<Row> matchedNew = new HashSet<>();
+
+        for (final Row row : new TreeMap<>(newRows).values()) {
+            final Row old = rows.get(row.getIndex());
+            if (old != null && Objects.equals(old.signature, row.signature)) {
+                oldToNew.put(old, row);
+                matchedNew.add(row);
+            }
+        }
+
+        final Map<String, Deque<Row>> unmatchedOld = new HashMap<>();
+        for (final Row old : new TreeMap<>(rows).values()) {
+            if (!oldToNew.containsKey(old)) {
+                unmatchedOld.computeIfAbsent(old.signature, s -> new ArrayDeque<>()).add(old);
+            }
+        }
+        for (final Row row : new TreeMap<>(newRows).values()) {
+            if (!matchedNew.contains(row)) {
+                final Deque<Row> candidates = unmatchedOld.get(row.signature);
+                if (candidates != null && !candidates.isEmpty()) {
+                    oldToNew.put(candidates.poll(), row);
+                }
+            }
+        }
+        return oldToNew;
+    }
+
+    private boolean isOrderSensitive(final String hitPolicy) {
+        return Objects.equals("FIRST", hitPolicy)
+                || Objects.equals("PRIORITY", hitPolicy);
+    }
+
+    /**
+     * Whether any of the matched rows changed its order relative to the other matched rows.
+     */
+    private boolean isReordered(final Map<Row, Row> oldToNew) {
+        final List<Row> old = new ArrayList<>(oldToNew.keySet());
+        old.sort(Comparator.comparingInt(Row::getIndex));
+        int previous = Integer.MIN_VALUE;
+        for (final Row row : old) {
+            final int index = oldToNew.get(row).getIndex();
+            if (index < previous) {
+                return true;
+            }
+            previous = index;
+        }
+        return false;
+    }
+
+    private Map<Integer, List<Row>> formBundles(final Collection<Row> rows) {
+        final Map<Integer, List<Row>> result = new HashMap<>();
+        for (final Row row : rows) {
+            result.computeIfAbsent(row.bundleHash, h -> new ArrayList<>()).add(row);
+        }
+        return result;
+    }
+
+    private void run(final Row higher,
+            final Row lower,
+            final SubsumptionCheck check,
+            final List<RowIssue> newIssues) {
+        try {
+            check.check().ifPresent(issue -> newIssues.add(new RowIssue(higher, lower, issue)));
+        } catch (final Exception e) {
+            Logger.log("Failed to run check: " + e.getMessage());
+        }
+    }
+
+    private static class Row {
+
+        private final RowLocation location;
+        private final String signature;
+        private final int bundleHash;
+        private final CheckItem item;
+
+        private Row(final RowLocation location,
+                final CustomTreeSet keys,
+                final Set<ColumnKey> bundleKeys) {
+            this.location = location;
+            this.signature = keys.getSignature();
+            this.bundleHash = keys.getHash(bundleKeys);
+            this.item = new CheckItem(location.getTableRowNumber(), location, keys);
+        }
+
+        private int getIndex() {
+            return location.getTableRowNumber();
+        }
+    }
+
+    private static class RowIssue {
+
+        private final Row higher;
+        private final Row lower;
+        private final Issue issue;
+
+        private RowIssue(final Row higher,
+                final Row lower,
+                final Issue issue) {
+            this.higher = higher;
+            this.lower = lower;
+            this.issue = issue;
+        }
+
+        private RowIssue moveTo(final Row newHigher,
+                final Row newLower) {
+            final Location[] locations = new Location[issue.getLocations().length];
+            for (int i = 0; i < locations.length; i++) {
+                final Location location = issue.getLocations()[i];
+                if (location == higher.location) {
+                    locations[i] = newHigher.location;
+                } else if (location == lower.location) {
+                    locations[i] = newLower.location;
+                } else {
+                    locations[i] = location;
+                }
+            }
+            return new RowIssue(newHigher, newLower, new Issue(issue.getMessage(), locations));
+        }
+    }
+}
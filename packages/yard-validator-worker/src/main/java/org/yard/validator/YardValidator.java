@@ -20,11 +20,8 @@ package org.yard.validator;
 
 import jsinterop.annotations.JsConstructor;
 import jsinterop.annotations.JsMethod;
-import org.yard.validator.checks.Check;
-import org.yard.validator.checks.CheckProducer;
 import org.yard.validator.key.Location;
 import org.yard.validator.key.RowLocation;
-import org.yard.validator.runner.Runner;
 import org.yard.validator.util.Callback;
 import org.yard.validator.util.Logger;
 
@@ -34,10 +31,11 @@ import java.util.stream.Collectors;
 public class YardValidator {
 
     private final ArrayList<String> log = new ArrayList<>();
-    private ParserResult parse;
+    private final ValidatorSession session = new ValidatorSession();
 
     @JsConstructor
     public YardValidator() {
+        Logger.startLogging(s -> log.add("\"" + s + "\""));
     }
 
     @JsMethod
@@ -45,14 +43,6 @@ public class YardValidator {
         Logger.startLogging(callback);
     }
 
-    private void init(final String yaml) {
-
-        Logger.startLogging(s -> log.add("\"" + s + "\""));
-        Logger.log("Starting validator");
-
-        parse = new Parser().parse(yaml);
-    }
-
     @JsMethod
     public String validate(final String yaml) {
         final ArrayList<String> issues = new ArrayList<>();
@@ -77,21 +67,17 @@ public class YardValidator {
         return "{\"log\":[" + log.toArray().toString() + "],\"result\":[" + issues.stream().collect(Collectors.joining(",")) + "]}";
     }
 
+    /**
+     * Validation is incremental, calling this again with an edited document only re-checks the edited rows.
+     */
     public void validate(final String yaml, final ReportBus bus) {
+        log.clear();
+        Logger.log("Starting validator");
+
         try {
-            init(yaml);
+            session.validate(yaml, bus);
         } catch (final Exception e) {
-            Logger.log("Failed to initialize: " + e.getMessage());
-        }
-
-        new Runner(bus).run(getChecks());
-    }
-
-    private List<Check> getChecks() {
-        if (Objects.equals("COLLECT", parse.getHitPolicy())) {
-            return Collections.emptyList();
-        } else {
-            return CheckProducer.getChecks(parse);
+            Logger.log("Failed to validate: " + e.getMessage());
         }
     }
 }
@@ -28,6 +28,9 @@ self.addEventListener("message", (e) => {
       self.postMessage("Log: " + e);
     });
     self.postMessage("Log logger set up");
+  } else if (e.data && typeof e.data === "object") {
+    // Requests carrying an id get it back, so the caller can match the reply.
+    self.postMessage({ id: e.data.id, result: validator.validate(e.data.yaml) });
   } else {
     self.postMessage(validator.validate(e.data));
   }
@@ -20,12 +20,18 @@ package org.yard.validator.checks;
 
 import org.yard.validator.CustomTreeSet;
 import org.yard.validator.key.Key;
+import org.yard.validator.key.KeyParent;
 import org.yard.validator.key.Location;
+import org.yard.validator.key.OperatorValueKey;
+
+import java.util.HashMap;
+import java.util.Map;
 
 public class CheckItem {
     private final int index;
     private final Location location;
     private final Key[] keys;
+    private final Map<KeyParent, ColumnRange> ranges = new HashMap<>();
 
     public CheckItem(final int index,
                      final Location location,
@@ -34,6 +40,13 @@ public class CheckItem {
         this.index = index;
         this.location = location;
         this.keys = keys.toArray(new Key[keys.size()]);
+
+        for (final Key key : this.keys) {
+            if (key instanceof OperatorValueKey) {
+                ranges.computeIfAbsent(key.getParent(), k -> new ColumnRange())
+                        .add((OperatorValueKey) key);
+            }
+        }
     }
 
     public int getIndex() {
@@ -48,6 +61,30 @@ public class CheckItem {
         return keys;
     }
 
+    public ColumnRange getRange(final KeyParent parent) {
+        return ranges.get(parent);
+    }
+
+    Map<KeyParent, ColumnRange> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * Rows that can not be activated by the same data can not subsume or mask each other.
+     * Columns missing from either row accept anything.
+     */
+    public boolean overlaps(final CheckItem other) {
+        final Map<KeyParent, ColumnRange> smaller = ranges.size() <= other.ranges.size() ? ranges : other.ranges;
+        final Map<KeyParent, ColumnRange> larger = smaller == ranges ? other.ranges : ranges;
+        for (final Map.Entry<KeyParent, ColumnRange> entry : smaller.entrySet()) {
+            final ColumnRange counterPart = larger.get(entry.getKey());
+            if (counterPart != null && !entry.getValue().intersects(counterPart)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return "CheckItem{" +
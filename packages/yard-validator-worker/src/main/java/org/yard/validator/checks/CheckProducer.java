@@ -21,35 +21,60 @@ package org.yard.validator.checks;
 import org.yard.validator.CustomTreeSet;
 import org.yard.validator.ParserResult;
 import org.yard.validator.key.ColumnKey;
-import org.yard.validator.key.Location;
 import org.yard.validator.key.RowLocation;
 import org.yard.validator.util.Logger;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static org.yard.validator.checks.Util.getHigherInTable;
-import static org.yard.validator.checks.Util.getLowerInTable;
-
 public class CheckProducer {
 
     public static List<Check> getChecks(final ParserResult parse) {
         final List<Check> result = new ArrayList<>();
-        try {
-            final Set<ColumnKey> bundleKeys = formBundleKeys(parse.getResult());
-            final Map<Integer, RunBundle> bundles = formBundles(parse.getResult(), bundleKeys);
+        produceChecks(parse, result::add);
+        return result;
+    }
 
-            for (final RunBundle value : bundles.values()) {
-                result.addAll(getCheckList(parse.getHitPolicy(), value.getMap()));
+    /**
+     * Hands the checks over one at a time, so the whole check list never has to be in memory.
+     */
+    public static void produceChecks(final ParserResult parse,
+            final Consumer<Check> consumer) {
+        try {
+            for (final RunBundle bundle : getBundles(parse)) {
+                produceChecks(parse.getHitPolicy(), bundle, consumer);
             }
-
         } catch (final Exception e) {
             Logger.log("Failed to create checks: " + e.getMessage());
         }
-        return result;
     }
 
-    private static Set<ColumnKey> formBundleKeys(final Map<RowLocation, CustomTreeSet> parse) {
+    /**
+     * Rows in different bundles can never overlap, so each bundle can be checked on its own.
+     */
+    public static Collection<RunBundle> getBundles(final ParserResult parse) {
+        final Set<ColumnKey> bundleKeys = getBundleKeys(parse.getResult());
+        return formBundles(parse.getResult(), bundleKeys).values();
+    }
+
+    public static void produceChecks(final String hitPolicy,
+            final RunBundle bundle,
+            final Consumer<Check> consumer) {
+        final List<CheckItem> items = new ArrayList<>();
+        for (final Map.Entry<RowLocation, CustomTreeSet> entry : bundle.getMap().entrySet()) {
+            items.add(new CheckItem(
+                    entry.getKey().getTableRowNumber(),
+                    entry.getKey(),
+                    entry.getValue()));
+        }
+        new OverlapSweep(hitPolicy, consumer).sweep(items);
+    }
+
+    /**
+     * Columns that every row constrains with an equality. Rows that differ on these can not overlap.
+     */
+    public static Set<ColumnKey> getBundleKeys(final Map<RowLocation, CustomTreeSet> parse) {
         final Set<ColumnKey> result = new HashSet<>();
         for (final CustomTreeSet value : parse.values()) {
             if (value != null) {
@@ -76,43 +101,4 @@ public class CheckProducer {
         }
         return result;
     }
-
-    private static List<Check> getCheckList(
-            final String hitPolicy,
-            final Map<RowLocation, CustomTreeSet> parse) {
-        final List<Check> result = new ArrayList<>();
-
-        // Dual row
-        int locationIndex = 0;
-        final RowLocation[] locations = new RowLocation[parse.keySet().size()];
-        for (RowLocation location : parse.keySet()) {
-            locations[locationIndex++] = location;
-        }
-
-        for (int i = 0; i < parse.entrySet().size(); i++) {
-            for (int j = i; j < parse.entrySet().size(); j++) {
-                if (i == j) {
-                    continue;
-                }
-                final RowLocation locationA = getHigherInTable(locations, i, j);
-                final RowLocation locationB = getLowerInTable(locations, i, j);
-
-                final CheckItem checkItemA = new CheckItem(
-                        locationA.getTableRowNumber(),
-                        locationA,
-                        parse.get(locationA));
-                final CheckItem checkItemB = new CheckItem(
-                        locationB.getTableRowNumber(),
-                        locationB,
-                        parse.get(locationB));
-
-                result.add(new SubsumptionCheck(
-                        hitPolicy,
-                        checkItemA,
-                        checkItemB));
-            }
-        }
-        return result;
-    }
-
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.yard.validator.checks;
+
+import org.yard.model.Operators;
+import org.yard.validator.key.OperatorValueKey;
+
+import java.util.Objects;
+
+/**
+ * The span of values one row accepts for a single column.
+ * Null bound means the range is open to that direction.
+ */
+public class ColumnRange {
+
+    private Comparable lower;
+    private boolean lowerInclusive;
+    private Comparable upper;
+    private boolean upperInclusive;
+
+    /**
+     * Values that can not be compared with each other make the range unusable for ordering.
+     * In that case the range is treated as if it covered everything.
+     */
+    private boolean comparable = true;
+
+    public void add(final OperatorValueKey key) {
+        final Comparable value = key.getValue();
+        if (value == null) {
+            return;
+        }
+        switch (key.getOperator()) {
+            case Operators.EQUALS:
+                restrictLower(value, true);
+                restrictUpper(value, true);
+                break;
+            case Operators.GREATER_OR_EQUAL:
+                restrictLower(value, true);
+                break;
+            case Operators.GREATER_THAN:
+                restrictLower(value, false);
+                break;
+            case Operators.LESS_OR_EQUAL:
+                restrictUpper(value, true);
+                break;
+            case Operators.LESS_THAN:
+                restrictUpper(value, false);
+                break;
+            default:
+                // NOT_EQUALS and custom operators leave the range open.
+                break;
+        }
+    }
+
+    private void restrictLower(final Comparable value,
+            final boolean inclusive) {
+        if (lower == null) {
+            lower = value;
+            lowerInclusive = inclusive;
+        } else if (!canCompare(lower, value)) {
+            comparable = false;
+        } else {
+            final int compare = value.compareTo(lower);
+            if (compare > 0 || (compare == 0 && !inclusive)) {
+                lower = value;
+                lowerInclusive = inclusive;
+            }
+        }
+    }
+
+    private void restrictUpper(final Comparable value,
+            final boolean inclusive) {
+        if (upper == null) {
+            upper = value;
+            upperInclusive = inclusive;
+        } else if (!canCompare(upper, value)) {
+            comparable = false;
+        } else {
+            final int compare = value.compareTo(upper);
+            if (compare < 0 || (compare == 0 && !inclusive)) {
+                upper = value;
+                upperInclusive = inclusive;
+            }
+        }
+    }
+
+    public Comparable getLower() {
+        return comparable ? lower : null;
+    }
+
+    public Comparable getUpper() {
+        return comparable ? upper : null;
+    }
+
+    public boolean isComparable() {
+        return comparable && (lower == null || upper == null || canCompare(lower, upper));
+    }
+
+    /**
+     * @return false only when it is certain that no value fits in both ranges.
+     */
+    public boolean intersects(final ColumnRange other) {
+        if (!isComparable() || !other.isComparable()) {
+            return true;
+        }
+        return !endsBefore(this, other) && !endsBefore(other, this);
+    }
+
+    /**
+     * @return true when every value of the first range is lower than the lowest value of the second one.
+     */
+    static boolean endsBefore(final ColumnRange a,
+            final ColumnRange b) {
+        final Comparable upper = a.getUpper();
+        final Comparable lower = b.getLower();
+        if (upper == null || lower == null || !canCompare(upper, lower)) {
+            return false;
+        }
+        final int compare = upper.compareTo(lower);
+        return compare < 0 || (compare == 0 && !(a.upperInclusive && b.lowerInclusive));
+    }
+
+    /**
+     * Orders by the lower bound, open lower bounds first.
+     */
+    static int compareLower(final ColumnRange a,
+            final ColumnRange b) {
+        final Comparable lowerA = a == null ? null : a.getLower();
+        final Comparable lowerB = b == null ? null : b.getLower();
+        if (lowerA == null || lowerB == null) {
+            return Boolean.compare(lowerA != null, lowerB != null);
+        }
+        final int compare = lowerA.compareTo(lowerB);
+        if (compare == 0) {
+            return Boolean.compare(!a.lowerInclusive, !b.lowerInclusive);
+        }
+        return compare;
+    }
+
+    /**
+     * Orders by the upper bound, open upper bounds last.
+     */
+    static int compareUpper(final ColumnRange a,
+            final ColumnRange b) {
+        final Comparable upperA = a == null ? null : a.getUpper();
+        final Comparable upperB = b == null ? null : b.getUpper();
+        if (upperA == null || upperB == null) {
+            return Boolean.compare(upperA == null, upperB == null);
+        }
+        final int compare = upperA.compareTo(upperB);
+        if (compare == 0) {
+            return Boolean.compare(a.upperInclusive, b.upperInclusive);
+        }
+        return compare;
+    }
+
+    static boolean canCompare(final Comparable a,
+            final Comparable b) {
+        return Objects.equals(a.getClass(), b.getClass());
+    }
+
+    @Override
+    public String toString() {
+        return (lowerInclusive ? "[" : "(") + lower + ".." + upper + (upperInclusive ? "]" : ")");
+    }
+}
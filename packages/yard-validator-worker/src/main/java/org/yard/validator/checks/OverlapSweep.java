@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.yard.validator.checks;
+
+import org.yard.validator.key.KeyParent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Finds the row pairs of a bundle that can be activated by the same data.
+ * <p>
+ * Rows are sorted by the lower bound of one pivot column and swept in that order.
+ * Rows whose pivot range has ended before the current row starts are dropped from the active set,
+ * so only pairs that intersect on the pivot column are looked at and those are then
+ * matched against the rest of the columns.
+ * Checks are handed out one by one as they are found instead of collecting them first.
+ */
+public class OverlapSweep {
+
+    private final String hitPolicy;
+    private final Consumer<Check> consumer;
+
+    public OverlapSweep(final String hitPolicy,
+            final Consumer<Check> consumer) {
+        this.hitPolicy = hitPolicy;
+        this.consumer = consumer;
+    }
+
+    public void sweep(final Collection<CheckItem> items) {
+        final KeyParent pivot = findPivot(items);
+
+        final List<CheckItem> sorted = new ArrayList<>(items);
+        final PriorityQueue<CheckItem> active;
+        if (pivot == null) {
+            // Nothing to sort by, every pair is a candidate.
+            active = new PriorityQueue<>(Math.max(1, sorted.size()),
+                    (a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        } else {
+            sorted.sort((a, b) -> ColumnRange.compareLower(a.getRange(pivot), b.getRange(pivot)));
+            active = new PriorityQueue<>(Math.max(1, sorted.size()),
+                    (a, b) -> ColumnRange.compareUpper(a.getRange(pivot), b.getRange(pivot)));
+        }
+
+        for (final CheckItem item : sorted) {
+            if (pivot != null) {
+                final ColumnRange range = item.getRange(pivot);
+                while (!active.isEmpty()
+                        && range != null
+                        && active.peek().getRange(pivot) != null
+                        && ColumnRange.endsBefore(active.peek().getRange(pivot), range)) {
+                    active.poll();
+                }
+            }
+
+            for (final CheckItem other : active) {
+                if (item.overlaps(other)) {
+                    consumer.accept(createCheck(item, other));
+                }
+            }
+            active.add(item);
+        }
+    }
+
+    private Check createCheck(final CheckItem a,
+            final CheckItem b) {
+        if (a.getIndex() < b.getIndex()) {
+            return new SubsumptionCheck(hitPolicy, a, b);
+        } else {
+            return new SubsumptionCheck(hitPolicy, b, a);
+        }
+    }
+
+    /**
+     * Picks the column that bounds the most rows. Columns with values that can not be
+     * ordered against each other, like numbers mixed with text, are skipped.
+     */
+    static KeyParent findPivot(final Collection<CheckItem> items) {
+        final Map<KeyParent, Integer> boundedCounts = new HashMap<>();
+        final Map<KeyParent, Class> valueTypes = new HashMap<>();
+
+        for (final CheckItem item : items) {
+            for (final Map.Entry<KeyParent, ColumnRange> entry : item.getRanges().entrySet()) {
+                final KeyParent parent = entry.getKey();
+                if (boundedCounts.containsKey(parent) && boundedCounts.get(parent) < 0) {
+                    continue;
+                }
+                final ColumnRange range = entry.getValue();
+                if (!range.isComparable()) {
+                    boundedCounts.put(parent, -1);
+                    continue;
+                }
+                final Comparable value = range.getLower() != null ? range.getLower() : range.getUpper();
+                if (value == null) {
+                    continue;
+                }
+                final Class type = valueTypes.computeIfAbsent(parent, p -> value.getClass());
+                if (!type.equals(value.getClass())) {
+                    boundedCounts.put(parent, -1);
+                    continue;
+                }
+                boundedCounts.merge(parent, 1, Integer::sum);
+            }
+        }
+
+        KeyParent result = null;
+        int best = 0;
+        for (final Map.Entry<KeyParent, Integer> entry : boundedCounts.entrySet()) {
+            if (entry.getValue() > best) {
+                best = entry.getValue();
+                result = entry.getKey();
+            }
+        }
+        return result;
+    }
+}
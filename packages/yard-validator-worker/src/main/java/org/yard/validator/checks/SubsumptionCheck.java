@@ -44,6 +44,14 @@ public class SubsumptionCheck
         this.lowerCheckItem = lowerCheckItem;
     }
 
+    public CheckItem getHigherCheckItem() {
+        return higherCheckItem;
+    }
+
+    public CheckItem getLowerCheckItem() {
+        return lowerCheckItem;
+    }
+
     @Override
     public Optional<Issue> check() {
         final Optional<Issue> aToB = subsumes(higherCheckItem, lowerCheckItem);
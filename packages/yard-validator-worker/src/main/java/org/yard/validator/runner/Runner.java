@@ -34,6 +34,18 @@ public class Runner {
         this.reportBus = reportBus;
     }
 
+    /**
+     * Runs a single check and reports the issue right away.
+     * Used when the checks are streamed from the producer.
+     */
+    public void run(final Check check) {
+        try {
+            check.check().ifPresent(value -> reportBus.report(value));
+        } catch (final Exception e) {
+            Logger.log("Failed to run check: " + e.getMessage());
+        }
+    }
+
     public void run(final List<Check> checks) {
         try {
 
@@ -157,6 +157,104 @@ public class YardValidatorTest {
         assertIssue(issues.get(0), "Redundancy found. Unique hit policy fails when more than one row returns results.", 1, 2);
     }
 
+    @Test
+    public void largeTableOnlyChecksOverlappingRows() {
+        final int rowCount = 5000;
+        final StringBuilder rules = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            rules.append("        - ['=\"speed\"', \"[").append(i * 10).append("..").append(i * 10 + 10).append(")\", 500, 3]\n");
+        }
+        rules.append("        - ['=\"speed\"', \"[").append((rowCount - 1) * 10).append("..").append(rowCount * 10).append(")\", 500, 3]\n");
+
+        final YardValidator validator = new YardValidator();
+
+        final List<Issue> issues = new ArrayList<>();
+
+        validator.validate(table(rules.toString()), issues::add);
+
+        assertEquals(1, issues.size());
+        assertIssue(issues.get(0), "Redundancy found. If both rows return the same result, the other can be removed. If they return different results, the table fails to return a value.", rowCount, rowCount + 1);
+    }
+
+    @Test
+    public void disjointRangesAreNotSubsumed() {
+        final String rules = "        - ['=\"speed\"', \"[10..30)\", 500, 3]\n" +
+                "        - ['=\"speed\"', \"< 5\", 1000, 7]\n";
+
+        final YardValidator validator = new YardValidator();
+
+        final List<Issue> issues = new ArrayList<>();
+
+        validator.validate(table(rules), issues::add);
+
+        assertEquals(0, issues.size());
+    }
+
+    @Test
+    public void revalidateAfterEdit() {
+        final YardValidator validator = new YardValidator();
+
+        final List<Issue> first = new ArrayList<>();
+        validator.validate(table("        - ['=\"speed\"', \"[10..30)\", 500, 3]\n" +
+                "        - ['=\"speed\"', \">= 30\", 1000, 7]\n" +
+                "        - ['=\"speed\"', \">= 60\", 1000, 7]\n"), first::add);
+
+        assertEquals(1, first.size());
+        assertIssue(first.get(0), "Subsumption found. If both rows return the same result, the other can be removed. If they return different results, the table fails to return a value.", 2, 3);
+
+        final List<Issue> edited = new ArrayList<>();
+        validator.validate(table("        - ['=\"speed\"', \"[10..30)\", 500, 3]\n" +
+                "        - ['=\"speed\"', \"[30..60)\", 1000, 7]\n" +
+                "        - ['=\"speed\"', \">= 60\", 1000, 7]\n"), edited::add);
+
+        assertEquals(0, edited.size());
+
+        final List<Issue> inserted = new ArrayList<>();
+        validator.validate(table("        - ['=\"speed\"', \"[10..30)\", 500, 3]\n" +
+                "        - ['=\"speed\"', \"[10..30)\", 500, 3]\n" +
+                "        - ['=\"speed\"', \"[30..60)\", 1000, 7]\n" +
+                "        - ['=\"speed\"', \">= 60\", 1000, 7]\n"), inserted::add);
+
+        assertEquals(1, inserted.size());
+        assertIssue(inserted.get(0), "Redundancy found. If both rows return the same result, the other can be removed. If they return different results, the table fails to return a value.", 1, 2);
+    }
+
+    @Test
+    public void revalidateAfterReorderWithFirstHP() throws FileNotFoundException {
+        final YardValidator validator = new YardValidator();
+
+        final List<Issue> first = new ArrayList<>();
+        validator.validate(read("subsumption-the-other-way.yml", "First"), first::add);
+
+        assertEquals(0, first.size());
+
+        final List<Issue> reordered = new ArrayList<>();
+        validator.validate(read("subsumption.yml", "First"), reordered::add);
+
+        assertEquals(1, reordered.size());
+        assertIssue(reordered.get(0), "Masking row. The higher row prevents the activation of the other row.", 2, 3);
+    }
+
+    private String table(final String rules) {
+        return "specVersion: alpha\n" +
+                "kind: YaRD\n" +
+                "name: \"Traffic Violation\"\n" +
+                "expressionLang: alpha\n" +
+                "inputs:\n" +
+                "  - name: \"Violation\"\n" +
+                "    type: \"http://myapi.org/jsonSchema.json#Violation\"\n" +
+                "elements:\n" +
+                "  - name: \"Fine\"\n" +
+                "    type: Decision\n" +
+                "    requirements: [\"Violation\"]\n" +
+                "    logic:\n" +
+                "      type: DecisionTable\n" +
+                "      inputs: [\"Violation.type\", \"Violation.Actual Speed - Violation.Speed Limit\"]\n" +
+                "      outputComponents: [\"Amount\", \"Points\"]\n" +
+                "      rules:\n" +
+                rules;
+    }
+
     private void assertIssue(
             final Issue issue,
             final String message,
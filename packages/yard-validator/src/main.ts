@@ -19,37 +19,71 @@
 import { Notification } from "@kie-tools-core/notifications/dist/api";
 import { ValidationResult } from "./ValidationResult";
 
-export function validationPromise(yaml: String): Promise<Notification[]> {
-  return new Promise((resolve, reject) => {
-    const worker = new Worker("/yard-validator-worker.js");
-    worker.postMessage(yaml);
+// The worker keeps the previous validation, so it is reused to only re-check the edited rows.
+let worker: Worker | undefined;
+let nextRequestId = 0;
+const pending = new Map<number, { resolve: (notifications: Notification[]) => void; reject: (reason: any) => void }>();
+
+function getWorker(): Worker {
+  if (!worker) {
+    worker = new Worker("/yard-validator-worker.js");
     worker.onmessage = (e) => {
-      const notifications: Notification[] = [];
+      if (typeof e.data === "string" && e.data.startsWith("Log")) {
+        return;
+      }
+      const request = pending.get(e.data?.id);
+      if (request) {
+        pending.delete(e.data.id);
+        request.resolve(toNotifications(e.data.result));
+      }
+    };
+    worker.onerror = (e) => rejectAll(e.message ?? e);
+    worker.onmessageerror = (e) => rejectAll(e);
+  }
+  return worker;
+}
 
-      try {
-        const validationResult: ValidationResult = JSON.parse(e.data);
+function rejectAll(reason: any) {
+  // The worker state can not be trusted anymore, the next validation starts a new one.
+  worker?.terminate();
+  worker = undefined;
+  const requests = Array.from(pending.values());
+  pending.clear();
+  requests.forEach((request) => request.reject(reason));
+}
 
-        for (const result of validationResult.result) {
-          for (const location of result.locations) {
-            notifications.push({
-              normalizedPosixPathRelativeToTheWorkspaceRoot: "",
-              severity: "ERROR",
-              message: result.issue,
-              type: "PROBLEM",
-              position: {
-                startLineNumber: location.rowInFile,
-                startColumn: 0,
-                endLineNumber: 0,
-                endColumn: 0,
-              },
-            });
-          }
-        }
-      } catch (e) {
-        // We add nothing since json is malformed.
+function toNotifications(data: string): Notification[] {
+  const notifications: Notification[] = [];
+
+  try {
+    const validationResult: ValidationResult = JSON.parse(data);
+
+    for (const result of validationResult.result) {
+      for (const location of result.locations) {
+        notifications.push({
+          normalizedPosixPathRelativeToTheWorkspaceRoot: "",
+          severity: "ERROR",
+          message: result.issue,
+          type: "PROBLEM",
+          position: {
+            startLineNumber: location.rowInFile,
+            startColumn: 0,
+            endLineNumber: 0,
+            endColumn: 0,
+          },
+        });
       }
-      resolve(notifications);
-      worker.terminate();
-    };
+    }
+  } catch (e) {
+    // We add nothing since json is malformed.
+  }
+  return notifications;
+}
+
+export function validationPromise(yaml: String): Promise<Notification[]> {
+  return new Promise((resolve, reject) => {
+    const id = nextRequestId++;
+    pending.set(id, { resolve, reject });
+    getWorker().postMessage({ id, yaml });
   });
 }